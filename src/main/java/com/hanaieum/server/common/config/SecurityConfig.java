@@ -1,6 +1,8 @@
 package com.hanaieum.server.common.config;
 
 import com.hanaieum.server.security.JwtAuthenticationFilter;
+import com.hanaieum.server.security.MeteredPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -48,6 +50,8 @@ public class SecurityConfig {
                                 "/swagger-ui/**",        // Swagger UI
                                 "/v3/api-docs/**"        // OpenAPI 문서
                         ).permitAll()                      // 인증 없이 접근 가능한 URL
+                        .requestMatchers("/actuator/health", "/actuator/health/**").authenticated()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN") // 운영 엔드포인트는 관리자만
                         .anyRequest().authenticated()      // 그 외 모든 요청은 인증 필요
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -56,8 +60,9 @@ public class SecurityConfig {
     } 
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        // BCrypt 호출 수/시간 메트릭 기록
+        return new MeteredPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
 
     @Bean
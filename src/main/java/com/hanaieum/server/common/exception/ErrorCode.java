@@ -38,6 +38,15 @@ public enum ErrorCode {
     INSUFFICIENT_BALANCE("ACCOUNT_004", "계좌 잔액이 부족합니다", HttpStatus.BAD_REQUEST),
     INVALID_ACCOUNT_TYPE("ACCOUNT_005", "유효하지 않은 계좌 타입입니다", HttpStatus.BAD_REQUEST),
     INVALID_TRANSFER_SAME_ACCOUNT("ACCOUNT_006", "동일한 계좌로는 이체할 수 없습니다", HttpStatus.BAD_REQUEST),
+    INVALID_PIN_GRANT("ACCOUNT_007", "계좌 비밀번호 인증이 만료되었거나 유효하지 않습니다", HttpStatus.UNAUTHORIZED),
+    INVALID_AMOUNT("ACCOUNT_008", "금액은 원 단위 정수여야 합니다", HttpStatus.BAD_REQUEST),
+
+    // 거래내역 관련 에러
+    INVALID_TRANSACTION_CURSOR("TRANSACTION_001", "거래내역 커서가 올바르지 않습니다", HttpStatus.BAD_REQUEST),
+    INVALID_STATEMENT_PERIOD("TRANSACTION_002", "거래내역서 조회 기간이 올바르지 않습니다", HttpStatus.BAD_REQUEST),
+    INVALID_STATEMENT_FORMAT("TRANSACTION_003", "지원하지 않는 거래내역서 형식입니다", HttpStatus.BAD_REQUEST),
+    INVALID_BALANCE_HISTORY_PERIOD("TRANSACTION_004", "잔액 추이 조회 기간이 올바르지 않습니다 (최대 1년)", HttpStatus.BAD_REQUEST),
+    INVALID_TRANSACTION_SUMMARY_PERIOD("TRANSACTION_005", "거래 요약 조회 기간이 올바르지 않습니다 (최대 1년)", HttpStatus.BAD_REQUEST),
 
     // 버킷리스트 관련 에러
     BUCKET_LIST_NOT_FOUND("BUCKET_LIST_001", "버킷리스트를 찾을 수 없습니다", HttpStatus.NOT_FOUND),
@@ -55,7 +64,7 @@ public enum ErrorCode {
     // 후원/응원 관련 에러
     CANNOT_SUPPORT_OWN_BUCKET("SUPPORT_001", "자신의 버킷리스트는 후원/응원할 수 없습니다", HttpStatus.BAD_REQUEST),
     INVALID_SUPPORT_AMOUNT("SUPPORT_002", "후원 금액이 유효하지 않습니다", HttpStatus.BAD_REQUEST),
-    ACCOUNT_PASSWORD_REQUIRED("SUPPORT_003", "후원 시 계좌 비밀번호가 필요합니다", HttpStatus.BAD_REQUEST),
+    ACCOUNT_PASSWORD_REQUIRED("SUPPORT_003", "계좌 비밀번호가 필요합니다", HttpStatus.BAD_REQUEST),
     SUPPORT_RECORD_NOT_FOUND("SUPPORT_004", "후원/응원 기록을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
     SUPPORT_RECORD_ACCESS_DENIED("SUPPORT_005", "후원/응원 기록에 접근할 권한이 없습니다", HttpStatus.FORBIDDEN),
 
@@ -65,6 +74,13 @@ public enum ErrorCode {
     AUTO_TRANSFER_INVALID_AMOUNT("AUTO_TRANSFER_003", "자동이체 금액이 올바르지 않습니다", HttpStatus.BAD_REQUEST),
     AUTO_TRANSFER_INVALID_DAY("AUTO_TRANSFER_004", "자동이체일이 올바르지 않습니다", HttpStatus.BAD_REQUEST),
 
+    // 멱등성 키 관련 에러
+    IDEMPOTENCY_REQUEST_IN_PROGRESS("IDEMPOTENCY_001", "같은 요청이 이미 처리 중입니다", HttpStatus.CONFLICT),
+    IDEMPOTENCY_KEY_REUSED("IDEMPOTENCY_002", "다른 요청에 이미 사용된 멱등성 키입니다", HttpStatus.UNPROCESSABLE_ENTITY),
+    INVALID_IDEMPOTENCY_KEY("IDEMPOTENCY_003", "멱등성 키가 올바르지 않습니다", HttpStatus.BAD_REQUEST),
+    IDEMPOTENCY_REQUEST_MISMATCH("IDEMPOTENCY_004", "같은 멱등성 키로 다른 내용의 요청을 보냈습니다", HttpStatus.UNPROCESSABLE_ENTITY),
+    IDEMPOTENCY_RESPONSE_UNREADABLE("IDEMPOTENCY_005", "멱등성 응답을 저장하거나 읽을 수 없습니다", HttpStatus.INTERNAL_SERVER_ERROR),
+
     // 입력값 검증 에러
     INVALID_INPUT_VALUE("VALIDATION_001", "입력값이 올바르지 않습니다", HttpStatus.BAD_REQUEST),
 
@@ -0,0 +1,95 @@
+package com.hanaieum.server.common.money;
+
+import com.hanaieum.server.common.exception.CustomException;
+import com.hanaieum.server.common.exception.ErrorCode;
+
+import java.math.BigDecimal;
+
+/**
+ * 원화 금액 (원 단위 long)
+ * - 원화는 소수 단위가 없으므로 BigDecimal 대신 long 하나로 표현 (연산마다 BigInteger/스케일 처리 없음)
+ * - 덧셈/뺄셈/곱셈은 오버플로 시 ArithmeticException
+ * - API 요청/응답 DTO는 BigDecimal을 유지하고 경계에서 of(BigDecimal) / toBigDecimal()로 변환
+ * - DB 컬럼 매핑은 MoneyConverter (BIGINT)
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0L);
+
+    private final long amount;
+
+    private Money(long amount) {
+        this.amount = amount;
+    }
+
+    public static Money of(long amount) {
+        return amount == 0L ? ZERO : new Money(amount);
+    }
+
+    /**
+     * 요청 금액 변환 - 소수 단위가 있거나 long 범위를 넘으면 INVALID_AMOUNT
+     */
+    public static Money of(BigDecimal amount) {
+        try {
+            return of(amount.longValueExact());
+        } catch (ArithmeticException e) {
+            throw new CustomException(ErrorCode.INVALID_AMOUNT);
+        }
+    }
+
+    public Money plus(Money other) {
+        return of(Math.addExact(amount, other.amount));
+    }
+
+    public Money minus(Money other) {
+        return of(Math.subtractExact(amount, other.amount));
+    }
+
+    public Money times(long multiplier) {
+        return of(Math.multiplyExact(amount, multiplier));
+    }
+
+    public Money min(Money other) {
+        return amount <= other.amount ? this : other;
+    }
+
+    public boolean isPositive() {
+        return amount > 0L;
+    }
+
+    public boolean isZero() {
+        return amount == 0L;
+    }
+
+    public boolean isLessThan(Money other) {
+        return amount < other.amount;
+    }
+
+    public long toLong() {
+        return amount;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(amount);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(amount, other.amount);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && amount == other.amount);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(amount);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(amount);
+    }
+}
@@ -0,0 +1,22 @@
+package com.hanaieum.server.common.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Money ↔ BIGINT 컬럼 (원 단위)
+ * autoApply라 엔티티의 Money 필드에는 별도 @Convert 없이 적용됨
+ */
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(Money money) {
+        return money == null ? null : money.toLong();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(Long amount) {
+        return amount == null ? null : Money.of(amount);
+    }
+}
@@ -0,0 +1,89 @@
+package com.hanaieum.server.common.schema;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 MySQL 스키마 보정 (ddl-auto: update가 처리하지 못하는 변경)
+ * - 스키마 update(EntityManagerFactory) 직후, 요청/스케줄러가 돌기 전 싱글톤 초기화 단계에서 실행
+ * - 모든 단계는 다시 실행해도 결과가 같으므로 노드마다 시작할 때 실행
+ * - H2(테스트)는 create-drop으로 매번 새 스키마를 만들므로 건너뜀
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class SchemaUpgradeInitializer {
+
+    // 엔티티 @TableGenerator의 allocationSize와 같은 값
+    private static final long ID_ALLOCATION_SIZE = 50L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void upgrade() {
+        if (!isMySql()) {
+            return;
+        }
+        // 스트라이프 머니박스 입금은 거래 후 잔액을 기록하지 않음 (NOT NULL → NULL)
+        allowNull("transactions", "balance_after");
+        allowNull("transactions_archive", "balance_after");
+        // 목표금액은 원 단위 정수만 받음 - 검증 도입 전 저장된 소수 목표금액은 올림 (Money 변환 실패 방지)
+        roundUpFraction("bucket_lists", "target_amount");
+        // IDENTITY로 만든 기존 행과 id_sequences 채번이 겹치지 않도록 시퀀스 시작값 보정
+        seedIdSequence("accounts", "accounts");
+        seedIdSequence("transactions", "transactions", "transactions_archive"); // 보관 거래는 원본 ID 유지
+        seedIdSequence("auto_transfer_histories", "auto_transfer_histories");
+        seedIdSequence("daily_balance_snapshots", "daily_balance_snapshots");
+    }
+
+    private boolean isMySql() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())));
+    }
+
+    private void allowNull(String table, String column) {
+        // 컬럼 타입은 그대로 두고 NULL 허용만 바꿈
+        String columnType = jdbcTemplate.query(
+                "SELECT COLUMN_TYPE FROM information_schema.COLUMNS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ? AND IS_NULLABLE = 'NO'",
+                rs -> rs.next() ? rs.getString(1) : null, table, column);
+        if (columnType == null) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + table + " MODIFY " + column + " " + columnType + " NULL");
+        log.info("스키마 보정 - {}.{} NULL 허용 ({})", table, column, columnType);
+    }
+
+    private void roundUpFraction(String table, String column) {
+        int updated = jdbcTemplate.update(
+                "UPDATE " + table + " SET " + column + " = CEILING(" + column + ") " +
+                "WHERE " + column + " <> CEILING(" + column + ")");
+        if (updated > 0) {
+            log.info("데이터 보정 - {}.{} 소수 금액 {}건 올림", table, column, updated);
+        }
+    }
+
+    private void seedIdSequence(String sequenceName, String... tables) {
+        long maxId = 0L;
+        for (String table : tables) {
+            Long tableMaxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            maxId = Math.max(maxId, tableMaxId == null ? 0L : tableMaxId);
+        }
+        // pooled 옵티마이저는 읽은 값 바로 아래 블록도 쓰므로 allocationSize만큼 여유를 둠
+        // GREATEST로 올리기만 하므로 이미 채번 중인 노드가 있어도 값이 되돌아가지 않음
+        long floor = maxId + 1 + ID_ALLOCATION_SIZE;
+        int updated = jdbcTemplate.update(
+                "INSERT INTO id_sequences (sequence_name, next_val) VALUES (?, ?) " +
+                "ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val))",
+                sequenceName, floor);
+        if (updated > 0) {
+            log.info("스키마 보정 - id_sequences.{} 시작값 {} 이상으로 설정 (기존 최대 ID {})", sequenceName, floor, maxId);
+        }
+    }
+}
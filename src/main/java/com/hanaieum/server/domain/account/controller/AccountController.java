@@ -2,22 +2,37 @@ package com.hanaieum.server.domain.account.controller;
 
 import com.hanaieum.server.common.dto.ApiResponse;
 import com.hanaieum.server.domain.account.dto.MainAccountResponse;
+import com.hanaieum.server.domain.account.dto.PinGrantRequest;
+import com.hanaieum.server.domain.account.dto.PinGrantResponse;
 import com.hanaieum.server.domain.account.service.AccountService;
+import com.hanaieum.server.domain.balanceSnapshot.dto.BalanceHistoryResponse;
+import com.hanaieum.server.domain.balanceSnapshot.service.BalanceSnapshotService;
 import com.hanaieum.server.domain.member.entity.Member;
+import com.hanaieum.server.domain.transaction.dto.StatementFormat;
+import com.hanaieum.server.domain.transaction.dto.TransactionCursorResponse;
 import com.hanaieum.server.domain.transaction.dto.TransactionResponse;
+import com.hanaieum.server.domain.transaction.dto.TransactionSummaryResponse;
 import com.hanaieum.server.domain.transaction.service.TransactionService;
 import com.hanaieum.server.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
 
 @Tag(name = "Account API", description = "계좌 관련 API")
 @Slf4j
@@ -28,6 +43,7 @@ public class AccountController {
 
     private final AccountService accountService;
     private final TransactionService transactionService;
+    private final BalanceSnapshotService balanceSnapshotService;
 
     @Operation(summary = "주계좌 조회", description = "사용자의 주계좌 정보를 조회합니다.")
     @GetMapping("/main")
@@ -37,6 +53,16 @@ public class AccountController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
+    @Operation(summary = "계좌 비밀번호 인증", description = "주계좌 비밀번호를 한 번 검증하고 몇 분간 유효한 PIN 인증 토큰을 발급합니다. " +
+            "머니박스 채우기/후원/머니박스 수정 요청에 비밀번호 대신 pinGrantToken으로 보낼 수 있습니다.")
+    @PostMapping("/main/pin-grant")
+    public ResponseEntity<ApiResponse<PinGrantResponse>> issuePinGrant(
+            @Valid @RequestBody PinGrantRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        PinGrantResponse response = accountService.issuePinGrant(userDetails.getId(), request.getAccountPassword());
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
     @Operation(summary = "계좌별 거래내역 조회", description = "특정 계좌의 거래내역을 페이징 처리하여 조회합니다")
     @GetMapping("/{accountId}/transactions")
     public ResponseEntity<ApiResponse<Page<TransactionResponse>>> getAccountTransactions(
@@ -61,4 +87,93 @@ public class AccountController {
 
         return ResponseEntity.ok(ApiResponse.ok(transactions));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "계좌별 거래내역 커서 조회",
+            description = "cursor 파라미터가 있으면 (거래일시, ID) 기준 커서로 다음 거래내역을 조회합니다. " +
+                    "첫 페이지는 cursor를 빈 값으로 요청하고, 이후에는 응답의 nextCursor를 그대로 전달합니다. " +
+                    "전체 개수는 계산하지 않습니다.")
+    @GetMapping(value = "/{accountId}/transactions", params = "cursor")
+    public ResponseEntity<ApiResponse<TransactionCursorResponse>> getAccountTransactionsByCursor(
+            @Parameter(description = "계좌 ID", required = true)
+            @PathVariable Long accountId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)", example = "")
+            @RequestParam String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        log.info("계좌 거래내역 커서 조회 요청 - 회원 ID: {}, 계좌 ID: {}, 사이즈: {}",
+                userDetails.getId(), accountId, size);
+
+        TransactionCursorResponse transactions = transactionService.getTransactionsByAccountIdAndCursor(
+                userDetails.getId(), accountId, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.ok(transactions));
+    }
+
+    @Operation(summary = "거래내역서 다운로드",
+            description = "기간 내 거래내역 전체를 CSV 또는 JSON으로 내려받습니다. " +
+                    "행을 조회하는 즉시 응답으로 흘려보내므로 건수와 관계없이 한 번의 요청으로 받을 수 있습니다.")
+    @GetMapping("/{accountId}/statement")
+    public ResponseEntity<StreamingResponseBody> downloadStatement(
+            @Parameter(description = "계좌 ID", required = true)
+            @PathVariable Long accountId,
+            @Parameter(description = "조회 시작일", example = "2025-01-01", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "조회 종료일 (당일 포함)", example = "2025-12-31", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "형식 (csv, json)", example = "csv")
+            @RequestParam(defaultValue = "csv") String format,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        StatementFormat statementFormat = StatementFormat.from(format);
+        StreamingResponseBody body = transactionService.exportStatement(
+                userDetails.getId(), accountId, from, to, statementFormat);
+
+        String fileName = String.format("statement-%d-%s-%s.%s", accountId, from, to, statementFormat.getExtension());
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(statementFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    @Operation(summary = "계좌 잔액 추이 조회",
+            description = "일일 잔액 스냅샷으로 기간 내 일별 마감 잔액과 입출금 합계를 조회합니다 (최대 1년, 어제까지). " +
+                    "거래가 없던 날은 직전 마감 잔액으로 채워집니다.")
+    @GetMapping("/{accountId}/balance-history")
+    public ResponseEntity<ApiResponse<BalanceHistoryResponse>> getBalanceHistory(
+            @Parameter(description = "계좌 ID", required = true)
+            @PathVariable Long accountId,
+            @Parameter(description = "조회 시작일", example = "2025-01-01", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "조회 종료일 (당일 포함)", example = "2025-01-31", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        BalanceHistoryResponse response = balanceSnapshotService.getBalanceHistory(
+                userDetails.getId(), accountId, from, to);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @Operation(summary = "계좌 입출금 요약 조회",
+            description = "기간 내 입금/출금 합계와 건수를 거래 종류(이체, 자동이체, 후원, 머니박스 충전 등)별로 조회합니다 (최대 1년). " +
+                    "월별 차트는 from을 해당 월 1일, to를 말일(또는 오늘)로 요청합니다.")
+    @GetMapping("/{accountId}/transaction-summary")
+    public ResponseEntity<ApiResponse<TransactionSummaryResponse>> getTransactionSummary(
+            @Parameter(description = "계좌 ID", required = true)
+            @PathVariable Long accountId,
+            @Parameter(description = "조회 시작일", example = "2025-01-01", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "조회 종료일 (당일 포함)", example = "2025-01-31", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        TransactionSummaryResponse response = transactionService.getTransactionSummary(
+                userDetails.getId(), accountId, from, to);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+}
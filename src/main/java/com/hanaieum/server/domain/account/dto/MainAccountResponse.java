@@ -26,7 +26,7 @@ public class MainAccountResponse {
                 .accountNumber(account.getNumber())
                 .accountName(account.getName())
                 .bankName(account.getBankName())
-                .balance(account.getBalance())
+                .balance(account.getBalance().toBigDecimal())
                 .accountType(account.getAccountType().name())
                 .mainAccountLinked(mainAccountLinked)
                 .build();
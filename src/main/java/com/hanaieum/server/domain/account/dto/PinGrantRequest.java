@@ -0,0 +1,20 @@
+package com.hanaieum.server.domain.account.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "계좌 비밀번호 인증 요청")
+public class PinGrantRequest {
+
+    @NotBlank(message = "계좌 비밀번호는 필수입니다")
+    @Size(min = 4, max = 4, message = "계좌 비밀번호는 4자리여야 합니다")
+    @Schema(description = "주계좌 비밀번호", example = "1234")
+    private String accountPassword;
+}
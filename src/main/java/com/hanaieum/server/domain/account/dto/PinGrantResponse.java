@@ -0,0 +1,22 @@
+package com.hanaieum.server.domain.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PinGrantResponse {
+    private String pinGrantToken; // 이체 요청 시 비밀번호 대신 제시
+    private long expiresIn;       // 유효시간 (초)
+
+    public static PinGrantResponse of(String pinGrantToken, long expiresIn) {
+        return PinGrantResponse.builder()
+                .pinGrantToken(pinGrantToken)
+                .expiresIn(expiresIn)
+                .build();
+    }
+}
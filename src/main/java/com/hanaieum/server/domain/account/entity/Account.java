@@ -1,11 +1,11 @@
 package com.hanaieum.server.domain.account.entity;
 
 import com.hanaieum.server.common.entity.BaseEntity;
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.member.entity.Member;
 import com.hanaieum.server.domain.bucketList.entity.BucketList;
 import jakarta.persistence.*;
 import lombok.*;
-import java.math.BigDecimal;
 
 @Entity
 @Table(name = "accounts")
@@ -17,7 +17,10 @@ import java.math.BigDecimal;
 public class Account extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "account_id_generator")
+    @TableGenerator(name = "account_id_generator", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "accounts", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -36,8 +39,20 @@ public class Account extends BaseEntity {
     @Column(name = "account_password", nullable = false)
     private String password;
 
-    @Column(nullable = false, precision = 15, scale = 2)
-    private BigDecimal balance;
+    // 잔액은 AccountRepository의 조건부 UPDATE로만 변경 (엔티티 flush로 덮어쓰지 않음)
+    // 스트라이프를 사용하는 계좌는 기본 잔액, 전체 잔액은 getBalance()
+    @Column(nullable = false, updatable = false)
+    private Money balance;
+
+    // 분산 잔액(스트라이프) 개수, 0이면 사용하지 않음
+    @Column(name = "balance_stripe_count", nullable = false)
+    @Builder.Default
+    private int balanceStripeCount = 0;
+
+    // 스트라이프 잔액 합계 (메모리 전용, 스트라이프 계좌만 AccountService.loadStripedBalance로 채움)
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private Money stripedBalance;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
@@ -53,8 +68,34 @@ public class Account extends BaseEntity {
     @OneToOne(mappedBy = "moneyBoxAccount", fetch = FetchType.LAZY)
     private BucketList bucketList;
 
-    public void updateBalance(BigDecimal balance) {
+    public void updateBalance(Money balance) {
         this.balance = balance;
     }
 
+    public void updateBalance(Money balance, Money stripedBalance) {
+        this.balance = balance;
+        this.stripedBalance = stripedBalance;
+    }
+
+    public void updateStripedBalance(Money stripedBalance) {
+        this.stripedBalance = stripedBalance;
+    }
+
+    // 스트라이프 입금을 메모리 상태에만 더함 (다른 스트라이프로 들어온 동시 입금은 반영하지 않음)
+    public void addStripedBalance(Money amount) {
+        this.stripedBalance = stripedBalance == null ? amount : stripedBalance.plus(amount);
+    }
+
+    // 전체 잔액 (기본 잔액 + 스트라이프 합계)
+    public Money getBalance() {
+        if (stripedBalance == null || balance == null) {
+            return balance;
+        }
+        return balance.plus(stripedBalance);
+    }
+
+    public boolean isBalanceStriped() {
+        return balanceStripeCount > 0;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.hanaieum.server.domain.account.entity;
+
+import com.hanaieum.server.common.money.Money;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 계좌 분산 잔액 (스트라이프)
+ * 후원이 몰리는 머니박스의 입금을 N개의 행으로 나눠 받아 accounts 한 행에 락이 몰리지 않도록 함
+ * 계좌의 실제 잔액 = accounts.balance + 모든 스트라이프 잔액 합계
+ */
+@Entity
+@Table(name = "account_balance_stripes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_account_balance_stripe",
+                columnNames = {"account_id", "stripe_index"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AccountBalanceStripe {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId; // 계좌 ID
+
+    @Column(name = "stripe_index", nullable = false)
+    private Integer stripeIndex; // 0 ~ (스트라이프 개수 - 1)
+
+    // 잔액은 AccountBalanceStripeRepository의 UPDATE 문으로만 변경
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Money balance = Money.ZERO;
+}
@@ -0,0 +1,45 @@
+package com.hanaieum.server.domain.account.repository;
+
+import com.hanaieum.server.domain.account.entity.AccountBalanceStripe;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface AccountBalanceStripeRepository extends JpaRepository<AccountBalanceStripe, Long> {
+
+    /**
+     * 지정한 스트라이프 한 행에만 입금 (다른 스트라이프로 들어오는 입금과 락 경합 없음)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE account_balance_stripes SET balance = balance + :amount " +
+                   "WHERE account_id = :accountId AND stripe_index = :stripeIndex", nativeQuery = true)
+    int credit(@Param("accountId") Long accountId,
+               @Param("stripeIndex") Integer stripeIndex,
+               @Param("amount") long amount);
+
+    /**
+     * 스트라이프 잔액 합계 (잠금 없이 조회 - 화면 표시용)
+     * 금액 컬럼은 MoneyConverter 매핑이므로 Long으로 CAST 후 합산
+     */
+    @Query("SELECT COALESCE(SUM(CAST(s.balance AS Long)), 0) FROM AccountBalanceStripe s WHERE s.accountId = :accountId")
+    long sumBalanceByAccountId(@Param("accountId") Long accountId);
+
+    /**
+     * 통합(출금 전 합산)을 위해 계좌의 모든 스트라이프를 stripe_index 순서로 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AccountBalanceStripe s WHERE s.accountId = :accountId ORDER BY s.stripeIndex ASC")
+    List<AccountBalanceStripe> findAllByAccountIdWithLock(@Param("accountId") Long accountId);
+
+    /**
+     * 통합 후 스트라이프 잔액 초기화
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE account_balance_stripes SET balance = 0 WHERE account_id = :accountId", nativeQuery = true)
+    int resetBalances(@Param("accountId") Long accountId);
+}
@@ -1,14 +1,17 @@
 package com.hanaieum.server.domain.account.repository;
 
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.entity.Account;
 import com.hanaieum.server.domain.account.entity.AccountType;
 import com.hanaieum.server.domain.member.entity.Member;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +28,61 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT a FROM Account a WHERE a.id = :id AND a.deleted = false")
     Optional<Account> findByIdAndDeletedFalseWithLock(@Param("id") Long id);
+
+    /**
+     * 공유 락 (MySQL SELECT ... FOR SHARE)
+     * 스트라이프 입금은 계좌 행을 수정하지 않지만, 거래내역 INSERT의 FK 검사가 이 행에 S 락을 잡으므로
+     * 스트라이프보다 먼저 잡아 잠금 순서(계좌 행 → 스트라이프)를 지킴. 동시 입금끼리는 서로 막지 않음
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT a FROM Account a WHERE a.id = :id AND a.deleted = false")
+    Optional<Account> findByIdAndDeletedFalseWithSharedLock(@Param("id") Long id);
+
+    /**
+     * 여러 계좌를 id 오름차순으로 한 번에 잠금 (SELECT ... ORDER BY id FOR UPDATE)
+     * 어떤 이체든 같은 순서로 락을 잡기 때문에 교차 이체에서도 데드락이 발생하지 않음
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id IN :ids AND a.deleted = false ORDER BY a.id ASC")
+    List<Account> findAllByIdInAndDeletedFalseWithLock(@Param("ids") Collection<Long> ids);
     
+    /**
+     * 이체 계좌 조회 - 계좌와 소유 회원을 한 쿼리로 함께 조회 (거래내역 상대방 이름용 지연 로딩 방지)
+     */
+    @Query("SELECT a FROM Account a JOIN FETCH a.member WHERE a.id IN :ids AND a.deleted = false")
+    List<Account> findAllByIdInAndDeletedFalseWithMember(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 회원의 특정 타입 계좌(주계좌)와 상대 계좌들을 소유 회원까지 한 쿼리로 조회
+     */
+    @Query("SELECT a FROM Account a JOIN FETCH a.member m WHERE a.deleted = false " +
+           "AND (a.id IN :accountIds OR (m.id = :memberId AND a.accountType = :accountType))")
+    List<Account> findByIdInOrMemberAccountTypeWithMember(@Param("accountIds") Collection<Long> accountIds,
+                                                           @Param("memberId") Long memberId,
+                                                           @Param("accountType") AccountType accountType);
+
+    /**
+     * 조건부 출금 - 잔액이 충분할 때만 한 문장으로 차감 (영향 받은 행 수 0이면 잔액 부족)
+     * 금액은 원 단위 (Money.toLong())
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE accounts SET balance = balance - :amount " +
+                   "WHERE id = :id AND is_deleted = false AND balance >= :amount", nativeQuery = true)
+    int debitIfSufficient(@Param("id") Long id, @Param("amount") long amount);
+
+    /**
+     * 입금 - 한 문장으로 가산
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE accounts SET balance = balance + :amount WHERE id = :id AND is_deleted = false",
+           nativeQuery = true)
+    int credit(@Param("id") Long id, @Param("amount") long amount);
+
+    /**
+     * 잔액만 조회 (UPDATE 직후 같은 트랜잭션에서 거래 후 잔액 확인용)
+     */
+    @Query("SELECT a.balance FROM Account a WHERE a.id = :id")
+    Money findBalanceById(@Param("id") Long id);
+
     long countByMemberAndAccountTypeAndDeletedFalse(Member member, AccountType accountType);
 }
\ No newline at end of file
@@ -1,19 +1,22 @@
 package com.hanaieum.server.domain.account.service;
 
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.dto.MainAccountResponse;
+import com.hanaieum.server.domain.account.dto.PinGrantResponse;
 import com.hanaieum.server.domain.account.entity.Account;
 import com.hanaieum.server.domain.account.entity.AccountType;
 import com.hanaieum.server.domain.member.entity.Member;
 import com.hanaieum.server.domain.bucketList.entity.BucketList;
 
-import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface AccountService {
 
     // === 범용 계좌 생성 메서드 ===
-    Long createAccount(Member member, String accountName, String bankName, AccountType accountType, BigDecimal balance, String password);
+    Long createAccount(Member member, String accountName, String bankName, AccountType accountType, Money balance, String password);
 
     // === 주계좌 생성 메서드 ===
     Long createMainAccount(Member member); // 연계 실행, 회원가입 -> 계좌 생성(동일 트랜잭션)
@@ -24,7 +27,7 @@ public interface AccountService {
     // === 버킷리스트 연동 머니박스 생성 메서드 ===
     Account createMoneyBoxForBucketList(BucketList bucketList, Member member, String boxName);
     Account createMoneyBoxForBucketList(BucketList bucketList, Member member, String boxName, 
-                                        Boolean enableAutoTransfer, BigDecimal monthlyAmount, Integer transferDay);
+                                        Boolean enableAutoTransfer, Money monthlyAmount, Integer transferDay);
 
     // === 계좌 조회 메서드 ===
     MainAccountResponse getMainAccount(Member member);
@@ -32,6 +35,10 @@ public interface AccountService {
     Account findMainAccountByMember(Member member);
     Account findById(Long accountId);
     Account findByIdWithLock(Long accountId);
+    Map<Long, Account> findAllByIdWithLock(Collection<Long> accountIds); // id 오름차순으로 잠금
+    Map<Long, Account> findAllByIdWithMember(Collection<Long> accountIds); // 소유 회원까지 한 쿼리로 조회
+    List<Account> findMainAccountAndAccountWithMember(Long memberId, Long accountId); // 회원 주계좌 + 상대 계좌
+    List<Account> findMainAccountAndAccountsWithMember(Long memberId, Collection<Long> accountIds); // 회원 주계좌 + 상대 계좌들
     
     // === 도메인별 계좌 조회 메서드 ===
     Optional<Account> findMainAccount(Member member);
@@ -39,11 +46,20 @@ public interface AccountService {
 
     // === 계좌 도메인 검증 메서드 ===
     void validateAccountOwnership(Long accountId, Long memberId);
+    Account findOwnedAccount(Long accountId, Long memberId); // 소유권 검증 후 조회한 계좌 반환 (검증 뒤 계좌가 또 필요할 때)
     void validateAccountPassword(Long accountId, String password);
+    void verifyAccountPassword(Account account, String password, String pinGrantToken); // 이미 조회한 계좌로 검증, PIN 인증 토큰이 있으면 BCrypt 생략
+    PinGrantResponse issuePinGrant(Long memberId, String password); // 주계좌 비밀번호 1회 검증 후 PIN 인증 토큰 발급
 
-    // === 계좌 잔액 조작 메서드 ===
-    void debitBalance(Account account, BigDecimal amount);
-    void creditBalance(Account account, BigDecimal amount);
+    // === 계좌 잔액 조작 메서드 (조건부 UPDATE, 거래 후 잔액 반환) ===
+    Money debitBalance(Account account, Money amount);
+    Money creditBalance(Account account, Money amount);
+    void applyBalanceChanges(Account debitAccount, Money debitAmount, Map<Account, Money> creditAmounts); // 이체용, 계좌 행(id 오름차순) → 스트라이프 순서로 잠금
+
+    // === 분산 잔액(스트라이프) 메서드 ===
+    void enableBalanceStripes(Account account, int stripeCount); // 입금이 몰리는 계좌용 (opt-in)
+    void consolidateBalanceStripes(Account account); // 스트라이프 잔액을 기본 잔액으로 통합 (계좌 행 → 스트라이프 순서로 잠금)
+    Account loadStripedBalance(Account account); // 스트라이프 계좌만 스트라이프 합계를 조회해 전체 잔액에 반영 (화면 표시용)
     
     // === 머니박스 개수 조회 메서드 ===
     long getMoneyBoxCountByMember(Member member);
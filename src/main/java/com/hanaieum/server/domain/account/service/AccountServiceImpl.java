@@ -2,25 +2,38 @@ package com.hanaieum.server.domain.account.service;
 
 import com.hanaieum.server.common.exception.CustomException;
 import com.hanaieum.server.common.exception.ErrorCode;
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.dto.MainAccountResponse;
+import com.hanaieum.server.domain.account.dto.PinGrantResponse;
 import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountBalanceStripe;
 import com.hanaieum.server.domain.account.entity.AccountType;
+import com.hanaieum.server.domain.account.repository.AccountBalanceStripeRepository;
 import com.hanaieum.server.domain.account.repository.AccountRepository;
 import com.hanaieum.server.domain.autoTransfer.service.AutoTransferScheduleService;
 import com.hanaieum.server.domain.bucketList.entity.BucketList;
 import com.hanaieum.server.domain.member.entity.Member;
 import com.hanaieum.server.domain.member.repository.MemberRepository;
+import com.hanaieum.server.security.PinGrantTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Slf4j
 @Service
@@ -32,10 +45,16 @@ public class AccountServiceImpl implements AccountService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final AutoTransferScheduleService autoTransferScheduleService;
+    private final AccountBalanceStripeRepository accountBalanceStripeRepository;
+    private final PinGrantTokenProvider pinGrantTokenProvider;
+
+    // 새 머니박스에 만들 분산 잔액(스트라이프) 개수, 0이면 사용하지 않음
+    @Value("${account.balance-stripes:0}")
+    private int moneyBoxBalanceStripes;
     
     @Override
     @Transactional
-    public Long createAccount(Member member, String accountName, String bankName, AccountType accountType, BigDecimal balance, String password) {
+    public Long createAccount(Member member, String accountName, String bankName, AccountType accountType, Money balance, String password) {
         // 유니크한 계좌번호 생성
         String accountNumber = generateUniqueAccountNumber(accountType);
         
@@ -81,7 +100,7 @@ public class AccountServiceImpl implements AccountService {
         }
         
         // 주계좌 생성 (잔액: 7천만원, 비밀번호: 1234)
-        return createAccount(member, accountName, "하나은행", AccountType.MAIN, new BigDecimal("70000000"), "1234");
+        return createAccount(member, accountName, "하나은행", AccountType.MAIN, Money.of(70_000_000L), "1234");
     }
     
     @Override
@@ -97,13 +116,16 @@ public class AccountServiceImpl implements AccountService {
                 .name("하나머니박스")
                 .bankName("하나은행")
                 .password(encodedAccountPassword)
-                .balance(BigDecimal.ZERO)
+                .balance(Money.ZERO)
                 .accountType(AccountType.MONEY_BOX)
                 .boxName(boxName)
                 .deleted(false)
                 .build();
                 
         Account savedAccount = accountRepository.save(account);
+        if (moneyBoxBalanceStripes > 0) {
+            enableBalanceStripes(savedAccount, moneyBoxBalanceStripes);
+        }
         log.info("머니박스 계좌 생성 완료 - 회원 ID: {}, 계좌번호: {}, 박스명: {}", 
                 member.getId(), accountNumber, boxName);
         
@@ -131,7 +153,7 @@ public class AccountServiceImpl implements AccountService {
     @Override
     @Transactional
     public Account createMoneyBoxForBucketList(BucketList bucketList, Member member, String boxName, 
-                                               Boolean enableAutoTransfer, BigDecimal monthlyAmount, Integer transferDay) {
+                                               Boolean enableAutoTransfer, Money monthlyAmount, Integer transferDay) {
         // boxName이 없으면 버킷리스트 제목 사용
         String finalBoxName = (boxName != null && !boxName.trim().isEmpty()) ? boxName : bucketList.getTitle();
         
@@ -197,7 +219,7 @@ public class AccountServiceImpl implements AccountService {
 
         log.info("주계좌 조회 완료 - 회원 ID: {}, 계좌번호: {}", member.getId(), mainAccount.getNumber());
         
-        return MainAccountResponse.of(mainAccount, member.isMainAccountLinked());
+        return MainAccountResponse.of(loadStripedBalance(mainAccount), member.isMainAccountLinked());
     }
 
     @Override
@@ -236,12 +258,62 @@ public class AccountServiceImpl implements AccountService {
                 .orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
     }
 
+    @Override
+    @Transactional
+    public Map<Long, Account> findAllByIdWithLock(Collection<Long> accountIds) {
+        Set<Long> distinctIds = new LinkedHashSet<>(accountIds);
+
+        // 항상 id 오름차순 단일 쿼리로 잠금 → 잠금 순서가 호출 순서와 무관하게 고정됨
+        List<Account> lockedAccounts = accountRepository.findAllByIdInAndDeletedFalseWithLock(distinctIds);
+        if (lockedAccounts.size() != distinctIds.size()) {
+            throw new CustomException(ErrorCode.ACCOUNT_NOT_FOUND);
+        }
+
+        Map<Long, Account> accounts = new LinkedHashMap<>();
+        for (Account account : lockedAccounts) {
+            accounts.put(account.getId(), account);
+        }
+        return accounts;
+    }
+
+    @Override
+    public Map<Long, Account> findAllByIdWithMember(Collection<Long> accountIds) {
+        Set<Long> distinctIds = new LinkedHashSet<>(accountIds);
+
+        List<Account> foundAccounts = accountRepository.findAllByIdInAndDeletedFalseWithMember(distinctIds);
+        if (foundAccounts.size() != distinctIds.size()) {
+            throw new CustomException(ErrorCode.ACCOUNT_NOT_FOUND);
+        }
+
+        Map<Long, Account> accounts = new LinkedHashMap<>();
+        for (Account account : foundAccounts) {
+            accounts.put(account.getId(), account);
+        }
+        return accounts;
+    }
+
+    @Override
+    public List<Account> findMainAccountAndAccountWithMember(Long memberId, Long accountId) {
+        return findMainAccountAndAccountsWithMember(memberId, List.of(accountId));
+    }
+
+    @Override
+    public List<Account> findMainAccountAndAccountsWithMember(Long memberId, Collection<Long> accountIds) {
+        return accountRepository.findByIdInOrMemberAccountTypeWithMember(accountIds, memberId, AccountType.MAIN);
+    }
+
     @Override
     public void validateAccountOwnership(Long accountId, Long memberId) {
+        findOwnedAccount(accountId, memberId);
+    }
+
+    @Override
+    public Account findOwnedAccount(Long accountId, Long memberId) {
         Account account = findById(accountId);
         if (!account.getMember().getId().equals(memberId)) {
             throw new CustomException(ErrorCode.ACCOUNT_ACCESS_DENIED);
         }
+        return account;
     }
 
     @Override
@@ -252,25 +324,203 @@ public class AccountServiceImpl implements AccountService {
         }
     }
 
+    @Override
+    public void verifyAccountPassword(Account account, String password, String pinGrantToken) {
+        boolean hasPinGrant = pinGrantToken != null && !pinGrantToken.isBlank();
+        boolean hasPassword = password != null && !password.isBlank();
+        // 비밀번호가 필요한 모든 API(채우기/일괄 채우기/수정/후원)가 같은 오류를 받도록 여기서 한 번에 거름
+        if (!hasPinGrant && !hasPassword) {
+            throw new CustomException(ErrorCode.ACCOUNT_PASSWORD_REQUIRED);
+        }
+
+        // PIN 인증 토큰이 있으면 서명/만료/계좌 범위만 확인 (BCrypt 생략)
+        if (hasPinGrant) {
+            if (!pinGrantTokenProvider.isValid(pinGrantToken, account.getMember().getId(), account.getId())) {
+                throw new CustomException(ErrorCode.INVALID_PIN_GRANT);
+            }
+            return;
+        }
+
+        if (!passwordEncoder.matches(password, account.getPassword())) {
+            throw new CustomException(ErrorCode.INVALID_ACCOUNT_PASSWORD);
+        }
+    }
+
+    @Override
+    public PinGrantResponse issuePinGrant(Long memberId, String password) {
+        Long mainAccountId = getMainAccountIdByMemberId(memberId);
+        validateAccountPassword(mainAccountId, password);
+
+        String token = pinGrantTokenProvider.generateToken(memberId, mainAccountId);
+        log.info("PIN 인증 토큰 발급 - 회원 ID: {}, 계좌 ID: {}", memberId, mainAccountId);
+
+        return PinGrantResponse.of(token, pinGrantTokenProvider.getValidityInSeconds());
+    }
+
     @Override
     @Transactional
-    public void debitBalance(Account account, BigDecimal amount) {
-        BigDecimal newBalance = account.getBalance().subtract(amount);
-        if (newBalance.compareTo(BigDecimal.ZERO) < 0) {
+    public Money debitBalance(Account account, Money amount) {
+        // 스트라이프 계좌는 흩어진 잔액을 먼저 기본 잔액으로 모음
+        consolidateBalanceStripes(account);
+        return debit(account, amount);
+    }
+
+    @Override
+    @Transactional
+    public Money creditBalance(Account account, Money amount) {
+        if (account.isBalanceStriped()) {
+            // 잠금 순서: 계좌 행(S) → 스트라이프 (통합은 계좌 행 X 락 후 스트라이프를 잠그므로 같은 순서)
+            lockRowShared(account);
+            return creditStripe(account, amount);
+        }
+        return credit(account, amount);
+    }
+
+    @Override
+    @Transactional
+    public void applyBalanceChanges(Account debitAccount, Money debitAmount, Map<Account, Money> creditAmounts) {
+        List<Account> lockOrder = new ArrayList<>(creditAmounts.keySet());
+        lockOrder.add(debitAccount);
+        lockOrder.sort(Comparator.comparing(Account::getId));
+
+        // 1. 계좌 행 잠금 (id 오름차순, 스트라이프 유무와 무관)
+        //    스트라이프가 없는 계좌는 조건부 UPDATE 자체가 X 락이므로 이 단계에서 바로 반영
+        //    (입금이 먼저 반영되더라도 출금 실패 시 트랜잭션 전체가 롤백됨)
+        for (Account account : lockOrder) {
+            if (account == debitAccount) {
+                if (account.isBalanceStriped()) {
+                    lockRowExclusive(account);
+                } else {
+                    debit(account, debitAmount);
+                }
+            } else if (account.isBalanceStriped()) {
+                lockRowShared(account);
+            } else {
+                credit(account, creditAmounts.get(account));
+            }
+        }
+
+        // 2. 잔액 스트라이프 (모든 계좌 행 락을 잡은 뒤에만)
+        if (debitAccount.isBalanceStriped()) {
+            debitBalance(debitAccount, debitAmount);
+        }
+        creditAmounts.forEach((account, amount) -> {
+            if (account.isBalanceStriped()) {
+                creditStripe(account, amount);
+            }
+        });
+    }
+
+    private void lockRowExclusive(Account account) {
+        accountRepository.findByIdAndDeletedFalseWithLock(account.getId())
+                .orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    private void lockRowShared(Account account) {
+        accountRepository.findByIdAndDeletedFalseWithSharedLock(account.getId())
+                .orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    private Money debit(Account account, Money amount) {
+        // 잔액 확인과 차감을 한 문장으로 처리 (행 락은 이 UPDATE부터 커밋까지만 유지)
+        int updatedRows = accountRepository.debitIfSufficient(account.getId(), amount.toLong());
+        if (updatedRows == 0) {
             throw new CustomException(ErrorCode.INSUFFICIENT_BALANCE);
         }
-        account.updateBalance(newBalance);
-        accountRepository.save(account);
+        Money newBalance = refreshBalance(account);
         log.info("출금 처리 완료 - 계좌 ID: {}, 출금액: {}, 잔액: {}", account.getId(), amount, newBalance);
+        return newBalance;
+    }
+
+    private Money credit(Account account, Money amount) {
+        if (accountRepository.credit(account.getId(), amount.toLong()) == 0) {
+            throw new CustomException(ErrorCode.ACCOUNT_NOT_FOUND);
+        }
+        Money newBalance = refreshBalance(account);
+        log.info("입금 처리 완료 - 계좌 ID: {}, 입금액: {}, 잔액: {}", account.getId(), amount, newBalance);
+        return newBalance;
+    }
+
+    private Money creditStripe(Account account, Money amount) {
+        // 임의의 스트라이프 한 행에만 입금 → 동시 입금끼리 같은 행을 두고 줄 서지 않음
+        int stripeIndex = ThreadLocalRandom.current().nextInt(account.getBalanceStripeCount());
+        if (accountBalanceStripeRepository.credit(account.getId(), stripeIndex, amount.toLong()) == 0) {
+            throw new CustomException(ErrorCode.ACCOUNT_NOT_FOUND);
+        }
+        // 다른 스트라이프는 잠그지 않으므로 전체 잔액을 다시 읽지 않음 (거래 후 잔액은 기록하지 않음)
+        account.addStripedBalance(amount);
+        log.info("입금 처리 완료 - 계좌 ID: {}, 입금액: {}, 스트라이프: {}", account.getId(), amount, stripeIndex);
+        return account.getBalance();
     }
 
     @Override
     @Transactional
-    public void creditBalance(Account account, BigDecimal amount) {
-        BigDecimal newBalance = account.getBalance().add(amount);
-        account.updateBalance(newBalance);
+    public void enableBalanceStripes(Account account, int stripeCount) {
+        if (account.isBalanceStriped()) {
+            return;
+        }
+
+        List<AccountBalanceStripe> stripes = new ArrayList<>();
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.add(AccountBalanceStripe.builder()
+                    .accountId(account.getId())
+                    .stripeIndex(i)
+                    .balance(Money.ZERO)
+                    .build());
+        }
+        accountBalanceStripeRepository.saveAll(stripes);
+
+        account.setBalanceStripeCount(stripeCount);
         accountRepository.save(account);
-        log.info("입금 처리 완료 - 계좌 ID: {}, 입금액: {}, 잔액: {}", account.getId(), amount, newBalance);
+        log.info("분산 잔액 활성화 - 계좌 ID: {}, 스트라이프 수: {}", account.getId(), stripeCount);
+    }
+
+    @Override
+    @Transactional
+    public void consolidateBalanceStripes(Account account) {
+        if (!account.isBalanceStriped()) {
+            return;
+        }
+
+        // 잠금 순서: 계좌 행 → 스트라이프 (계좌 행을 먼저 잡는 다른 이체와 순서를 맞춤)
+        lockRowExclusive(account);
+
+        // 스트라이프를 모두 잠근 뒤 합계를 기본 잔액으로 옮김 (출금 전 전체 잔액 확정)
+        Money stripedSum = accountBalanceStripeRepository.findAllByAccountIdWithLock(account.getId()).stream()
+                .map(AccountBalanceStripe::getBalance)
+                .reduce(Money.ZERO, Money::plus);
+
+        if (stripedSum.isPositive()) {
+            accountRepository.credit(account.getId(), stripedSum.toLong());
+            accountBalanceStripeRepository.resetBalances(account.getId());
+        }
+        refreshBalance(account);
+        log.info("분산 잔액 통합 완료 - 계좌 ID: {}, 통합 금액: {}", account.getId(), stripedSum);
+    }
+
+    @Override
+    public Account loadStripedBalance(Account account) {
+        // 스트라이프가 없는 계좌는 기본 잔액이 곧 전체 잔액이므로 조회하지 않음
+        if (account.isBalanceStriped()) {
+            account.updateStripedBalance(Money.of(accountBalanceStripeRepository.sumBalanceByAccountId(account.getId())));
+        }
+        return account;
+    }
+
+    /**
+     * UPDATE 직후 거래 후 잔액 조회
+     * MySQL은 UPDATE ... RETURNING을 지원하지 않으므로 이미 잡고 있는 행 락 안에서 PK로 다시 읽음
+     * 스트라이프 계좌는 통합(consolidateBalanceStripes) 이후에만 호출되므로 스트라이프를 잠근 채 0으로 비워 둔 상태
+     */
+    private Money refreshBalance(Account account) {
+        Money newBalance = accountRepository.findBalanceById(account.getId());
+        // 메모리 상태만 맞춤 (balance 컬럼은 updatable = false)
+        if (account.isBalanceStriped()) {
+            account.updateBalance(newBalance, Money.ZERO);
+        } else {
+            account.updateBalance(newBalance);
+        }
+        return account.getBalance();
     }
     
     @Override
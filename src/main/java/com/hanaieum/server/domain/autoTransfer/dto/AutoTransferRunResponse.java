@@ -0,0 +1,43 @@
+package com.hanaieum.server.domain.autoTransfer.dto;
+
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferPartitionStatus;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferRunStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoTransferRunResponse {
+
+    private LocalDate executionDate;
+    private AutoTransferRunStatus status;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private int processedCount;             // 체크포인트까지 반영된 처리 건수
+    private int successCount;
+    private int failureCount;
+    private int completedPartitions;        // 완료된 파티션 수
+    private List<PartitionProgress> partitions;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PartitionProgress {
+        private int partitionNo;
+        private AutoTransferPartitionStatus status;
+        private String owner;               // 마지막으로 가져간 노드
+        private long claimToken;            // 2 이상이면 다른 노드가 이어받은 파티션
+        private long lastScheduleId;        // 체크포인트
+        private LocalDateTime claimedUntil;
+        private LocalDateTime completedAt;
+    }
+}
@@ -0,0 +1,44 @@
+package com.hanaieum.server.domain.autoTransfer.endpoint;
+
+import com.hanaieum.server.domain.autoTransfer.dto.AutoTransferRunResponse;
+import com.hanaieum.server.domain.autoTransfer.service.AutoTransferRunService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 정규 자동이체 진행 상황 조회 (운영용)
+ * - /actuator/autotransferruns: 오늘 실행 장부 + 파티션별 보유 노드/체크포인트
+ * - /actuator/autotransferruns/{yyyy-MM-dd}: 해당 날짜
+ * 실행 장부가 없으면 404
+ */
+@Component
+@Endpoint(id = "autotransferruns")
+@RequiredArgsConstructor
+public class AutoTransferRunEndpoint {
+
+    private final AutoTransferRunService autoTransferRunService;
+
+    @ReadOperation
+    public AutoTransferRunResponse today() {
+        return autoTransferRunService.getRun(LocalDate.now()).orElse(null);
+    }
+
+    @ReadOperation
+    public AutoTransferRunResponse byDate(@Selector String executionDate) {
+        LocalDate date;
+        try {
+            date = LocalDate.parse(executionDate);
+        } catch (DateTimeParseException e) {
+            throw new InvalidEndpointRequestException("실행일 형식이 올바르지 않습니다: " + executionDate,
+                    "Invalid execution date");
+        }
+        return autoTransferRunService.getRun(date).orElse(null);
+    }
+}
@@ -1,15 +1,26 @@
 package com.hanaieum.server.domain.autoTransfer.entity;
 
 import com.hanaieum.server.common.entity.BaseEntity;
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.entity.Account;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "auto_transfer_histories")
+@Table(name = "auto_transfer_histories", uniqueConstraints = {
+        // 스케줄당 실행일 하루 한 행 - 실행 전 PENDING 행 INSERT가 곧 선점 (동시에 실행해도 한 워커만 성공)
+        @UniqueConstraint(name = "uk_histories_schedule_execution_date", columnNames = {"schedule_id", "execution_date"})
+}, indexes = {
+        // 재시도 대상 조회: retry_count 일치, status IN, executed_at 하루 범위
+        @Index(name = "idx_histories_retry", columnList = "retry_count, status, executed_at"),
+        // schedule_id FK 인덱스 (스케줄별 이력을 실행 시각 순으로 조회)
+        @Index(name = "idx_histories_schedule_executed", columnList = "schedule_id, executed_at"),
+        // 멈춘 선점 만료: status = PENDING, updated_at(선점 시각) 범위
+        @Index(name = "idx_histories_status_updated", columnList = "status, updated_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -17,7 +28,10 @@ import java.time.LocalDateTime;
 public class AutoTransferHistory extends BaseEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "auto_transfer_history_id_generator")
+    @TableGenerator(name = "auto_transfer_history_id_generator", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "auto_transfer_histories", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,15 +46,18 @@ public class AutoTransferHistory extends BaseEntity {
     @JoinColumn(name = "to_account_id", nullable = false)
     private Account toAccount; // 입금 계좌 (복원 용도)
 
-    @Column(nullable = false, precision = 15, scale = 2)
-    private BigDecimal amount; // 이체금액 (스케줄 당시 금액 기록)
+    @Column(nullable = false)
+    private Money amount; // 이체금액 (스케줄 당시 금액 기록)
+
+    @Column(name = "execution_date")
+    private LocalDate executionDate; // 정규 실행일 (선점 키, 이 컬럼 추가 전 이력은 null)
 
     @Column(name = "executed_at", nullable = false)
     private LocalDateTime executedAt; // 실제 실행된 시간
     
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
-    private AutoTransferStatus status; // 실행 결과(성공/실패/재시도)
+    private AutoTransferStatus status; // 실행 결과(실행 중/성공/실패/재시도)
     
     @Column(name = "failure_reason", length = 500)
     private String failureReason; // 실패 사유 (잔액부족 등)
@@ -0,0 +1,59 @@
+package com.hanaieum.server.domain.autoTransfer.entity;
+
+import com.hanaieum.server.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 정규 자동이체 실행 파티션
+ * 실행일마다 출금 계좌 ID를 partition_count로 나눈 나머지별로 한 행 → 노드마다 파티션을 가져가 자기 몫만 처리
+ * 처리 중인 노드는 chunk마다 claimed_until을 연장하고, 연장이 끊긴(멈춘) 파티션은 다른 노드가 다시 가져감 (claim_token +1)
+ * chunk를 끝낼 때마다 마지막 스케줄 ID를 체크포인트로 남김 → 다시 가져간 노드는 그다음 스케줄부터 처리
+ */
+@Entity
+@Table(name = "auto_transfer_partitions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_partitions_date_no",
+                columnNames = {"execution_date", "partition_no"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AutoTransferPartition extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "execution_date", nullable = false)
+    private LocalDate executionDate; // 실행일
+
+    @Column(name = "partition_no", nullable = false)
+    private Integer partitionNo; // 출금 계좌 ID % partition_count
+
+    @Column(name = "partition_count", nullable = false)
+    private Integer partitionCount; // 그날 파티션 수 (노드 설정이 달라도 처음 만든 값으로 고정)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AutoTransferPartitionStatus status;
+
+    @Column(length = 100)
+    private String owner; // 마지막으로 가져간 노드
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil; // 이 시각까지 연장이 없으면 멈춘 것으로 보고 다른 노드가 가져감
+
+    @Column(name = "claim_token", nullable = false)
+    @Builder.Default
+    private Long claimToken = 0L; // 가져갈 때마다 증가 (이전 보유자의 연장/완료 처리 차단)
+
+    @Column(name = "last_schedule_id", nullable = false)
+    @Builder.Default
+    private Long lastScheduleId = 0L; // 체크포인트 - 처리를 마친 마지막 스케줄 ID (id 순으로 처리)
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
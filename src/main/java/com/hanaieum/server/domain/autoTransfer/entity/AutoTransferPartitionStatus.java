@@ -0,0 +1,14 @@
+package com.hanaieum.server.domain.autoTransfer.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum AutoTransferPartitionStatus {
+    PENDING("대기"),
+    RUNNING("처리 중"),
+    COMPLETED("완료");
+
+    private final String description;
+}
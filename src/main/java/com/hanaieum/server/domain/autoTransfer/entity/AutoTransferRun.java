@@ -0,0 +1,52 @@
+package com.hanaieum.server.domain.autoTransfer.entity;
+
+import com.hanaieum.server.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 정규 자동이체 실행 장부
+ * 실행일마다 한 행, 노드들이 파티션 chunk를 끝낼 때마다 건수를 누적하고 모든 파티션이 완료되면 COMPLETED
+ * 재시작한 노드는 최근(look-back 기간 안) 실행이 RUNNING으로 남아 있으면 각 파티션의 체크포인트(last_schedule_id)부터 이어서 실행
+ */
+@Entity
+@Table(name = "auto_transfer_runs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_runs_execution_date", columnNames = "execution_date"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AutoTransferRun extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "execution_date", nullable = false)
+    private LocalDate executionDate; // 실행일
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AutoTransferRunStatus status;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt; // 처음 시작한 시각
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt; // 모든 파티션이 완료된 시각
+
+    @Column(name = "processed_count", nullable = false)
+    @Builder.Default
+    private Integer processedCount = 0; // 처리한 스케줄 수 (체크포인트까지 반영된 chunk만)
+
+    @Column(name = "success_count", nullable = false)
+    @Builder.Default
+    private Integer successCount = 0;
+
+    @Column(name = "failure_count", nullable = false)
+    @Builder.Default
+    private Integer failureCount = 0;
+}
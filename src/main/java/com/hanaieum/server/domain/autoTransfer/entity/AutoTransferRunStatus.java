@@ -0,0 +1,13 @@
+package com.hanaieum.server.domain.autoTransfer.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum AutoTransferRunStatus {
+    RUNNING("실행 중"),
+    COMPLETED("완료");
+
+    private final String description;
+}
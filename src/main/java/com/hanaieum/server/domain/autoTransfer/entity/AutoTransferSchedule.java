@@ -1,15 +1,18 @@
 package com.hanaieum.server.domain.autoTransfer.entity;
 
 import com.hanaieum.server.common.entity.BaseEntity;
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.entity.Account;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "auto_transfer_schedules")
+@Table(name = "auto_transfer_schedules", indexes = {
+        // 배치 실행 대상 조회: 일치 조건(transfer_day, is_active, is_deleted) 다음에 범위 조건(valid_from)
+        @Index(name = "idx_schedules_execution", columnList = "transfer_day, is_active, is_deleted, valid_from")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -29,8 +32,8 @@ public class AutoTransferSchedule extends BaseEntity {
     @JoinColumn(name = "to_account_id", nullable = false)
     private Account toAccount; // 입금 계좌
     
-    @Column(nullable = false, precision = 15, scale = 2)
-    private BigDecimal amount; // 이체금액
+    @Column(nullable = false)
+    private Money amount; // 이체금액
     
     @Column(name = "transfer_day", nullable = false)
     private Integer transferDay; // 이체일(매월)
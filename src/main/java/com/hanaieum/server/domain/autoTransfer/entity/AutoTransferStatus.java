@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum AutoTransferStatus {
+    PENDING("실행 중"),
     SUCCESS("성공"),
     FAILED("실패"),
     RETRY("재시도 중");
@@ -1,10 +1,12 @@
 package com.hanaieum.server.domain.autoTransfer.repository;
 
 import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferHistory;
-import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferSchedule;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -31,15 +33,41 @@ public interface AutoTransferHistoryRepository extends JpaRepository<AutoTransfe
     );
     
     /**
-     * 특정 스케줄의 오늘 실행 이력 존재 여부 확인
+     * 선점한 PENDING 이력에 실행 결과 기록 - 아직 PENDING일 때만 (그사이 중단 처리되었으면 0)
+     * 이체와 같은 트랜잭션에서 호출하면 0일 때 이체까지 롤백할 수 있음
      */
-    @Query("SELECT h FROM AutoTransferHistory h WHERE " +
-           "h.schedule = :schedule " +
-           "AND h.executedAt >= :startOfDay " +
-           "AND h.executedAt < :endOfDay")
-    Optional<AutoTransferHistory> findTodayExecution(
-            @Param("schedule") AutoTransferSchedule schedule,
-            @Param("startOfDay") LocalDateTime startOfDay,
-            @Param("endOfDay") LocalDateTime endOfDay
-    );
-}
\ No newline at end of file
+    @Transactional
+    @Modifying
+    @Query("UPDATE AutoTransferHistory h SET h.status = :status, h.failureReason = :failureReason " +
+           "WHERE h.id = :id AND h.status = 'PENDING'")
+    int completeClaim(@Param("id") Long id,
+                      @Param("status") AutoTransferStatus status,
+                      @Param("failureReason") String failureReason);
+
+    /**
+     * 재시도 선점 - FAILED/RETRY이고 재시도 횟수가 조회 시점 그대로일 때만 PENDING으로 전환 (재시도 횟수 +1)
+     * 조건부 UPDATE 한 문장이라 여러 워커가 같은 행을 재시도해도 한 워커만 1행 갱신, 나머지는 0 → 건너뜀
+     * 선점 시각은 updatedAt에 기록 (멈춘 선점 만료 기준)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE AutoTransferHistory h SET h.status = 'PENDING', h.retryCount = h.retryCount + 1, " +
+           "h.updatedAt = :claimedAt " +
+           "WHERE h.id = :id AND h.status IN ('FAILED', 'RETRY') AND h.retryCount = :retryCount")
+    int claimRetry(@Param("id") Long id,
+                   @Param("retryCount") Integer retryCount,
+                   @Param("claimedAt") LocalDateTime claimedAt);
+
+    /**
+     * 워커가 멈춰 결과를 기록하지 못한 PENDING 이력을 실패로 전환 → 재시도 대상이 됨
+     * PENDING이면 이체 트랜잭션이 커밋되지 않은 것 (이체와 결과 기록이 한 트랜잭션)
+     * 정규 실행 선점(INSERT)과 재시도 선점(UPDATE) 모두 updatedAt이 선점 시각, 실행일과 무관하게 전환
+     * - 재시도 선점은 재시도 횟수가 이미 +1 되어 있으므로 다음 회차 재시도 대상이 됨
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE AutoTransferHistory h SET h.status = 'FAILED', h.failureReason = :failureReason " +
+           "WHERE h.status = 'PENDING' AND h.updatedAt < :staleBefore")
+    int expireStalePending(@Param("staleBefore") LocalDateTime staleBefore,
+                           @Param("failureReason") String failureReason);
+}
@@ -0,0 +1,60 @@
+package com.hanaieum.server.domain.autoTransfer.repository;
+
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferPartition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AutoTransferPartitionRepository extends JpaRepository<AutoTransferPartition, Long> {
+
+    List<AutoTransferPartition> findByExecutionDateOrderByPartitionNoAsc(LocalDate executionDate);
+
+    // 대기 중이거나 연장이 끊긴 파티션만 가져감 (조건부 UPDATE 한 문장이라 동시에 시도해도 한 노드만 1행 갱신), 토큰 +1
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AutoTransferPartition p SET p.status = 'RUNNING', p.owner = :owner, " +
+           "p.claimedUntil = :claimedUntil, p.claimToken = p.claimToken + 1 " +
+           "WHERE p.id = :id AND (p.status = 'PENDING' OR (p.status = 'RUNNING' AND p.claimedUntil < :now))")
+    int claim(@Param("id") Long id,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    // 처리 중 연장 - 가져간 뒤 토큰이 그대로일 때만 (그사이 다른 노드가 가져갔으면 0)
+    @Transactional
+    @Modifying
+    @Query("UPDATE AutoTransferPartition p SET p.claimedUntil = :claimedUntil " +
+           "WHERE p.id = :id AND p.status = 'RUNNING' AND p.owner = :owner AND p.claimToken = :claimToken")
+    int heartbeat(@Param("id") Long id,
+                  @Param("owner") String owner,
+                  @Param("claimToken") Long claimToken,
+                  @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    // chunk 완료 체크포인트 + 연장 - 연장과 같은 토큰 조건
+    @Transactional
+    @Modifying
+    @Query("UPDATE AutoTransferPartition p SET p.lastScheduleId = :lastScheduleId, p.claimedUntil = :claimedUntil " +
+           "WHERE p.id = :id AND p.status = 'RUNNING' AND p.owner = :owner AND p.claimToken = :claimToken")
+    int checkpoint(@Param("id") Long id,
+                   @Param("owner") String owner,
+                   @Param("claimToken") Long claimToken,
+                   @Param("lastScheduleId") Long lastScheduleId,
+                   @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    // 완료 처리 - 연장과 같은 토큰 조건
+    @Transactional
+    @Modifying
+    @Query("UPDATE AutoTransferPartition p SET p.status = 'COMPLETED', p.completedAt = :completedAt " +
+           "WHERE p.id = :id AND p.status = 'RUNNING' AND p.owner = :owner AND p.claimToken = :claimToken")
+    int complete(@Param("id") Long id,
+                 @Param("owner") String owner,
+                 @Param("claimToken") Long claimToken,
+                 @Param("completedAt") LocalDateTime completedAt);
+}
@@ -0,0 +1,44 @@
+package com.hanaieum.server.domain.autoTransfer.repository;
+
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferRun;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferRunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AutoTransferRunRepository extends JpaRepository<AutoTransferRun, Long> {
+
+    Optional<AutoTransferRun> findByExecutionDate(LocalDate executionDate);
+
+    // 기준일 이후 실행일 중 해당 상태인 실행 (오래된 순)
+    List<AutoTransferRun> findByStatusAndExecutionDateGreaterThanEqualOrderByExecutionDateAsc(
+            AutoTransferRunStatus status, LocalDate executionDate);
+
+    // chunk 건수 누적 (여러 노드가 동시에 누적해도 UPDATE 한 문장이라 유실 없음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE AutoTransferRun r SET r.processedCount = r.processedCount + :processed, " +
+           "r.successCount = r.successCount + :success, r.failureCount = r.failureCount + :failure " +
+           "WHERE r.executionDate = :executionDate")
+    int addProgress(@Param("executionDate") LocalDate executionDate,
+                    @Param("processed") int processed,
+                    @Param("success") int success,
+                    @Param("failure") int failure);
+
+    // 모든 파티션 완료 후 한 번만 완료 처리 (먼저 확인한 노드만 1행 갱신)
+    @Transactional
+    @Modifying
+    @Query("UPDATE AutoTransferRun r SET r.status = 'COMPLETED', r.finishedAt = :finishedAt " +
+           "WHERE r.executionDate = :executionDate AND r.status = 'RUNNING'")
+    int finish(@Param("executionDate") LocalDate executionDate,
+               @Param("finishedAt") LocalDateTime finishedAt);
+}
@@ -2,6 +2,7 @@ package com.hanaieum.server.domain.autoTransfer.repository;
 
 import com.hanaieum.server.domain.account.entity.Account;
 import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferSchedule;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -48,18 +49,39 @@ public interface AutoTransferScheduleRepository extends JpaRepository<AutoTransf
         @Param("moneyBoxAccount") Account moneyBoxAccount);
 
     /**
-     * 특정 이체일에 실행될 자동이체 스케줄 조회 (배치 처리용)
-     * 오늘 날짜의 "이체일"과 일치하는 스케줄
-     * 스케줄이 시작일(validFrom) 이후이며, 종료일(validTo)이 없거나 아직 종료되지 않은 스케줄
-     * 활성화되었으며 삭제 처리되지 않은 자동이체 스케줄
+     * 정규 실행 대상 스케줄 chunk 조회 (배치 처리용)
+     * 이체일이 오늘 날짜의 일과 같고, 유효기간(validFrom ~ validTo) 안이며, 활성화되고 삭제되지 않은 스케줄
+     * 그날 이력(선점)이 있는 스케줄은 제외 (NOT EXISTS, 유니크 키 조회)
+     * 그날 실패한 스케줄은 재시도 잡이 같은 이력 행으로 처리
+     * 출금 계좌 ID % partitionCount = partitionNo 인 파티션의 스케줄만 조회 (노드마다 가져간 파티션만 처리)
+     * id 키셋(ats.id > :lastId, id 오름차순)으로 pageable 크기만큼씩 읽음 → OFFSET 없이 다음 chunk로 이동
+     * 출금/입금 계좌와 소유 회원까지 JOIN FETCH → 스케줄마다 이력 확인/계좌 조회 쿼리를 따로 날리지 않음
+     * 조회 직후 건별 SELECT가 따로 나가는 연관(mappedBy OneToOne인 Account.bucketList, EAGER인 Member.group)도 함께 LEFT JOIN FETCH
      */
-    @Query("SELECT ats FROM AutoTransferSchedule ats WHERE " +
-           "ats.transferDay = :targetDay AND " +
+    @Query("SELECT ats FROM AutoTransferSchedule ats " +
+           "JOIN FETCH ats.fromAccount fa " +
+           "JOIN FETCH fa.member fm " +
+           "LEFT JOIN FETCH fm.group " +
+           "LEFT JOIN FETCH fa.bucketList " +
+           "JOIN FETCH ats.toAccount ta " +
+           "JOIN FETCH ta.member tm " +
+           "LEFT JOIN FETCH tm.group " +
+           "LEFT JOIN FETCH ta.bucketList " +
+           "WHERE ats.transferDay = :targetDay AND " +
            "ats.validFrom <= :targetDate AND " +
            "(ats.validTo IS NULL OR ats.validTo >= :targetDate) AND " +
-           "ats.active = true AND ats.deleted = false")
-    List<AutoTransferSchedule> findSchedulesForExecution(
+           "ats.active = true AND ats.deleted = false AND " +
+           "MOD(fa.id, :partitionCount) = :partitionNo AND " +
+           "ats.id > :lastId AND " +
+           "NOT EXISTS (SELECT 1 FROM AutoTransferHistory h WHERE " +
+           "h.schedule = ats AND h.executionDate = :targetDate) " +
+           "ORDER BY ats.id ASC")
+    List<AutoTransferSchedule> findDueSchedulesWithAccounts(
         @Param("targetDate") LocalDate targetDate,
-        @Param("targetDay") Integer targetDay
+        @Param("targetDay") Integer targetDay,
+        @Param("partitionCount") Integer partitionCount,
+        @Param("partitionNo") Integer partitionNo,
+        @Param("lastId") Long lastId,
+        Pageable pageable
     );
 }
\ No newline at end of file
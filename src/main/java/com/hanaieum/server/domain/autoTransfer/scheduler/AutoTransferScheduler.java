@@ -1,27 +1,73 @@
 package com.hanaieum.server.domain.autoTransfer.scheduler;
 
+import com.hanaieum.server.domain.autoTransfer.service.AutoTransferRunService;
 import com.hanaieum.server.domain.autoTransfer.service.AutoTransferService;
+import com.hanaieum.server.domain.schedulerLease.service.SchedulerLeaseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * 자동이체 스케줄러
  * - 9시: 정규 출금 시도
  * - 12시: 1차 재시도
- * - 15시: 2차 재시도  
+ * - 15시: 2차 재시도
  * - 다음날 9시: 3차 재시도 (최종)
+ * 정규 실행은 모든 노드가 출금 계좌 기준 파티션을 나눠 처리, 재시도는 잡마다 DB 리스를 가져온 노드 하나만 실행
+ * (리스를 잃으면 재시도는 다음 이력부터 중단)
+ * 기동 시 최근 정규 실행이 끝나지 않은 채 남아 있으면 (실행 중 재시작) 다음 cron을 기다리지 않고 체크포인트부터 이어서 실행
+ * (자정을 넘겨 올라와도 지난 실행일까지 이어서 실행 - 이력이 없는 스케줄은 재시도 대상이 아니므로 여기서 처리하지 않으면 누락)
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class AutoTransferScheduler {
-    
+
+    static final String LEASE_9AM = "auto-transfer-9am";
+    static final String LEASE_12PM = "auto-transfer-12pm";
+    static final String LEASE_3PM = "auto-transfer-3pm";
+
     private final AutoTransferService autoTransferService;
-    
+    private final AutoTransferRunService autoTransferRunService;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    /**
+     * 기동 완료 시: 중단된 정규 자동이체를 실행일 순으로 이어서 실행
+     * 다른 노드가 가져간 파티션은 보유 시간이 지나야 가져올 수 있으므로 기동을 막지 않도록 별도 스레드에서 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedRun() {
+        List<LocalDate> interruptedDates;
+        try {
+            interruptedDates = autoTransferRunService.findInterruptedRunDates(LocalDate.now());
+        } catch (Exception e) {
+            log.error("중단된 자동이체 실행 확인 중 예외 발생: {}", e.getMessage(), e);
+            return;
+        }
+        if (interruptedDates.isEmpty()) {
+            return;
+        }
+
+        log.info("중단된 자동이체 실행 재개: {}", interruptedDates);
+        Thread.ofVirtual().name("auto-transfer-resume").start(() -> {
+            for (LocalDate executionDate : interruptedDates) {
+                try {
+                    autoTransferService.executeScheduledTransfers(executionDate);
+                    log.info("중단된 자동이체 실행 재개 완료: {}", executionDate);
+                } catch (Exception e) {
+                    // 한 실행일이 실패해도 나머지 실행일은 계속 진행
+                    log.error("중단된 자동이체 실행 재개 중 예외 발생: {}, {}", executionDate, e.getMessage(), e);
+                }
+            }
+        });
+    }
+
     /**
      * 매일 오전 9시: 정규 자동이체 실행 + 어제 실패분 최종 재시도
      */
@@ -29,21 +75,25 @@ public class AutoTransferScheduler {
     public void executeAt9AM() {
         LocalDate today = LocalDate.now();
         log.info("오전 9시 자동이체 실행 시작: {}", today);
-        
+
         try {
-            // 1. 정규 자동이체 실행
+            // 1. 정규 자동이체 실행 (파티션 단위로 노드 간 분산)
             autoTransferService.executeScheduledTransfers(today);
 
             // 2. 어제 실패분 최종 재시도 (retryCount = 2)
             LocalDate yesterday = today.minusDays(1);
-            autoTransferService.retryFailedTransfers(yesterday, 2);
-            
-            log.info("오전 9시 자동이체 실행 완료: {}", today);
+            boolean executed = schedulerLeaseService.runExclusively(LEASE_9AM,
+                    lease -> autoTransferService.retryFailedTransfers(yesterday, 2,
+                            () -> schedulerLeaseService.isHeld(lease)));
+
+            if (executed) {
+                log.info("오전 9시 자동이체 실행 완료: {}", today);
+            }
         } catch (Exception e) {
             log.error("오전 9시 자동이체 실행 중 예외 발생: {}", e.getMessage(), e);
         }
     }
-    
+
     /**
      * 매일 오후 12시: 당일 실패분 1차 재시도
      */
@@ -51,15 +101,19 @@ public class AutoTransferScheduler {
     public void retryAt12PM() {
         LocalDate today = LocalDate.now();
         log.info("오후 12시 1차 재시도 시작: {}", today);
-        
+
         try {
-            autoTransferService.retryFailedTransfers(today, 0);
-            log.info("오후 12시 1차 재시도 완료: {}", today);
+            boolean executed = schedulerLeaseService.runExclusively(LEASE_12PM,
+                    lease -> autoTransferService.retryFailedTransfers(today, 0,
+                            () -> schedulerLeaseService.isHeld(lease)));
+            if (executed) {
+                log.info("오후 12시 1차 재시도 완료: {}", today);
+            }
         } catch (Exception e) {
             log.error("오후 12시 1차 재시도 중 예외 발생: {}", e.getMessage(), e);
         }
     }
-    
+
     /**
      * 매일 오후 3시: 당일 실패분 2차 재시도
      */
@@ -67,12 +121,16 @@ public class AutoTransferScheduler {
     public void retryAt3PM() {
         LocalDate today = LocalDate.now();
         log.info("오후 3시 2차 재시도 시작: {}", today);
-        
+
         try {
-            autoTransferService.retryFailedTransfers(today, 1);
-            log.info("오후 3시 2차 재시도 완료: {}", today);
+            boolean executed = schedulerLeaseService.runExclusively(LEASE_3PM,
+                    lease -> autoTransferService.retryFailedTransfers(today, 1,
+                            () -> schedulerLeaseService.isHeld(lease)));
+            if (executed) {
+                log.info("오후 3시 2차 재시도 완료: {}", today);
+            }
         } catch (Exception e) {
             log.error("오후 3시 2차 재시도 중 예외 발생: {}", e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+}
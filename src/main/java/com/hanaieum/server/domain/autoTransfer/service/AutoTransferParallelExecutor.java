@@ -0,0 +1,94 @@
+package com.hanaieum.server.domain.autoTransfer.service;
+
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferSchedule;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 자동이체 병렬 실행기
+ * - 출금 계좌가 같은 스케줄은 한 레인에서 등록 순서대로 실행 (같은 계좌 잔액/행 락을 두고 경합하지 않음)
+ * - 레인마다 가상 스레드 하나, 동시에 이체 중인 스케줄 수는 concurrency로 제한 (DB 커넥션 풀보다 작게)
+ * - 한 스케줄의 실패/예외는 실패 건수로만 집계하고 같은 레인의 다음 스케줄을 계속 실행
+ */
+@Slf4j
+@Component
+public class AutoTransferParallelExecutor {
+
+    @Value("${auto-transfer.concurrency:4}")
+    private int concurrency;
+
+    /**
+     * @param task 스케줄 하나를 실행하고 결과 상태 반환 (건너뛴 스케줄은 null)
+     */
+    public Result execute(List<AutoTransferSchedule> schedules, Function<AutoTransferSchedule, AutoTransferStatus> task) {
+        Map<Long, List<AutoTransferSchedule>> lanes = schedules.stream()
+                .collect(Collectors.groupingBy(schedule -> schedule.getFromAccount().getId(),
+                        LinkedHashMap::new, Collectors.toList()));
+        int permits = Math.max(concurrency, 1);
+        Semaphore running = new Semaphore(permits);
+        Counters counters = new Counters();
+
+        long startedAt = System.nanoTime();
+        // close()가 모든 레인이 끝날 때까지 대기
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("auto-transfer-", 0).factory())) {
+            lanes.values().forEach(lane -> executor.submit(() -> runLane(lane, task, running, counters)));
+        }
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        return new Result(counters.success.intValue(), counters.failure.intValue(), counters.skipped.intValue(),
+                lanes.size(), permits, elapsedMillis);
+    }
+
+    private void runLane(List<AutoTransferSchedule> lane, Function<AutoTransferSchedule, AutoTransferStatus> task,
+                         Semaphore running, Counters counters) {
+        for (AutoTransferSchedule schedule : lane) {
+            try {
+                running.acquire();
+            } catch (InterruptedException e) {
+                // 종료 중 - 남은 스케줄은 다음 실행(재시도)에서 처리
+                Thread.currentThread().interrupt();
+                log.warn("자동이체 레인 중단: fromAccountId={}, 남은 스케줄 포함 {}건",
+                        schedule.getFromAccount().getId(), lane.size());
+                return;
+            }
+            try {
+                AutoTransferStatus status = task.apply(schedule);
+                if (status == null) {
+                    counters.skipped.increment();
+                } else if (status == AutoTransferStatus.SUCCESS) {
+                    counters.success.increment();
+                } else {
+                    counters.failure.increment();
+                }
+            } catch (Exception e) {
+                log.error("자동이체 실행 중 예외 발생: scheduleId={}, error={}", schedule.getId(), e.getMessage(), e);
+                counters.failure.increment();
+            } finally {
+                running.release();
+            }
+        }
+    }
+
+    public record Result(int successCount, int failureCount, int skippedCount, int laneCount, int concurrency,
+                         long elapsedMillis) {
+    }
+
+    private static class Counters {
+        private final LongAdder success = new LongAdder();
+        private final LongAdder failure = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+    }
+}
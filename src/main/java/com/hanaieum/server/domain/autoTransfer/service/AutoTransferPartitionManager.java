@@ -0,0 +1,205 @@
+package com.hanaieum.server.domain.autoTransfer.service;
+
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferPartition;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferPartitionStatus;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferRun;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferRunStatus;
+import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferPartitionRepository;
+import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferRunRepository;
+import com.hanaieum.server.domain.schedulerLease.service.SchedulerLeaseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 정규 자동이체 파티션 관리
+ * - 실행일마다 실행 장부(auto_transfer_runs) 한 행과 출금 계좌 ID % partition-count 별 파티션 행을 만들고, 노드마다 하나씩 가져가 처리
+ * - 같은 출금 계좌의 스케줄은 항상 같은 파티션 → 한 노드의 한 레인에서만 순서대로 실행
+ * - 처리 중에는 chunk마다 claimed_until을 연장, 연장이 끊긴 파티션은 다른 노드가 다시 가져감 (claim_token +1)
+ * - chunk를 끝내면 파티션 체크포인트와 실행 장부 건수를 한 트랜잭션으로 기록 → 다시 가져간 노드는 체크포인트 다음부터 처리
+ * - partition-count는 모든 노드에서 같아야 함 (먼저 만든 행의 값이 그날 기준)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutoTransferPartitionManager {
+
+    private final AutoTransferPartitionRepository partitionRepository;
+    private final AutoTransferRunRepository runRepository;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${auto-transfer.partition-count:8}")
+    private int partitionCount;
+
+    @Value("${auto-transfer.partition-lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${auto-transfer.partition-poll-millis:5000}")
+    private long pollMillis;
+
+    /**
+     * 실행일의 실행 장부/파티션 행 생성 (다른 노드가 먼저 만든 행은 그대로 두고 빠진 번호만 채움)
+     */
+    public void prepare(LocalDate executionDate) {
+        createRunIfAbsent(executionDate);
+        List<AutoTransferPartition> existing = partitionRepository.findByExecutionDateOrderByPartitionNoAsc(executionDate);
+        // 일부만 만들어진 상태(노드가 생성 도중 종료)면 먼저 만든 행의 파티션 수로 나머지를 채움
+        int count = existing.isEmpty() ? Math.max(partitionCount, 1) : existing.get(0).getPartitionCount();
+        Set<Integer> existingPartitionNos = existing.stream()
+                .map(AutoTransferPartition::getPartitionNo)
+                .collect(Collectors.toSet());
+        for (int partitionNo = 0; partitionNo < count; partitionNo++) {
+            if (existingPartitionNos.contains(partitionNo)) {
+                continue;
+            }
+            try {
+                partitionRepository.saveAndFlush(AutoTransferPartition.builder()
+                        .executionDate(executionDate)
+                        .partitionNo(partitionNo)
+                        .partitionCount(count)
+                        .status(AutoTransferPartitionStatus.PENDING)
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 먼저 만듦
+                log.debug("자동이체 파티션 행이 이미 있음: executionDate={}, partitionNo={}", executionDate, partitionNo);
+            }
+        }
+    }
+
+    /**
+     * 대기 중이거나 멈춘 파티션 하나 가져오기, 가져갈 파티션이 없으면 empty
+     */
+    public Optional<Claim> claimNext(LocalDate executionDate) {
+        String owner = schedulerLeaseService.ownerId();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (AutoTransferPartition partition : partitionRepository.findByExecutionDateOrderByPartitionNoAsc(executionDate)) {
+            if (partition.getStatus() == AutoTransferPartitionStatus.COMPLETED) {
+                continue;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            Optional<Claim> claim = transactionTemplate.execute(status -> {
+                if (partitionRepository.claim(partition.getId(), owner, now, now.plusSeconds(leaseSeconds)) == 0) {
+                    return Optional.<Claim>empty();
+                }
+                // 갱신한 행의 락을 잡은 채로 읽으므로 다른 노드가 그사이 토큰을 올릴 수 없음
+                AutoTransferPartition claimed = partitionRepository.findById(partition.getId()).orElseThrow();
+                return Optional.of(new Claim(claimed.getId(), executionDate, claimed.getPartitionNo(),
+                        claimed.getPartitionCount(), owner, claimed.getClaimToken(), claimed.getLastScheduleId()));
+            });
+            if (claim.isPresent()) {
+                if (partition.getStatus() == AutoTransferPartitionStatus.RUNNING) {
+                    log.warn("멈춘 자동이체 파티션 재처리: partitionNo={}, 이전 보유자={}, 토큰={}, 체크포인트={}",
+                            partition.getPartitionNo(), partition.getOwner(), claim.get().claimToken(),
+                            claim.get().lastScheduleId());
+                }
+                return claim;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 보유 연장, 그사이 다른 노드가 가져갔으면 false
+     */
+    public boolean heartbeat(Claim claim) {
+        return partitionRepository.heartbeat(claim.partitionId(), claim.owner(), claim.claimToken(),
+                LocalDateTime.now().plusSeconds(leaseSeconds)) == 1;
+    }
+
+    /**
+     * chunk 완료 기록 - 파티션 체크포인트 + 연장, 실행 장부 건수 누적 (그사이 다른 노드가 가져갔으면 둘 다 기록하지 않고 false)
+     */
+    public boolean checkpoint(Claim claim, long lastScheduleId, AutoTransferParallelExecutor.Result result) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (partitionRepository.checkpoint(claim.partitionId(), claim.owner(), claim.claimToken(),
+                    lastScheduleId, LocalDateTime.now().plusSeconds(leaseSeconds)) == 0) {
+                return false;
+            }
+            int processed = result.successCount() + result.failureCount() + result.skippedCount();
+            runRepository.addProgress(claim.executionDate(), processed, result.successCount(), result.failureCount());
+            return true;
+        }));
+    }
+
+    /**
+     * 완료 처리, 그사이 다른 노드가 가져갔으면 false
+     */
+    public boolean complete(Claim claim) {
+        return partitionRepository.complete(claim.partitionId(), claim.owner(), claim.claimToken(),
+                LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * 실행일의 모든 파티션이 완료되었는지
+     */
+    public boolean isFinished(LocalDate executionDate) {
+        List<AutoTransferPartition> partitions = partitionRepository.findByExecutionDateOrderByPartitionNoAsc(executionDate);
+        // 파티션 행이 다 만들어지지 않았으면 아직 처리하지 않은 계좌가 있을 수 있음
+        if (partitions.isEmpty() || partitions.size() < partitions.get(0).getPartitionCount()) {
+            return false;
+        }
+        return partitions.stream()
+                .allMatch(partition -> partition.getStatus() == AutoTransferPartitionStatus.COMPLETED);
+    }
+
+    /**
+     * 모든 파티션이 완료된 실행 장부 완료 처리 (이미 완료되었으면 무시)
+     */
+    public void finishRun(LocalDate executionDate) {
+        if (runRepository.finish(executionDate, LocalDateTime.now()) == 1) {
+            runRepository.findByExecutionDate(executionDate).ifPresent(run ->
+                    log.info("자동이체 실행 장부 완료: executionDate={}, 처리={}, 성공={}, 실패={}, 시작={}",
+                            executionDate, run.getProcessedCount(), run.getSuccessCount(), run.getFailureCount(),
+                            run.getStartedAt()));
+        }
+    }
+
+    /**
+     * 다른 노드가 처리 중인 파티션만 남았을 때 다음 확인까지 대기, 인터럽트되면 false
+     */
+    public boolean awaitNextPoll() {
+        try {
+            Thread.sleep(pollMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void createRunIfAbsent(LocalDate executionDate) {
+        if (runRepository.findByExecutionDate(executionDate).isPresent()) {
+            return;
+        }
+        try {
+            runRepository.saveAndFlush(AutoTransferRun.builder()
+                    .executionDate(executionDate)
+                    .status(AutoTransferRunStatus.RUNNING)
+                    .startedAt(LocalDateTime.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 만듦
+            log.debug("자동이체 실행 장부 행이 이미 있음: executionDate={}", executionDate);
+        }
+    }
+
+    /**
+     * @param lastScheduleId 가져올 때의 체크포인트 (이 ID 다음 스케줄부터 처리)
+     */
+    public record Claim(Long partitionId, LocalDate executionDate, int partitionNo, int partitionCount, String owner,
+                        long claimToken, long lastScheduleId) {
+    }
+}
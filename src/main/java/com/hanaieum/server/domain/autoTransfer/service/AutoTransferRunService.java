@@ -0,0 +1,21 @@
+package com.hanaieum.server.domain.autoTransfer.service;
+
+import com.hanaieum.server.domain.autoTransfer.dto.AutoTransferRunResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface AutoTransferRunService {
+
+    /**
+     * 실행일의 정규 자동이체 진행 상황 (실행 장부 + 파티션별 체크포인트), 실행한 적 없으면 empty
+     */
+    Optional<AutoTransferRunResponse> getRun(LocalDate executionDate);
+
+    /**
+     * 시작되었지만 아직 완료되지 않은 정규 자동이체 실행일 (재시작 후 이어서 실행할 대상, 오래된 순)
+     * 실행 중 클러스터 전체가 내려갔다가 자정 이후에 올라와도 놓치지 않도록 look-back 기간 안의 지난 실행일까지 포함
+     */
+    List<LocalDate> findInterruptedRunDates(LocalDate today);
+}
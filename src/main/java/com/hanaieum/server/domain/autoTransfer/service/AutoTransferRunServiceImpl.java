@@ -0,0 +1,69 @@
+package com.hanaieum.server.domain.autoTransfer.service;
+
+import com.hanaieum.server.domain.autoTransfer.dto.AutoTransferRunResponse;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferPartition;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferPartitionStatus;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferRun;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferRunStatus;
+import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferPartitionRepository;
+import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferRunRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AutoTransferRunServiceImpl implements AutoTransferRunService {
+
+    private final AutoTransferRunRepository runRepository;
+    private final AutoTransferPartitionRepository partitionRepository;
+
+    // 기동 시 중단된 실행을 찾는 기간 - 너무 오래된 실행은 이어서 실행하지 않음
+    @Value("${auto-transfer.resume-lookback-days:7}")
+    private int resumeLookbackDays;
+
+    @Override
+    public Optional<AutoTransferRunResponse> getRun(LocalDate executionDate) {
+        return runRepository.findByExecutionDate(executionDate).map(run -> {
+            List<AutoTransferPartition> partitions =
+                    partitionRepository.findByExecutionDateOrderByPartitionNoAsc(executionDate);
+            return AutoTransferRunResponse.builder()
+                    .executionDate(run.getExecutionDate())
+                    .status(run.getStatus())
+                    .startedAt(run.getStartedAt())
+                    .finishedAt(run.getFinishedAt())
+                    .processedCount(run.getProcessedCount())
+                    .successCount(run.getSuccessCount())
+                    .failureCount(run.getFailureCount())
+                    .completedPartitions((int) partitions.stream()
+                            .filter(partition -> partition.getStatus() == AutoTransferPartitionStatus.COMPLETED)
+                            .count())
+                    .partitions(partitions.stream()
+                            .map(partition -> AutoTransferRunResponse.PartitionProgress.builder()
+                                    .partitionNo(partition.getPartitionNo())
+                                    .status(partition.getStatus())
+                                    .owner(partition.getOwner())
+                                    .claimToken(partition.getClaimToken())
+                                    .lastScheduleId(partition.getLastScheduleId())
+                                    .claimedUntil(partition.getClaimedUntil())
+                                    .completedAt(partition.getCompletedAt())
+                                    .build())
+                            .toList())
+                    .build();
+        });
+    }
+
+    @Override
+    public List<LocalDate> findInterruptedRunDates(LocalDate today) {
+        return runRepository.findByStatusAndExecutionDateGreaterThanEqualOrderByExecutionDateAsc(
+                        AutoTransferRunStatus.RUNNING, today.minusDays(resumeLookbackDays)).stream()
+                .map(AutoTransferRun::getExecutionDate)
+                .toList();
+    }
+}
@@ -1,10 +1,10 @@
 package com.hanaieum.server.domain.autoTransfer.service;
 
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.entity.Account;
 import com.hanaieum.server.domain.autoTransfer.dto.TransferStatus;
 import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferSchedule;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -15,7 +15,7 @@ public interface AutoTransferScheduleService {
      * 자동이체 스케줄 생성 (다음달부터 시작)
      */
     AutoTransferSchedule createSchedule(Account fromAccount, Account toAccount, 
-                                      BigDecimal amount, Integer transferDay);
+                                      Money amount, Integer transferDay);
 
     /**
      * 자동이체 스케줄 업데이트 (History 방식)
@@ -24,7 +24,7 @@ public interface AutoTransferScheduleService {
      * - 현재 설정과 다르면 현재 스케줄 종료 처리
      */
     void updateSchedule(Account fromAccount, Account toAccount,
-                       Boolean enabled, BigDecimal amount, Integer transferDay);
+                       Boolean enabled, Money amount, Integer transferDay);
 
     /**
      * 자동이체 비활성화
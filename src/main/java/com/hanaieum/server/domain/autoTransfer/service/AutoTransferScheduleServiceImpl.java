@@ -1,5 +1,6 @@
 package com.hanaieum.server.domain.autoTransfer.service;
 
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.entity.Account;
 import com.hanaieum.server.domain.autoTransfer.dto.TransferStatus;
 import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferSchedule;
@@ -24,7 +25,7 @@ public class AutoTransferScheduleServiceImpl implements AutoTransferScheduleServ
     
     @Override
     public AutoTransferSchedule createSchedule(Account fromAccount, Account toAccount, 
-                                             BigDecimal amount, Integer transferDay) {
+                                             Money amount, Integer transferDay) {
         LocalDate nextMonth = LocalDate.now().withDayOfMonth(1).plusMonths(1);
         
         AutoTransferSchedule schedule = AutoTransferSchedule.builder()
@@ -48,7 +49,7 @@ public class AutoTransferScheduleServiceImpl implements AutoTransferScheduleServ
     
     @Override
     public void updateSchedule(Account fromAccount, Account toAccount,
-                              Boolean enabled, BigDecimal amount, Integer transferDay) {
+                              Boolean enabled, Money amount, Integer transferDay) {
         if (enabled) {
             enableSchedule(fromAccount, toAccount, amount, transferDay);
         } else {
@@ -98,7 +99,7 @@ public class AutoTransferScheduleServiceImpl implements AutoTransferScheduleServ
      * 자동이체 활성화 (내부 메서드)
      * 성능 최적화: 변경사항이 있거나 미래 스케줄이 없을 때만 DB 작업 수행
      */
-    private void enableSchedule(Account fromAccount, Account toAccount, BigDecimal amount, Integer transferDay) {
+    private void enableSchedule(Account fromAccount, Account toAccount, Money amount, Integer transferDay) {
         LocalDate today = LocalDate.now();
         
         // 현재 유효한 스케줄 조회
@@ -146,7 +147,7 @@ public class AutoTransferScheduleServiceImpl implements AutoTransferScheduleServ
     /**
      * 스케줄 변경 여부 확인
      */
-    private boolean hasScheduleChanges(AutoTransferSchedule currentSchedule, BigDecimal amount, Integer transferDay) {
+    private boolean hasScheduleChanges(AutoTransferSchedule currentSchedule, Money amount, Integer transferDay) {
         return !currentSchedule.getAmount().equals(amount) ||
                !currentSchedule.getTransferDay().equals(transferDay);
     }
@@ -192,7 +193,7 @@ public class AutoTransferScheduleServiceImpl implements AutoTransferScheduleServ
         
         // 현재 상태
         Boolean currentEnabled = currentSchedule.isPresent();
-        BigDecimal currentAmount = currentSchedule.map(AutoTransferSchedule::getAmount).orElse(null);
+        BigDecimal currentAmount = currentSchedule.map(schedule -> schedule.getAmount().toBigDecimal()).orElse(null);
         Integer currentTransferDay = currentSchedule.map(AutoTransferSchedule::getTransferDay).orElse(null);
         
         // 다음달 상태 계산
@@ -204,7 +205,7 @@ public class AutoTransferScheduleServiceImpl implements AutoTransferScheduleServ
             // 미래 스케줄이 있으면 해당 스케줄이 다음달에 적용됨
             AutoTransferSchedule future = futureSchedule.get();
             nextEnabled = true;
-            nextAmount = future.getAmount();
+            nextAmount = future.getAmount().toBigDecimal();
             nextTransferDay = future.getTransferDay();
         } else if (currentSchedule.isPresent()) {
             // 현재 스케줄이 있는 경우
@@ -217,7 +218,7 @@ public class AutoTransferScheduleServiceImpl implements AutoTransferScheduleServ
             if (currentScheduleValidNextMonth) {
                 // 현재 스케줄이 다음달에도 계속 적용됨
                 nextEnabled = true;
-                nextAmount = current.getAmount();
+                nextAmount = current.getAmount().toBigDecimal();
                 nextTransferDay = current.getTransferDay();
             } else {
                 // 현재 스케줄이 이번달로 종료됨 -> 다음달은 비활성화
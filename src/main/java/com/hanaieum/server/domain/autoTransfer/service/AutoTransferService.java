@@ -4,7 +4,7 @@ import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferHistory;
 import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferSchedule;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.util.function.BooleanSupplier;
 
 public interface AutoTransferService {
     
@@ -14,17 +14,13 @@ public interface AutoTransferService {
     void executeScheduledTransfers(LocalDate targetDate);
     
     /**
-     * 단일 스케줄 실행
+     * 단일 스케줄 실행 - (스케줄, 실행일) 이력을 먼저 선점, 다른 실행이 이미 선점했으면 null
      */
-    AutoTransferHistory executeTransfer(AutoTransferSchedule schedule);
+    AutoTransferHistory executeTransfer(AutoTransferSchedule schedule, LocalDate executionDate);
     
     /**
      * 특정 날짜 + 재시도 횟수의 실패한 자동이체 재시도 처리
+     * leaseHeld가 false가 되면 (스케줄러 리스를 잃음) 남은 이력은 처리하지 않고 중단
      */
-    void retryFailedTransfers(LocalDate targetDate, Integer retryCount);
-    
-    /**
-     * 특정 날짜의 실행 대상 스케줄 조회
-     */
-    List<AutoTransferSchedule> getSchedulesToExecute(LocalDate targetDate);
+    void retryFailedTransfers(LocalDate targetDate, Integer retryCount, BooleanSupplier leaseHeld);
 }
\ No newline at end of file
@@ -8,14 +8,21 @@ import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferScheduleRe
 import com.hanaieum.server.domain.transfer.service.TransferService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 
 @Service
 @RequiredArgsConstructor
@@ -25,98 +32,178 @@ public class AutoTransferServiceImpl implements AutoTransferService {
     private final AutoTransferScheduleRepository scheduleRepository;
     private final AutoTransferHistoryRepository historyRepository;
     private final TransferService transferService;
+    private final AutoTransferParallelExecutor parallelExecutor;
+    private final AutoTransferPartitionManager partitionManager;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${auto-transfer.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${auto-transfer.pending-timeout-seconds:600}")
+    private long pendingTimeoutSeconds;
     
+    /**
+     * 출금 계좌 ID 기준 파티션을 하나씩 가져와 처리 (여러 노드가 동시에 실행하면 파티션을 나눠 처리)
+     * - 가져갈 파티션이 없어도 다른 노드가 처리 중인 파티션이 남아 있으면 대기 후 다시 확인
+     *   → 그 노드가 멈춰 연장이 끊기면 이 노드가 체크포인트부터 이어서 처리, 모든 파티션이 완료되면 실행 장부 완료 후 종료
+     * - 재시작 후 같은 날짜로 다시 호출해도 완료된 파티션/체크포인트 이전 스케줄은 다시 읽지 않음
+     */
     @Override
     public void executeScheduledTransfers(LocalDate targetDate) {
-        log.info("자동이체 실행 시작: targetDate={}", targetDate);
+        log.info("자동이체 실행 시작: targetDate={}, chunkSize={}", targetDate, chunkSize);
+        long startedAt = System.nanoTime();
+        
+        partitionManager.prepare(targetDate);
+        int partitionCount = 0;
+        while (true) {
+            Optional<AutoTransferPartitionManager.Claim> claim = partitionManager.claimNext(targetDate);
+            if (claim.isPresent()) {
+                executePartition(targetDate, claim.get());
+                partitionCount++;
+                continue;
+            }
+            if (partitionManager.isFinished(targetDate)) {
+                partitionManager.finishRun(targetDate);
+                break;
+            }
+            if (!partitionManager.awaitNextPoll()) {
+                break;
+            }
+        }
         
-        List<AutoTransferSchedule> schedules = getSchedulesToExecute(targetDate);
-        log.info("실행 대상 스케줄 개수: {}", schedules.size());
+        log.info("자동이체 실행 완료: targetDate={}, 처리한 파티션={}, 소요시간={}ms",
+                targetDate, partitionCount, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+    
+    /**
+     * 파티션의 실행 대상을 id 순 chunk로 읽어 chunk마다 병렬 실행 후 다음 chunk 조회
+     * - 트랜잭션 밖에서 조회하므로 chunk를 읽은 영속성 컨텍스트는 쿼리 직후 닫힘 → 메모리에는 현재 chunk만 남음
+     * - chunk는 순서대로 처리되므로 chunk 경계에 걸친 같은 출금 계좌 스케줄도 겹쳐 실행되지 않음
+     * - chunk 실행 전마다 파티션 보유를 연장, 그사이 다른 노드가 가져갔으면 중단
+     * - chunk 실행 후 마지막 스케줄 ID를 체크포인트로 기록 → 이어서 처리하는 노드는 체크포인트 다음 스케줄부터 읽음
+     */
+    private void executePartition(LocalDate targetDate, AutoTransferPartitionManager.Claim claim) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        long startedAt = System.nanoTime();
         
+        int chunkCount = 0;
+        int totalCount = 0;
         int successCount = 0;
         int failureCount = 0;
-        
-        for (AutoTransferSchedule schedule : schedules) {
-            try {
-                // 오늘 이미 실행된 스케줄인지 확인
-                if (isAlreadyExecutedToday(schedule, targetDate)) {
-                    log.info("스케줄 {}은 이미 오늘 실행되었습니다", schedule.getId());
-                    continue;
-                }
-                
-                AutoTransferHistory history = executeTransfer(schedule);
-                if (history.getStatus() == AutoTransferStatus.SUCCESS) {
-                    successCount++;
-                } else {
-                    failureCount++;
-                }
-                
-            } catch (Exception e) {
-                log.error("자동이체 실행 중 예외 발생: scheduleId={}, error={}",
-                         schedule.getId(), e.getMessage(), e);
-                failureCount++;
-            }
+        long lastId = claim.lastScheduleId();
+        if (lastId > 0) {
+            log.info("자동이체 파티션 체크포인트부터 재개: 파티션={}, 마지막 스케줄 ID={}", claim.partitionNo(), lastId);
         }
+        List<AutoTransferSchedule> schedules;
+        do {
+            // 그날 이미 선점된 스케줄은 쿼리에서 제외, 계좌/소유 회원까지 한 번에 조회
+            schedules = scheduleRepository.findDueSchedulesWithAccounts(targetDate, targetDate.getDayOfMonth(),
+                    claim.partitionCount(), claim.partitionNo(), lastId, chunk);
+            if (schedules.isEmpty()) {
+                break;
+            }
+            if (!partitionManager.heartbeat(claim)) {
+                log.warn("자동이체 파티션 중단 - 다른 노드가 가져감: partitionNo={}, 토큰={}, 처리한 건수={}",
+                        claim.partitionNo(), claim.claimToken(), totalCount);
+                return;
+            }
+            lastId = schedules.get(schedules.size() - 1).getId();
+            
+            // 출금 계좌별 레인으로 나눠 가상 스레드에서 병렬 실행 (스케줄마다 독립 트랜잭션)
+            // 다른 실행이 먼저 선점한 스케줄은 건너뜀 (null)
+            AutoTransferParallelExecutor.Result result = parallelExecutor.execute(schedules, schedule -> {
+                AutoTransferHistory history = executeTransfer(schedule, targetDate);
+                return history == null ? null : history.getStatus();
+            });
+            if (!partitionManager.checkpoint(claim, lastId, result)) {
+                log.warn("자동이체 파티션 체크포인트 기록 실패 - 다른 노드가 가져감: partitionNo={}, 토큰={}, 마지막 스케줄 ID={}",
+                        claim.partitionNo(), claim.claimToken(), lastId);
+                return;
+            }
+            
+            chunkCount++;
+            totalCount += schedules.size();
+            successCount += result.successCount();
+            failureCount += result.failureCount();
+            log.info("자동이체 chunk {} 완료: 파티션={}, 건수={}, 마지막 스케줄 ID={}, 성공={}, 실패={}, 출금계좌 레인={}, 소요시간={}ms (누적 {}건)",
+                    chunkCount, claim.partitionNo(), schedules.size(), lastId, result.successCount(),
+                    result.failureCount(), result.laneCount(), result.elapsedMillis(), totalCount);
+        } while (schedules.size() == chunkSize);
         
-        log.info("자동이체 실행 완료: 성공={}, 실패={}", successCount, failureCount);
+        if (!partitionManager.complete(claim)) {
+            log.warn("자동이체 파티션 완료 처리 무시 - 다른 노드가 가져감: partitionNo={}, 토큰={}",
+                    claim.partitionNo(), claim.claimToken());
+            return;
+        }
+        log.info("자동이체 파티션 완료: 파티션={}/{}, 대상={}, 성공={}, 실패={}, chunk={}, 소요시간={}ms",
+                claim.partitionNo(), claim.partitionCount(), totalCount, successCount, failureCount, chunkCount,
+                (System.nanoTime() - startedAt) / 1_000_000);
     }
     
+    /**
+     * (schedule_id, execution_date) 선점 후 실행
+     * 1. PENDING 이력 INSERT (독립 트랜잭션) - 유니크 위반이면 다른 실행이 이미 선점한 것이므로 건너뜀
+     * 2. 이체 + 선점 행 SUCCESS 갱신을 한 트랜잭션으로 커밋, 실패하면 전체 롤백 후 선점 행만 FAILED로 갱신
+     * - 같은 빈 안에서 호출되므로 @Transactional 대신 TransactionTemplate으로 경계를 직접 지정
+     */
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public AutoTransferHistory executeTransfer(AutoTransferSchedule schedule) {
+    public AutoTransferHistory executeTransfer(AutoTransferSchedule schedule, LocalDate executionDate) {
         log.info("자동이체 실행: scheduleId={}, fromAccountId={}, toAccountId={}, amount={}", 
                 schedule.getId(), schedule.getFromAccount().getId(), 
                 schedule.getToAccount().getId(), schedule.getAmount());
         
-        LocalDateTime executionTime = LocalDateTime.now();
+        Optional<AutoTransferHistory> claimed = claim(schedule, executionDate);
+        if (claimed.isEmpty()) {
+            log.info("자동이체 건너뜀 - 이미 선점된 스케줄: scheduleId={}, executionDate={}", schedule.getId(), executionDate);
+            return null;
+        }
+        AutoTransferHistory history = claimed.get();
         
         try {
-            // TransferService를 통한 실제 이체 실행
-            executeActualTransfer(schedule);
-            
-            // 성공 이력 기록
-            AutoTransferHistory history = AutoTransferHistory.builder()
-                    .schedule(schedule)
-                    .fromAccount(schedule.getFromAccount())
-                    .toAccount(schedule.getToAccount())
-                    .amount(schedule.getAmount())
-                    .executedAt(executionTime)
-                    .status(AutoTransferStatus.SUCCESS)
-                    .failureReason(null)
-                    .retryCount(0)
-                    .build();
-            
-            AutoTransferHistory savedHistory = historyRepository.save(history);
-            log.info("자동이체 성공: historyId={}", savedHistory.getId());
+            inNewTransaction(status -> {
+                // TransferService를 통한 실제 이체 실행
+                executeActualTransfer(schedule);
+
+                // 선점 행이 아직 PENDING일 때만 성공 기록 (그사이 중단 처리되었으면 이체까지 롤백)
+                if (historyRepository.completeClaim(history.getId(), AutoTransferStatus.SUCCESS, null) == 0) {
+                    throw new IllegalStateException("자동이체 선점이 만료되었습니다: historyId=" + history.getId());
+                }
+                return null;
+            });
+            history.updateStatus(AutoTransferStatus.SUCCESS, null);
+            log.info("자동이체 성공: historyId={}", history.getId());
             
-            return savedHistory;
+            return history;
             
         } catch (Exception e) {
             log.error("자동이체 실패: scheduleId={}, error={}", schedule.getId(), e.getMessage(), e);
             
-            // 실패 이력 기록
-            AutoTransferHistory history = AutoTransferHistory.builder()
-                    .schedule(schedule)
-                    .fromAccount(schedule.getFromAccount())
-                    .toAccount(schedule.getToAccount())
-                    .amount(schedule.getAmount())
-                    .executedAt(executionTime)
-                    .status(AutoTransferStatus.FAILED)
-                    .failureReason(e.getMessage())
-                    .retryCount(0)
-                    .build();
+            // 실패 기록
+            history.updateStatus(AutoTransferStatus.FAILED, e.getMessage());
+            Integer updated = inNewTransaction(status ->
+                    historyRepository.completeClaim(history.getId(), AutoTransferStatus.FAILED, e.getMessage()));
+            if (updated == null || updated == 0) {
+                log.warn("자동이체 실패 기록 무시 - 이미 중단 처리된 선점: historyId={}", history.getId());
+            }
             
-            return historyRepository.save(history);
+            return history;
         }
     }
     
     @Override
-    public void retryFailedTransfers(LocalDate targetDate, Integer retryCount) {
+    public void retryFailedTransfers(LocalDate targetDate, Integer retryCount, BooleanSupplier leaseHeld) {
         log.info("자동이체 재시도 시작 - 날짜: {}, 재시도 횟수: {}", targetDate, retryCount);
         
         LocalDateTime startOfDay = targetDate.atStartOfDay();
         LocalDateTime endOfDay = targetDate.plusDays(1).atStartOfDay();
         
+        // 결과를 기록하지 못하고 멈춘 선점 행은 실패로 전환해 재시도 대상에 포함
+        int expired = historyRepository.expireStalePending(
+                LocalDateTime.now().minusSeconds(pendingTimeoutSeconds), "실행 중단 (선점 만료)");
+        if (expired > 0) {
+            log.warn("멈춘 자동이체 선점 실패 처리: {}건", expired);
+        }
+        
         List<AutoTransferHistory> failedTransfers = 
             historyRepository.findFailedTransfersForRetry(startOfDay, endOfDay, retryCount);
         
@@ -124,11 +211,22 @@ public class AutoTransferServiceImpl implements AutoTransferService {
         
         int successCount = 0;
         int failedCount = 0;
+        int skippedCount = 0;
         
         for (AutoTransferHistory history : failedTransfers) {
+            if (!leaseHeld.getAsBoolean()) {
+                log.warn("스케줄러 리스를 잃어 자동이체 재시도 중단 - 날짜: {}, 남은 이력은 처리하지 않음", targetDate);
+                break;
+            }
             try {
-                retryOneHistory(history);
-                successCount++;
+                AutoTransferStatus result = retryOneHistory(history, retryCount);
+                if (result == null) {
+                    skippedCount++;
+                } else if (result == AutoTransferStatus.SUCCESS) {
+                    successCount++;
+                } else {
+                    failedCount++;
+                }
             } catch (Exception e) {
                 failedCount++;
                 log.error("자동이체 재시도 처리 중 예외 발생: historyId={}, error={}", 
@@ -136,61 +234,100 @@ public class AutoTransferServiceImpl implements AutoTransferService {
             }
         }
         
-        log.info("자동이체 재시도 완료 - 날짜: {}, 성공: {}건, 실패: {}건", targetDate, successCount, failedCount);
-    }
-    
-    @Override
-    public List<AutoTransferSchedule> getSchedulesToExecute(LocalDate targetDate) {
-        int targetDay = targetDate.getDayOfMonth();
-        return scheduleRepository.findSchedulesForExecution(targetDate, targetDay);
+        log.info("자동이체 재시도 완료 - 날짜: {}, 성공: {}건, 실패: {}건, 건너뜀: {}건",
+                targetDate, successCount, failedCount, skippedCount);
     }
     
     /**
-     * 개별 재시도 처리 (독립 트랜잭션)
+     * 개별 재시도 처리 (executeTransfer와 같은 선점 방식)
+     * 1. FAILED/RETRY이고 재시도 횟수가 조회 시점 그대로일 때만 PENDING으로 전환 (재시도 횟수 +1)
+     *    - 0행이면 다른 워커가 이미 재시도 중이거나 처리한 것이므로 건너뜀 (null)
+     * 2. 이체 + 선점 행 SUCCESS 갱신을 한 트랜잭션으로 커밋, 실패하면 전체 롤백 후 선점 행만 RETRY/FAILED로 갱신
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    protected void retryOneHistory(AutoTransferHistory history) {
+    private AutoTransferStatus retryOneHistory(AutoTransferHistory history, Integer retryCount) {
         log.debug("자동이체 재시도 - History ID: {}, Schedule ID: {}, Retry Count: {}", 
-                 history.getId(), history.getSchedule().getId(), history.getRetryCount());
+                 history.getId(), history.getSchedule().getId(), retryCount);
+        
+        if (historyRepository.claimRetry(history.getId(), retryCount, LocalDateTime.now()) == 0) {
+            log.info("자동이체 재시도 건너뜀 - 이미 선점된 이력: historyId={}", history.getId());
+            return null;
+        }
+        history.incrementRetryCount();
         
         try {
-            // 이체 재실행 - History 기반 오버로딩 메서드 사용
-            executeActualTransfer(history);
-            
-            // 성공 처리
+            inNewTransaction(status -> {
+                // 이체 재실행 - History 기반 오버로딩 메서드 사용
+                executeActualTransfer(history);
+
+                // 선점 행이 아직 PENDING일 때만 성공 기록 (그사이 중단 처리되었으면 이체까지 롤백)
+                if (historyRepository.completeClaim(history.getId(), AutoTransferStatus.SUCCESS, null) == 0) {
+                    throw new IllegalStateException("자동이체 재시도 선점이 만료되었습니다: historyId=" + history.getId());
+                }
+                return null;
+            });
             history.updateStatus(AutoTransferStatus.SUCCESS, null);
-            historyRepository.save(history);
             log.info("자동이체 재시도 성공 - History ID: {}", history.getId());
             
-        } catch (Exception e) {
-            // 재시도 횟수 증가
-            history.incrementRetryCount();
+            return AutoTransferStatus.SUCCESS;
             
+        } catch (Exception e) {
             // 최종 실패 여부 판단 (3차 재시도 후 실패)
-            if (history.getRetryCount() >= 3) {
-                history.updateStatus(AutoTransferStatus.FAILED, e.getMessage());
+            AutoTransferStatus failedStatus =
+                    history.getRetryCount() >= 3 ? AutoTransferStatus.FAILED : AutoTransferStatus.RETRY;
+            if (failedStatus == AutoTransferStatus.FAILED) {
                 log.warn("자동이체 최종 실패 - History ID: {}, 사유: {}", 
                         history.getId(), e.getMessage());
             } else {
-                history.updateStatus(AutoTransferStatus.RETRY, e.getMessage());
                 log.warn("자동이체 재시도 실패 - History ID: {}, Retry Count: {}, 사유: {}", 
                         history.getId(), history.getRetryCount(), e.getMessage());
             }
 
-            historyRepository.save(history);
+            history.updateStatus(failedStatus, e.getMessage());
+            Integer updated = inNewTransaction(status ->
+                    historyRepository.completeClaim(history.getId(), failedStatus, e.getMessage()));
+            if (updated == null || updated == 0) {
+                log.warn("자동이체 재시도 실패 기록 무시 - 이미 중단 처리된 선점: historyId={}", history.getId());
+            }
             
-            // 실패 시에도 예외를 다시 던져서 상위에서 실패 카운트 처리
-            throw e;
+            return failedStatus;
         }
     }
     
     /**
-     * 실제 이체 실행 로직 - Schedule 기반 (정규 실행용)
+     * PENDING 이력 INSERT로 선점, (schedule_id, execution_date) 유니크 위반이면 empty
+     */
+    private Optional<AutoTransferHistory> claim(AutoTransferSchedule schedule, LocalDate executionDate) {
+        AutoTransferHistory pending = AutoTransferHistory.builder()
+                .schedule(schedule)
+                .fromAccount(schedule.getFromAccount())
+                .toAccount(schedule.getToAccount())
+                .amount(schedule.getAmount())
+                .executionDate(executionDate)
+                .executedAt(LocalDateTime.now())
+                .status(AutoTransferStatus.PENDING)
+                .failureReason(null)
+                .retryCount(0)
+                .build();
+        try {
+            return Optional.of(inNewTransaction(status -> historyRepository.saveAndFlush(pending)));
+        } catch (DataIntegrityViolationException e) {
+            return Optional.empty();
+        }
+    }
+    
+    private <T> T inNewTransaction(TransactionCallback<T> action) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate.execute(action);
+    }
+    
+    /**
+     * 실제 이체 실행 로직 - Schedule 기반 (정규 실행용, 스케줄과 함께 조회한 계좌를 그대로 사용)
      */
     private void executeActualTransfer(AutoTransferSchedule schedule) {
         transferService.executeAutoTransfer(
-            schedule.getFromAccount().getId(),
-            schedule.getToAccount().getId(),
+            schedule.getFromAccount(),
+            schedule.getToAccount(),
             schedule.getAmount(),
             schedule.getId()
         );
@@ -207,18 +344,4 @@ public class AutoTransferServiceImpl implements AutoTransferService {
             history.getSchedule().getId()
         );
     }
-    
-    /**
-     * 오늘 이미 실행된 스케줄인지 확인
-     */
-    private boolean isAlreadyExecutedToday(AutoTransferSchedule schedule, LocalDate targetDate) {
-        LocalDateTime startOfDay = targetDate.atStartOfDay();
-        LocalDateTime endOfDay = targetDate.plusDays(1).atStartOfDay();
-        
-        Optional<AutoTransferHistory> todayExecution = 
-            historyRepository.findTodayExecution(schedule, startOfDay, endOfDay);
-        
-        return todayExecution.isPresent() && 
-               todayExecution.get().getStatus() == AutoTransferStatus.SUCCESS;
-    }
 }
\ No newline at end of file
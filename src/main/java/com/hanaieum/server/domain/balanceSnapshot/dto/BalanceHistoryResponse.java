@@ -0,0 +1,39 @@
+package com.hanaieum.server.domain.balanceSnapshot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceHistoryResponse {
+
+    private Long accountId;
+    private LocalDate from;
+    private LocalDate to;               // 스냅샷이 만들어진 마지막 날까지로 조정된 종료일
+    private BigDecimal openingBalance;  // 기간 시작 전날 마감 잔액 (이전 기록이 없으면 null)
+    private BigDecimal closingBalance;  // 기간 마지막 날 마감 잔액
+    private BigDecimal totalDeposit;    // 기간 입금 합계
+    private BigDecimal totalWithdraw;   // 기간 출금 합계
+    private long transactionCount;      // 기간 거래 건수
+    private List<DailyBalance> days;    // 일별 잔액 (잔액을 알 수 있는 날부터)
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailyBalance {
+        private LocalDate date;
+        private BigDecimal closingBalance;
+        private BigDecimal deposit;
+        private BigDecimal withdraw;
+        private int transactionCount;
+    }
+}
@@ -0,0 +1,49 @@
+package com.hanaieum.server.domain.balanceSnapshot.entity;
+
+import com.hanaieum.server.common.entity.BaseEntity;
+import com.hanaieum.server.common.money.Money;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 계좌별 일일 잔액 스냅샷 (하루 마감 기준)
+ * 거래가 있었던 날만 행을 만들고, 거래가 없는 날은 조회 시 직전 스냅샷 잔액을 이어 씀
+ */
+@Entity
+@Table(name = "daily_balance_snapshots",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_balance_snapshot_account_date",
+                columnNames = {"account_id", "snapshot_date"}),
+        indexes = @Index(name = "idx_daily_balance_snapshot_date", columnList = "snapshot_date"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DailyBalanceSnapshot extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "daily_balance_snapshot_id_generator")
+    @TableGenerator(name = "daily_balance_snapshot_id_generator", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "daily_balance_snapshots", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId; // 계좌 ID
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate; // 기준일
+
+    @Column(name = "closing_balance", nullable = false)
+    private Money closingBalance; // 마감 잔액 (그날 마지막 거래의 거래 후 잔액)
+
+    @Column(name = "total_deposit", nullable = false)
+    private Money totalDeposit; // 입금 합계
+
+    @Column(name = "total_withdraw", nullable = false)
+    private Money totalWithdraw; // 출금 합계
+
+    @Column(name = "transaction_count", nullable = false)
+    private int transactionCount; // 거래 건수
+}
@@ -0,0 +1,33 @@
+package com.hanaieum.server.domain.balanceSnapshot.repository;
+
+import com.hanaieum.server.domain.balanceSnapshot.entity.DailyBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DailyBalanceSnapshotRepository extends JpaRepository<DailyBalanceSnapshot, Long> {
+
+    // 마지막으로 스냅샷을 만든 날짜 (증분 처리 기준)
+    @Query("SELECT MAX(s.snapshotDate) FROM DailyBalanceSnapshot s")
+    Optional<LocalDate> findLatestSnapshotDate();
+
+    // 기간 내 스냅샷 (uk_daily_balance_snapshot_account_date 인덱스 범위 조회)
+    List<DailyBalanceSnapshot> findByAccountIdAndSnapshotDateBetweenOrderBySnapshotDateAsc(
+            Long accountId, LocalDate from, LocalDate to);
+
+    // 기간 시작 직전 스냅샷 (기초 잔액)
+    Optional<DailyBalanceSnapshot> findFirstByAccountIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(
+            Long accountId, LocalDate date);
+
+    // 같은 날짜를 다시 만들 때 기존 행 삭제
+    @Modifying
+    @Query("DELETE FROM DailyBalanceSnapshot s WHERE s.snapshotDate = :date")
+    int deleteBySnapshotDate(@Param("date") LocalDate date);
+}
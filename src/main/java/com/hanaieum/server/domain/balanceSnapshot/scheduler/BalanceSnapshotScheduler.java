@@ -0,0 +1,53 @@
+package com.hanaieum.server.domain.balanceSnapshot.scheduler;
+
+import com.hanaieum.server.domain.balanceSnapshot.service.BalanceSnapshotService;
+import com.hanaieum.server.domain.schedulerLease.service.SchedulerLeaseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 일일 잔액 스냅샷 스케줄러 (매일 0시 10분)
+ * 마지막 스냅샷 다음 날부터 어제까지 하루씩 생성 (서버가 멈췄던 날도 따라잡음)
+ * DB 리스를 가져온 노드 하나만 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BalanceSnapshotScheduler {
+
+    static final String LEASE_NAME = "balance-snapshot";
+
+    private final BalanceSnapshotService balanceSnapshotService;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    @Scheduled(cron = "0 10 0 * * ?", zone = "Asia/Seoul")
+    public void createDailySnapshots() {
+        LocalDate today = LocalDate.now();
+        try {
+            schedulerLeaseService.runExclusively(LEASE_NAME, lease -> createSnapshotsBefore(today, lease));
+        } catch (Exception e) {
+            log.error("일일 잔액 스냅샷 생성 중 예외 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    private void createSnapshotsBefore(LocalDate today, SchedulerLeaseService.Lease lease) {
+        Optional<LocalDate> next = balanceSnapshotService.findNextSnapshotDate();
+        if (next.isEmpty()) {
+            return;
+        }
+        // 날짜마다 별도 트랜잭션 - 중간에 실패해도 앞선 날짜는 유지되고 다음 실행에서 이어감
+        // 리스를 잃었으면 다음 날짜는 만들지 않음
+        for (LocalDate date = next.get(); date.isBefore(today); date = date.plusDays(1)) {
+            if (!schedulerLeaseService.isHeld(lease)) {
+                log.warn("스케줄러 리스를 잃어 일일 잔액 스냅샷 생성 중단 - 남은 시작일: {}", date);
+                return;
+            }
+            balanceSnapshotService.createSnapshots(date);
+        }
+    }
+}
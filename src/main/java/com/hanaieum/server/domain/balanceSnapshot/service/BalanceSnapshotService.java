@@ -0,0 +1,15 @@
+package com.hanaieum.server.domain.balanceSnapshot.service;
+
+import com.hanaieum.server.domain.balanceSnapshot.dto.BalanceHistoryResponse;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface BalanceSnapshotService {
+
+    Optional<LocalDate> findNextSnapshotDate(); // 다음에 스냅샷을 만들 날짜 (거래가 하나도 없으면 empty)
+
+    int createSnapshots(LocalDate date); // 하루치 스냅샷 생성 (같은 날짜를 다시 만들면 덮어씀), 생성 건수 반환
+
+    BalanceHistoryResponse getBalanceHistory(Long memberId, Long accountId, LocalDate from, LocalDate to);
+}
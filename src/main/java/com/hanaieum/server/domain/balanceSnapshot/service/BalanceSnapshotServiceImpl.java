@@ -0,0 +1,207 @@
+package com.hanaieum.server.domain.balanceSnapshot.service;
+
+import com.hanaieum.server.common.exception.CustomException;
+import com.hanaieum.server.common.exception.ErrorCode;
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.service.AccountService;
+import com.hanaieum.server.domain.balanceSnapshot.dto.BalanceHistoryResponse;
+import com.hanaieum.server.domain.balanceSnapshot.entity.DailyBalanceSnapshot;
+import com.hanaieum.server.domain.balanceSnapshot.repository.DailyBalanceSnapshotRepository;
+import com.hanaieum.server.domain.transaction.dto.TransactionDailyRow;
+import com.hanaieum.server.domain.transaction.entity.TransactionType;
+import com.hanaieum.server.domain.transaction.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 일일 잔액 스냅샷
+ * - 하루치 거래를 한 번 스트림으로 읽어 계좌별 마감 잔액/입출금 합계/건수를 계산
+ * - 조회는 스냅샷만 읽고, 거래가 없던 날은 직전 마감 잔액을 이어 채움
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BalanceSnapshotServiceImpl implements BalanceSnapshotService {
+
+    private static final long MAX_HISTORY_DAYS = 366;
+
+    private final DailyBalanceSnapshotRepository dailyBalanceSnapshotRepository;
+    private final TransactionRepository transactionRepository;
+    private final AccountService accountService;
+
+    @Override
+    public Optional<LocalDate> findNextSnapshotDate() {
+        Optional<LocalDate> latest = dailyBalanceSnapshotRepository.findLatestSnapshotDate();
+        if (latest.isPresent()) {
+            return Optional.of(latest.get().plusDays(1));
+        }
+        // 최초 실행: 가장 오래된 거래일부터 백필
+        return transactionRepository.findEarliestCreatedAt().map(LocalDateTime::toLocalDate);
+    }
+
+    @Override
+    @Transactional
+    public int createSnapshots(LocalDate date) {
+        // 재실행 시 같은 날짜 스냅샷을 다시 만듦
+        dailyBalanceSnapshotRepository.deleteBySnapshotDate(date);
+
+        List<DailyBalanceSnapshot> snapshots = new ArrayList<>();
+        try (Stream<TransactionDailyRow> rows = transactionRepository.streamDailyRows(
+                date.atStartOfDay(), date.plusDays(1).atStartOfDay())) {
+            // 계좌 ID 순으로 정렬되어 있으므로 계좌가 바뀔 때마다 한 행씩 완성
+            DailyAccumulator current = null;
+            for (TransactionDailyRow row : (Iterable<TransactionDailyRow>) rows::iterator) {
+                if (current == null || !current.accountId.equals(row.accountId())) {
+                    if (current != null) {
+                        snapshots.add(current.toSnapshot(date));
+                    }
+                    current = new DailyAccumulator(row.accountId());
+                }
+                if (row.balanceAfter() == null && current.closingBalance == null) {
+                    // 거래 후 잔액이 없는 거래(스트라이프 계좌 입금)로 시작하면 직전 마감 잔액에서 이어 계산
+                    current.closingBalance = findPreviousClosingBalance(row.accountId(), date);
+                }
+                current.add(row);
+            }
+            if (current != null) {
+                snapshots.add(current.toSnapshot(date));
+            }
+        }
+
+        dailyBalanceSnapshotRepository.saveAll(snapshots);
+        log.info("일일 잔액 스냅샷 생성 완료 - 기준일: {}, 계좌 수: {}", date, snapshots.size());
+        return snapshots.size();
+    }
+
+    @Override
+    public BalanceHistoryResponse getBalanceHistory(Long memberId, Long accountId, LocalDate from, LocalDate to) {
+
+        // 계좌 소유권 / 기간 검증
+        accountService.validateAccountOwnership(accountId, memberId);
+        if (from == null || to == null || from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_HISTORY_DAYS) {
+            throw new CustomException(ErrorCode.INVALID_BALANCE_HISTORY_PERIOD);
+        }
+
+        // 스냅샷은 어제까지만 존재 (오늘 잔액은 계좌 조회로 확인)
+        LocalDate lastClosedDate = LocalDate.now().minusDays(1);
+        LocalDate end = to.isAfter(lastClosedDate) ? lastClosedDate : to;
+
+        Money openingBalance = dailyBalanceSnapshotRepository
+                .findFirstByAccountIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(accountId, from)
+                .map(DailyBalanceSnapshot::getClosingBalance)
+                .orElse(null);
+        Map<LocalDate, DailyBalanceSnapshot> snapshotsByDate = end.isBefore(from)
+                ? Map.of()
+                : dailyBalanceSnapshotRepository
+                        .findByAccountIdAndSnapshotDateBetweenOrderBySnapshotDateAsc(accountId, from, end).stream()
+                        .collect(Collectors.toMap(DailyBalanceSnapshot::getSnapshotDate, Function.identity()));
+
+        List<BalanceHistoryResponse.DailyBalance> days = new ArrayList<>();
+        Money balance = openingBalance;
+        Money totalDeposit = Money.ZERO;
+        Money totalWithdraw = Money.ZERO;
+        long transactionCount = 0;
+        for (LocalDate date = from; !date.isAfter(end); date = date.plusDays(1)) {
+            DailyBalanceSnapshot snapshot = snapshotsByDate.get(date);
+            if (snapshot != null) {
+                balance = snapshot.getClosingBalance();
+                totalDeposit = totalDeposit.plus(snapshot.getTotalDeposit());
+                totalWithdraw = totalWithdraw.plus(snapshot.getTotalWithdraw());
+                transactionCount += snapshot.getTransactionCount();
+                days.add(BalanceHistoryResponse.DailyBalance.builder()
+                        .date(date)
+                        .closingBalance(balance.toBigDecimal())
+                        .deposit(snapshot.getTotalDeposit().toBigDecimal())
+                        .withdraw(snapshot.getTotalWithdraw().toBigDecimal())
+                        .transactionCount(snapshot.getTransactionCount())
+                        .build());
+            } else if (balance != null) {
+                // 거래가 없던 날은 직전 마감 잔액 유지
+                days.add(BalanceHistoryResponse.DailyBalance.builder()
+                        .date(date)
+                        .closingBalance(balance.toBigDecimal())
+                        .deposit(BigDecimal.ZERO)
+                        .withdraw(BigDecimal.ZERO)
+                        .transactionCount(0)
+                        .build());
+            }
+        }
+
+        log.info("잔액 추이 조회 완료 - 회원 ID: {}, 계좌 ID: {}, 기간: {} ~ {}, 스냅샷: {}건",
+                memberId, accountId, from, end, snapshotsByDate.size());
+
+        return BalanceHistoryResponse.builder()
+                .accountId(accountId)
+                .from(from)
+                .to(end)
+                .openingBalance(openingBalance == null ? null : openingBalance.toBigDecimal())
+                .closingBalance(balance == null ? null : balance.toBigDecimal())
+                .totalDeposit(totalDeposit.toBigDecimal())
+                .totalWithdraw(totalWithdraw.toBigDecimal())
+                .transactionCount(transactionCount)
+                .days(days)
+                .build();
+    }
+
+    private Money findPreviousClosingBalance(Long accountId, LocalDate date) {
+        // 스냅샷이 없으면 첫 거래 전 잔액 0 (스트라이프 계좌는 잔액 0인 머니박스로 시작)
+        return dailyBalanceSnapshotRepository
+                .findFirstByAccountIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(accountId, date)
+                .map(DailyBalanceSnapshot::getClosingBalance)
+                .orElse(Money.ZERO);
+    }
+
+    private static class DailyAccumulator {
+        private final Long accountId;
+        private Money totalDeposit = Money.ZERO;
+        private Money totalWithdraw = Money.ZERO;
+        private Money closingBalance;
+        private int transactionCount;
+
+        private DailyAccumulator(Long accountId) {
+            this.accountId = accountId;
+        }
+
+        private void add(TransactionDailyRow row) {
+            boolean deposit = row.transactionType() == TransactionType.DEPOSIT;
+            if (deposit) {
+                totalDeposit = totalDeposit.plus(row.amount());
+            } else {
+                totalWithdraw = totalWithdraw.plus(row.amount());
+            }
+            if (row.balanceAfter() != null) {
+                closingBalance = row.balanceAfter(); // 거래 순서대로 읽으므로 마지막 값이 마감 잔액
+            } else {
+                // 스트라이프 계좌 입금은 거래 후 잔액 없이 기록되므로 직전 잔액에 금액을 더함
+                closingBalance = deposit ? closingBalance.plus(row.amount()) : closingBalance.minus(row.amount());
+            }
+            transactionCount++;
+        }
+
+        private DailyBalanceSnapshot toSnapshot(LocalDate date) {
+            return DailyBalanceSnapshot.builder()
+                    .accountId(accountId)
+                    .snapshotDate(date)
+                    .closingBalance(closingBalance)
+                    .totalDeposit(totalDeposit)
+                    .totalWithdraw(totalWithdraw)
+                    .transactionCount(transactionCount)
+                    .build();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.hanaieum.server.domain.bucketList.calculator;
 
-import com.hanaieum.server.domain.transaction.entity.Transaction;
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.transaction.dto.TransactionResponse;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -12,41 +13,44 @@ import java.util.List;
 @Component
 public class InterestCalculator {
 
-    public BigDecimal calculateInterest(List<Transaction> transactions,
-                                        LocalDate targetDate,
-                                        BigDecimal targetAmount,
-                                        BigDecimal interestRate) {
+    private static final BigDecimal DAYS_IN_YEAR = BigDecimal.valueOf(365);
 
+    public Money calculateInterest(List<TransactionResponse> transactions,
+                                   LocalDate targetDate,
+                                   BigDecimal targetAmount,
+                                   BigDecimal interestRate) {
+
+        Money limit = Money.of(targetAmount);
         // 입금 누적액
-        BigDecimal depositSum = BigDecimal.ZERO;
-        // 입금액 * 이자산정일수 누적
-        BigDecimal weightedSum = BigDecimal.ZERO;
+        Money depositSum = Money.ZERO;
+        // 입금액 * 이자산정일수 누적 (원·일)
+        long weightedSum = 0L;
 
-        for (Transaction tx : transactions) {
+        for (TransactionResponse tx : transactions) {
 
             // 목표금액이 다 채워졌으면 중단
-            if (depositSum.compareTo(targetAmount) >= 0) break ;
+            if (!depositSum.isLessThan(limit)) break ;
 
             // 각 트랜잭션의 입금액(목표금액 한도)
-            BigDecimal depositAmount = tx.getAmount();
-            if (depositSum.add(depositAmount).compareTo(targetAmount) > 0) {
-                depositAmount = targetAmount.subtract(depositSum);
-            }
+            Money depositAmount = Money.of(tx.getAmount()).min(limit.minus(depositSum));
 
             // 입금 누적액
-            depositSum = depositSum.add(depositAmount);
+            depositSum = depositSum.plus(depositAmount);
 
             // 각 트랜잭션별 이자 산정 일수(이체 다음날 ~ 목표일)
-            long interestDays = ChronoUnit.DAYS.between(tx.getCreatedAt().toLocalDate().plusDays(1), targetDate.plusDays(1));
+            long interestDays = ChronoUnit.DAYS.between(tx.getDate().toLocalDate().plusDays(1), targetDate.plusDays(1));
 
             // 입금액 * 이자산정일수 누적
-            weightedSum = weightedSum.add(depositAmount.multiply(BigDecimal.valueOf(interestDays)));
+            weightedSum = Math.addExact(weightedSum, depositAmount.times(interestDays).toLong());
         }
 
-        BigDecimal totalInterest = weightedSum
-                .multiply(interestRate)
-                .divide(BigDecimal.valueOf(365), 0, RoundingMode.DOWN);
+        return calculateInterest(weightedSum, interestRate);
+    }
 
-        return totalInterest;
+    // 입금액 * 이자산정일수 누적값으로 단리 이자 계산 (이율이 소수라 마지막 한 번만 BigDecimal, 원 미만 절사)
+    public Money calculateInterest(long weightedSum, BigDecimal interestRate) {
+        return Money.of(BigDecimal.valueOf(weightedSum)
+                .multiply(interestRate)
+                .divide(DAYS_IN_YEAR, 0, RoundingMode.DOWN));
     }
 }
@@ -1,6 +1,7 @@
 package com.hanaieum.server.domain.bucketList.dto;
 
 import com.hanaieum.server.domain.bucketList.entity.BucketListType;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -25,6 +26,7 @@ public class BucketListRequest {
 
     @NotNull(message = "목표 금액은 필수 입력값입니다.")
     @Positive(message = "목표 금액은 0보다 커야 합니다.")
+    @Digits(integer = 13, fraction = 0, message = "목표 금액은 원 단위 정수여야 합니다.")
     private BigDecimal targetAmount; // 목표금액
 
     @NotNull(message = "목표 개월수는 필수 입력값입니다.")
@@ -51,6 +53,7 @@ public class BucketListRequest {
     private Boolean enableAutoTransfer = false; // 자동이체 활성화 여부 (기본값: false)
 
     @Positive(message = "월 납입금액은 0보다 커야 합니다.")
+    @Digits(integer = 13, fraction = 0, message = "월 납입금액은 원 단위 정수여야 합니다.")
     private BigDecimal monthlyAmount; // 월 납입금액
 
     @Pattern(regexp = "^(01|1|02|2|03|3|04|4|05|5|6|06|7|07|8|08|9|09|10|11|12|13|14|15|16|17|18|19|20|21|22|23|24|25|26|27|28|29|30|31)$",
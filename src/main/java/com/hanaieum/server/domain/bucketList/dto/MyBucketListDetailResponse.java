@@ -37,7 +37,7 @@ public class MyBucketListDetailResponse {
                 .accountId(bucketList.getMoneyBoxAccount().getId())
                 .boxName(bucketList.getMoneyBoxAccount().getBoxName())
                 .accountNumber(bucketList.getMoneyBoxAccount().getNumber())
-                .balance(bucketList.getMoneyBoxAccount().getBalance())
+                .balance(bucketList.getMoneyBoxAccount().getBalance().toBigDecimal())
                 .build();
 
         // canComplete 계산: COMPLETED이면 false, IN_PROGRESS이면서 오늘날짜가 targetDate를 지났거나 같으면 true
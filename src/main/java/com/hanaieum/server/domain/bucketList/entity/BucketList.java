@@ -12,7 +12,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "bucket_lists")
+@Table(name = "bucket_lists", indexes = {
+        // 회원별 상태/삭제 여부 목록 조회 (member_id FK 인덱스 겸용)
+        @Index(name = "idx_bucket_lists_member_status", columnList = "member_id, status, is_deleted, created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -2,10 +2,10 @@ package com.hanaieum.server.domain.bucketList.service;
 
 import com.hanaieum.server.common.exception.CustomException;
 import com.hanaieum.server.common.exception.ErrorCode;
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.entity.Account;
 import com.hanaieum.server.domain.account.service.AccountService;
 import com.hanaieum.server.domain.autoTransfer.service.AutoTransferScheduleService;
-import com.hanaieum.server.domain.bucketList.calculator.InterestCalculator;
 import com.hanaieum.server.domain.bucketList.dto.*;
 import com.hanaieum.server.domain.bucketList.entity.BucketList;
 import com.hanaieum.server.domain.bucketList.entity.BucketListStatus;
@@ -16,9 +16,7 @@ import com.hanaieum.server.domain.coupon.service.CouponService;
 import com.hanaieum.server.domain.group.entity.Group;
 import com.hanaieum.server.domain.member.entity.Member;
 import com.hanaieum.server.domain.member.repository.MemberRepository;
-import com.hanaieum.server.domain.transaction.entity.Transaction;
-import com.hanaieum.server.domain.transaction.entity.TransactionType;
-import com.hanaieum.server.domain.transaction.service.TransactionService;
+import com.hanaieum.server.domain.moneyBox.service.MoneyBoxInterestService;
 import com.hanaieum.server.domain.transfer.service.TransferService;
 import com.hanaieum.server.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
@@ -51,11 +49,9 @@ public class BucketListServiceImpl implements BucketListService {
 
     private final AccountService accountService;
     private final TransferService transferService;
-    private final TransactionService transactionService;
     private final AutoTransferScheduleService autoTransferScheduleService;
     private final CouponService couponService;
-
-    private final InterestCalculator interestCalculator;
+    private final MoneyBoxInterestService moneyBoxInterestService;
 
     /**
      * 현재 로그인한 사용자 정보를 가져오는 공통 메서드
@@ -152,31 +148,35 @@ public class BucketListServiceImpl implements BucketListService {
         // 머니박스 자동 생성
         if (requestDto.getCreateMoneyBox() != null && requestDto.getCreateMoneyBox()) {
             try {
+                Account moneyBoxAccount;
                 // 자동이체 정보가 있는 경우 자동이체 포함하여 생성
                 if (Boolean.TRUE.equals(requestDto.getEnableAutoTransfer()) &&
                         requestDto.getMonthlyAmount() != null &&
                         requestDto.getTransferDay() != null) {
 
                     Integer transferDay = parseInt(requestDto.getTransferDay());
-                    accountService.createMoneyBoxForBucketList(
+                    moneyBoxAccount = accountService.createMoneyBoxForBucketList(
                             savedBucketList,
                             member,
                             requestDto.getMoneyBoxName(),
                             requestDto.getEnableAutoTransfer(),
-                            requestDto.getMonthlyAmount(),
+                            Money.of(requestDto.getMonthlyAmount()),
                             transferDay
                     );
                     log.info("버킷리스트와 연동된 머니박스 및 자동이체 생성 완료: bucketListId = {}, monthlyAmount = {}, transferDay = {}일",
                             savedBucketList.getId(), requestDto.getMonthlyAmount(), transferDay);
                 } else {
                     // 자동이체 없이 머니박스만 생성
-                    accountService.createMoneyBoxForBucketList(
+                    moneyBoxAccount = accountService.createMoneyBoxForBucketList(
                             savedBucketList,
                             member,
                             requestDto.getMoneyBoxName()
                     );
                     log.info("버킷리스트와 연동된 머니박스 생성 완료: bucketListId = {}", savedBucketList.getId());
                 }
+
+                // 입금마다 이자 누적값을 갱신할 행 생성
+                moneyBoxInterestService.openAccumulator(moneyBoxAccount, savedBucketList);
             } catch (Exception e) {
                 log.warn("머니박스 자동 생성 실패 (버킷리스트 생성은 완료됨): bucketListId = {}, error = {}",
                         savedBucketList.getId(), e.getMessage());
@@ -246,6 +246,7 @@ public class BucketListServiceImpl implements BucketListService {
 
         log.info("버킷리스트 상세조회 완료: ID = {}, 제목 = {}", bucketListId, bucketList.getTitle());
 
+        accountService.loadStripedBalance(bucketList.getMoneyBoxAccount());
         return MyBucketListDetailResponse.of(bucketList);
     }
 
@@ -540,7 +541,7 @@ public class BucketListServiceImpl implements BucketListService {
             // 진행중인 버킷리스트인 경우 머니박스의 잔액을 주계좌로 반환
             if (bucketList.getStatus() == IN_PROGRESS) {
                 // 머니박스 → 주계좌 전액 인출
-                BigDecimal withdrawnAmount = transferService.withdrawAllFromMoneyBox(
+                Money withdrawnAmount = transferService.withdrawAllFromMoneyBox(
                         member.getId(),
                         moneyBoxAccount.getId(),
                         bucketListId
@@ -621,7 +622,7 @@ public class BucketListServiceImpl implements BucketListService {
 
         if (moneyBoxAccount != null) {
             // 1. 머니박스 → 주계좌로 원금 인출
-            BigDecimal withdrawnAmount = transferService.withdrawAllFromMoneyBox(
+            Money withdrawnAmount = transferService.withdrawAllFromMoneyBox(
                     member.getId(),
                     moneyBoxAccount.getId(),
                     bucketListId
@@ -632,16 +633,13 @@ public class BucketListServiceImpl implements BucketListService {
             // 2. 이자 계산 및 지급 (목표금액 한도 내에서만)
             BigDecimal interestRate = calculateInterestRate(bucketList.getTargetMonth(), mainAccount);
 
-            // 버킷리스트의 머니박스 계좌에 입금된 내역 조회(targetDate 이전에 발생한 내역들만 createdAt 순서대로)
-            List<Transaction> transactions = transactionService.getTransactionsByTransactionType(moneyBoxAccount, TransactionType.DEPOSIT, bucketList.getTargetDate());
-
-            // 단리 이자 계산
-            BigDecimal interest = interestCalculator.calculateInterest(transactions, bucketList.getTargetDate(), bucketList.getTargetAmount(), interestRate);
+            // 단리 이자 계산 (입금 시 갱신해 둔 누적값 사용)
+            Money interest = moneyBoxInterestService.calculateInterest(bucketList, interestRate);
 
             log.info("이자 계산: 인출금액 = {}, 목표금액 = {}, 이자율 = {}%, 계산된 이자 = {}",
                     withdrawnAmount, bucketList.getTargetAmount(), interestRate, interest);
 
-            if (interest.compareTo(BigDecimal.ZERO) > 0) {
+            if (interest.isPositive()) {
                 transferService.payInterest(member.getId(), interest, bucketListId);
             }
 
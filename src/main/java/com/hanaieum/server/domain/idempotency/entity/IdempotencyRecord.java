@@ -0,0 +1,62 @@
+package com.hanaieum.server.domain.idempotency.entity;
+
+import com.hanaieum.server.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등성 키 기록
+ * 같은 회원이 같은 Idempotency-Key로 다시 보낸 요청에는 저장된 응답을 그대로 돌려줌
+ */
+@Entity
+@Table(name = "idempotency_records",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_member_key",
+                columnNames = {"member_id", "idempotency_key"}),
+        indexes = @Index(name = "idx_idempotency_expires_at", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId; // 요청 회원 ID
+
+    @Column(name = "idempotency_key", nullable = false, length = 64)
+    private String idempotencyKey; // 클라이언트가 보낸 Idempotency-Key
+
+    @Column(name = "request_path", nullable = false, length = 100)
+    private String requestPath; // 키를 처음 사용한 API 경로
+
+    @Column(name = "request_hash", length = 64)
+    private String requestHash; // 키를 처음 사용한 요청 본문의 SHA-256 (비밀번호/PIN 인증 토큰 제외)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IdempotencyStatus status;
+
+    @Column(name = "response_status")
+    private Integer responseStatus; // 저장된 응답 HTTP 상태 코드
+
+    @Column(name = "response_message")
+    private String responseMessage; // 저장된 응답 메시지
+
+    @Lob
+    @Column(name = "response_data", columnDefinition = "TEXT")
+    private String responseData; // 저장된 응답 data (JSON)
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt; // 만료 시각 (이후 같은 키는 새 요청으로 처리)
+
+    @Column(name = "lease_token", length = 36)
+    private String leaseToken; // IN_PROGRESS 처리 중인 요청의 선점 토큰 (완료/해제는 이 토큰을 가진 요청만)
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt; // IN_PROGRESS 선점 만료 시각 (이후 재요청이 선점을 가져갈 수 있음)
+}
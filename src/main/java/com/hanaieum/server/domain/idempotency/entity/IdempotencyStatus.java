@@ -0,0 +1,6 @@
+package com.hanaieum.server.domain.idempotency.entity;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS, // 첫 요청 처리 중 (키 선점)
+    COMPLETED    // 처리 완료, 응답 저장됨
+}
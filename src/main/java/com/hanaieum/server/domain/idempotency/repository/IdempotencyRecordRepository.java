@@ -0,0 +1,58 @@
+package com.hanaieum.server.domain.idempotency.repository;
+
+import com.hanaieum.server.domain.idempotency.entity.IdempotencyRecord;
+import com.hanaieum.server.domain.idempotency.entity.IdempotencyStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByMemberIdAndIdempotencyKey(Long memberId, String idempotencyKey);
+
+    // 선점 만료된 IN_PROGRESS 행만 가져감 (동시 재요청 중 한 요청만 1행 갱신)
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.leaseToken = :leaseToken, r.leaseExpiresAt = :leaseExpiresAt " +
+           "WHERE r.id = :id AND r.status = :inProgress AND r.leaseExpiresAt < :now")
+    int takeOverExpiredLease(@Param("id") Long id,
+                             @Param("leaseToken") String leaseToken,
+                             @Param("now") LocalDateTime now,
+                             @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+                             @Param("inProgress") IdempotencyStatus inProgress);
+
+    // 응답 저장 - 이체와 같은 트랜잭션에서만 호출, 선점 토큰이 그대로일 때만 갱신 (그사이 뺏겼으면 0)
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = :completed, r.responseStatus = :responseStatus, " +
+           "r.responseMessage = :responseMessage, r.responseData = :responseData, r.leaseExpiresAt = NULL " +
+           "WHERE r.id = :id AND r.leaseToken = :leaseToken AND r.status <> :completed")
+    int complete(@Param("id") Long id,
+                 @Param("leaseToken") String leaseToken,
+                 @Param("responseStatus") Integer responseStatus,
+                 @Param("responseMessage") String responseMessage,
+                 @Param("responseData") String responseData,
+                 @Param("completed") IdempotencyStatus completed);
+
+    // 실패한 요청의 선점 해제 - 선점 토큰이 그대로일 때만 삭제 (다른 요청이 가져간 행은 건드리지 않음)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.leaseToken = :leaseToken AND r.status <> :completed")
+    int release(@Param("id") Long id,
+                @Param("leaseToken") String leaseToken,
+                @Param("completed") IdempotencyStatus completed);
+
+    // 만료된 키 일괄 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,33 @@
+package com.hanaieum.server.domain.idempotency.scheduler;
+
+import com.hanaieum.server.domain.idempotency.service.IdempotencyService;
+import com.hanaieum.server.domain.schedulerLease.service.SchedulerLeaseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 멱등성 키 정리 스케줄러 (매시 30분)
+ * DB 리스를 가져온 노드 하나만 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyCleanupScheduler {
+
+    static final String LEASE_NAME = "idempotency-cleanup";
+
+    private final IdempotencyService idempotencyService;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    @Scheduled(cron = "0 30 * * * ?", zone = "Asia/Seoul")
+    public void purgeExpiredKeys() {
+        try {
+            // DELETE 한 문장이라 중간에 리스를 확인할 처리 단위가 없음
+            schedulerLeaseService.runExclusively(LEASE_NAME, lease -> idempotencyService.purgeExpired());
+        } catch (Exception e) {
+            log.error("멱등성 키 정리 중 예외 발생: {}", e.getMessage(), e);
+        }
+    }
+}
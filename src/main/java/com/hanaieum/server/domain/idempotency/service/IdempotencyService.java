@@ -0,0 +1,19 @@
+package com.hanaieum.server.domain.idempotency.service;
+
+import com.hanaieum.server.common.dto.ApiResponse;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+
+    /**
+     * Idempotency-Key 기준으로 요청을 한 번만 실행
+     * 이미 처리된 키면 action을 실행하지 않고 저장된 응답을 반환
+     * 같은 키로 경로나 요청 본문(비밀번호/PIN 인증 토큰 제외)이 다르면 422
+     * 키가 없으면 action을 그대로 실행
+     */
+    <T> ApiResponse<T> execute(Long memberId, String idempotencyKey, String requestPath, Object requestBody,
+                               Class<T> dataType, Supplier<ApiResponse<T>> action);
+
+    int purgeExpired(); // 만료된 키 삭제
+}
@@ -0,0 +1,264 @@
+package com.hanaieum.server.domain.idempotency.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.hanaieum.server.common.dto.ApiResponse;
+import com.hanaieum.server.common.exception.CustomException;
+import com.hanaieum.server.common.exception.ErrorCode;
+import com.hanaieum.server.domain.idempotency.entity.IdempotencyRecord;
+import com.hanaieum.server.domain.idempotency.entity.IdempotencyStatus;
+import com.hanaieum.server.domain.idempotency.repository.IdempotencyRecordRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 멱등성 키 처리
+ * - 메모리 캐시 → DB 순으로 완료된 응답을 찾고, 있으면 이체 로직을 다시 타지 않음
+ * - 처음 보는 키는 IN_PROGRESS 행을 먼저 저장해 선점 (유니크 제약으로 동시 재시도 차단)
+ * - 키에 경로와 요청 본문 해시를 함께 묶어, 같은 키로 다른 요청을 보내면 저장된 응답 대신 422
+ * - action과 응답 저장을 한 트랜잭션으로 묶어, 이체가 커밋되면 응답도 함께 커밋됨
+ * - action이 실패하면 선점 행을 지워 같은 키로 다시 시도할 수 있게 함
+ * - 응답을 직렬화/역직렬화하지 못하면 500 (직렬화 실패는 이체까지 롤백)
+ * - 캐시된 응답은 DB 행의 만료 시각까지만 사용 (만료 후에는 모든 노드가 같은 키를 새 요청으로 처리)
+ * - 노드가 죽어 IN_PROGRESS로 남은 행은 선점 만료 후 재요청이 가져가 다시 실행
+ *   (응답이 저장되지 않았다면 이체도 롤백된 것이므로 다시 실행해도 중복 이체가 아님)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 64;
+    private static final long CACHE_MAX_SIZE = 10_000;
+    // 재시도마다 바뀔 수 있고 해시로 남기면 안 되는 인증 값은 비교 대상에서 제외
+    private static final Set<String> CREDENTIAL_FIELDS = Set.of("accountPassword", "pinGrantToken");
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    // 선점 유지 시간 - action 트랜잭션 타임아웃으로도 쓰므로 만료 시점엔 이전 요청의 이체가 끝나 있음
+    @Value("${idempotency.lease-seconds:60}")
+    private int leaseSeconds;
+
+    // 완료된 응답 캐시 (키: 회원 ID + 멱등성 키, expireAfterWrite는 상한일 뿐 항목별 만료는 expiresAt으로 판단)
+    private Cache<String, CachedResponse> completedResponses;
+
+    // 요청 본문 해시용 (필드/맵 키를 정렬해 직렬화)
+    private ObjectMapper canonicalMapper;
+
+    @PostConstruct
+    void init() {
+        this.canonicalMapper = objectMapper.copy()
+                .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+                .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+        this.completedResponses = CacheBuilder.newBuilder()
+                .maximumSize(CACHE_MAX_SIZE)
+                .expireAfterWrite(ttlHours, TimeUnit.HOURS)
+                .build();
+    }
+
+    @Override
+    public <T> ApiResponse<T> execute(Long memberId, String idempotencyKey, String requestPath, Object requestBody,
+                                      Class<T> dataType, Supplier<ApiResponse<T>> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new CustomException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+
+        String cacheKey = memberId + ":" + idempotencyKey;
+        String requestHash = hashRequestBody(requestBody);
+
+        // 1. 메모리 캐시 확인
+        CachedResponse cached = completedResponses.getIfPresent(cacheKey);
+        if (cached != null && !cached.expiresAt().isAfter(LocalDateTime.now())) {
+            // DB 행이 만료되었으면 (purgeExpired로 삭제되었을 수 있음) 캐시도 버리고 DB 기준으로 처리
+            completedResponses.invalidate(cacheKey);
+            cached = null;
+        }
+        if (cached != null) {
+            validateRequest(cached.requestPath(), cached.requestHash(), requestPath, requestHash);
+            log.info("멱등성 키 재요청 - 캐시 응답 반환: 회원 ID = {}, 키 = {}", memberId, idempotencyKey);
+            return castResponse(cached.response());
+        }
+
+        // 2. DB 확인
+        Optional<IdempotencyRecord> existing =
+                idempotencyRecordRepository.findByMemberIdAndIdempotencyKey(memberId, idempotencyKey);
+        if (existing.isPresent()) {
+            IdempotencyRecord record = existing.get();
+            if (record.getExpiresAt().isAfter(LocalDateTime.now())) {
+                validateRequest(record.getRequestPath(), record.getRequestHash(), requestPath, requestHash);
+                if (record.getStatus() == IdempotencyStatus.IN_PROGRESS) {
+                    Claim takenOver = takeOverExpiredLease(record);
+                    log.info("멱등성 키 선점 만료 - 재실행: 회원 ID = {}, 키 = {}", memberId, idempotencyKey);
+                    return run(cacheKey, requestPath, requestHash, takenOver, action);
+                }
+                ApiResponse<T> replayed = toApiResponse(record, dataType);
+                completedResponses.put(cacheKey, new CachedResponse(record.getRequestPath(), record.getRequestHash(),
+                        replayed, record.getExpiresAt()));
+                log.info("멱등성 키 재요청 - 저장된 응답 반환: 회원 ID = {}, 키 = {}", memberId, idempotencyKey);
+                return replayed;
+            }
+            // 만료된 키는 새 요청으로 처리
+            idempotencyRecordRepository.delete(record);
+        }
+
+        // 3. 키 선점 후 실행
+        Claim claimed = claim(memberId, idempotencyKey, requestPath, requestHash);
+        return run(cacheKey, requestPath, requestHash, claimed, action);
+    }
+
+    @Override
+    public int purgeExpired() {
+        int deleted = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+        log.info("만료된 멱등성 키 삭제: {}건", deleted);
+        return deleted;
+    }
+
+    private Claim claim(Long memberId, String idempotencyKey, String requestPath, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        String leaseToken = UUID.randomUUID().toString();
+        LocalDateTime expiresAt = now.plusHours(ttlHours);
+        try {
+            IdempotencyRecord saved = idempotencyRecordRepository.saveAndFlush(IdempotencyRecord.builder()
+                    .memberId(memberId)
+                    .idempotencyKey(idempotencyKey)
+                    .requestPath(requestPath)
+                    .requestHash(requestHash)
+                    .status(IdempotencyStatus.IN_PROGRESS)
+                    .expiresAt(expiresAt)
+                    .leaseToken(leaseToken)
+                    .leaseExpiresAt(now.plusSeconds(leaseSeconds))
+                    .build());
+            return new Claim(saved.getId(), leaseToken, expiresAt);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키의 요청이 동시에 들어와 다른 요청이 먼저 선점함
+            throw new CustomException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private Claim takeOverExpiredLease(IdempotencyRecord record) {
+        // 선점 만료 시각이 없는 행(응답을 별도 트랜잭션에 저장하던 이전 버전)은 이체 여부를 알 수 없으므로 계속 409
+        LocalDateTime now = LocalDateTime.now();
+        if (record.getLeaseExpiresAt() == null || record.getLeaseExpiresAt().isAfter(now)) {
+            throw new CustomException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+        String leaseToken = UUID.randomUUID().toString();
+        if (idempotencyRecordRepository.takeOverExpiredLease(record.getId(), leaseToken, now,
+                now.plusSeconds(leaseSeconds), IdempotencyStatus.IN_PROGRESS) == 0) {
+            // 다른 재요청이 먼저 가져갔거나 그사이 완료됨
+            throw new CustomException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+        return new Claim(record.getId(), leaseToken, record.getExpiresAt());
+    }
+
+    private <T> ApiResponse<T> run(String cacheKey, String requestPath, String requestHash, Claim claim,
+                                   Supplier<ApiResponse<T>> action) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setTimeout(leaseSeconds);
+        ApiResponse<T> response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                ApiResponse<T> result = action.get();
+                // 이체와 같은 트랜잭션에서 응답 저장 - 선점을 뺏겼으면 예외로 이체까지 롤백
+                if (idempotencyRecordRepository.complete(claim.id(), claim.leaseToken(), result.getCode(),
+                        result.getMessage(), serialize(result.getData()), IdempotencyStatus.COMPLETED) == 0) {
+                    throw new CustomException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+                }
+                return result;
+            });
+        } catch (RuntimeException e) {
+            idempotencyRecordRepository.release(claim.id(), claim.leaseToken(), IdempotencyStatus.COMPLETED);
+            throw e;
+        }
+
+        completedResponses.put(cacheKey, new CachedResponse(requestPath, requestHash, response, claim.expiresAt()));
+        return response;
+    }
+
+    private void validateRequest(String savedPath, String savedHash, String requestPath, String requestHash) {
+        if (!savedPath.equals(requestPath)) {
+            throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        // 해시 도입 전에 저장된 키(savedHash == null)는 경로만 비교
+        if (savedHash != null && !savedHash.equals(requestHash)) {
+            throw new CustomException(ErrorCode.IDEMPOTENCY_REQUEST_MISMATCH);
+        }
+    }
+
+    /**
+     * 요청 본문의 정규화된 JSON SHA-256
+     * 역직렬화된 DTO를 키 순서대로 다시 직렬화하므로 클라이언트의 필드 순서/공백과 무관
+     */
+    private String hashRequestBody(Object requestBody) {
+        JsonNode body = canonicalMapper.valueToTree(requestBody);
+        if (body instanceof ObjectNode objectNode) {
+            objectNode.remove(CREDENTIAL_FIELDS);
+        }
+        return Hashing.sha256().hashString(body.toString(), StandardCharsets.UTF_8).toString();
+    }
+
+    private String serialize(Object data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            // 응답을 저장하지 못하면 재요청에 돌려줄 것이 없으므로 이체 트랜잭션까지 롤백
+            log.error("멱등성 응답 직렬화 실패: {}", e.getMessage());
+            throw new CustomException(ErrorCode.IDEMPOTENCY_RESPONSE_UNREADABLE);
+        }
+    }
+
+    private <T> ApiResponse<T> toApiResponse(IdempotencyRecord record, Class<T> dataType) {
+        T data = null;
+        if (record.getResponseData() != null) {
+            try {
+                data = objectMapper.readValue(record.getResponseData(), dataType);
+            } catch (JsonProcessingException e) {
+                // 이체는 이미 완료됐으므로 빈 성공 응답이나 재실행 대신 서버 오류로 응답
+                log.error("멱등성 응답 역직렬화 실패 - 키 = {}: {}", record.getIdempotencyKey(), e.getMessage());
+                throw new CustomException(ErrorCode.IDEMPOTENCY_RESPONSE_UNREADABLE);
+            }
+        }
+        return ApiResponse.of(HttpStatus.valueOf(record.getResponseStatus()), record.getResponseMessage(), data);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ApiResponse<T> castResponse(ApiResponse<?> response) {
+        return (ApiResponse<T>) response;
+    }
+
+    private record CachedResponse(String requestPath, String requestHash, ApiResponse<?> response,
+                                  LocalDateTime expiresAt) {
+    }
+
+    private record Claim(Long id, String leaseToken, LocalDateTime expiresAt) {
+    }
+}
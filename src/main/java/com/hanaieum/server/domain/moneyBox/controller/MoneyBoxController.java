@@ -1,6 +1,10 @@
 package com.hanaieum.server.domain.moneyBox.controller;
 
 import com.hanaieum.server.common.dto.ApiResponse;
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.idempotency.service.IdempotencyService;
+import com.hanaieum.server.domain.moneyBox.dto.MoneyBoxBatchFillRequest;
+import com.hanaieum.server.domain.moneyBox.dto.MoneyBoxBatchFillResponse;
 import com.hanaieum.server.domain.moneyBox.dto.MoneyBoxFillRequest;
 import com.hanaieum.server.domain.moneyBox.dto.MoneyBoxUpdateRequest;
 import com.hanaieum.server.domain.moneyBox.dto.MoneyBoxUpdateResponse;
@@ -19,7 +23,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Tag(name = "Money box API", description = "머니박스 관련 API")
 @Slf4j
@@ -30,6 +37,7 @@ public class MoneyBoxController {
     
     private final MoneyBoxService moneyBoxService;
     private final TransferService transferService;
+    private final IdempotencyService idempotencyService;
     
     @Operation(summary = "머니박스 정보 수정", 
                description = "머니박스의 별명과 자동이체 설정을 수정합니다. " +
@@ -69,7 +77,8 @@ public class MoneyBoxController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
     
-    @Operation(summary = "머니박스 채우기", description = "주계좌에서 선택한 머니박스로 돈을 이체합니다.")
+    @Operation(summary = "머니박스 채우기", description = "주계좌에서 선택한 머니박스로 돈을 이체합니다. " +
+                           "Idempotency-Key 헤더를 보내면 같은 키의 재요청은 이체 없이 처음 응답을 그대로 돌려줍니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "머니박스 채우기 성공"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
@@ -80,15 +89,57 @@ public class MoneyBoxController {
     @PostMapping("/fill")
     public ResponseEntity<ApiResponse<String>> fillMoneyBox(
             @Valid @RequestBody MoneyBoxFillRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
         log.info("머니박스 채우기 API 호출: 회원 ID = {}, 머니박스 ID = {}, 금액 = {}", 
                 userDetails.getId(), request.getMoneyBoxAccountId(), request.getAmount());
 
-        transferService.fillMoneyBox(userDetails.getId(), request.getMoneyBoxAccountId(),
-                request.getAmount(), request.getAccountPassword());
+        Money amount = Money.of(request.getAmount());
+        ApiResponse<String> response = idempotencyService.execute(userDetails.getId(), idempotencyKey,
+                "/api/money-box/fill", request, String.class, () -> {
+                    transferService.fillMoneyBox(userDetails.getId(), request.getMoneyBoxAccountId(),
+                            amount, request.getAccountPassword(), request.getPinGrantToken());
+                    return ApiResponse.ok("머니박스 채우기가 완료되었습니다.");
+                });
         
-        return ResponseEntity.ok(ApiResponse.ok("머니박스 채우기가 완료되었습니다."));
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "머니박스 여러 개 한 번에 채우기", description = "주계좌에서 여러 머니박스로 한 번에 이체합니다. " +
+                           "비밀번호 검증과 주계좌 출금은 한 번만 수행되며, 같은 머니박스가 여러 번 오면 금액을 합칩니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "머니박스 일괄 채우기 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 데이터 또는 잔액 부족"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "계좌 접근 권한 없음"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "머니박스를 찾을 수 없음")
+    })
+    @PostMapping("/fill/batch")
+    public ResponseEntity<ApiResponse<MoneyBoxBatchFillResponse>> fillMoneyBoxes(
+            @Valid @RequestBody MoneyBoxBatchFillRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        log.info("머니박스 일괄 채우기 API 호출: 회원 ID = {}, 머니박스 수 = {}",
+                userDetails.getId(), request.getFills().size());
+
+        // 같은 머니박스는 금액을 합쳐 한 번만 입금
+        Map<Long, Money> amountsByMoneyBox = request.getFills().stream()
+                .collect(Collectors.toMap(MoneyBoxBatchFillRequest.FillItem::getMoneyBoxAccountId,
+                        fill -> Money.of(fill.getAmount()), Money::plus, LinkedHashMap::new));
+
+        ApiResponse<MoneyBoxBatchFillResponse> response = idempotencyService.execute(userDetails.getId(), idempotencyKey,
+                "/api/money-box/fill/batch", request, MoneyBoxBatchFillResponse.class, () -> {
+                    Money mainAccountBalance = transferService.fillMoneyBoxes(userDetails.getId(),
+                            amountsByMoneyBox, request.getAccountPassword(), request.getPinGrantToken());
+                    Money totalAmount = amountsByMoneyBox.values().stream()
+                            .reduce(Money.ZERO, Money::plus);
+                    return ApiResponse.ok(MoneyBoxBatchFillResponse.of(amountsByMoneyBox.size(),
+                            totalAmount.toBigDecimal(), mainAccountBalance.toBigDecimal()));
+                });
+
+        return ResponseEntity.ok(response);
     }
 
     @Operation(summary = "머니박스 정보 조회", description = "머니박스의 상세 정보를 조회합니다 (잔액, 자동이체 설정, 연결된 버킷리스트 정보 포함).")
@@ -0,0 +1,50 @@
+package com.hanaieum.server.domain.moneyBox.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "머니박스 여러 개 한 번에 채우기 요청")
+public class MoneyBoxBatchFillRequest {
+
+    @NotEmpty(message = "채울 머니박스를 하나 이상 선택해주세요")
+    @Size(max = 20, message = "한 번에 채울 수 있는 머니박스는 20개까지입니다")
+    @Valid
+    @Schema(description = "머니박스별 이체금액 목록")
+    private List<FillItem> fills;
+
+    @Schema(description = "주계좌 비밀번호 (pinGrantToken이 없으면 필수)", example = "1234")
+    private String accountPassword;
+
+    @Schema(description = "계좌 비밀번호 인증 토큰 (있으면 비밀번호 대신 사용)")
+    private String pinGrantToken;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "머니박스별 이체금액")
+    public static class FillItem {
+
+        @NotNull(message = "머니박스 계좌 ID는 필수입니다")
+        @Positive(message = "머니박스 계좌 ID는 양수여야 합니다")
+        @Schema(description = "머니박스 계좌 ID", example = "12345")
+        private Long moneyBoxAccountId;
+
+        @NotNull(message = "이체금액은 필수입니다")
+        @Positive(message = "이체금액은 양수여야 합니다")
+        @Schema(description = "이체금액", example = "50000")
+        private BigDecimal amount;
+    }
+}
@@ -0,0 +1,34 @@
+package com.hanaieum.server.domain.moneyBox.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "머니박스 여러 개 한 번에 채우기 응답")
+public class MoneyBoxBatchFillResponse {
+
+    @Schema(description = "채운 머니박스 개수", example = "3")
+    private int filledCount;
+
+    @Schema(description = "총 이체금액", example = "150000")
+    private BigDecimal totalAmount;
+
+    @Schema(description = "이체 후 주계좌 잔액", example = "850000")
+    private BigDecimal mainAccountBalance;
+
+    public static MoneyBoxBatchFillResponse of(int filledCount, BigDecimal totalAmount, BigDecimal mainAccountBalance) {
+        return MoneyBoxBatchFillResponse.builder()
+                .filledCount(filledCount)
+                .totalAmount(totalAmount)
+                .mainAccountBalance(mainAccountBalance)
+                .build();
+    }
+}
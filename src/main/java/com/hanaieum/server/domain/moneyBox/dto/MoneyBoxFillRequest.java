@@ -1,7 +1,6 @@
 package com.hanaieum.server.domain.moneyBox.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
@@ -21,10 +20,12 @@ public class MoneyBoxFillRequest {
     @Schema(description = "이체금액", example = "50000")
     private BigDecimal amount;
     
-    @NotBlank(message = "계좌 비밀번호는 필수입니다")
-    @Schema(description = "주계좌 비밀번호", example = "1234")
+    @Schema(description = "주계좌 비밀번호 (pinGrantToken이 없으면 필수)", example = "1234")
     private String accountPassword;
     
+    @Schema(description = "계좌 비밀번호 인증 토큰 (있으면 비밀번호 대신 사용)")
+    private String pinGrantToken;
+    
     @NotNull(message = "머니박스 계좌 ID는 필수입니다")
     @Positive(message = "머니박스 계좌 ID는 양수여야 합니다")
     @Schema(description = "머니박스 계좌 ID", example = "12345")
@@ -37,7 +37,7 @@ public class MoneyBoxInfoResponse {
         return MoneyBoxInfoResponse.builder()
                 .boxId(account.getId())
                 .boxName(account.getBoxName())
-                .balance(account.getBalance())
+                .balance(account.getBalance().toBigDecimal())
                 .nextTransferDay(transferStatus.getNextTransferDay())
                 .nextTransferAmount(transferStatus.getNextAmount())
                 .bucketId(bucketId)
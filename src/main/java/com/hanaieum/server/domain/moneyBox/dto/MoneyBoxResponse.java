@@ -31,7 +31,7 @@ public class MoneyBoxResponse {
                 .accountNumber(account.getNumber())
                 .accountName(account.getName())
                 .bankName(account.getBankName())
-                .balance(account.getBalance())
+                .balance(account.getBalance().toBigDecimal())
                 .bucketListId(account.getBucketList() != null ? account.getBucketList().getId() : null)
                 .bucketListTitle(account.getBucketList() != null ? account.getBucketList().getTitle() : null)
                 .targetAmount(account.getBucketList() != null ? account.getBucketList().getTargetAmount() : null)
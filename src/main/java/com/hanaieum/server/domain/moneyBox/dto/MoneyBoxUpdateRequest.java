@@ -22,14 +22,16 @@ public class MoneyBoxUpdateRequest {
     
     // 자동이체 설정 (autoTransferEnabled=true일 때만 필수) false일 경우 monthlyAmount, transferDay null 허용
     @Positive(message = "월 납입금액은 0보다 커야 합니다.")
+    @Digits(integer = 13, fraction = 0, message = "월 납입금액은 원 단위 정수여야 합니다.")
     private BigDecimal monthlyAmount; // 월 납입금액
     
     @Min(value = 1, message = "자동이체 날짜는 1일 이상이어야 합니다.")
     @Max(value = 28, message = "자동이체 날짜는 28일 이하여야 합니다.")
     private Integer transferDay; // 자동이체 날짜 (매월)
     
-    // 머니박스 수정 시 필요한 계좌 비밀번호
-    @NotBlank(message = "계좌 비밀번호는 필수입니다.")
+    // 머니박스 수정 시 필요한 계좌 비밀번호 (pinGrantToken이 없으면 필수)
     @Size(min = 4, max = 4, message = "계좌 비밀번호는 4자리여야 합니다.")
-    private String accountPassword; // 머니박스 수정 시 필수
+    private String accountPassword;
+    
+    private String pinGrantToken; // 계좌 비밀번호 인증 토큰 (있으면 비밀번호 대신 사용)
 }
\ No newline at end of file
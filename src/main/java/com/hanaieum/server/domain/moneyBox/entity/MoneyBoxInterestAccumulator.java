@@ -0,0 +1,54 @@
+package com.hanaieum.server.domain.moneyBox.entity;
+
+import com.hanaieum.server.common.entity.BaseEntity;
+import com.hanaieum.server.common.money.Money;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 머니박스 이자 누적값 (버킷리스트 머니박스당 1행)
+ * - 입금마다 목표금액 한도 내 입금 누적액과 (입금액 × 입금일 epochDay) 누적을 갱신
+ * - 이자 산정 가중합 Σ 입금액 × (목표일 - 입금일) = 입금 누적액 × 목표일 - 일자 가중 누적
+ * - 값은 MoneyBoxInterestAccumulatorRepository의 조건부 UPDATE로만 변경
+ * - 잔액 스트라이프를 쓰는 머니박스는 입금을 MoneyBoxInterestStripe에 나눠 누적하고 이 행은 목표금액/만기일만 보관
+ */
+@Entity
+@Table(name = "money_box_interest_accumulators")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MoneyBoxInterestAccumulator extends BaseEntity {
+
+    @Id
+    @Column(name = "money_box_account_id")
+    private Long moneyBoxAccountId; // 머니박스 계좌 ID
+
+    @Column(name = "target_amount", nullable = false)
+    private Money targetAmount; // 목표금액 (입금 누적 한도)
+
+    @Column(name = "target_date", nullable = false)
+    private LocalDate targetDate; // 만기일 (이 날짜 이전 입금만 이자 산정)
+
+    @Column(name = "deposit_sum", nullable = false, updatable = false)
+    private Money depositSum; // 목표금액 한도 내 입금 누적액
+
+    @Column(name = "day_weighted_sum", nullable = false, updatable = false)
+    private long dayWeightedSum; // Σ 한도 내 입금액 × 입금일 epochDay
+
+    // 누적값 스트라이프 개수, 0이면 이 행에 누적
+    @Column(name = "stripe_count", nullable = false)
+    @Builder.Default
+    private int stripeCount = 0;
+
+    public boolean isStriped() {
+        return stripeCount > 0;
+    }
+
+    // 이자 산정 가중합 (Σ 입금액 × 이자 산정 일수)
+    public long getWeightedSum() {
+        return Math.subtractExact(depositSum.times(targetDate.toEpochDay()).toLong(), dayWeightedSum);
+    }
+}
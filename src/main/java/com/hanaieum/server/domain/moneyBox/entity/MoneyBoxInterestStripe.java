@@ -0,0 +1,45 @@
+package com.hanaieum.server.domain.moneyBox.entity;
+
+import com.hanaieum.server.common.money.Money;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 머니박스 이자 분산 누적값 (스트라이프)
+ * 잔액 스트라이프를 쓰는 머니박스는 입금 누적도 N개의 행으로 나눠 받아 누적값 한 행에 락이 몰리지 않도록 함
+ * - 행마다 목표금액 한도 없이 만기일 이전 입금 누적액과 (입금액 × 입금일 epochDay) 누적을 갱신
+ * - 목표금액 한도는 조회 시 모든 스트라이프 합계에 적용 (MoneyBoxInterestServiceImpl)
+ */
+@Entity
+@Table(name = "money_box_interest_stripes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_money_box_interest_stripe",
+                columnNames = {"money_box_account_id", "stripe_index"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MoneyBoxInterestStripe {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "money_box_account_id", nullable = false)
+    private Long moneyBoxAccountId; // 머니박스 계좌 ID
+
+    @Column(name = "stripe_index", nullable = false)
+    private Integer stripeIndex; // 0 ~ (스트라이프 개수 - 1)
+
+    @Column(name = "target_date", nullable = false)
+    private LocalDate targetDate; // 만기일 (누적값 행에서 복사, 이 날짜 이전 입금만 누적)
+
+    // 누적값은 MoneyBoxInterestStripeRepository의 UPDATE 문으로만 변경
+    @Column(name = "deposit_sum", nullable = false, updatable = false)
+    @Builder.Default
+    private Money depositSum = Money.ZERO; // 만기일 이전 입금 누적액 (목표금액 한도 미적용)
+
+    @Column(name = "day_weighted_sum", nullable = false, updatable = false)
+    private long dayWeightedSum; // Σ 입금액 × 입금일 epochDay
+}
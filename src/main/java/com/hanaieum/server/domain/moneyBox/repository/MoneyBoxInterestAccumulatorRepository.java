@@ -0,0 +1,26 @@
+package com.hanaieum.server.domain.moneyBox.repository;
+
+import com.hanaieum.server.domain.moneyBox.entity.MoneyBoxInterestAccumulator;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+
+public interface MoneyBoxInterestAccumulatorRepository extends JpaRepository<MoneyBoxInterestAccumulator, Long> {
+
+    // 입금 반영 (금액은 원 단위, 목표금액 초과분은 제외, 만기일 이후 입금은 반영 안 함)
+    // day_weighted_sum을 먼저 두어 MySQL(왼쪽부터 갱신된 값 사용)과 표준 SQL(갱신 전 값 사용) 모두 같은 결과
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE money_box_interest_accumulators " +
+                   "SET day_weighted_sum = day_weighted_sum " +
+                   "+ (LEAST(target_amount, deposit_sum + :amount) - deposit_sum) * :epochDay, " +
+                   "deposit_sum = LEAST(target_amount, deposit_sum + :amount) " +
+                   "WHERE money_box_account_id = :accountId AND deposit_sum < target_amount " +
+                   "AND target_date > :depositDate", nativeQuery = true)
+    int accumulate(@Param("accountId") Long accountId,
+                   @Param("amount") long amount,
+                   @Param("depositDate") LocalDate depositDate,
+                   @Param("epochDay") long epochDay);
+}
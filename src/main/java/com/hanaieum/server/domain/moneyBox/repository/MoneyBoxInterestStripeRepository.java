@@ -0,0 +1,29 @@
+package com.hanaieum.server.domain.moneyBox.repository;
+
+import com.hanaieum.server.domain.moneyBox.entity.MoneyBoxInterestStripe;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface MoneyBoxInterestStripeRepository extends JpaRepository<MoneyBoxInterestStripe, Long> {
+
+    // 지정한 스트라이프 한 행에만 입금 반영 (금액은 원 단위, 만기일 이후 입금은 반영 안 함)
+    // 목표금액 한도는 조회 시 적용하므로 다른 스트라이프 값을 볼 필요 없음 → 다른 스트라이프 입금과 락 경합 없음
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE money_box_interest_stripes " +
+                   "SET day_weighted_sum = day_weighted_sum + :amount * :epochDay, " +
+                   "deposit_sum = deposit_sum + :amount " +
+                   "WHERE money_box_account_id = :accountId AND stripe_index = :stripeIndex " +
+                   "AND target_date > :depositDate", nativeQuery = true)
+    int accumulate(@Param("accountId") Long accountId,
+                   @Param("stripeIndex") Integer stripeIndex,
+                   @Param("amount") long amount,
+                   @Param("depositDate") LocalDate depositDate,
+                   @Param("epochDay") long epochDay);
+
+    List<MoneyBoxInterestStripe> findAllByMoneyBoxAccountId(Long moneyBoxAccountId);
+}
@@ -0,0 +1,16 @@
+package com.hanaieum.server.domain.moneyBox.service;
+
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.bucketList.entity.BucketList;
+
+import java.math.BigDecimal;
+
+public interface MoneyBoxInterestService {
+
+    void openAccumulator(Account moneyBoxAccount, BucketList bucketList); // 버킷리스트 머니박스 생성 시 누적값 행 생성
+
+    void accumulateDeposit(Account account, Money amount); // 머니박스 입금 시 누적값 갱신 (머니박스가 아니면 무시)
+
+    Money calculateInterest(BucketList bucketList, BigDecimal interestRate); // 목표 달성 시 이자 계산
+}
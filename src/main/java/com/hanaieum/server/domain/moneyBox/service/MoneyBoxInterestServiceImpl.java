@@ -0,0 +1,179 @@
+package com.hanaieum.server.domain.moneyBox.service;
+
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountType;
+import com.hanaieum.server.domain.bucketList.calculator.InterestCalculator;
+import com.hanaieum.server.domain.bucketList.entity.BucketList;
+import com.hanaieum.server.domain.moneyBox.entity.MoneyBoxInterestAccumulator;
+import com.hanaieum.server.domain.moneyBox.entity.MoneyBoxInterestStripe;
+import com.hanaieum.server.domain.moneyBox.repository.MoneyBoxInterestAccumulatorRepository;
+import com.hanaieum.server.domain.moneyBox.repository.MoneyBoxInterestStripeRepository;
+import com.hanaieum.server.domain.transaction.dto.TransactionResponse;
+import com.hanaieum.server.domain.transaction.entity.TransactionType;
+import com.hanaieum.server.domain.transaction.service.TransactionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 머니박스 이자 계산
+ * - 입금 시점에 누적값을 갱신해 두고 목표 달성 시 O(1)로 이자 계산
+ * - 잔액 스트라이프를 쓰는 머니박스는 누적값도 같은 개수의 스트라이프에 나눠 누적 (입금끼리 누적값 행 락 경합 없음)
+ *   → 목표금액 한도는 조회 시 적용: 합계가 목표금액을 넘으면 초과분을 가장 최근 입금부터 제외
+ * - 누적값이 없는 머니박스(도입 전 생성)는 기존처럼 입금 내역 전체를 읽어 계산
+ * - reconcile-rate 비율만큼 입금 내역 전체 계산과 대조하고, 다르면 전체 계산 결과로 지급
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MoneyBoxInterestServiceImpl implements MoneyBoxInterestService {
+
+    private static final int EXCESS_PAGE_SIZE = 20;
+
+    private final MoneyBoxInterestAccumulatorRepository moneyBoxInterestAccumulatorRepository;
+    private final MoneyBoxInterestStripeRepository moneyBoxInterestStripeRepository;
+    private final TransactionService transactionService;
+    private final InterestCalculator interestCalculator;
+
+    @Value("${interest.reconcile-rate:0}")
+    private double reconcileRate;
+
+    @Override
+    @Transactional
+    public void openAccumulator(Account moneyBoxAccount, BucketList bucketList) {
+        if (moneyBoxAccount == null) {
+            return;
+        }
+        int stripeCount = moneyBoxAccount.getBalanceStripeCount();
+        moneyBoxInterestAccumulatorRepository.save(MoneyBoxInterestAccumulator.builder()
+                .moneyBoxAccountId(moneyBoxAccount.getId())
+                .targetAmount(Money.of(bucketList.getTargetAmount()))
+                .targetDate(bucketList.getTargetDate())
+                .depositSum(Money.ZERO)
+                .dayWeightedSum(0L)
+                .stripeCount(stripeCount)
+                .build());
+
+        // 잔액과 같은 개수로 누적값 스트라이프 생성
+        List<MoneyBoxInterestStripe> stripes = new ArrayList<>();
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.add(MoneyBoxInterestStripe.builder()
+                    .moneyBoxAccountId(moneyBoxAccount.getId())
+                    .stripeIndex(i)
+                    .targetDate(bucketList.getTargetDate())
+                    .depositSum(Money.ZERO)
+                    .dayWeightedSum(0L)
+                    .build());
+        }
+        moneyBoxInterestStripeRepository.saveAll(stripes);
+    }
+
+    @Override
+    @Transactional
+    public void accumulateDeposit(Account account, Money amount) {
+        if (account.getAccountType() != AccountType.MONEY_BOX) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        if (account.isBalanceStriped()) {
+            // 잔액 입금처럼 임의의 스트라이프 한 행에만 누적 → 동시 입금끼리 누적값 한 행을 두고 줄 서지 않음
+            int stripeIndex = ThreadLocalRandom.current().nextInt(account.getBalanceStripeCount());
+            if (moneyBoxInterestStripeRepository.accumulate(account.getId(), stripeIndex, amount.toLong(), today,
+                    today.toEpochDay()) > 0) {
+                return;
+            }
+            // 만기일 이후 입금이거나 누적값 스트라이프가 없는 경우(스트라이프 도입 전 누적값) → 단일 행 누적값으로
+        }
+        moneyBoxInterestAccumulatorRepository.accumulate(account.getId(), amount.toLong(), today, today.toEpochDay());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Money calculateInterest(BucketList bucketList, BigDecimal interestRate) {
+        Long moneyBoxAccountId = bucketList.getMoneyBoxAccount().getId();
+        Optional<MoneyBoxInterestAccumulator> accumulator = moneyBoxInterestAccumulatorRepository.findById(moneyBoxAccountId);
+        if (accumulator.isEmpty()) {
+            log.info("이자 누적값 없음 - 입금 내역 전체로 계산: 머니박스 {}", moneyBoxAccountId);
+            return calculateInterestByScan(bucketList, interestRate);
+        }
+
+        OptionalLong weightedSum = accumulator.get().isStriped()
+                ? stripedWeightedSum(bucketList, accumulator.get())
+                : OptionalLong.of(accumulator.get().getWeightedSum());
+        if (weightedSum.isEmpty()) {
+            log.info("이자 누적값 초과분 제외 불가 - 입금 내역 전체로 계산: 머니박스 {}", moneyBoxAccountId);
+            return calculateInterestByScan(bucketList, interestRate);
+        }
+
+        Money interest = interestCalculator.calculateInterest(weightedSum.getAsLong(), interestRate);
+        if (reconcileRate > 0 && ThreadLocalRandom.current().nextDouble() < reconcileRate) {
+            Money scanned = calculateInterestByScan(bucketList, interestRate);
+            if (!scanned.equals(interest)) {
+                log.error("이자 누적값 불일치 - 머니박스: {}, 누적값 계산: {}, 전체 계산: {} (전체 계산 결과로 지급)",
+                        moneyBoxAccountId, interest, scanned);
+                return scanned;
+            }
+        }
+        return interest;
+    }
+
+    /**
+     * 스트라이프 누적값 합계로 가중합 계산
+     * - 스트라이프는 목표금액 한도 없이 누적하므로, 합계가 목표금액을 넘으면 초과분을 가장 최근 입금부터 제외
+     *   → 오래된 입금부터 목표금액까지만 반영하는 전체 계산과 같은 결과 (초과분은 보통 마지막 입금 몇 건)
+     * - 최근 거래에서 초과분을 다 제외하지 못하면 (아카이브까지 내려가는 경우) empty → 전체 계산
+     */
+    private OptionalLong stripedWeightedSum(BucketList bucketList, MoneyBoxInterestAccumulator accumulator) {
+        Money depositSum = Money.ZERO;
+        long dayWeightedSum = 0L;
+        for (MoneyBoxInterestStripe stripe :
+                moneyBoxInterestStripeRepository.findAllByMoneyBoxAccountId(accumulator.getMoneyBoxAccountId())) {
+            depositSum = depositSum.plus(stripe.getDepositSum());
+            dayWeightedSum = Math.addExact(dayWeightedSum, stripe.getDayWeightedSum());
+        }
+        LocalDate targetDate = accumulator.getTargetDate();
+        long weightedSum = Math.subtractExact(depositSum.times(targetDate.toEpochDay()).toLong(), dayWeightedSum);
+
+        Money excess = depositSum.minus(accumulator.getTargetAmount());
+        int page = 0;
+        while (excess.isPositive()) {
+            List<TransactionResponse> latestDeposits = transactionService.getLatestTransactionsByTransactionType(
+                    bucketList.getMoneyBoxAccount(), TransactionType.DEPOSIT, targetDate,
+                    PageRequest.of(page++, EXCESS_PAGE_SIZE));
+            if (latestDeposits.isEmpty()) {
+                return OptionalLong.empty();
+            }
+            for (TransactionResponse deposit : latestDeposits) {
+                Money excluded = Money.of(deposit.getAmount()).min(excess);
+                long interestDays = ChronoUnit.DAYS.between(deposit.getDate().toLocalDate(), targetDate);
+                weightedSum = Math.subtractExact(weightedSum, excluded.times(interestDays).toLong());
+                excess = excess.minus(excluded);
+                if (!excess.isPositive()) {
+                    break;
+                }
+            }
+        }
+        return OptionalLong.of(weightedSum);
+    }
+
+    private Money calculateInterestByScan(BucketList bucketList, BigDecimal interestRate) {
+        // 머니박스 입금 내역 (targetDate 이전, 오래된 순)
+        List<TransactionResponse> deposits = transactionService.getTransactionsByTransactionType(
+                bucketList.getMoneyBoxAccount(), TransactionType.DEPOSIT, bucketList.getTargetDate());
+        return interestCalculator.calculateInterest(deposits, bucketList.getTargetDate(),
+                bucketList.getTargetAmount(), interestRate);
+    }
+}
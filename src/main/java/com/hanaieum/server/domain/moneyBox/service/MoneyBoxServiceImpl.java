@@ -2,6 +2,7 @@ package com.hanaieum.server.domain.moneyBox.service;
 
 import com.hanaieum.server.common.exception.CustomException;
 import com.hanaieum.server.common.exception.ErrorCode;
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.entity.Account;
 import com.hanaieum.server.domain.account.entity.AccountType;
 import com.hanaieum.server.domain.account.repository.AccountRepository;
@@ -49,7 +50,7 @@ public class MoneyBoxServiceImpl implements MoneyBoxService {
         }
         
         // 주계좌 비밀번호 검증 (머니박스 수정 시 무조건 필요)
-        validateAccountPassword(member, request.getAccountPassword());
+        validateAccountPassword(member, request.getAccountPassword(), request.getPinGrantToken());
         
         // 머니박스 별명 업데이트
         account.setBoxName(request.getBoxName());
@@ -73,6 +74,7 @@ public class MoneyBoxServiceImpl implements MoneyBoxService {
         log.info("머니박스 목록 조회 완료: memberId={}, count={}", member.getId(), moneyBoxAccounts.size());
         
         return moneyBoxAccounts.stream()
+                .map(accountService::loadStripedBalance)
                 .map(MoneyBoxResponse::of)
                 .toList();
     }
@@ -103,7 +105,7 @@ public class MoneyBoxServiceImpl implements MoneyBoxService {
         log.info("머니박스 요약 조회 완료: boxId={}, currentEnabled={}, nextEnabled={}", 
                 boxId, transferStatus.isCurrentlyEnabled(), transferStatus.isNextMonthEnabled());
         
-        return MoneyBoxInfoResponse.of(account, transferStatus);
+        return MoneyBoxInfoResponse.of(accountService.loadStripedBalance(account), transferStatus);
     }
 
     @Override
@@ -140,7 +142,7 @@ public class MoneyBoxServiceImpl implements MoneyBoxService {
                 mainAccount, 
                 moneyBoxAccount, 
                 request.getAutoTransferEnabled(), 
-                request.getMonthlyAmount(), 
+                request.getMonthlyAmount() == null ? null : Money.of(request.getMonthlyAmount()), 
                 request.getTransferDay()
         );
     }
@@ -162,13 +164,13 @@ public class MoneyBoxServiceImpl implements MoneyBoxService {
     /**
      * 계좌 비밀번호 검증
      */
-    private void validateAccountPassword(Member member, String password) {
+    private void validateAccountPassword(Member member, String password, String pinGrantToken) {
         // 주계좌 조회 (자동이체는 주계좌에서 출금)
         Account mainAccount = accountService.findMainAccount(member)
                 .orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
         
         // AccountService를 통한 비밀번호 검증
-        accountService.validateAccountPassword(mainAccount.getId(), password);
+        accountService.verifyAccountPassword(mainAccount, password, pinGrantToken);
         
         log.info("머니박스 수정을 위한 비밀번호 검증 완료: memberId={}, mainAccountId={}", 
                 member.getId(), mainAccount.getId());
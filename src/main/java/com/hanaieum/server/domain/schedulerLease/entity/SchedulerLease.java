@@ -0,0 +1,34 @@
+package com.hanaieum.server.domain.schedulerLease.entity;
+
+import com.hanaieum.server.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 리스
+ * 여러 노드가 같은 cron을 동시에 실행하지 않도록 잡 이름마다 한 행을 두고, locked_until이 지난 리스만 가져갈 수 있음
+ * 가져갈 때마다 fencing_token이 1씩 증가 → 만료 후 뒤늦게 깨어난 이전 보유자의 연장/해제는 토큰 불일치로 무시됨
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SchedulerLease extends BaseEntity {
+
+    @Id
+    @Column(name = "lease_name", length = 100)
+    private String name; // 잡 이름
+
+    @Column(length = 100)
+    private String owner; // 마지막으로 가져간 노드 (아직 아무도 가져가지 않았으면 null)
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil; // 이 시각 전까지는 다른 노드가 가져갈 수 없음
+
+    @Column(name = "fencing_token", nullable = false)
+    private Long fencingToken; // 가져갈 때마다 증가
+}
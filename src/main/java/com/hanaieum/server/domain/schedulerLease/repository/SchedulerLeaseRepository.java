@@ -0,0 +1,35 @@
+package com.hanaieum.server.domain.schedulerLease.repository;
+
+import com.hanaieum.server.domain.schedulerLease.entity.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    // 만료된 리스만 가져감 (조건부 UPDATE 한 문장이라 동시에 시도해도 한 노드만 1행 갱신), 펜싱 토큰 +1
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SchedulerLease l SET l.owner = :owner, l.lockedUntil = :lockedUntil, " +
+           "l.fencingToken = l.fencingToken + 1 " +
+           "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquire(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now,
+                @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    // 가져간 뒤 토큰이 그대로일 때만 보유 시각 변경 (연장/해제 공용, 그사이 다른 노드가 가져갔으면 0)
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.lockedUntil = :lockedUntil " +
+           "WHERE l.name = :name AND l.owner = :owner AND l.fencingToken = :fencingToken")
+    int updateLockedUntil(@Param("name") String name,
+                          @Param("owner") String owner,
+                          @Param("fencingToken") Long fencingToken,
+                          @Param("lockedUntil") LocalDateTime lockedUntil);
+}
@@ -0,0 +1,23 @@
+package com.hanaieum.server.domain.schedulerLease.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface SchedulerLeaseService {
+
+    Optional<Lease> tryAcquire(String leaseName); // 만료된 리스면 가져오고, 다른 노드가 보유 중이면 empty
+
+    boolean renew(Lease lease); // 보유 시간 연장, 그사이 다른 노드가 가져갔으면 false
+
+    void release(Lease lease); // 최소 보유 시간이 지나면 바로 만료, 아니면 최소 보유 시각까지 유지
+
+    boolean runExclusively(String leaseName, Consumer<Lease> job); // 리스를 가져온 노드만 실행 (실행 중 주기적으로 연장), 실행 여부 반환
+
+    boolean isHeld(Lease lease); // 이 노드가 아직 보유 중인지 (연장 실패/만료 시 false → 잡은 다음 처리 단위 전에 중단)
+
+    String ownerId(); // 이 노드의 리스 보유자 ID
+
+    record Lease(String name, String owner, long fencingToken, LocalDateTime acquiredAt) {
+    }
+}
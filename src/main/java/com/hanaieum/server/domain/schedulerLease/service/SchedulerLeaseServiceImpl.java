@@ -0,0 +1,183 @@
+package com.hanaieum.server.domain.schedulerLease.service;
+
+import com.hanaieum.server.domain.schedulerLease.entity.SchedulerLease;
+import com.hanaieum.server.domain.schedulerLease.repository.SchedulerLeaseRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * DB 리스 기반 스케줄러 단일 실행
+ * - 가져오기: locked_until이 지난 행만 조건부 UPDATE (ttl 만큼 보유), 성공하면 같은 트랜잭션에서 펜싱 토큰 조회
+ * - 실행 중에는 ttl/3 간격으로 연장, 끝나면 최소 보유 시간(min-hold)까지만 유지 후 만료
+ *   → 노드 간 cron 발화 시각이 조금 어긋나도 늦게 깨어난 노드가 같은 회차를 다시 실행하지 않음
+ * - 시각은 각 노드 시계 기준이므로 노드 간 시계 차이는 min-hold보다 충분히 작아야 함
+ * - 잡에는 리스를 넘기고, 잡은 처리 단위(chunk/건/날짜)마다 isHeld로 확인해 연장에 실패했거나 보유 시각이 지났으면 중단
+ *   → 다른 노드가 다시 가져간 뒤에는 이전 보유자가 다음 단위를 처리하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchedulerLeaseServiceImpl implements SchedulerLeaseService {
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${scheduler.lease.owner:}")
+    private String configuredOwner;
+
+    @Value("${scheduler.lease.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${scheduler.lease.min-hold-seconds:300}")
+    private long minHoldSeconds;
+
+    private String ownerId;
+    private ScheduledExecutorService renewalExecutor;
+
+    // 이 노드가 보유 중인 리스 → 마지막으로 가져오거나 연장한 보유 만료 시각 (연장 실패/해제 시 제거)
+    private final Map<Lease, LocalDateTime> heldUntil = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        this.ownerId = configuredOwner.isBlank() ? defaultOwnerId() : configuredOwner;
+        this.renewalExecutor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("scheduler-lease-renewal").daemon().factory());
+        log.info("스케줄러 리스 보유자 ID: {}", ownerId);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewalExecutor.shutdownNow();
+    }
+
+    @Override
+    public Optional<Lease> tryAcquire(String leaseName) {
+        createIfAbsent(leaseName);
+
+        LocalDateTime now = LocalDateTime.now();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        return transactionTemplate.execute(status -> {
+            if (schedulerLeaseRepository.acquire(leaseName, ownerId, now, now.plusSeconds(ttlSeconds)) == 0) {
+                return Optional.<Lease>empty();
+            }
+            // 갱신한 행의 락을 잡은 채로 읽으므로 다른 노드가 그사이 토큰을 올릴 수 없음
+            SchedulerLease lease = schedulerLeaseRepository.findById(leaseName).orElseThrow();
+            Lease acquired = new Lease(leaseName, ownerId, lease.getFencingToken(), now);
+            heldUntil.put(acquired, now.plusSeconds(ttlSeconds));
+            return Optional.of(acquired);
+        });
+    }
+
+    @Override
+    public boolean renew(Lease lease) {
+        LocalDateTime lockedUntil = LocalDateTime.now().plusSeconds(ttlSeconds);
+        if (schedulerLeaseRepository.updateLockedUntil(lease.name(), lease.owner(), lease.fencingToken(),
+                lockedUntil) == 1) {
+            heldUntil.replace(lease, lockedUntil);
+            return true;
+        }
+        heldUntil.remove(lease);
+        return false;
+    }
+
+    @Override
+    public boolean isHeld(Lease lease) {
+        LocalDateTime until = heldUntil.get(lease);
+        return until != null && LocalDateTime.now().isBefore(until);
+    }
+
+    @Override
+    public void release(Lease lease) {
+        heldUntil.remove(lease);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime minHoldUntil = lease.acquiredAt().plusSeconds(minHoldSeconds);
+        int updated = schedulerLeaseRepository.updateLockedUntil(lease.name(), lease.owner(), lease.fencingToken(),
+                minHoldUntil.isAfter(now) ? minHoldUntil : now);
+        if (updated == 0) {
+            log.warn("스케줄러 리스 해제 무시 - 다른 노드가 이미 가져감: {}, 토큰 = {}", lease.name(), lease.fencingToken());
+        }
+    }
+
+    @Override
+    public boolean runExclusively(String leaseName, Consumer<Lease> job) {
+        Optional<Lease> acquired = tryAcquire(leaseName);
+        if (acquired.isEmpty()) {
+            log.info("스케줄러 리스 획득 실패 - 다른 노드가 실행 중이거나 이미 실행함: {}", leaseName);
+            return false;
+        }
+
+        Lease lease = acquired.get();
+        log.info("스케줄러 리스 획득: {}, 보유자 = {}, 토큰 = {}", leaseName, ownerId, lease.fencingToken());
+        long renewalPeriodMillis = Math.max(TimeUnit.SECONDS.toMillis(ttlSeconds) / 3, 1);
+        ScheduledFuture<?> renewal = renewalExecutor.scheduleAtFixedRate(() -> {
+            try {
+                if (!renew(lease)) {
+                    // 잡은 isHeld가 false가 된 뒤 다음 처리 단위 전에 중단
+                    log.error("스케줄러 리스 연장 실패 - 다른 노드가 가져감, 잡 중단: {}, 토큰 = {}",
+                            leaseName, lease.fencingToken());
+                }
+            } catch (Exception e) {
+                log.error("스케줄러 리스 연장 중 예외 발생: {}, {}", leaseName, e.getMessage(), e);
+            }
+        }, renewalPeriodMillis, renewalPeriodMillis, TimeUnit.MILLISECONDS);
+
+        try {
+            job.accept(lease);
+            return true;
+        } finally {
+            renewal.cancel(false);
+            release(lease);
+        }
+    }
+
+    @Override
+    public String ownerId() {
+        return ownerId;
+    }
+
+    private void createIfAbsent(String leaseName) {
+        if (schedulerLeaseRepository.existsById(leaseName)) {
+            return;
+        }
+        try {
+            schedulerLeaseRepository.saveAndFlush(SchedulerLease.builder()
+                    .name(leaseName)
+                    .lockedUntil(LocalDateTime.now().minusSeconds(1))
+                    .fencingToken(0L)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 만듦
+            log.debug("스케줄러 리스 행이 이미 있음: {}", leaseName);
+        }
+    }
+
+    private String defaultOwnerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -1,6 +1,7 @@
 package com.hanaieum.server.domain.support.controller;
 
 import com.hanaieum.server.common.dto.ApiResponse;
+import com.hanaieum.server.domain.idempotency.service.IdempotencyService;
 import com.hanaieum.server.domain.support.dto.SupportMessageUpdateRequest;
 import com.hanaieum.server.domain.support.dto.SupportRequest;
 import com.hanaieum.server.domain.support.dto.SupportResponse;
@@ -23,17 +24,22 @@ import java.util.List;
 public class SupportController {
 
     private final SupportService supportService;
+    private final IdempotencyService idempotencyService;
 
-    @Operation(summary = "버킷리스트 후원/응원", description = "버킷리스트에 후원하거나 응원 메시지를 보냅니다")
+    @Operation(summary = "버킷리스트 후원/응원", description = "버킷리스트에 후원하거나 응원 메시지를 보냅니다. " +
+            "Idempotency-Key 헤더를 보내면 같은 키의 재요청은 이체 없이 처음 응답을 그대로 돌려줍니다")
     @PostMapping("/{bucketListId}")
     public ResponseEntity<ApiResponse<SupportResponse>> supportBucketList(
             @PathVariable Long bucketListId,
             @Valid @RequestBody SupportRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         
-        SupportResponse response = supportService.supportBucketList(bucketListId, request, userDetails.getMember());
+        ApiResponse<SupportResponse> response = idempotencyService.execute(userDetails.getId(), idempotencyKey,
+                "/api/support/" + bucketListId, request, SupportResponse.class,
+                () -> ApiResponse.ok(supportService.supportBucketList(bucketListId, request, userDetails.getMember())));
 
-        return ResponseEntity.ok(ApiResponse.ok(response));
+        return ResponseEntity.ok(response);
     }
 
     @Operation(summary = "특정 버킷리스트 후원/응원 목록 조회", description = "특정 버킷리스트에 받은 후원/응원 목록을 조회합니다")
@@ -35,6 +35,9 @@ public class SupportRequest {
     @Schema(description = "후원 금액 (응원시 null 가능)", example = "50000")
     private BigDecimal supportAmount;
 
-    @Schema(description = "후원자의 주계좌 비밀번호 (후원시 필수)", example = "1234")
+    @Schema(description = "후원자의 주계좌 비밀번호 (후원시 pinGrantToken이 없으면 필수)", example = "1234")
     private String accountPassword;
+
+    @Schema(description = "계좌 비밀번호 인증 토큰 (있으면 비밀번호 대신 사용)")
+    private String pinGrantToken;
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.hanaieum.server.domain.support.service;
 
 import com.hanaieum.server.common.exception.CustomException;
 import com.hanaieum.server.common.exception.ErrorCode;
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.entity.Account;
 import com.hanaieum.server.domain.bucketList.entity.BucketList;
 import com.hanaieum.server.domain.bucketList.repository.BucketListRepository;
@@ -78,10 +79,7 @@ public class SupportServiceImpl implements SupportService {
         if (request.getSupportAmount() == null || request.getSupportAmount().compareTo(BigDecimal.ZERO) <= 0) {
             throw new CustomException(ErrorCode.INVALID_SUPPORT_AMOUNT);
         }
-
-        if (request.getAccountPassword() == null || request.getAccountPassword().trim().isEmpty()) {
-            throw new CustomException(ErrorCode.ACCOUNT_PASSWORD_REQUIRED);
-        }
+        // 비밀번호/PIN 인증 토큰 누락은 이체 시 AccountService.verifyAccountPassword에서 거름
     }
 
     private void processSponsorshipTransfer(Member supporter, BucketList bucketList, SupportRequest request) {
@@ -95,8 +93,9 @@ public class SupportServiceImpl implements SupportService {
         transferService.sponsorBucket(
                 supporter.getId(),
                 bucketList.getId(),
-                request.getSupportAmount(),
-                request.getAccountPassword()
+                Money.of(request.getSupportAmount()),
+                request.getAccountPassword(),
+                request.getPinGrantToken()
         );
     }
 
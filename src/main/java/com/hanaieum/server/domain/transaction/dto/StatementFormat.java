@@ -0,0 +1,26 @@
+package com.hanaieum.server.domain.transaction.dto;
+
+import com.hanaieum.server.common.exception.CustomException;
+import com.hanaieum.server.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+@Getter
+@RequiredArgsConstructor
+public enum StatementFormat {
+    CSV("text/csv;charset=UTF-8", "csv"),
+    JSON("application/json;charset=UTF-8", "json");
+
+    private final String contentType;
+    private final String extension;
+
+    public static StatementFormat from(String format) {
+        try {
+            return StatementFormat.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new CustomException(ErrorCode.INVALID_STATEMENT_FORMAT);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.hanaieum.server.domain.transaction.dto;
+
+import com.hanaieum.server.domain.transaction.entity.ReferenceType;
+import com.hanaieum.server.domain.transaction.entity.TransactionType;
+
+/**
+ * 거래 요약 집계 행 (거래타입 + 참조타입별 금액 합계/건수)
+ */
+public record TransactionCategoryRow(TransactionType transactionType, ReferenceType referenceType,
+                                     Long totalAmount, Long transactionCount) {
+
+    // 최근 거래 / 아카이브 집계를 같은 분류끼리 합산
+    public TransactionCategoryRow plus(TransactionCategoryRow other) {
+        return new TransactionCategoryRow(transactionType, referenceType,
+                Math.addExact(totalAmount, other.totalAmount), transactionCount + other.transactionCount);
+    }
+}
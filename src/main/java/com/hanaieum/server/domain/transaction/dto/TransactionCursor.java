@@ -0,0 +1,43 @@
+package com.hanaieum.server.domain.transaction.dto;
+
+import com.hanaieum.server.common.exception.CustomException;
+import com.hanaieum.server.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 거래내역 커서 (마지막으로 내려준 행의 createdAt, id)
+ * 클라이언트에는 URL-safe Base64 문자열로만 노출
+ */
+public record TransactionCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static TransactionCursor of(TransactionResponse transaction) {
+        return new TransactionCursor(transaction.getDate(), transaction.getTransactionId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new CustomException(ErrorCode.INVALID_TRANSACTION_CURSOR);
+            }
+            return new TransactionCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // NumberFormatException 포함
+            throw new CustomException(ErrorCode.INVALID_TRANSACTION_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.hanaieum.server.domain.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionCursorResponse {
+
+    private List<TransactionResponse> transactions;
+    private String nextCursor; // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+
+    public static TransactionCursorResponse of(List<TransactionResponse> transactions, String nextCursor) {
+        return TransactionCursorResponse.builder()
+                .transactions(transactions)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.hanaieum.server.domain.transaction.dto;
+
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.transaction.entity.TransactionType;
+
+/**
+ * 일일 잔액 집계용 거래 행 (계좌, 거래 순서대로 조회)
+ */
+public record TransactionDailyRow(Long accountId, TransactionType transactionType, Money amount,
+                                  Money balanceAfter) {
+}
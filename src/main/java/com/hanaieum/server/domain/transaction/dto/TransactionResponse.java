@@ -1,7 +1,9 @@
 package com.hanaieum.server.domain.transaction.dto;
 
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.transaction.entity.Transaction;
 import com.hanaieum.server.domain.transaction.entity.TransactionType;
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,7 +24,16 @@ public class TransactionResponse {
     private String counterpartyName;
     private String description;
     private BigDecimal amount;
+    @Schema(description = "거래 후 잔액. 입금이 분산 기록되는 머니박스(스트라이프 계좌)의 입금 거래는 정확한 값을 알 수 없어 null " +
+            "(CSV 거래내역서는 빈 칸)", nullable = true)
     private BigDecimal balanceAfter;
+
+    // JPQL 생성자 프로젝션용 (금액 컬럼은 MoneyConverter를 거쳐 Money로 조회됨)
+    public TransactionResponse(Long transactionId, LocalDateTime date, TransactionType transactionType,
+                               String counterpartyName, String description, Money amount, Money balanceAfter) {
+        this(transactionId, date, transactionType, counterpartyName, description,
+                amount.toBigDecimal(), balanceAfter == null ? null : balanceAfter.toBigDecimal());
+    }
     
     public static TransactionResponse of(Transaction transaction) {
         return TransactionResponse.builder()
@@ -31,8 +42,8 @@ public class TransactionResponse {
                 .transactionType(transaction.getTransactionType())
                 .counterpartyName(transaction.getCounterpartyName())
                 .description(transaction.getDescription())
-                .amount(transaction.getAmount())
-                .balanceAfter(transaction.getBalanceAfter())
+                .amount(transaction.getAmount().toBigDecimal())
+                .balanceAfter(transaction.getBalanceAfter() == null ? null : transaction.getBalanceAfter().toBigDecimal())
                 .build();
     }
 }
\ No newline at end of file
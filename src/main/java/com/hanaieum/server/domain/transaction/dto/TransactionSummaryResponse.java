@@ -0,0 +1,40 @@
+package com.hanaieum.server.domain.transaction.dto;
+
+import com.hanaieum.server.domain.transaction.entity.ReferenceType;
+import com.hanaieum.server.domain.transaction.entity.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionSummaryResponse {
+
+    private Long accountId;
+    private LocalDate from;
+    private LocalDate to;
+    private BigDecimal totalDeposit;        // 기간 입금 합계
+    private BigDecimal totalWithdraw;       // 기간 출금 합계
+    private long depositCount;              // 기간 입금 건수
+    private long withdrawCount;             // 기간 출금 건수
+    private List<CategorySummary> categories; // 거래타입 + 참조타입별 합계 (거래가 있는 분류만)
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CategorySummary {
+        private TransactionType transactionType;
+        private ReferenceType referenceType;
+        private String description;         // 참조타입 표시명 (예: 머니박스 충전)
+        private BigDecimal totalAmount;
+        private long transactionCount;
+    }
+}
@@ -0,0 +1,70 @@
+package com.hanaieum.server.domain.transaction.entity;
+
+import com.hanaieum.server.common.money.Money;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 거래내역 (transactions에서 월 단위로 옮겨온 행)
+ * - id, createdAt은 원본 그대로 유지 (거래 ID/커서가 아카이브 이후에도 같은 행을 가리킴)
+ * - 행은 아카이브 작업의 INSERT ... SELECT로만 생성되고 이후 변경되지 않음
+ */
+@Entity
+@Table(name = "transactions_archive", indexes = {
+        // 거래내역 조회(페이지/커서/내역서): transactions와 같은 (account_id, created_at, id) 순서
+        @Index(name = "idx_transactions_archive_account_created", columnList = "account_id, created_at, id"),
+        // 이자 계산용 거래타입별 조회
+        @Index(name = "idx_transactions_archive_account_type_created",
+                columnList = "account_id, transaction_type, created_at"),
+        // 월 단위 관리 (월별 백업/삭제)
+        @Index(name = "idx_transactions_archive_month", columnList = "archive_month")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ArchivedTransaction {
+
+    @Id
+    private Long id; // 원본 거래 ID
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "archive_month", nullable = false)
+    private Integer archiveMonth; // 거래 발생 월 (yyyyMM)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TransactionType transactionType;
+
+    @Column(nullable = false)
+    private Money amount;
+
+    // 스트라이프 계좌 입금은 null (일일 스냅샷에서 입출금 합계로 이어 계산)
+    private Money balanceAfter;
+
+    @Column(name = "counterparty_account_id")
+    private Long counterpartyAccountId;
+
+    @Column(name = "counterparty_name", length = 100)
+    private String counterpartyName;
+
+    @Column(length = 200)
+    private String description;
+
+    @Column(name = "reference_id")
+    private Long referenceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reference_type")
+    private ReferenceType referenceType;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt; // 원본 거래 일시
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -1,14 +1,21 @@
 package com.hanaieum.server.domain.transaction.entity;
 
 import com.hanaieum.server.common.entity.BaseEntity;
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.entity.Account;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
-
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        // 거래내역 조회(페이지/커서): account_id 일치 + created_at, id 내림차순 탐색
+        @Index(name = "idx_transactions_account_created", columnList = "account_id, created_at, id"),
+        // 이자 계산용 거래타입별 조회: account_id, transaction_type 일치 + created_at 범위
+        @Index(name = "idx_transactions_account_type_created",
+                columnList = "account_id, transaction_type, created_at"),
+        // 일일 잔액 스냅샷 등 전체 계좌 대상 날짜 범위 배치 조회
+        @Index(name = "idx_transactions_created", columnList = "created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -16,7 +23,10 @@ import java.math.BigDecimal;
 public class Transaction extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "transaction_id_generator")
+    @TableGenerator(name = "transaction_id_generator", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "transactions", allocationSize = 50)
     private Long id;
 
     // 내 계좌
@@ -30,12 +40,12 @@ public class Transaction extends BaseEntity {
     private TransactionType transactionType; // DEPOSIT, WITHDRAW
 
     // 거래 금액
-    @Column(nullable = false, precision = 15, scale = 2)
-    private BigDecimal amount;
+    @Column(nullable = false)
+    private Money amount;
 
     // 거래 후 잔액 (내 계좌 기준)
-    @Column(nullable = false, precision = 15, scale = 2)
-    private BigDecimal balanceAfter;
+    // 스트라이프 계좌 입금은 null (일일 스냅샷에서 입출금 합계로 이어 계산)
+    private Money balanceAfter;
 
     // 상대방 계좌 ID
     @Column(name = "counterparty_account_id")
@@ -0,0 +1,80 @@
+package com.hanaieum.server.domain.transaction.repository;
+
+import com.hanaieum.server.domain.transaction.dto.TransactionCategoryRow;
+import com.hanaieum.server.domain.transaction.dto.TransactionResponse;
+import com.hanaieum.server.domain.transaction.entity.ArchivedTransaction;
+import com.hanaieum.server.domain.transaction.entity.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 아카이브 거래내역 조회 - TransactionRepository의 조회 쿼리와 같은 정렬/프로젝션
+ */
+public interface ArchivedTransactionRepository extends JpaRepository<ArchivedTransaction, Long> {
+
+    String RESPONSE_COLUMNS = "new com.hanaieum.server.domain.transaction.dto.TransactionResponse(" +
+            "a.id, a.createdAt, a.transactionType, a.counterpartyName, a.description, a.amount, a.balanceAfter)";
+
+    // 원본 행을 그대로 복사 (거래 발생 월을 archive_month로 기록)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO transactions_archive (id, account_id, archive_month, transaction_type, amount, " +
+                   "balance_after, counterparty_account_id, counterparty_name, description, reference_id, " +
+                   "reference_type, created_at, archived_at) " +
+                   "SELECT id, account_id, EXTRACT(YEAR FROM created_at) * 100 + EXTRACT(MONTH FROM created_at), " +
+                   "transaction_type, amount, balance_after, counterparty_account_id, counterparty_name, " +
+                   "description, reference_id, reference_type, created_at, :archivedAt " +
+                   "FROM transactions WHERE id IN (:ids)", nativeQuery = true)
+    int copyFromTransactions(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    long countByAccountId(Long accountId);
+
+    @Query("SELECT " + RESPONSE_COLUMNS + " FROM ArchivedTransaction a WHERE a.accountId = :accountId " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<TransactionResponse> findFirstPageByAccountId(@Param("accountId") Long accountId, Pageable pageable);
+
+    @Query("SELECT " + RESPONSE_COLUMNS + " FROM ArchivedTransaction a WHERE a.accountId = :accountId " +
+            "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<TransactionResponse> findPageByAccountIdBefore(@Param("accountId") Long accountId,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") Long id,
+                                                        Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + TransactionRepository.STATEMENT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT " + RESPONSE_COLUMNS + " FROM ArchivedTransaction a WHERE a.accountId = :accountId " +
+            "AND a.createdAt >= :from AND a.createdAt < :to " +
+            "ORDER BY a.createdAt ASC, a.id ASC")
+    Stream<TransactionResponse> streamStatement(@Param("accountId") Long accountId,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to);
+
+    @Query("SELECT new com.hanaieum.server.domain.transaction.dto.TransactionCategoryRow(" +
+            "a.transactionType, a.referenceType, SUM(CAST(a.amount AS Long)), COUNT(a)) " +
+            "FROM ArchivedTransaction a WHERE a.accountId = :accountId " +
+            "AND a.createdAt >= :from AND a.createdAt < :to " +
+            "GROUP BY a.transactionType, a.referenceType")
+    List<TransactionCategoryRow> summarizeByCategory(@Param("accountId") Long accountId,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to);
+
+    @Query("SELECT " + RESPONSE_COLUMNS + " FROM ArchivedTransaction a WHERE a.accountId = :accountId " +
+            "AND a.transactionType = :type AND a.createdAt < :before " +
+            "ORDER BY a.createdAt ASC, a.id ASC")
+    List<TransactionResponse> findResponsesByAccountIdAndTypeBefore(@Param("accountId") Long accountId,
+                                                                    @Param("type") TransactionType type,
+                                                                    @Param("before") LocalDateTime before);
+}
@@ -1,26 +1,118 @@
 package com.hanaieum.server.domain.transaction.repository;
 
-import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.transaction.dto.TransactionCategoryRow;
+import com.hanaieum.server.domain.transaction.dto.TransactionDailyRow;
+import com.hanaieum.server.domain.transaction.dto.TransactionResponse;
 import com.hanaieum.server.domain.transaction.entity.Transaction;
 import com.hanaieum.server.domain.transaction.entity.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
+    int STATEMENT_FETCH_SIZE = 500;
+
+    String RESPONSE_COLUMNS = "new com.hanaieum.server.domain.transaction.dto.TransactionResponse(" +
+            "t.id, t.createdAt, t.transactionType, t.counterpartyName, t.description, t.amount, t.balanceAfter)";
+
     @Query("SELECT t FROM Transaction t WHERE t.account.id = :accountId ORDER BY t.createdAt DESC")
     Page<Transaction> findByAccountIdOrderByCreatedAtDesc(@Param("accountId") Long accountId, Pageable pageable);
 
-    List<Transaction> findAllByAccountAndTransactionTypeAndCreatedAtBeforeOrderByCreatedAtAsc(
-            Account account,
-            TransactionType type,
-            LocalDateTime targetDate
-    );
+    // 거래내역 화면용 프로젝션 조회 (엔티티/영속성 컨텍스트 없이 응답 컬럼만 조회)
+    @Query(value = "SELECT " + RESPONSE_COLUMNS + " FROM Transaction t WHERE t.account.id = :accountId " +
+            "ORDER BY t.createdAt DESC, t.id DESC",
+            countQuery = "SELECT COUNT(t) FROM Transaction t WHERE t.account.id = :accountId")
+    Page<TransactionResponse> findResponsesByAccountId(@Param("accountId") Long accountId, Pageable pageable);
+
+    // 커서 조회 첫 페이지 (COUNT 쿼리 없음, createdAt이 같으면 id로 순서 고정)
+    @Query("SELECT " + RESPONSE_COLUMNS + " FROM Transaction t WHERE t.account.id = :accountId " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionResponse> findFirstPageByAccountId(@Param("accountId") Long accountId, Pageable pageable);
+
+    // 커서 조회 다음 페이지: (createdAt, id)가 커서보다 앞선 행부터 인덱스 탐색
+    @Query("SELECT " + RESPONSE_COLUMNS + " FROM Transaction t WHERE t.account.id = :accountId " +
+            "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionResponse> findPageByAccountIdBefore(@Param("accountId") Long accountId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    // 거래내역서 다운로드용 기간 조회 - 전방향 스트림으로 fetch size 단위로 읽음 (COUNT 쿼리 없음)
+    // MySQL은 useCursorFetch=true(application.yml 커넥션 속성)여야 fetch size 단위로 서버 커서를 사용
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STATEMENT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT " + RESPONSE_COLUMNS + " FROM Transaction t WHERE t.account.id = :accountId " +
+            "AND t.createdAt >= :from AND t.createdAt < :to " +
+            "ORDER BY t.createdAt ASC, t.id ASC")
+    Stream<TransactionResponse> streamStatement(@Param("accountId") Long accountId,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to);
+
+    // 일일 잔액 스냅샷 집계용 - 하루치 거래를 계좌별, 거래 순서대로 스트림 조회
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STATEMENT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.hanaieum.server.domain.transaction.dto.TransactionDailyRow(" +
+            "t.account.id, t.transactionType, t.amount, t.balanceAfter) " +
+            "FROM Transaction t WHERE t.createdAt >= :from AND t.createdAt < :to " +
+            "ORDER BY t.account.id ASC, t.createdAt ASC, t.id ASC")
+    Stream<TransactionDailyRow> streamDailyRows(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 기간 내 거래타입 + 참조타입별 합계/건수 (idx_transactions_account_created 범위 조회 후 DB에서 집계)
+    // 금액 컬럼은 MoneyConverter 매핑이므로 Long으로 CAST 후 합산
+    @Query("SELECT new com.hanaieum.server.domain.transaction.dto.TransactionCategoryRow(" +
+            "t.transactionType, t.referenceType, SUM(CAST(t.amount AS Long)), COUNT(t)) " +
+            "FROM Transaction t WHERE t.account.id = :accountId " +
+            "AND t.createdAt >= :from AND t.createdAt < :to " +
+            "GROUP BY t.transactionType, t.referenceType")
+    List<TransactionCategoryRow> summarizeByCategory(@Param("accountId") Long accountId,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to);
+
+    // 가장 오래된 거래 일시 (스냅샷 최초 백필 시작점)
+    @Query("SELECT MIN(t.createdAt) FROM Transaction t")
+    Optional<LocalDateTime> findEarliestCreatedAt();
+
+    // 이자 계산용 거래타입별 조회 (기준일시 이전, 오래된 순)
+    @Query("SELECT " + RESPONSE_COLUMNS + " FROM Transaction t WHERE t.account.id = :accountId " +
+            "AND t.transactionType = :type AND t.createdAt < :before " +
+            "ORDER BY t.createdAt ASC, t.id ASC")
+    List<TransactionResponse> findResponsesByAccountIdAndTypeBefore(@Param("accountId") Long accountId,
+                                                                    @Param("type") TransactionType type,
+                                                                    @Param("before") LocalDateTime before);
+
+    // 이자 계산용 거래타입별 최근 거래부터 조회 (기준일시 이전, 최근 순, 페이지 단위)
+    @Query("SELECT " + RESPONSE_COLUMNS + " FROM Transaction t WHERE t.account.id = :accountId " +
+            "AND t.transactionType = :type AND t.createdAt < :before " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionResponse> findLatestResponsesByAccountIdAndTypeBefore(@Param("accountId") Long accountId,
+                                                                          @Param("type") TransactionType type,
+                                                                          @Param("before") LocalDateTime before,
+                                                                          Pageable pageable);
+
+    // 아카이브 대상 ID (기준일시 이전, 오래된 순으로 chunk 크기만큼)
+    @Query("SELECT t.id FROM Transaction t WHERE t.createdAt < :before ORDER BY t.createdAt ASC, t.id ASC")
+    List<Long> findIdsCreatedBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Transaction t WHERE t.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
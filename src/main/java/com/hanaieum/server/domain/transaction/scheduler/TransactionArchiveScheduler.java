@@ -0,0 +1,67 @@
+package com.hanaieum.server.domain.transaction.scheduler;
+
+import com.hanaieum.server.domain.schedulerLease.service.SchedulerLeaseService;
+import com.hanaieum.server.domain.transaction.service.TransactionArchivePolicy;
+import com.hanaieum.server.domain.transaction.service.TransactionArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래내역 아카이브 스케줄러 (매월 1일 새벽 3시 30분)
+ * 보관 기간이 지난 달의 거래를 chunk 단위로 옮김 - chunk마다 별도 트랜잭션이라 락/undo 로그가 chunk 크기로 제한됨
+ * DB 리스를 가져온 노드 하나만 실행 (노드끼리 같은 chunk를 두고 경합하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionArchiveScheduler {
+
+    static final String LEASE_NAME = "transaction-archive";
+
+    private final TransactionArchiveService transactionArchiveService;
+    private final TransactionArchivePolicy transactionArchivePolicy;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    @Value("${transaction.archive.chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(cron = "0 30 3 1 * ?", zone = "Asia/Seoul")
+    public void archiveOldTransactions() {
+        if (!transactionArchivePolicy.isEnabled()) {
+            return;
+        }
+        LocalDateTime cutoff = transactionArchivePolicy.cutoff();
+        try {
+            schedulerLeaseService.runExclusively(LEASE_NAME, lease -> archiveBefore(cutoff, lease));
+        } catch (Exception e) {
+            log.error("거래내역 아카이브 리스 처리 중 예외 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    private void archiveBefore(LocalDateTime cutoff, SchedulerLeaseService.Lease lease) {
+        log.info("거래내역 아카이브 시작 - 기준일시: {}", cutoff);
+
+        long total = 0;
+        try {
+            int moved;
+            do {
+                // 리스를 잃었으면 다음 chunk는 옮기지 않음 (다른 노드와 같은 chunk를 두고 경합하지 않도록)
+                if (!schedulerLeaseService.isHeld(lease)) {
+                    log.warn("스케줄러 리스를 잃어 거래내역 아카이브 중단 - 이동 건수: {}", total);
+                    return;
+                }
+                moved = transactionArchiveService.archiveChunk(cutoff, chunkSize);
+                total += moved;
+            } while (moved == chunkSize);
+            log.info("거래내역 아카이브 완료 - 기준일시: {}, 이동 건수: {}", cutoff, total);
+        } catch (Exception e) {
+            // 완료된 chunk는 유지, 남은 행은 다음 달 실행에서 이어서 처리
+            log.error("거래내역 아카이브 중 예외 발생 - 이동 건수: {}, {}", total, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.hanaieum.server.domain.transaction.service;
+
+import com.hanaieum.server.domain.account.entity.Account;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 거래내역 아카이브 기준
+ * - 보관 기간(개월)보다 오래된 달의 거래만 아카이브 (기준: 이번 달 1일 - 보관 기간)
+ * - 기준일시 이후 거래는 항상 transactions에 있으므로, 조회 구간이 기준일시 이전에 닿을 때만 아카이브를 함께 읽음
+ */
+@Component
+public class TransactionArchivePolicy {
+
+    @Value("${transaction.archive.retention-months:12}")
+    private int retentionMonths;
+
+    public boolean isEnabled() {
+        return retentionMonths > 0;
+    }
+
+    // 이 시점 이전 거래만 아카이브 대상
+    public LocalDateTime cutoff() {
+        return LocalDate.now().withDayOfMonth(1).minusMonths(retentionMonths).atStartOfDay();
+    }
+
+    // from 이후 구간 조회가 아카이브에 닿는지 (from이 null이면 계좌 개설 시점부터 전체)
+    public boolean reaches(Account account, LocalDateTime from) {
+        if (!isEnabled()) {
+            return false;
+        }
+        // 계좌 개설 전 거래는 없으므로 개설일시와 from 중 늦은 쪽이 실제 조회 시작점
+        LocalDateTime start = account.getCreatedAt();
+        if (from != null && (start == null || from.isAfter(start))) {
+            start = from;
+        }
+        return start == null || start.isBefore(cutoff());
+    }
+}
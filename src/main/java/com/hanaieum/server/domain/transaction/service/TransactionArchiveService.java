@@ -0,0 +1,9 @@
+package com.hanaieum.server.domain.transaction.service;
+
+import java.time.LocalDateTime;
+
+public interface TransactionArchiveService {
+
+    // before 이전 거래를 오래된 순으로 최대 chunkSize건 아카이브로 이동 (한 트랜잭션), 이동 건수 반환
+    int archiveChunk(LocalDateTime before, int chunkSize);
+}
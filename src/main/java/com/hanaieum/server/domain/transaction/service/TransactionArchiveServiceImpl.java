@@ -0,0 +1,47 @@
+package com.hanaieum.server.domain.transaction.service;
+
+import com.hanaieum.server.domain.transaction.repository.ArchivedTransactionRepository;
+import com.hanaieum.server.domain.transaction.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 거래내역 아카이브
+ * - chunk 단위로 복사(INSERT ... SELECT) 후 삭제를 한 트랜잭션에서 수행 → 중간 실패 시 해당 chunk 전체 롤백
+ * - 오래된 순으로 옮기므로 한 계좌의 아카이브 행은 항상 남아 있는 행보다 앞선 (createdAt, id)를 가짐
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionArchiveServiceImpl implements TransactionArchiveService {
+
+    private final TransactionRepository transactionRepository;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+
+    @Override
+    @Transactional
+    public int archiveChunk(LocalDateTime before, int chunkSize) {
+        List<Long> ids = transactionRepository.findIdsCreatedBefore(before, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int copied = archivedTransactionRepository.copyFromTransactions(ids, LocalDateTime.now());
+        int deleted = transactionRepository.deleteAllByIdIn(ids);
+        if (copied != ids.size() || deleted != ids.size()) {
+            // 복사/삭제 건수가 다르면 롤백하고 다음 실행에서 다시 시도
+            throw new IllegalStateException("거래내역 아카이브 건수 불일치 - 대상: " + ids.size()
+                    + ", 복사: " + copied + ", 삭제: " + deleted);
+        }
+
+        log.info("거래내역 아카이브 chunk 완료 - 기준일시: {}, 건수: {}, ID 범위: {} ~ {}",
+                before, ids.size(), ids.get(0), ids.get(ids.size() - 1));
+        return ids.size();
+    }
+}
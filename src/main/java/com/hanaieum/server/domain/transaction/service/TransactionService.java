@@ -1,28 +1,51 @@
 package com.hanaieum.server.domain.transaction.service;
 
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.transaction.dto.StatementFormat;
+import com.hanaieum.server.domain.transaction.dto.TransactionCursorResponse;
 import com.hanaieum.server.domain.transaction.dto.TransactionResponse;
+import com.hanaieum.server.domain.transaction.dto.TransactionSummaryResponse;
 import com.hanaieum.server.domain.transaction.entity.ReferenceType;
-import com.hanaieum.server.domain.transaction.entity.Transaction;
 import com.hanaieum.server.domain.transaction.entity.TransactionType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 public interface TransactionService {
     
-    void recordTransfer(Account fromAccount, Account toAccount, BigDecimal amount,
+    void recordTransfer(Account fromAccount, Account toAccount, Money amount,
                        ReferenceType referenceType, String description, Long referenceId);
 
+    // 한 계좌에서 여러 계좌로 나눠 이체한 거래 기록 (출금은 합계로 한 번 반영된 상태)
+    void recordTransfers(Account fromAccount, Map<Account, Money> amountsByToAccount,
+                         ReferenceType referenceType, String description);
+
     // 이자 입금을 위한 메소드
-    void recordDeposit(Account toAccount, BigDecimal amount, Long counterpartyAccountId,
+    void recordDeposit(Account toAccount, Money amount, Long counterpartyAccountId,
                       String counterpartyName, ReferenceType referenceType, String description, Long referenceId);
     
     Page<TransactionResponse> getTransactionsByAccountId(Long memberId, Long accountId, Pageable pageable);
 
-    List<Transaction> getTransactionsByTransactionType(Account account, TransactionType transactionType, LocalDate targetDate);
+    // 커서(createdAt, id) 기반 조회 - cursor가 비어 있으면 첫 페이지
+    TransactionCursorResponse getTransactionsByAccountIdAndCursor(Long memberId, Long accountId, String cursor, int size);
+
+    // 거래내역서 다운로드: 소유권/기간 검증은 즉시, 실제 조회/출력은 응답 스트림에 쓰는 시점에 수행
+    StreamingResponseBody exportStatement(Long memberId, Long accountId, LocalDate from, LocalDate to,
+                                          StatementFormat format);
+
+    // 기간 내 거래타입 + 참조타입별 입출금 합계/건수 (DB 집계, 아카이브 포함)
+    TransactionSummaryResponse getTransactionSummary(Long memberId, Long accountId, LocalDate from, LocalDate to);
+
+    // 이자 계산용 거래타입별 조회 (targetDate 이전, 오래된 순, 아카이브 포함)
+    List<TransactionResponse> getTransactionsByTransactionType(Account account, TransactionType transactionType, LocalDate targetDate);
+
+    // 이자 계산용 거래타입별 최근 거래부터 페이지 단위 조회 (targetDate 이전, 최근 순, 아카이브 제외)
+    List<TransactionResponse> getLatestTransactionsByTransactionType(Account account, TransactionType transactionType,
+                                                                     LocalDate targetDate, Pageable pageable);
 
     }
@@ -1,22 +1,42 @@
 package com.hanaieum.server.domain.transaction.service;
 
+import com.hanaieum.server.common.exception.CustomException;
+import com.hanaieum.server.common.exception.ErrorCode;
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.entity.Account;
 import com.hanaieum.server.domain.account.service.AccountService;
+import com.hanaieum.server.domain.transaction.dto.StatementFormat;
+import com.hanaieum.server.domain.transaction.dto.TransactionCategoryRow;
+import com.hanaieum.server.domain.transaction.dto.TransactionCursor;
+import com.hanaieum.server.domain.transaction.dto.TransactionCursorResponse;
 import com.hanaieum.server.domain.transaction.dto.TransactionResponse;
+import com.hanaieum.server.domain.transaction.dto.TransactionSummaryResponse;
 import com.hanaieum.server.domain.transaction.entity.ReferenceType;
 import com.hanaieum.server.domain.transaction.entity.Transaction;
 import com.hanaieum.server.domain.transaction.entity.TransactionType;
+import com.hanaieum.server.domain.transaction.repository.ArchivedTransactionRepository;
 import com.hanaieum.server.domain.transaction.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -24,12 +44,23 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class TransactionServiceImpl implements TransactionService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final long MAX_SUMMARY_DAYS = 366;
+
+    // 요약 분류 순서: 거래타입 → 참조타입 선언 순 (참조타입 없는 거래가 먼저)
+    private static final Comparator<TransactionCategoryRow> CATEGORY_ORDER =
+            Comparator.comparing(TransactionCategoryRow::transactionType)
+                    .thenComparing(TransactionCategoryRow::referenceType, Comparator.nullsFirst(Comparator.naturalOrder()));
+
     private final TransactionRepository transactionRepository;
     private final AccountService accountService;
+    private final TransactionStatementWriter transactionStatementWriter;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final TransactionArchivePolicy transactionArchivePolicy;
 
     @Override
     @Transactional
-    public void recordTransfer(Account fromAccount, Account toAccount, BigDecimal amount,
+    public void recordTransfer(Account fromAccount, Account toAccount, Money amount,
                                ReferenceType referenceType, String description, Long referenceId) {
 
         // 출금 레코드 생성
@@ -52,7 +83,7 @@ public class TransactionServiceImpl implements TransactionService {
                 .account(toAccount)
                 .transactionType(TransactionType.DEPOSIT)
                 .amount(amount)
-                .balanceAfter(toAccount.getBalance()) // credit 이후 값
+                .balanceAfter(depositBalanceAfter(toAccount))
                 .counterpartyAccountId(fromAccount.getId())
                 .counterpartyName(fromAccount.getMember().getName())
                 .description(description)
@@ -68,7 +99,54 @@ public class TransactionServiceImpl implements TransactionService {
 
     @Override
     @Transactional
-    public void recordDeposit(Account toAccount, BigDecimal amount, Long counterpartyAccountId,
+    public void recordTransfers(Account fromAccount, Map<Account, Money> amountsByToAccount,
+                                ReferenceType referenceType, String description) {
+
+        Money totalAmount = amountsByToAccount.values().stream()
+                .reduce(Money.ZERO, Money::plus);
+
+        // 출금은 합계로 한 번 반영됐으므로 건별 출금 후 잔액은 이체 전 잔액에서 누적 차감해 계산
+        Money fromBalance = fromAccount.getBalance().plus(totalAmount);
+        List<Transaction> transactions = new ArrayList<>();
+
+        for (Map.Entry<Account, Money> entry : amountsByToAccount.entrySet()) {
+            Account toAccount = entry.getKey();
+            Money amount = entry.getValue();
+            fromBalance = fromBalance.minus(amount);
+
+            transactions.add(Transaction.builder()
+                    .account(fromAccount)
+                    .transactionType(TransactionType.WITHDRAW)
+                    .amount(amount)
+                    .balanceAfter(fromBalance)
+                    .counterpartyAccountId(toAccount.getId())
+                    .counterpartyName(toAccount.getMember().getName())
+                    .description(description)
+                    .referenceType(referenceType)
+                    .build());
+
+            transactions.add(Transaction.builder()
+                    .account(toAccount)
+                    .transactionType(TransactionType.DEPOSIT)
+                    .amount(amount)
+                    .balanceAfter(depositBalanceAfter(toAccount))
+                    .counterpartyAccountId(fromAccount.getId())
+                    .counterpartyName(fromAccount.getMember().getName())
+                    .description(description)
+                    .referenceType(referenceType)
+                    .build());
+        }
+
+        // 한 번에 저장 → 커밋 시 JDBC 배치 INSERT
+        transactionRepository.saveAll(transactions);
+
+        log.info("일괄 이체 거래 기록 생성 완료 - 출금: {}, 입금 계좌 수: {}, 합계: {}, 참조: {}",
+                fromAccount.getId(), amountsByToAccount.size(), totalAmount, referenceType);
+    }
+
+    @Override
+    @Transactional
+    public void recordDeposit(Account toAccount, Money amount, Long counterpartyAccountId,
                              String counterpartyName, ReferenceType referenceType, String description, Long referenceId) {
 
         // 입금 레코드 생성
@@ -76,7 +154,7 @@ public class TransactionServiceImpl implements TransactionService {
                 .account(toAccount)
                 .transactionType(TransactionType.DEPOSIT)
                 .amount(amount)
-                .balanceAfter(toAccount.getBalance()) // credit 이후 값
+                .balanceAfter(depositBalanceAfter(toAccount))
                 .counterpartyAccountId(counterpartyAccountId)
                 .counterpartyName(counterpartyName)
                 .description(description)
@@ -90,22 +168,222 @@ public class TransactionServiceImpl implements TransactionService {
                 toAccount.getId(), amount, counterpartyName, referenceType);
     }
 
+    /**
+     * 입금 거래의 거래 후 잔액 (credit 이후 값)
+     * 스트라이프 계좌는 다른 스트라이프를 잠그지 않아 정확한 값을 알 수 없으므로 기록하지 않음 (null)
+     */
+    private Money depositBalanceAfter(Account toAccount) {
+        return toAccount.isBalanceStriped() ? null : toAccount.getBalance();
+    }
+
     @Override
     public Page<TransactionResponse> getTransactionsByAccountId(Long memberId, Long accountId, Pageable pageable) {
 
-        // 계좌 소유권 검증
-        accountService.validateAccountOwnership(accountId, memberId);
+        // 계좌 소유권 검증 (조회한 계좌로 아카이브 포함 여부도 판단)
+        Account account = accountService.findOwnedAccount(accountId, memberId);
         
-        Page<Transaction> transactions = transactionRepository.findByAccountIdOrderByCreatedAtDesc(accountId, pageable);
+        // 응답 컬럼만 프로젝션으로 조회 (엔티티 관리/스냅샷 비용 없음)
+        Page<TransactionResponse> transactions = transactionRepository.findResponsesByAccountId(accountId, pageable);
+        if (transactionArchivePolicy.reaches(account, null)) {
+            transactions = appendArchivedPage(accountId, pageable, transactions);
+        }
         
         log.info("거래내역 조회 완료 - 회원 ID: {}, 계좌 ID: {}, 페이지: {}, 사이즈: {}, 총 개수: {}", 
                 memberId, accountId, pageable.getPageNumber(), pageable.getPageSize(), transactions.getTotalElements());
         
-        return transactions.map(TransactionResponse::of);
+        return transactions;
     }
 
     @Override
-    public List<Transaction> getTransactionsByTransactionType(Account account, TransactionType transactionType, LocalDate targetDate) {
-        return transactionRepository.findAllByAccountAndTransactionTypeAndCreatedAtBeforeOrderByCreatedAtAsc(account, transactionType, targetDate.atStartOfDay());
+    public TransactionCursorResponse getTransactionsByAccountIdAndCursor(Long memberId, Long accountId,
+                                                                         String cursor, int size) {
+
+        // 계좌 소유권 검증 (조회한 계좌로 아카이브 포함 여부도 판단)
+        Account account = accountService.findOwnedAccount(accountId, memberId);
+
+        // 한 건 더 조회해 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        TransactionCursor after = cursor == null || cursor.isBlank() ? null : TransactionCursor.decode(cursor);
+        List<TransactionResponse> transactions;
+        if (after == null) {
+            transactions = transactionRepository.findFirstPageByAccountId(accountId, limit);
+        } else {
+            transactions = transactionRepository.findPageByAccountIdBefore(
+                    accountId, after.createdAt(), after.id(), limit);
+        }
+
+        // 최근 거래가 부족하면 이어지는 구간을 아카이브에서 채움 (아카이브 행은 항상 최근 거래보다 앞섬)
+        if (transactions.size() < pageSize + 1
+                && transactionArchivePolicy.reaches(account, null)) {
+            transactions = appendArchivedCursorPage(accountId, after, transactions, pageSize + 1);
+        }
+
+        boolean hasNext = transactions.size() > pageSize;
+        List<TransactionResponse> page = hasNext ? transactions.subList(0, pageSize) : transactions;
+        String nextCursor = hasNext ? TransactionCursor.of(page.get(page.size() - 1)).encode() : null;
+
+        log.info("거래내역 커서 조회 완료 - 회원 ID: {}, 계좌 ID: {}, 사이즈: {}, 조회 개수: {}, 다음 페이지: {}",
+                memberId, accountId, pageSize, page.size(), hasNext);
+
+        return TransactionCursorResponse.of(page, nextCursor);
+    }
+
+    @Override
+    public StreamingResponseBody exportStatement(Long memberId, Long accountId, LocalDate from, LocalDate to,
+                                                 StatementFormat format) {
+
+        // 응답을 쓰기 시작하기 전에 검증해야 오류 응답을 정상적으로 내려줄 수 있음
+        Account account = accountService.findOwnedAccount(accountId, memberId);
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new CustomException(ErrorCode.INVALID_STATEMENT_PERIOD);
+        }
+
+        log.info("거래내역서 다운로드 요청 - 회원 ID: {}, 계좌 ID: {}, 기간: {} ~ {}, 형식: {}",
+                memberId, accountId, from, to, format);
+
+        // to 당일 거래까지 포함
+        LocalDateTime fromDateTime = from.atStartOfDay();
+        LocalDateTime toDateTime = to.plusDays(1).atStartOfDay();
+        boolean includeArchive = transactionArchivePolicy.reaches(account, fromDateTime);
+        return outputStream -> transactionStatementWriter.write(accountId, fromDateTime, toDateTime, format,
+                includeArchive, outputStream);
+    }
+
+    @Override
+    public TransactionSummaryResponse getTransactionSummary(Long memberId, Long accountId, LocalDate from, LocalDate to) {
+
+        // 계좌 소유권 / 기간 검증
+        Account account = accountService.findOwnedAccount(accountId, memberId);
+        if (from == null || to == null || from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_SUMMARY_DAYS) {
+            throw new CustomException(ErrorCode.INVALID_TRANSACTION_SUMMARY_PERIOD);
+        }
+
+        // to 당일 거래까지 포함, 분류별 합계는 DB에서 GROUP BY로 계산 (거래 행을 읽어오지 않음)
+        LocalDateTime fromDateTime = from.atStartOfDay();
+        LocalDateTime toDateTime = to.plusDays(1).atStartOfDay();
+        List<TransactionCategoryRow> rows = new ArrayList<>(
+                transactionRepository.summarizeByCategory(accountId, fromDateTime, toDateTime));
+        if (transactionArchivePolicy.reaches(account, fromDateTime)) {
+            rows.addAll(archivedTransactionRepository.summarizeByCategory(accountId, fromDateTime, toDateTime));
+        }
+
+        // 최근 거래와 아카이브에 같은 분류가 있으면 합산
+        List<TransactionCategoryRow> categories = rows.stream()
+                .collect(Collectors.toMap(row -> Arrays.asList(row.transactionType(), row.referenceType()),
+                        Function.identity(), TransactionCategoryRow::plus))
+                .values().stream()
+                .sorted(CATEGORY_ORDER)
+                .toList();
+
+        long totalDeposit = 0L;
+        long totalWithdraw = 0L;
+        long depositCount = 0L;
+        long withdrawCount = 0L;
+        for (TransactionCategoryRow category : categories) {
+            if (category.transactionType() == TransactionType.DEPOSIT) {
+                totalDeposit = Math.addExact(totalDeposit, category.totalAmount());
+                depositCount += category.transactionCount();
+            } else {
+                totalWithdraw = Math.addExact(totalWithdraw, category.totalAmount());
+                withdrawCount += category.transactionCount();
+            }
+        }
+
+        log.info("거래 요약 조회 완료 - 회원 ID: {}, 계좌 ID: {}, 기간: {} ~ {}, 분류 수: {}",
+                memberId, accountId, from, to, categories.size());
+
+        return TransactionSummaryResponse.builder()
+                .accountId(accountId)
+                .from(from)
+                .to(to)
+                .totalDeposit(BigDecimal.valueOf(totalDeposit))
+                .totalWithdraw(BigDecimal.valueOf(totalWithdraw))
+                .depositCount(depositCount)
+                .withdrawCount(withdrawCount)
+                .categories(categories.stream()
+                        .map(category -> TransactionSummaryResponse.CategorySummary.builder()
+                                .transactionType(category.transactionType())
+                                .referenceType(category.referenceType())
+                                .description(category.referenceType() == null
+                                        ? null : category.referenceType().getDescription())
+                                .totalAmount(BigDecimal.valueOf(category.totalAmount()))
+                                .transactionCount(category.transactionCount())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    @Override
+    public List<TransactionResponse> getLatestTransactionsByTransactionType(Account account,
+                                                                            TransactionType transactionType,
+                                                                            LocalDate targetDate, Pageable pageable) {
+        return transactionRepository.findLatestResponsesByAccountIdAndTypeBefore(
+                account.getId(), transactionType, targetDate.atStartOfDay(), pageable);
+    }
+
+    @Override
+    public List<TransactionResponse> getTransactionsByTransactionType(Account account, TransactionType transactionType, LocalDate targetDate) {
+        LocalDateTime before = targetDate.atStartOfDay();
+        List<TransactionResponse> recent = transactionRepository.findResponsesByAccountIdAndTypeBefore(
+                account.getId(), transactionType, before);
+        if (!transactionArchivePolicy.reaches(account, null)) {
+            return recent;
+        }
+
+        // 오래된 순 정렬이므로 아카이브 → 최근 거래 순으로 이어 붙임
+        List<TransactionResponse> transactions = new ArrayList<>(archivedTransactionRepository
+                .findResponsesByAccountIdAndTypeBefore(account.getId(), transactionType, before));
+        transactions.addAll(recent);
+        return transactions;
+    }
+
+    // 페이지가 최근 거래 끝을 넘어가면 나머지를 아카이브에서 채우고, 전체 개수에 아카이브 건수를 더함
+    private Page<TransactionResponse> appendArchivedPage(Long accountId, Pageable pageable,
+                                                         Page<TransactionResponse> recent) {
+        long archivedCount = archivedTransactionRepository.countByAccountId(accountId);
+        if (archivedCount == 0) {
+            return recent;
+        }
+        long total = recent.getTotalElements() + archivedCount;
+        int size = pageable.getPageSize();
+        int missing = size - recent.getNumberOfElements();
+        if (missing == 0) {
+            return new PageImpl<>(recent.getContent(), pageable, total);
+        }
+
+        // 아카이브 안에서의 시작 위치 (최근 거래 전체 다음부터)
+        long archiveOffset = Math.max(pageable.getOffset() - recent.getTotalElements(), 0);
+        int firstPage = (int) (archiveOffset / size);
+        int skip = (int) (archiveOffset % size);
+
+        // 크기 size로 정렬된 페이지 경계와 어긋나므로 최대 두 페이지를 읽어 잘라냄
+        List<TransactionResponse> archived = new ArrayList<>(archivedTransactionRepository
+                .findFirstPageByAccountId(accountId, PageRequest.of(firstPage, size)));
+        if (skip + missing > size && archived.size() == size) {
+            archived.addAll(archivedTransactionRepository
+                    .findFirstPageByAccountId(accountId, PageRequest.of(firstPage + 1, size)));
+        }
+
+        List<TransactionResponse> content = new ArrayList<>(recent.getContent());
+        content.addAll(archived.subList(Math.min(skip, archived.size()), Math.min(skip + missing, archived.size())));
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    // 커서 조회에서 부족한 행을 아카이브에서 이어서 조회
+    private List<TransactionResponse> appendArchivedCursorPage(Long accountId, TransactionCursor after,
+                                                               List<TransactionResponse> recent, int limit) {
+        // 마지막으로 읽은 최근 거래(없으면 요청 커서) 이후부터
+        TransactionCursor position = recent.isEmpty() ? after : TransactionCursor.of(recent.get(recent.size() - 1));
+        Pageable remaining = PageRequest.of(0, limit - recent.size());
+        List<TransactionResponse> archived = position == null
+                ? archivedTransactionRepository.findFirstPageByAccountId(accountId, remaining)
+                : archivedTransactionRepository.findPageByAccountIdBefore(
+                        accountId, position.createdAt(), position.id(), remaining);
+
+        List<TransactionResponse> transactions = new ArrayList<>(recent);
+        transactions.addAll(archived);
+        return transactions;
     }
 }
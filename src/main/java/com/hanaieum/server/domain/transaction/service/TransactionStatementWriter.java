@@ -0,0 +1,142 @@
+package com.hanaieum.server.domain.transaction.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hanaieum.server.domain.transaction.dto.StatementFormat;
+import com.hanaieum.server.domain.transaction.dto.TransactionResponse;
+import com.hanaieum.server.domain.transaction.repository.ArchivedTransactionRepository;
+import com.hanaieum.server.domain.transaction.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 거래내역서 스트리밍 출력
+ * - 전방향 스트림 쿼리에서 한 행씩 읽어 바로 응답에 기록 (행 수와 무관하게 메모리 일정)
+ * - 스트림이 열려 있는 동안 커넥션을 쓰므로 읽기 전용 트랜잭션 안에서 실행
+ * - 아카이브를 포함하면 아카이브 → 최근 거래 순으로 이어 읽음 (결과 셋은 한 번에 하나만 열림)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionStatementWriter {
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private static final String CSV_HEADER = "거래일시,구분,상대방,적요,금액,거래후잔액";
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    // 스프레드시트가 수식으로 해석하는 첫 글자
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final TransactionRepository transactionRepository;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void write(Long accountId, LocalDateTime from, LocalDateTime to, StatementFormat format,
+                      boolean includeArchive, OutputStream outputStream) throws IOException {
+        long rows;
+        try (Stream<TransactionResponse> transactions = openStream(accountId, from, to, includeArchive)) {
+            rows = switch (format) {
+                case CSV -> writeCsv(transactions, outputStream);
+                case JSON -> writeJson(transactions, outputStream);
+            };
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 다운로드 도중 연결을 끊은 경우 등
+            throw e.getCause();
+        }
+        log.info("거래내역서 출력 완료 - 계좌 ID: {}, 기간: {} ~ {}, 형식: {}, 행 수: {}", accountId, from, to, format, rows);
+    }
+
+    private Stream<TransactionResponse> openStream(Long accountId, LocalDateTime from, LocalDateTime to,
+                                                   boolean includeArchive) {
+        if (!includeArchive) {
+            return transactionRepository.streamStatement(accountId, from, to);
+        }
+        // flatMap은 앞 스트림을 다 읽고 닫은 뒤 다음 쿼리를 실행
+        return Stream.<Supplier<Stream<TransactionResponse>>>of(
+                () -> archivedTransactionRepository.streamStatement(accountId, from, to),
+                () -> transactionRepository.streamStatement(accountId, from, to)
+        ).flatMap(Supplier::get);
+    }
+
+    private long writeCsv(Stream<TransactionResponse> transactions, OutputStream outputStream) throws IOException {
+        // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+        outputStream.write(UTF8_BOM);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+
+        long[] rows = {0};
+        transactions.forEach(transaction -> {
+            try {
+                writer.write(toCsvLine(transaction));
+                writer.write("\r\n");
+                rows[0]++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+        return rows[0];
+    }
+
+    private long writeJson(Stream<TransactionResponse> transactions, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+        // 행마다 flush하지 않고 버퍼가 찰 때만 내보냄
+        ObjectWriter rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        generator.writeStartArray();
+
+        long[] rows = {0};
+        transactions.forEach(transaction -> {
+            try {
+                rowWriter.writeValue(generator, transaction);
+                rows[0]++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.writeEndArray();
+        generator.flush();
+        return rows[0];
+    }
+
+    private String toCsvLine(TransactionResponse transaction) {
+        return String.join(",",
+                transaction.getDate() == null ? "" : transaction.getDate().format(DATE_TIME_FORMAT),
+                transaction.getTransactionType().name(),
+                escapeCsv(transaction.getCounterpartyName()),
+                escapeCsv(transaction.getDescription()),
+                transaction.getAmount().toPlainString(),
+                transaction.getBalanceAfter() == null ? "" : transaction.getBalanceAfter().toPlainString());
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        // 상대방 이름/적요는 사용자가 입력한 값이므로 수식으로 실행되지 않게 앞에 ' 추가 (CSV 인젝션 방지)
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,67 @@
+package com.hanaieum.server.domain.transfer.service;
+
+import com.hanaieum.server.common.exception.CustomException;
+import com.hanaieum.server.common.exception.ErrorCode;
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 이체 한 건에 필요한 계좌 정보
+ * 출금/입금 계좌와 소유 회원을 한 번에 조회해 두고 소유권·잔액 검증을 추가 조회 없이 메모리에서 처리
+ * 잔액 검증은 빠른 실패용이며, 최종 판단은 조건부 UPDATE(debitIfSufficient)가 함
+ */
+@Getter
+@Builder
+public class TransferContext {
+
+    private final Account fromAccount;
+    private final Account toAccount;
+    private final Money amount;
+
+    /**
+     * 회원 주계좌 → 상대 계좌 이체 컨텍스트
+     * accounts는 findMainAccountAndAccountWithMember 결과 (상대 계좌가 주계좌 자신이면 1건)
+     */
+    public static TransferContext fromMainAccount(Long memberId, Long toAccountId, Money amount,
+                                                  List<Account> accounts) {
+        Account fromAccount = accounts.stream()
+                .filter(account -> account.getAccountType() == AccountType.MAIN
+                        && account.getMember().getId().equals(memberId))
+                .findFirst()
+                .orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+        if (fromAccount.getId().equals(toAccountId)) {
+            throw new CustomException(ErrorCode.INVALID_TRANSFER_SAME_ACCOUNT);
+        }
+
+        Account toAccount = accounts.stream()
+                .filter(account -> account.getId().equals(toAccountId))
+                .findFirst()
+                .orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+        return TransferContext.builder()
+                .fromAccount(fromAccount)
+                .toAccount(toAccount)
+                .amount(amount)
+                .build();
+    }
+
+    // 입금 계좌 소유권 검증
+    public void validateToAccountOwner(Long memberId) {
+        if (!toAccount.getMember().getId().equals(memberId)) {
+            throw new CustomException(ErrorCode.ACCOUNT_ACCESS_DENIED);
+        }
+    }
+
+    // 출금 계좌 잔액 사전 검증
+    public void validateSufficientBalance() {
+        if (fromAccount.getBalance().isLessThan(amount)) {
+            throw new CustomException(ErrorCode.INSUFFICIENT_BALANCE);
+        }
+    }
+}
@@ -1,16 +1,25 @@
 package com.hanaieum.server.domain.transfer.service;
 
-import java.math.BigDecimal;
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.entity.Account;
+
+import java.util.Map;
 
 public interface TransferService {
     
-    void fillMoneyBox(Long memberId, Long moneyBoxAccountId, BigDecimal amount, String password);
-    
-    void sponsorBucket(Long sponsorMemberId, Long bucketId, BigDecimal amount, String password);
+    void fillMoneyBox(Long memberId, Long moneyBoxAccountId, Money amount, String password, String pinGrantToken);
+
+    Money fillMoneyBoxes(Long memberId, Map<Long, Money> amountsByMoneyBox, String password,
+                         String pinGrantToken); // 여러 머니박스 일괄 채우기, 이체 후 주계좌 잔액 반환
+
+    void sponsorBucket(Long sponsorMemberId, Long bucketId, Money amount, String password, String pinGrantToken);
+
+    void executeAutoTransfer(Long fromAccountId, Long toAccountId, Money amount, Long scheduleId);
 
-    void executeAutoTransfer(Long fromAccountId, Long toAccountId, BigDecimal amount, Long scheduleId);
+    void executeAutoTransfer(Account fromAccount, Account toAccount, Money amount,
+                             Long scheduleId); // 소유 회원까지 이미 조회한 계좌로 실행 (정규 자동이체 일괄 실행용)
 
-    BigDecimal withdrawAllFromMoneyBox(Long memberId, Long moneyBoxAccountId, Long referenceId);
+    Money withdrawAllFromMoneyBox(Long memberId, Long moneyBoxAccountId, Long referenceId);
 
-    void payInterest(Long memberId, BigDecimal interestAmount, Long bucketListId);
+    void payInterest(Long memberId, Money interestAmount, Long bucketListId);
 }
\ No newline at end of file
@@ -2,10 +2,13 @@ package com.hanaieum.server.domain.transfer.service;
 
 import com.hanaieum.server.common.exception.CustomException;
 import com.hanaieum.server.common.exception.ErrorCode;
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountType;
 import com.hanaieum.server.domain.account.service.AccountService;
 import com.hanaieum.server.domain.bucketList.entity.BucketList;
 import com.hanaieum.server.domain.bucketList.repository.BucketListRepository;
+import com.hanaieum.server.domain.moneyBox.service.MoneyBoxInterestService;
 import com.hanaieum.server.domain.transaction.entity.ReferenceType;
 import com.hanaieum.server.domain.transaction.service.TransactionService;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +16,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -24,52 +31,109 @@ public class TransferServiceImpl implements TransferService {
     private final AccountService accountService;
     private final TransactionService transactionService;
     private final BucketListRepository bucketListRepository;
+    private final MoneyBoxInterestService moneyBoxInterestService;
 
     @Override
-    public void fillMoneyBox(Long memberId, Long moneyBoxAccountId, BigDecimal amount, String password) {
+    public void fillMoneyBox(Long memberId, Long moneyBoxAccountId, Money amount, String password,
+                             String pinGrantToken) {
         log.info("머니박스 채우기 시작 - 회원 ID: {}, 머니박스: {}, 금액: {}", memberId, moneyBoxAccountId, amount);
         
-        // 1. 회원의 주계좌 ID 조회
-        Long fromAccountId = accountService.getMainAccountIdByMemberId(memberId);
+        // 1. 주계좌/머니박스 계좌를 소유 회원까지 한 번에 조회 (동일 계좌 이체 검증 포함)
+        TransferContext context = TransferContext.fromMainAccount(memberId, moneyBoxAccountId, amount,
+                accountService.findMainAccountAndAccountWithMember(memberId, moneyBoxAccountId));
         
-        // 2. 동일한 계좌로 이체하는지 체크
-        if (fromAccountId.equals(moneyBoxAccountId)) {
-            throw new CustomException(ErrorCode.INVALID_TRANSFER_SAME_ACCOUNT);
-        }
+        // 2. 머니박스 계좌 소유권 검증
+        context.validateToAccountOwner(memberId);
         
-        // 3. 머니박스 계좌 소유권 검증
-        accountService.validateAccountOwnership(moneyBoxAccountId, memberId);
+        // 3. 비밀번호 검증 (PIN 인증 토큰이 있으면 BCrypt 생략)
+        accountService.verifyAccountPassword(context.getFromAccount(), password, pinGrantToken);
         
-        // 4. 비밀번호 검증
-        accountService.validateAccountPassword(fromAccountId, password);
-        
-        // 5. 이체 실행
-        executeTransfer(fromAccountId, moneyBoxAccountId, amount, ReferenceType.MONEY_BOX_DEPOSIT, null);
+        // 4. 잔액 사전 검증 후 이체 실행
+        context.validateSufficientBalance();
+        transfer(context, ReferenceType.MONEY_BOX_DEPOSIT, null);
         
         log.info("머니박스 채우기 완료 - 회원 ID: {}, 머니박스: {}, 금액: {}", memberId, moneyBoxAccountId, amount);
     }
 
     @Override
-    public void sponsorBucket(Long sponsorMemberId, Long bucketId, BigDecimal amount, String password) {
+    public Money fillMoneyBoxes(Long memberId, Map<Long, Money> amountsByMoneyBox, String password,
+                                     String pinGrantToken) {
+        log.info("머니박스 일괄 채우기 시작 - 회원 ID: {}, 머니박스 수: {}", memberId, amountsByMoneyBox.size());
+
+        // 1. 주계좌와 모든 머니박스를 소유 회원까지 한 번에 조회
+        Map<Long, Account> accountsById = accountService
+                .findMainAccountAndAccountsWithMember(memberId, amountsByMoneyBox.keySet()).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+
+        Account mainAccount = accountsById.values().stream()
+                .filter(account -> account.getAccountType() == AccountType.MAIN
+                        && account.getMember().getId().equals(memberId))
+                .findFirst()
+                .orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+        if (amountsByMoneyBox.containsKey(mainAccount.getId())) {
+            throw new CustomException(ErrorCode.INVALID_TRANSFER_SAME_ACCOUNT);
+        }
+
+        // 2. 머니박스 존재/소유권 검증 및 합계 계산
+        Map<Account, Money> amountsByAccount = new LinkedHashMap<>();
+        Money totalAmount = Money.ZERO;
+        for (Map.Entry<Long, Money> entry : amountsByMoneyBox.entrySet()) {
+            Account moneyBoxAccount = accountsById.get(entry.getKey());
+            if (moneyBoxAccount == null) {
+                throw new CustomException(ErrorCode.ACCOUNT_NOT_FOUND);
+            }
+            if (!moneyBoxAccount.getMember().getId().equals(memberId)) {
+                throw new CustomException(ErrorCode.ACCOUNT_ACCESS_DENIED);
+            }
+            amountsByAccount.put(moneyBoxAccount, entry.getValue());
+            totalAmount = totalAmount.plus(entry.getValue());
+        }
+
+        // 3. 비밀번호 검증 1회 + 합계 기준 잔액 사전 검증
+        accountService.verifyAccountPassword(mainAccount, password, pinGrantToken);
+        if (mainAccount.getBalance().isLessThan(totalAmount)) {
+            throw new CustomException(ErrorCode.INSUFFICIENT_BALANCE);
+        }
+
+        // 4. 주계좌 출금(합계 1회)과 머니박스 입금을 잠금 순서대로 UPDATE
+        //    (계좌 행 id 오름차순 → 잔액 스트라이프 → 이자 누적값)
+        accountService.applyBalanceChanges(mainAccount, totalAmount, amountsByAccount);
+        amountsByAccount.forEach(moneyBoxInterestService::accumulateDeposit);
+
+        // 5. 거래내역 일괄 기록
+        transactionService.recordTransfers(mainAccount, amountsByAccount,
+                ReferenceType.MONEY_BOX_DEPOSIT, ReferenceType.MONEY_BOX_DEPOSIT.getDescription());
+
+        log.info("머니박스 일괄 채우기 완료 - 회원 ID: {}, 머니박스 수: {}, 합계: {}",
+                memberId, amountsByAccount.size(), totalAmount);
+        return mainAccount.getBalance();
+    }
+
+    @Override
+    public void sponsorBucket(Long sponsorMemberId, Long bucketId, Money amount, String password,
+                              String pinGrantToken) {
         log.info("버킷 후원 시작 - 후원자 ID: {}, 버킷 ID: {}, 금액: {}", sponsorMemberId, bucketId, amount);
         
-        // 1. 후원자의 주계좌 ID 조회
-        Long fromAccountId = accountService.getMainAccountIdByMemberId(sponsorMemberId);
-        
-        // 2. 버킷리스트 ID로 머니박스 계좌 조회
+        // 1. 버킷리스트 ID로 머니박스 계좌 조회
         Long moneyBoxAccountId = getMoneyBoxAccountIdByBucketId(bucketId);
         
-        // 3. 비밀번호 검증
-        accountService.validateAccountPassword(fromAccountId, password);
+        // 2. 후원자 주계좌/머니박스 계좌를 소유 회원까지 한 번에 조회
+        TransferContext context = TransferContext.fromMainAccount(sponsorMemberId, moneyBoxAccountId, amount,
+                accountService.findMainAccountAndAccountWithMember(sponsorMemberId, moneyBoxAccountId));
+        
+        // 3. 비밀번호 검증 (PIN 인증 토큰이 있으면 BCrypt 생략)
+        accountService.verifyAccountPassword(context.getFromAccount(), password, pinGrantToken);
         
-        // 4. 이체 실행
-        executeTransfer(fromAccountId, moneyBoxAccountId, amount, ReferenceType.BUCKET_FUNDING, bucketId);
+        // 4. 잔액 사전 검증 후 이체 실행
+        context.validateSufficientBalance();
+        transfer(context, ReferenceType.BUCKET_FUNDING, bucketId);
         
         log.info("버킷 후원 완료 - 후원자 ID: {}, 버킷 ID: {}, 금액: {}", sponsorMemberId, bucketId, amount);
     }
 
     @Override
-    public void executeAutoTransfer(Long fromAccountId, Long toAccountId, BigDecimal amount, Long scheduleId) {
+    public void executeAutoTransfer(Long fromAccountId, Long toAccountId, Money amount, Long scheduleId) {
         log.info("자동이체 실행 - 출금계좌: {}, 입금계좌: {}, 금액: {}, 스케줄ID: {}", 
                 fromAccountId, toAccountId, amount, scheduleId);
 
@@ -81,55 +145,90 @@ public class TransferServiceImpl implements TransferService {
     }
 
     @Override
-    public BigDecimal withdrawAllFromMoneyBox(Long memberId, Long moneyBoxAccountId, Long referenceId) {
+    public void executeAutoTransfer(Account fromAccount, Account toAccount, Money amount, Long scheduleId) {
+        log.info("자동이체 실행 - 출금계좌: {}, 입금계좌: {}, 금액: {}, 스케줄ID: {}",
+                fromAccount.getId(), toAccount.getId(), amount, scheduleId);
+
+        // 계좌를 다시 조회하지 않으므로 삭제 여부만 확인 (잔액은 조건부 UPDATE 후 다시 읽음)
+        if (fromAccount.isDeleted() || toAccount.isDeleted()) {
+            throw new CustomException(ErrorCode.ACCOUNT_NOT_FOUND);
+        }
+        transfer(fromAccount, toAccount, amount, ReferenceType.AUTO_TRANSFER, scheduleId);
+
+        log.info("자동이체 실행 완료 - 출금계좌: {}, 입금계좌: {}, 금액: {}, 스케줄ID: {}",
+                fromAccount.getId(), toAccount.getId(), amount, scheduleId);
+    }
+
+    @Override
+    public Money withdrawAllFromMoneyBox(Long memberId, Long moneyBoxAccountId, Long referenceId) {
         log.info("머니박스 전액 인출 시작 - 회원 ID: {}, 머니박스: {}", memberId, moneyBoxAccountId);
 
         // 1. 회원의 주계좌 ID 조회
         Long mainAccountId = accountService.getMainAccountIdByMemberId(memberId);
         
-        // 2. 머니박스 계좌 조회 및 잔액 확인
-        Account moneyBoxAccount = accountService.findByIdWithLock(moneyBoxAccountId);
-        BigDecimal balance = moneyBoxAccount.getBalance();
+        // 2. 머니박스/주계좌를 정해진 순서로 함께 잠근 뒤 잔액 확인
+        Map<Long, Account> lockedAccounts = accountService.findAllByIdWithLock(List.of(moneyBoxAccountId, mainAccountId));
+        Account moneyBoxAccount = lockedAccounts.get(moneyBoxAccountId);
+        Account mainAccount = lockedAccounts.get(mainAccountId);
+        accountService.consolidateBalanceStripes(moneyBoxAccount);
+        Money balance = moneyBoxAccount.getBalance();
         
         // 3. 잔액이 0보다 클 때만 이체 실행
-        if (balance.compareTo(BigDecimal.ZERO) > 0) {
-            executeTransfer(moneyBoxAccountId, mainAccountId, balance, ReferenceType.MONEY_BOX_WITHDRAW, referenceId);
+        if (balance.isPositive()) {
+            transfer(moneyBoxAccount, mainAccount, balance, ReferenceType.MONEY_BOX_WITHDRAW, referenceId);
             log.info("머니박스 전액 인출 완료 - 회원 ID: {}, 머니박스: {} → 주계좌: {}, 인출금액: {}", 
                     memberId, moneyBoxAccountId, mainAccountId, balance);
             return balance;
         } else {
             log.info("머니박스 전액 인출 완료 - 회원 ID: {}, 머니박스: {}, 잔액이 0이므로 이체하지 않음", 
                     memberId, moneyBoxAccountId);
-            return BigDecimal.ZERO;
+            return Money.ZERO;
         }
     }
 
-    private void executeTransfer(Long fromAccountId, Long toAccountId, BigDecimal amount, 
+    private void executeTransfer(Long fromAccountId, Long toAccountId, Money amount, 
                                ReferenceType referenceType, Long referenceId) {
-        // 1. 계좌 조회 (락 걸기)
-        Account fromAccount = accountService.findByIdWithLock(fromAccountId);
-        Account toAccount = accountService.findByIdWithLock(toAccountId);
-        
-        // 2. 출금 (잔액 검증도 처리)
-        accountService.debitBalance(fromAccount, amount);
-        
-        // 3. 입금
-        accountService.creditBalance(toAccount, amount);
+        // 두 계좌를 소유 회원까지 한 쿼리로 조회 (락 없이 - 잔액 변경은 조건부 UPDATE 한 문장으로 처리)
+        Map<Long, Account> accounts = accountService.findAllByIdWithMember(List.of(fromAccountId, toAccountId));
+
+        transfer(TransferContext.builder()
+                .fromAccount(accounts.get(fromAccountId))
+                .toAccount(accounts.get(toAccountId))
+                .amount(amount)
+                .build(), referenceType, referenceId);
+    }
+
+    private void transfer(Account fromAccount, Account toAccount, Money amount,
+                          ReferenceType referenceType, Long referenceId) {
+        transfer(TransferContext.builder()
+                .fromAccount(fromAccount)
+                .toAccount(toAccount)
+                .amount(amount)
+                .build(), referenceType, referenceId);
+    }
+
+    private void transfer(TransferContext context, ReferenceType referenceType, Long referenceId) {
+        // 1. 출금 (잔액 검증도 처리) / 입금 - 계좌 행(id 오름차순) → 잔액 스트라이프 순서로 잠금
+        accountService.applyBalanceChanges(context.getFromAccount(), context.getAmount(),
+                Map.of(context.getToAccount(), context.getAmount()));
+
+        // 머니박스 입금이면 이자 누적값 갱신 (계좌 UPDATE 이후라 락 순서 유지)
+        moneyBoxInterestService.accumulateDeposit(context.getToAccount(), context.getAmount());
         
-        // 4. 거래내역 2건 생성
-        transactionService.recordTransfer(fromAccount, toAccount, amount,
+        // 2. 거래내역 2건 생성
+        transactionService.recordTransfer(context.getFromAccount(), context.getToAccount(), context.getAmount(),
                 referenceType, referenceType.getDescription(), referenceId);
     }
 
     @Override
-    public void payInterest(Long memberId, BigDecimal interestAmount, Long bucketListId) {
+    public void payInterest(Long memberId, Money interestAmount, Long bucketListId) {
         log.info("이자 지급 시작 - 회원 ID: {}, 이자: {}, 버킷리스트 ID: {}", memberId, interestAmount, bucketListId);
 
         // 1. 회원의 주계좌 조회
         Long mainAccountId = accountService.getMainAccountIdByMemberId(memberId);
-        Account mainAccount = accountService.findByIdWithLock(mainAccountId);
+        Account mainAccount = accountService.findById(mainAccountId);
 
-        // 2. 실제 주계좌 잔액에 이자 추가
+        // 2. 실제 주계좌 잔액에 이자 추가 (조건부 UPDATE라 별도 락 불필요)
         accountService.creditBalance(mainAccount, interestAmount);
 
         // 3. 이자 거래 기록 생성 (상대방: 하나이음)
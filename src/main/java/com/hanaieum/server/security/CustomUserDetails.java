@@ -3,20 +3,30 @@ package com.hanaieum.server.security;
 import com.hanaieum.server.domain.member.entity.Member;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 @Getter
 @RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
 
     private final Member member;
+    private final boolean admin; // 운영 엔드포인트(/actuator/**) 접근 가능 여부
+
+    public CustomUserDetails(Member member) {
+        this(member, false);
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
+        if (admin) {
+            return List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        }
         return Collections.emptyList();
     }
 
@@ -16,6 +16,10 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
+    private static final String TYPE_CLAIM = "type";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private final SecretKey secretKey;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
@@ -37,6 +41,7 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .subject(memberId.toString()) // subject = memberId (PK)
+                .claim(TYPE_CLAIM, ACCESS_TOKEN_TYPE)
                 .claim("name", name)
                 .claim("phoneNumber", phoneNumber)
                 .issuedAt(now)
@@ -52,6 +57,7 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .subject(memberId.toString())
+                .claim(TYPE_CLAIM, REFRESH_TOKEN_TYPE)
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(secretKey)
@@ -69,14 +75,42 @@ public class JwtTokenProvider {
         return Long.parseLong(claims.getSubject());
     }
 
+    // Access Token 유효성 검증 (Refresh Token, PIN 인증 토큰 등 다른 용도의 토큰은 거부)
+    public boolean validateAccessToken(String token) {
+        Claims claims = parseClaims(token);
+        String type = claims.get(TYPE_CLAIM, String.class);
+        boolean accessToken = type == null ? isLegacyAccessToken(claims) : ACCESS_TOKEN_TYPE.equals(type);
+        if (!accessToken) {
+            throw new CustomException(ErrorCode.JWT_UNSUPPORTED);
+        }
+        return true;
+    }
+
+    // type 클레임 도입 전에 발급된 토큰 - 유효기간이 Access Token 이하인 것만 Access Token으로 인정
+    // (배포 시 로그인 유지, 이전 Refresh Token은 유효기간이 길어 거부, Access Token 유효기간이 지나면 제거)
+    private boolean isLegacyAccessToken(Claims claims) {
+        Date issuedAt = claims.getIssuedAt();
+        Date expiration = claims.getExpiration();
+        if (issuedAt == null || expiration == null) {
+            return false;
+        }
+        // iat/exp는 초 단위로 잘려 저장되므로 1초 여유
+        return expiration.getTime() - issuedAt.getTime() <= accessTokenValidityInMilliseconds + 1000L;
+    }
+
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
+        parseClaims(token);
+        return true;
+    }
+
+    private Claims parseClaims(String token) {
         try {
-            Jwts.parser()
+            return Jwts.parser()
                     .verifyWith(secretKey)
                     .build()
-                    .parseSignedClaims(token);
-            return true;
+                    .parseSignedClaims(token)
+                    .getPayload();
         } catch (WeakKeyException e) {
             throw new CustomException(ErrorCode.JWT_WEAK_KEY, e);
         } catch (MalformedJwtException e) {
@@ -0,0 +1,72 @@
+package com.hanaieum.server.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+
+/**
+ * 계좌 비밀번호(PIN) 인증 토큰
+ * PIN을 한 번 BCrypt로 검증한 뒤 짧은 시간 동안 같은 주계좌 출금에 PIN 대신 제시하는 서명 토큰
+ * Access Token으로 쓰이지 않도록 jwt.secret과 다른 키로 서명
+ */
+@Slf4j
+@Component
+public class PinGrantTokenProvider {
+
+    private static final String TOKEN_TYPE = "pin_grant";
+
+    private final SecretKey secretKey;
+    private final long validityInMilliseconds;
+
+    public PinGrantTokenProvider(
+            @Value("${pin-grant.secret}") String secret,
+            @Value("${pin-grant.expiration:300000}") long validity) {
+
+        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.validityInMilliseconds = validity;
+    }
+
+    // PIN 인증 토큰 발급 (회원 + 주계좌 범위)
+    public String generateToken(Long memberId, Long accountId) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + validityInMilliseconds);
+
+        return Jwts.builder()
+                .subject(memberId.toString())
+                .claim("type", TOKEN_TYPE)
+                .claim("accountId", accountId)
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(secretKey)
+                .compact();
+    }
+
+    // 토큰이 해당 회원/계좌에 대해 유효한지 확인 (만료·위조·범위 불일치는 false)
+    public boolean isValid(String token, Long memberId, Long accountId) {
+        try {
+            Claims claims = Jwts.parser()
+                    .verifyWith(secretKey)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+
+            return TOKEN_TYPE.equals(claims.get("type", String.class))
+                    && memberId.toString().equals(claims.getSubject())
+                    && accountId.equals(claims.get("accountId", Long.class));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("PIN 인증 토큰 검증 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public long getValidityInSeconds() {
+        return validityInMilliseconds / 1000;
+    }
+}
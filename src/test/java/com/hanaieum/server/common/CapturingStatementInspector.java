@@ -0,0 +1,32 @@
+package com.hanaieum.server.common;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate가 준비한 SQL을 원문 그대로 기록하는 테스트용 StatementInspector
+ * (실행 계획 확인용으로 SELECT 문만 보관)
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> selects = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        if (sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+            selects.add(sql);
+        }
+        return sql;
+    }
+
+    public static void reset() {
+        selects.clear();
+    }
+
+    public static List<String> selects() {
+        return List.copyOf(selects);
+    }
+}
@@ -0,0 +1,350 @@
+package com.hanaieum.server.common;
+
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountType;
+import com.hanaieum.server.domain.account.repository.AccountRepository;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferHistory;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferSchedule;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferStatus;
+import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferHistoryRepository;
+import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferScheduleRepository;
+import com.hanaieum.server.domain.bucketList.entity.BucketList;
+import com.hanaieum.server.domain.bucketList.entity.BucketListStatus;
+import com.hanaieum.server.domain.bucketList.entity.BucketListType;
+import com.hanaieum.server.domain.bucketList.repository.BucketListRepository;
+import com.hanaieum.server.domain.member.entity.Gender;
+import com.hanaieum.server.domain.member.entity.Member;
+import com.hanaieum.server.domain.member.repository.MemberRepository;
+import com.hanaieum.server.domain.transaction.entity.ReferenceType;
+import com.hanaieum.server.domain.transaction.entity.Transaction;
+import com.hanaieum.server.domain.transaction.entity.TransactionType;
+import com.hanaieum.server.domain.transaction.repository.ArchivedTransactionRepository;
+import com.hanaieum.server.domain.transaction.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
+
+/**
+ * 주요 조회 쿼리 실행 계획 회귀 테스트
+ * - 리포지토리 메서드를 실제로 호출해 Hibernate가 만든 SQL을 잡고, 같은 파라미터로 EXPLAIN 실행
+ * - H2 실행 계획에 tableScan이 나오면 (인덱스 누락/쿼리 변경으로 풀 스캔) 실패
+ * - 파라미터는 SQL에 나타나는 순서대로 전달 (같은 이름 파라미터가 두 번 쓰이면 두 번)
+ */
+@Slf4j
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.hanaieum.server.common.CapturingStatementInspector")
+@AutoConfigureTestDatabase(replace = NONE)
+@DisplayName("주요 조회 쿼리 실행 계획 테스트")
+class RepositoryQueryPlanTest {
+
+    private static final String TABLE_SCAN = "tableScan";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ArchivedTransactionRepository archivedTransactionRepository;
+
+    @Autowired
+    private AutoTransferScheduleRepository autoTransferScheduleRepository;
+
+    @Autowired
+    private AutoTransferHistoryRepository autoTransferHistoryRepository;
+
+    @Autowired
+    private BucketListRepository bucketListRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member member;
+    private Account mainAccount;
+    private Account moneyBoxAccount;
+    private AutoTransferSchedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        member = createAndSaveMember();
+        mainAccount = createAndSaveAccount("77000000000001", AccountType.MAIN);
+        moneyBoxAccount = createAndSaveAccount("77000000000002", AccountType.MONEY_BOX);
+        schedule = createAndSaveSchedule();
+        for (int i = 0; i < 30; i++) {
+            createAndSaveTransaction(i % 2 == 0 ? TransactionType.DEPOSIT : TransactionType.WITHDRAW);
+        }
+        for (int i = 0; i < 10; i++) {
+            createAndSaveHistory(i % 3 == 0 ? AutoTransferStatus.FAILED : AutoTransferStatus.SUCCESS, i % 2);
+        }
+        createAndSaveBucketList(BucketListStatus.IN_PROGRESS);
+        createAndSaveBucketList(BucketListStatus.COMPLETED);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("거래내역 페이지 조회 - (account_id, created_at) 인덱스 사용")
+    void transactionPage_UsesIndex() {
+        String plan = explain(() -> transactionRepository.findResponsesByAccountId(
+                        mainAccount.getId(), PageRequest.of(0, 20)),
+                mainAccount.getId(), 20);
+
+        assertThat(plan).doesNotContain(TABLE_SCAN).contains("IDX_TRANSACTIONS_ACCOUNT_CREATED");
+    }
+
+    @Test
+    @DisplayName("거래내역 커서 조회 - 첫 페이지/다음 페이지 모두 인덱스 사용")
+    void transactionCursor_UsesIndex() {
+        LocalDateTime cursorCreatedAt = LocalDateTime.now();
+
+        String firstPagePlan = explain(() -> transactionRepository.findFirstPageByAccountId(
+                        mainAccount.getId(), PageRequest.of(0, 21)),
+                mainAccount.getId(), 21);
+        String nextPagePlan = explain(() -> transactionRepository.findPageByAccountIdBefore(
+                        mainAccount.getId(), cursorCreatedAt, 100L, PageRequest.of(0, 21)),
+                mainAccount.getId(), cursorCreatedAt, cursorCreatedAt, 100L, 21);
+
+        assertThat(firstPagePlan).doesNotContain(TABLE_SCAN);
+        assertThat(nextPagePlan).doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("거래타입별 거래내역 조회 - (account_id, transaction_type, created_at) 인덱스 사용")
+    void transactionsByType_UsesIndex() {
+        LocalDateTime before = LocalDateTime.now().plusDays(1);
+
+        String plan = explain(() -> transactionRepository
+                        .findResponsesByAccountIdAndTypeBefore(mainAccount.getId(), TransactionType.DEPOSIT, before),
+                mainAccount.getId(), TransactionType.DEPOSIT.name(), before);
+
+        assertThat(plan).doesNotContain(TABLE_SCAN).contains("IDX_TRANSACTIONS_ACCOUNT_TYPE_CREATED");
+    }
+
+    @Test
+    @DisplayName("거래내역서 기간 스트림 조회 - (account_id, created_at) 인덱스 사용")
+    void transactionStatement_UsesIndex() {
+        LocalDateTime from = LocalDateTime.now().minusMonths(1);
+        LocalDateTime to = LocalDateTime.now().plusDays(1);
+
+        String plan = explain(() -> transactionRepository.streamStatement(mainAccount.getId(), from, to).close(),
+                mainAccount.getId(), from, to);
+
+        assertThat(plan).doesNotContain(TABLE_SCAN).contains("IDX_TRANSACTIONS_ACCOUNT_CREATED");
+    }
+
+    @Test
+    @DisplayName("기간 거래 유형별 요약 - (account_id, created_at) 인덱스 범위 조회 후 집계")
+    void transactionCategorySummary_UsesIndex() {
+        LocalDateTime from = LocalDateTime.now().minusMonths(1);
+        LocalDateTime to = LocalDateTime.now().plusDays(1);
+
+        String plan = explain(() -> transactionRepository.summarizeByCategory(mainAccount.getId(), from, to),
+                mainAccount.getId(), from, to);
+
+        assertThat(plan).doesNotContain(TABLE_SCAN).contains("IDX_TRANSACTIONS_ACCOUNT_CREATED");
+    }
+
+    @Test
+    @DisplayName("아카이브 대상 ID 조회 - created_at 인덱스 사용")
+    void archiveCandidates_UsesIndex() {
+        LocalDateTime before = LocalDateTime.now().plusDays(1);
+
+        String plan = explain(() -> transactionRepository.findIdsCreatedBefore(before, PageRequest.of(0, 100)),
+                before, 100);
+
+        assertThat(plan).doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("아카이브 거래내역 커서 조회 - 아카이브 (account_id, created_at) 인덱스 사용")
+    void archivedTransactionCursor_UsesIndex() {
+        LocalDateTime cursorCreatedAt = LocalDateTime.now();
+
+        String plan = explain(() -> archivedTransactionRepository.findPageByAccountIdBefore(
+                        mainAccount.getId(), cursorCreatedAt, 100L, PageRequest.of(0, 21)),
+                mainAccount.getId(), cursorCreatedAt, cursorCreatedAt, 100L, 21);
+
+        assertThat(plan).doesNotContain(TABLE_SCAN).contains("IDX_TRANSACTIONS_ARCHIVE_ACCOUNT_CREATED");
+    }
+
+    @Test
+    @DisplayName("정규 자동이체 실행 대상 chunk 조회 - 스케줄/당일 이력(NOT EXISTS) 모두 풀 스캔 없음")
+    void dueSchedules_UsesIndex() {
+        LocalDate today = LocalDate.now();
+
+        String plan = explain(() -> autoTransferScheduleRepository.findDueSchedulesWithAccounts(
+                        today, 15, 1, 0, 0L, PageRequest.of(0, 100)),
+                15, today, today, 1, 0, 0L, today, 100);
+
+        // 연관 계좌/회원은 PK 조인, 당일 이력 존재 확인은 (schedule_id, execution_date) 유니크 키 조회
+        assertThat(plan).doesNotContain("AUTO_TRANSFER_SCHEDULES." + TABLE_SCAN)
+                .doesNotContain("AUTO_TRANSFER_HISTORIES." + TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("계좌쌍 활성 스케줄 조회 - 풀 스캔 없음")
+    void activeSchedule_UsesIndex() {
+        LocalDate today = LocalDate.now();
+
+        String plan = explain(() -> autoTransferScheduleRepository.findActiveSchedule(
+                        mainAccount, moneyBoxAccount, today),
+                mainAccount.getId(), moneyBoxAccount.getId(), today, today);
+
+        assertThat(plan).doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("재시도 대상 실패 이력 조회 - 재시도 인덱스 사용")
+    void failedTransfersForRetry_UsesIndex() {
+        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
+        LocalDateTime endOfDay = startOfDay.plusDays(1);
+
+        String plan = explain(() -> autoTransferHistoryRepository.findFailedTransfersForRetry(
+                        startOfDay, endOfDay, 0),
+                startOfDay, endOfDay, 0);
+
+        assertThat(plan).doesNotContain(TABLE_SCAN).contains("IDX_HISTORIES_RETRY");
+    }
+
+    @Test
+    @DisplayName("회원별 상태별 버킷리스트 조회 - 회원/상태 인덱스 사용")
+    void bucketListsByMemberAndStatus_UsesIndex() {
+        String derivedPlan = explain(() -> bucketListRepository.findByMemberAndStatusAndDeletedOrderByCreatedAtDesc(
+                        member, BucketListStatus.IN_PROGRESS, false),
+                member.getId(), BucketListStatus.IN_PROGRESS.name(), false);
+        String inProgressPlan = explain(() -> bucketListRepository.findByGroupMemberIdAndInProgress(member.getId()),
+                member.getId());
+
+        assertThat(derivedPlan).doesNotContain(TABLE_SCAN).contains("IDX_BUCKET_LISTS_MEMBER_STATUS");
+        assertThat(inProgressPlan).doesNotContain(TABLE_SCAN);
+    }
+
+    /**
+     * 쿼리를 실행해 Hibernate가 만든 첫 SELECT를 잡고, 같은 파라미터로 EXPLAIN 결과를 반환
+     */
+    private String explain(Runnable query, Object... parameters) {
+        CapturingStatementInspector.reset();
+        query.run();
+        List<String> selects = CapturingStatementInspector.selects();
+        assertThat(selects).as("실행된 SELECT 문").isNotEmpty();
+        String sql = selects.get(0);
+
+        String plan = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                List<String> lines = new ArrayList<>();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        lines.add(resultSet.getString(1));
+                    }
+                }
+                return String.join("\n", lines);
+            }
+        });
+        log.debug("EXPLAIN {}\n{}", sql, plan);
+        return plan;
+    }
+
+    // Helper methods
+    private Member createAndSaveMember() {
+        return memberRepository.save(Member.builder()
+                .phoneNumber("01077000000")
+                .password("encryptedPassword")
+                .name("계획")
+                .gender(Gender.M)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .monthlyLivingCost(2000000)
+                .mainAccountLinked(true)
+                .hideGroupPrompt(false)
+                .build());
+    }
+
+    private Account createAndSaveAccount(String accountNumber, AccountType accountType) {
+        return accountRepository.save(Account.builder()
+                .member(member)
+                .number(accountNumber)
+                .accountType(accountType)
+                .name("테스트 계좌")
+                .bankName("하나은행")
+                .balance(Money.of(1000000))
+                .password("encryptedPassword")
+                .deleted(false)
+                .build());
+    }
+
+    private AutoTransferSchedule createAndSaveSchedule() {
+        return autoTransferScheduleRepository.save(AutoTransferSchedule.builder()
+                .fromAccount(mainAccount)
+                .toAccount(moneyBoxAccount)
+                .amount(Money.of(100000))
+                .transferDay(15)
+                .validFrom(LocalDate.now().minusMonths(1))
+                .active(true)
+                .deleted(false)
+                .build());
+    }
+
+    private void createAndSaveTransaction(TransactionType transactionType) {
+        transactionRepository.save(Transaction.builder()
+                .account(mainAccount)
+                .transactionType(transactionType)
+                .amount(Money.of(1000))
+                .balanceAfter(Money.of(1000000))
+                .counterpartyAccountId(moneyBoxAccount.getId())
+                .counterpartyName("계획")
+                .description("실행 계획 테스트")
+                .referenceType(ReferenceType.MANUAL)
+                .build());
+    }
+
+    private void createAndSaveHistory(AutoTransferStatus status, int retryCount) {
+        autoTransferHistoryRepository.save(AutoTransferHistory.builder()
+                .schedule(schedule)
+                .fromAccount(mainAccount)
+                .toAccount(moneyBoxAccount)
+                .amount(Money.of(100000))
+                .executedAt(LocalDateTime.now())
+                .status(status)
+                .retryCount(retryCount)
+                .build());
+    }
+
+    private void createAndSaveBucketList(BucketListStatus status) {
+        bucketListRepository.save(BucketList.builder()
+                .member(member)
+                .type(BucketListType.TRIP)
+                .title("실행 계획 테스트 버킷")
+                .targetAmount(new BigDecimal("1000000"))
+                .targetMonth(12)
+                .targetDate(LocalDate.now().plusMonths(12))
+                .publicFlag(true)
+                .shareFlag(false)
+                .status(status)
+                .build());
+    }
+}
@@ -0,0 +1,88 @@
+package com.hanaieum.server.common;
+
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountType;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferSchedule;
+import com.hanaieum.server.domain.bucketList.entity.BucketList;
+import com.hanaieum.server.domain.bucketList.entity.BucketListStatus;
+import com.hanaieum.server.domain.bucketList.entity.BucketListType;
+import com.hanaieum.server.domain.member.entity.Gender;
+import com.hanaieum.server.domain.member.entity.Member;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 통합/부하 테스트 공용 엔티티 픽스처
+ * - 저장하지 않은 엔티티만 만들어 반환 (저장은 각 테스트의 리포지토리로)
+ * - 스프링 빈에 의존하지 않아 여러 컨텍스트를 띄우는 테스트에서도 사용
+ */
+public final class TestFixtures {
+
+    public static final String ENCODED_PASSWORD = "encoded_password";
+
+    private TestFixtures() {
+    }
+
+    public static Member member(String phoneNumber, String name) {
+        return Member.builder()
+                .phoneNumber(phoneNumber)
+                .name(name)
+                .password(ENCODED_PASSWORD)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .gender(Gender.M)
+                .monthlyLivingCost(1000000)
+                .mainAccountLinked(true)
+                .hideGroupPrompt(false)
+                .build();
+    }
+
+    public static Account account(Member member, String number, AccountType accountType, Money balance) {
+        return account(member, number, accountType, balance, ENCODED_PASSWORD);
+    }
+
+    // 계좌 비밀번호 검증까지 타는 테스트는 실제로 인코딩한 비밀번호를 넘김
+    public static Account account(Member member, String number, AccountType accountType, Money balance,
+                                  String encodedPassword) {
+        return Account.builder()
+                .member(member)
+                .number(number)
+                .name(accountType == AccountType.MAIN ? "주거래하나 통장" : "머니박스")
+                .bankName("하나은행")
+                .password(encodedPassword)
+                .balance(balance)
+                .accountType(accountType)
+                .deleted(false)
+                .build();
+    }
+
+    public static BucketList bucketList(Member owner, Account moneyBoxAccount, String title, BigDecimal targetAmount) {
+        return BucketList.builder()
+                .member(owner)
+                .type(BucketListType.TRIP)
+                .title(title)
+                .targetAmount(targetAmount)
+                .targetMonth(12)
+                .targetDate(LocalDate.now().plusMonths(12))
+                .publicFlag(true)
+                .shareFlag(false)
+                .status(BucketListStatus.IN_PROGRESS)
+                .moneyBoxAccount(moneyBoxAccount)
+                .build();
+    }
+
+    // targetDate에 실행 대상이 되는 활성 자동이체 스케줄
+    public static AutoTransferSchedule dueSchedule(Account fromAccount, Account toAccount, Money amount,
+                                                   LocalDate targetDate) {
+        return AutoTransferSchedule.builder()
+                .fromAccount(fromAccount)
+                .toAccount(toAccount)
+                .amount(amount)
+                .transferDay(targetDate.getDayOfMonth())
+                .validFrom(targetDate.minusMonths(1))
+                .active(true)
+                .deleted(false)
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.hanaieum.server.common.config;
+
+import com.hanaieum.server.domain.member.entity.Gender;
+import com.hanaieum.server.domain.member.entity.Member;
+import com.hanaieum.server.domain.member.repository.MemberRepository;
+import com.hanaieum.server.security.JwtAuthenticationFilter;
+import com.hanaieum.server.security.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("보안 설정 테스트")
+class SecurityConfigTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    private MockMvc mockMvc;
+    private Member testMember;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .build();
+
+        testMember = memberRepository.save(Member.builder()
+                .name("테스트 사용자")
+                .phoneNumber("010" + String.format("%08d", System.currentTimeMillis() % 100000000))
+                .password("encodedPassword")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .gender(Gender.M)
+                .monthlyLivingCost(1000000)
+                .build());
+        accessToken = jwtTokenProvider.generateAccessToken(
+                testMember.getId(), testMember.getName(), testMember.getPhoneNumber());
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "adminMemberIds", Set.of());
+    }
+
+    @Test
+    @DisplayName("일반 회원 토큰으로 운영 엔드포인트에 접근하면 403을 반환한다")
+    void actuator_MemberToken_Forbidden() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/actuator/autotransferruns")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("관리자로 지정된 회원은 운영 엔드포인트에 접근할 수 있다")
+    void actuator_AdminToken_Allowed() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "adminMemberIds", Set.of(testMember.getId()));
+
+        // When
+        int status = mockMvc.perform(get("/actuator/autotransferruns")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andReturn().getResponse().getStatus();
+
+        // Then - 실행 장부가 없으면 404, 권한 거부(401/403)만 아니면 됨
+        assertThat(status).isNotIn(401, 403);
+    }
+
+    @Test
+    @DisplayName("PasswordEncoder 메트릭은 관리자만 조회할 수 있다")
+    void metrics_PasswordEncoder_AdminOnly() throws Exception {
+        // When & Then - 일반 회원은 거부
+        mockMvc.perform(get("/actuator/metrics/security.password.encoder")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+
+        // Given
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "adminMemberIds", Set.of(testMember.getId()));
+
+        // When
+        int status = mockMvc.perform(get("/actuator/metrics/security.password.encoder")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andReturn().getResponse().getStatus();
+
+        // Then - 아직 호출 기록이 없으면 404, 권한 거부(401/403)만 아니면 됨
+        assertThat(status).isNotIn(401, 403);
+    }
+
+    @Test
+    @DisplayName("일반 회원도 health 엔드포인트는 조회할 수 있다")
+    void health_MemberToken_Allowed() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/actuator/health")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,146 @@
+package com.hanaieum.server.common.money;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 원장 연산(잔액 확인 → 출금/입금 → 목표금액 한도 내 가중합 누적): BigDecimal vs Money 비교
+ * - 1회 = 거래 1,000건 처리, 현재 스레드 힙 할당량(byte)과 지연시간(p50/p99), 초당 처리 건수 측정
+ * - BigDecimal 쪽은 DECIMAL(15,2) 컬럼에서 읽은 값처럼 스케일 2로 시작 (./gradlew loadTest 로 실행)
+ * - 결과는 build/reports/load/money-arithmetic.json
+ */
+@Slf4j
+@Tag("load")
+@DisplayName("Money 연산 벤치마크")
+class MoneyArithmeticBenchmarkTest {
+
+    private static final int TRANSFERS_PER_CALL = 1_000;
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 5_000;
+    private static final long INITIAL_BALANCE = 70_000_000L;
+    private static final long TARGET_AMOUNT = 5_000_000L;
+    private static final long BASE_EPOCH_DAY = 20_000L;
+    private static final Path SUMMARY_PATH = Path.of("build", "reports", "load", "money-arithmetic.json");
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final long[] amounts = new long[TRANSFERS_PER_CALL];
+    private final BigDecimal[] decimalAmounts = new BigDecimal[TRANSFERS_PER_CALL];
+    private final Money[] moneyAmounts = new Money[TRANSFERS_PER_CALL];
+
+    @Test
+    @DisplayName("거래 1,000건 - Money가 BigDecimal보다 할당량이 적고 결과는 같다")
+    void moneyAllocatesLessThanBigDecimal() throws Exception {
+        // Given
+        for (int i = 0; i < TRANSFERS_PER_CALL; i++) {
+            amounts[i] = 1_000L * (i % 10 + 1);
+            decimalAmounts[i] = BigDecimal.valueOf(amounts[i]).setScale(2);
+            moneyAmounts[i] = Money.of(amounts[i]);
+        }
+        assertThat(moneyLedger()).isEqualTo(decimalLedger());
+
+        // When (번갈아 워밍업 후 각각 측정)
+        run(this::decimalLedger, WARMUP_ITERATIONS);
+        run(this::moneyLedger, WARMUP_ITERATIONS);
+        Map<String, Object> decimal = run(this::decimalLedger, MEASURED_ITERATIONS);
+        Map<String, Object> money = run(this::moneyLedger, MEASURED_ITERATIONS);
+
+        // Then
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("transfersPerCall", TRANSFERS_PER_CALL);
+        summary.put("iterations", MEASURED_ITERATIONS);
+        summary.put("bigDecimal", decimal);
+        summary.put("money", money);
+        String json = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsString(summary);
+        Files.createDirectories(SUMMARY_PATH.getParent());
+        Files.writeString(SUMMARY_PATH, json);
+        log.warn("Money 연산 벤치마크 결과 ({}):\n{}", SUMMARY_PATH.toAbsolutePath(), json);
+
+        assertThat((long) money.get("allocatedBytesPerCall"))
+                .isLessThan((long) decimal.get("allocatedBytesPerCall"));
+    }
+
+    private Map<String, Object> run(LongSupplier ledger, int iterations) {
+        long[] latencies = new long[iterations];
+        long checksum = 0;
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            long startedAt = System.nanoTime();
+            checksum += ledger.getAsLong();
+            latencies[i] = System.nanoTime() - startedAt;
+        }
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        assertThat(checksum).isNotZero();
+
+        Arrays.sort(latencies);
+        long totalNanos = Arrays.stream(latencies).sum();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("allocatedBytesPerCall", allocated / iterations);
+        result.put("p50Us", latencies[(int) Math.ceil(iterations * 0.50) - 1] / 1_000.0);
+        result.put("p99Us", latencies[(int) Math.ceil(iterations * 0.99) - 1] / 1_000.0);
+        result.put("transfersPerSecond", (long) (TRANSFERS_PER_CALL * (double) iterations / totalNanos * 1_000_000_000L));
+        return result;
+    }
+
+    // 변경 전 경로: 잔액/입금 누적/가중합 모두 BigDecimal
+    private long decimalLedger() {
+        BigDecimal main = BigDecimal.valueOf(INITIAL_BALANCE).setScale(2);
+        BigDecimal moneyBox = BigDecimal.ZERO.setScale(2);
+        BigDecimal limit = BigDecimal.valueOf(TARGET_AMOUNT);
+        BigDecimal depositSum = BigDecimal.ZERO;
+        BigDecimal dayWeightedSum = BigDecimal.ZERO;
+        for (int i = 0; i < TRANSFERS_PER_CALL; i++) {
+            BigDecimal amount = decimalAmounts[i];
+            if (main.compareTo(amount) < 0) {
+                continue;
+            }
+            main = main.subtract(amount);
+            moneyBox = moneyBox.add(amount);
+            BigDecimal counted = amount.min(limit.subtract(depositSum));
+            if (counted.signum() > 0) {
+                depositSum = depositSum.add(counted);
+                dayWeightedSum = dayWeightedSum.add(counted.multiply(BigDecimal.valueOf(BASE_EPOCH_DAY + i)));
+            }
+        }
+        return main.longValueExact() + moneyBox.longValueExact() + dayWeightedSum.longValueExact();
+    }
+
+    // 변경 후 경로: Money + long 가중합
+    private long moneyLedger() {
+        Money main = Money.of(INITIAL_BALANCE);
+        Money moneyBox = Money.ZERO;
+        Money limit = Money.of(TARGET_AMOUNT);
+        Money depositSum = Money.ZERO;
+        long dayWeightedSum = 0L;
+        for (int i = 0; i < TRANSFERS_PER_CALL; i++) {
+            Money amount = moneyAmounts[i];
+            if (main.isLessThan(amount)) {
+                continue;
+            }
+            main = main.minus(amount);
+            moneyBox = moneyBox.plus(amount);
+            Money counted = amount.min(limit.minus(depositSum));
+            if (counted.isPositive()) {
+                depositSum = depositSum.plus(counted);
+                dayWeightedSum = Math.addExact(dayWeightedSum, counted.times(BASE_EPOCH_DAY + i).toLong());
+            }
+        }
+        return main.toLong() + moneyBox.toLong() + dayWeightedSum;
+    }
+}
@@ -0,0 +1,78 @@
+package com.hanaieum.server.common.money;
+
+import com.hanaieum.server.common.exception.CustomException;
+import com.hanaieum.server.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Money 테스트")
+class MoneyTest {
+
+    @Test
+    @DisplayName("덧셈/뺄셈/곱셈/최솟값")
+    void arithmetic() {
+        // Given
+        Money balance = Money.of(10_000);
+
+        // When & Then
+        assertThat(balance.plus(Money.of(5_000))).isEqualTo(Money.of(15_000));
+        assertThat(balance.minus(Money.of(12_000))).isEqualTo(Money.of(-2_000));
+        assertThat(balance.times(3)).isEqualTo(Money.of(30_000));
+        assertThat(balance.min(Money.of(3_000))).isEqualTo(Money.of(3_000));
+        assertThat(balance.minus(balance)).isSameAs(Money.ZERO);
+        assertThat(Money.of(3_000).isLessThan(balance)).isTrue();
+        assertThat(balance.isPositive()).isTrue();
+        assertThat(Money.ZERO.isZero()).isTrue();
+    }
+
+    @Test
+    @DisplayName("오버플로 시 ArithmeticException")
+    void overflow() {
+        // Given
+        Money max = Money.of(Long.MAX_VALUE);
+
+        // When & Then
+        assertThatThrownBy(() -> max.plus(Money.of(1))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(Long.MIN_VALUE).minus(Money.of(1))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> max.times(2)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("BigDecimal 변환 - 스케일과 무관하게 같은 금액은 같음")
+    void ofBigDecimal() {
+        // When & Then
+        assertThat(Money.of(new BigDecimal("1000.00"))).isEqualTo(Money.of(1_000));
+        assertThat(Money.of(new BigDecimal("1000.00")).hashCode()).isEqualTo(Money.of(1_000).hashCode());
+        assertThat(Money.of(1_000).toBigDecimal()).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    @DisplayName("BigDecimal 변환 실패 - 원 단위 미만 또는 long 범위 초과")
+    void ofBigDecimal_Fail_InvalidAmount() {
+        // When & Then
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1000.5")))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_AMOUNT);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1e20")))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_AMOUNT);
+    }
+
+    @Test
+    @DisplayName("DB 컬럼 변환 - null은 null로")
+    void converter() {
+        // Given
+        MoneyConverter converter = new MoneyConverter();
+
+        // When & Then
+        assertThat(converter.convertToDatabaseColumn(Money.of(70_000_000))).isEqualTo(70_000_000L);
+        assertThat(converter.convertToEntityAttribute(70_000_000L)).isEqualTo(Money.of(70_000_000));
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
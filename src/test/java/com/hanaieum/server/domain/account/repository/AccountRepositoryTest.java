@@ -1,5 +1,6 @@
 package com.hanaieum.server.domain.account.repository;
 
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.entity.Account;
 import com.hanaieum.server.domain.account.entity.AccountType;
 import com.hanaieum.server.domain.member.entity.Gender;
@@ -11,7 +12,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -222,6 +222,87 @@ class AccountRepositoryTest {
     }
     
 
+    @Test
+    @DisplayName("여러 계좌 잠금 조회 - 요청 순서와 무관하게 id 오름차순, 삭제된 계좌 제외")
+    void findAllByIdInAndDeletedFalseWithLock() {
+        // Given
+        Member member = createAndSaveMember();
+        Account mainAccount = createAndSaveAccount(member, "12345678901234", AccountType.MAIN);
+        Account moneyBox = createAndSaveMoneyBox(member, "11111111111", "여행 머니박스");
+        Account deletedMoneyBox = createAndSaveMoneyBox(member, "22222222222", "삭제된 머니박스");
+        deletedMoneyBox.setDeleted(true);
+        accountRepository.save(deletedMoneyBox);
+
+        // When
+        List<Account> locked = accountRepository.findAllByIdInAndDeletedFalseWithLock(
+                List.of(deletedMoneyBox.getId(), moneyBox.getId(), mainAccount.getId()));
+
+        // Then
+        assertThat(locked).extracting(Account::getId)
+                .containsExactly(mainAccount.getId(), moneyBox.getId());
+    }
+
+    @Test
+    @DisplayName("조건부 출금 - 잔액이 충분할 때만 한 문장으로 차감")
+    void debitIfSufficient() {
+        // Given
+        Member member = createAndSaveMember();
+        Account account = createAndSaveAccount(member, "12345678901234", AccountType.MAIN); // 잔액 7천만원
+
+        // When
+        int insufficient = accountRepository.debitIfSufficient(account.getId(), 80000000L);
+        int debited = accountRepository.debitIfSufficient(account.getId(), 30000000L);
+
+        // Then
+        assertThat(insufficient).isZero();
+        assertThat(debited).isEqualTo(1);
+        assertThat(accountRepository.findBalanceById(account.getId()))
+                .isEqualTo(Money.of(40000000));
+    }
+
+    @Test
+    @DisplayName("입금 - 한 문장으로 가산, 삭제된 계좌는 반영되지 않음")
+    void credit() {
+        // Given
+        Member member = createAndSaveMember();
+        Account moneyBox = createAndSaveMoneyBox(member, "11111111111", "여행 머니박스");
+        Account deletedMoneyBox = createAndSaveMoneyBox(member, "22222222222", "삭제된 머니박스");
+        deletedMoneyBox.setDeleted(true);
+        accountRepository.save(deletedMoneyBox);
+
+        // When
+        int credited = accountRepository.credit(moneyBox.getId(), 50000L);
+        int deleted = accountRepository.credit(deletedMoneyBox.getId(), 50000L);
+
+        // Then
+        assertThat(credited).isEqualTo(1);
+        assertThat(deleted).isZero();
+        assertThat(accountRepository.findBalanceById(moneyBox.getId()))
+                .isEqualTo(Money.of(50000));
+    }
+
+    @Test
+    @DisplayName("이체 계좌 조회 - 회원 주계좌와 상대 계좌를 소유 회원까지 한 쿼리로 조회")
+    void findByIdInOrMemberAccountTypeWithMember() {
+        // Given
+        Member sponsor = createAndSaveMember("01011111111", "후원자");
+        Member owner = createAndSaveMember("01022222222", "버킷소유자");
+        Account sponsorMain = createAndSaveAccount(sponsor, "12345678901234", AccountType.MAIN);
+        createAndSaveMoneyBox(sponsor, "33333333333", "후원자 머니박스");
+        createAndSaveAccount(owner, "98765432109876", AccountType.MAIN);
+        Account ownerMoneyBox = createAndSaveMoneyBox(owner, "11111111111", "여행 머니박스");
+
+        // When
+        List<Account> accounts = accountRepository.findByIdInOrMemberAccountTypeWithMember(
+                List.of(ownerMoneyBox.getId()), sponsor.getId(), AccountType.MAIN);
+
+        // Then
+        assertThat(accounts).extracting(Account::getId)
+                .containsExactlyInAnyOrder(sponsorMain.getId(), ownerMoneyBox.getId());
+        assertThat(accounts).extracting(account -> account.getMember().getName())
+                .containsExactlyInAnyOrder("후원자", "버킷소유자");
+    }
+
     // Helper methods
     private Member createAndSaveMember() {
         return createAndSaveMember("01012345678", "테스트유저");
@@ -248,7 +329,7 @@ class AccountRepositoryTest {
                 .name(accountType == AccountType.MAIN ? "주거래하나 통장" : "하나머니박스")
                 .bankName("하나은행")
                 .password("encoded_password")
-                .balance(accountType == AccountType.MAIN ? new BigDecimal("70000000") : BigDecimal.ZERO)
+                .balance(accountType == AccountType.MAIN ? Money.of(70000000) : Money.ZERO)
                 .accountType(accountType)
                 .boxName(accountType == AccountType.MONEY_BOX ? "테스트 머니박스" : null)
                 .deleted(false)
@@ -263,7 +344,7 @@ class AccountRepositoryTest {
                 .name("하나머니박스")
                 .bankName("하나은행")
                 .password("encoded_password")
-                .balance(BigDecimal.ZERO)
+                .balance(Money.ZERO)
                 .accountType(AccountType.MONEY_BOX)
                 .boxName(boxName)
                 .deleted(false)
@@ -2,13 +2,18 @@ package com.hanaieum.server.domain.account.service;
 
 import com.hanaieum.server.common.exception.CustomException;
 import com.hanaieum.server.common.exception.ErrorCode;
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.dto.PinGrantResponse;
 import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountBalanceStripe;
 import com.hanaieum.server.domain.account.entity.AccountType;
+import com.hanaieum.server.domain.account.repository.AccountBalanceStripeRepository;
 import com.hanaieum.server.domain.account.repository.AccountRepository;
 import com.hanaieum.server.domain.autoTransfer.service.AutoTransferScheduleService;
 import com.hanaieum.server.domain.bucketList.entity.BucketList;
 import com.hanaieum.server.domain.member.entity.Member;
 import com.hanaieum.server.domain.member.repository.MemberRepository;
+import com.hanaieum.server.security.PinGrantTokenProvider;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,10 +22,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -43,6 +48,12 @@ class AccountServiceImplTest {
     @Mock
     private AutoTransferScheduleService autoTransferScheduleService;
     
+    @Mock
+    private AccountBalanceStripeRepository accountBalanceStripeRepository;
+    
+    @Mock
+    private PinGrantTokenProvider pinGrantTokenProvider;
+    
     @InjectMocks
     private AccountServiceImpl accountService;
 
@@ -54,7 +65,7 @@ class AccountServiceImplTest {
         String accountName = "테스트 계좌";
         String bankName = "하나은행";
         AccountType accountType = AccountType.MAIN;
-        BigDecimal balance = new BigDecimal("10000");
+        Money balance = Money.of(10000);
         String password = "1234";
         
         when(passwordEncoder.encode(password)).thenReturn("encoded_password");
@@ -101,7 +112,7 @@ class AccountServiceImplTest {
         verify(accountRepository).save(argThat(account -> 
             account.getName().equals("하나더넥스트 연금 통장") &&
             account.getAccountType() == AccountType.MAIN &&
-            account.getBalance().equals(new BigDecimal("70000000"))
+            account.getBalance().equals(Money.of(70000000))
         ));
     }
 
@@ -132,7 +143,7 @@ class AccountServiceImplTest {
         verify(accountRepository).save(argThat(account -> 
             (account.getName().equals("주거래하나 통장") || account.getName().equals("하나 플러스 통장")) &&
             account.getAccountType() == AccountType.MAIN &&
-            account.getBalance().equals(new BigDecimal("70000000"))
+            account.getBalance().equals(Money.of(70000000))
         ));
     }
 
@@ -159,7 +170,7 @@ class AccountServiceImplTest {
         assertThat(account.getId()).isEqualTo(2L);
         assertThat(account.getBoxName()).isEqualTo(boxName);
         assertThat(account.getAccountType()).isEqualTo(AccountType.MONEY_BOX);
-        assertThat(account.getBalance()).isEqualTo(BigDecimal.ZERO);
+        assertThat(account.getBalance()).isEqualTo(Money.ZERO);
         verify(accountRepository).save(any(Account.class));
     }
 
@@ -252,6 +263,26 @@ class AccountServiceImplTest {
                 .hasMessageContaining(ErrorCode.ACCOUNT_ACCESS_DENIED.getMessage());
     }
 
+    @Test
+    @DisplayName("소유권 검증 후 조회한 계좌 반환")
+    void findOwnedAccount_Success() {
+        // Given
+        Long accountId = 1L;
+        Long memberId = 1L;
+        Member member = createTestMember();
+        Account account = createTestMainAccount(member);
+
+        when(accountRepository.findByIdAndDeletedFalse(accountId))
+                .thenReturn(Optional.of(account));
+
+        // When
+        Account result = accountService.findOwnedAccount(accountId, memberId);
+
+        // Then
+        assertThat(result).isSameAs(account);
+        verify(accountRepository).findByIdAndDeletedFalse(accountId);
+    }
+
     @Test
     @DisplayName("계좌 비밀번호 검증 성공")
     void validateAccountPassword_Success() {
@@ -291,67 +322,325 @@ class AccountServiceImplTest {
     }
 
     @Test
-    @DisplayName("출금 처리 성공")
+    @DisplayName("PIN 인증 토큰 발급 - 비밀번호는 발급 시 한 번만 BCrypt 검증")
+    void issuePinGrant_Success() {
+        // Given
+        Member member = createTestMember();
+        Account account = createTestMainAccount(member);
+
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(accountRepository.findByMemberAndAccountTypeAndDeletedFalse(member, AccountType.MAIN))
+                .thenReturn(Optional.of(account));
+        when(accountRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.of(account));
+        when(passwordEncoder.matches("1234", account.getPassword())).thenReturn(true);
+        when(pinGrantTokenProvider.generateToken(1L, 1L)).thenReturn("pin-grant-token");
+        when(pinGrantTokenProvider.getValidityInSeconds()).thenReturn(300L);
+
+        // When
+        PinGrantResponse response = accountService.issuePinGrant(1L, "1234");
+
+        // Then
+        assertThat(response.getPinGrantToken()).isEqualTo("pin-grant-token");
+        assertThat(response.getExpiresIn()).isEqualTo(300L);
+        verify(passwordEncoder, times(1)).matches(any(), any());
+    }
+
+    @Test
+    @DisplayName("PIN 인증 토큰으로 검증 - BCrypt 호출 없음")
+    void verifyAccountPassword_WithPinGrant() {
+        // Given
+        Account account = createTestMainAccount(createTestMember());
+        when(pinGrantTokenProvider.isValid("pin-grant-token", 1L, 1L)).thenReturn(true);
+
+        // When & Then
+        assertThatNoException().isThrownBy(() ->
+            accountService.verifyAccountPassword(account, null, "pin-grant-token"));
+        verifyNoInteractions(passwordEncoder);
+    }
+
+    @Test
+    @DisplayName("비밀번호와 PIN 인증 토큰이 모두 없으면 ACCOUNT_PASSWORD_REQUIRED - BCrypt 호출 없음")
+    void verifyAccountPassword_Missing() {
+        // Given
+        Account account = createTestMainAccount(createTestMember());
+
+        // When & Then
+        assertThatThrownBy(() -> accountService.verifyAccountPassword(account, null, null))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCOUNT_PASSWORD_REQUIRED);
+        assertThatThrownBy(() -> accountService.verifyAccountPassword(account, " ", ""))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCOUNT_PASSWORD_REQUIRED);
+        verifyNoInteractions(passwordEncoder, pinGrantTokenProvider);
+    }
+
+    @Test
+    @DisplayName("PIN 인증 토큰 검증 실패 - 만료/위조/다른 계좌 토큰")
+    void verifyAccountPassword_InvalidPinGrant() {
+        // Given
+        Account account = createTestMainAccount(createTestMember());
+        when(pinGrantTokenProvider.isValid("expired-token", 1L, 1L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> accountService.verifyAccountPassword(account, "1234", "expired-token"))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.INVALID_PIN_GRANT.getMessage());
+        verifyNoInteractions(passwordEncoder);
+    }
+
+    @Test
+    @DisplayName("여러 계좌 잠금 조회 성공 - id 순서로 잠근 계좌를 id로 조회 가능")
+    void findAllByIdWithLock_Success() {
+        // Given
+        Member member = createTestMember();
+        Account mainAccount = createTestMainAccount(member);
+        Account moneyBox = createTestMoneyBox(member, 2L, "12345678901", "여행");
+
+        when(accountRepository.findAllByIdInAndDeletedFalseWithLock(anyCollection()))
+                .thenReturn(List.of(mainAccount, moneyBox));
+
+        // When
+        Map<Long, Account> result = accountService.findAllByIdWithLock(List.of(2L, 1L));
+
+        // Then
+        assertThat(result).containsEntry(1L, mainAccount).containsEntry(2L, moneyBox);
+        verify(accountRepository).findAllByIdInAndDeletedFalseWithLock(anyCollection());
+    }
+
+    @Test
+    @DisplayName("여러 계좌 잠금 조회 실패 - 일부 계좌 없음")
+    void findAllByIdWithLock_AccountNotFound() {
+        // Given
+        Member member = createTestMember();
+        Account mainAccount = createTestMainAccount(member);
+
+        when(accountRepository.findAllByIdInAndDeletedFalseWithLock(anyCollection()))
+                .thenReturn(List.of(mainAccount));
+
+        // When & Then
+        assertThatThrownBy(() -> accountService.findAllByIdWithLock(List.of(1L, 2L)))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.ACCOUNT_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("출금 처리 성공 - 조건부 UPDATE 후 거래 후 잔액 반환")
     void debitBalance_Success() {
         // Given
-        BigDecimal amount = new BigDecimal("3000");
+        Money amount = Money.of(3000);
         Member member = createTestMember();
         Account account = Account.builder()
                 .id(1L)
                 .member(member)
-                .balance(new BigDecimal("10000"))
+                .balance(Money.of(10000))
                 .build();
 
-        when(accountRepository.save(account)).thenReturn(account);
+        when(accountRepository.debitIfSufficient(1L, amount.toLong())).thenReturn(1);
+        when(accountRepository.findBalanceById(1L)).thenReturn(Money.of(7000));
 
         // When
-        accountService.debitBalance(account, amount);
+        Money balanceAfter = accountService.debitBalance(account, amount);
 
         // Then
-        assertThat(account.getBalance()).isEqualTo(new BigDecimal("7000"));
-        verify(accountRepository).save(account);
+        assertThat(balanceAfter).isEqualTo(Money.of(7000));
+        assertThat(account.getBalance()).isEqualTo(Money.of(7000));
+        verify(accountRepository).debitIfSufficient(1L, amount.toLong());
+        verify(accountRepository, never()).save(any(Account.class));
     }
 
     @Test
-    @DisplayName("출금 처리 실패 - 잔액 부족")
+    @DisplayName("출금 처리 실패 - 잔액 부족 (영향 받은 행 없음)")
     void debitBalance_InsufficientBalance() {
         // Given
-        BigDecimal amount = new BigDecimal("15000");
+        Money amount = Money.of(15000);
         Member member = createTestMember();
         Account account = Account.builder()
                 .id(1L)
                 .member(member)
-                .balance(new BigDecimal("10000"))
+                .balance(Money.of(10000))
                 .build();
 
+        when(accountRepository.debitIfSufficient(1L, amount.toLong())).thenReturn(0);
+
         // When & Then
         assertThatThrownBy(() -> accountService.debitBalance(account, amount))
                 .isInstanceOf(CustomException.class)
                 .hasMessageContaining(ErrorCode.INSUFFICIENT_BALANCE.getMessage());
 
-        verify(accountRepository, never()).save(account);
+        verify(accountRepository, never()).findBalanceById(anyLong());
+        assertThat(account.getBalance()).isEqualTo(Money.of(10000));
     }
 
     @Test
-    @DisplayName("입금 처리 성공")
+    @DisplayName("입금 처리 성공 - 조건부 UPDATE 후 거래 후 잔액 반환")
     void creditBalance_Success() {
         // Given
-        BigDecimal amount = new BigDecimal("5000");
+        Money amount = Money.of(5000);
         Member member = createTestMember();
         Account account = Account.builder()
                 .id(1L)
                 .member(member)
-                .balance(new BigDecimal("10000"))
+                .balance(Money.of(10000))
+                .build();
+
+        when(accountRepository.credit(1L, amount.toLong())).thenReturn(1);
+        when(accountRepository.findBalanceById(1L)).thenReturn(Money.of(15000));
+
+        // When
+        Money balanceAfter = accountService.creditBalance(account, amount);
+
+        // Then
+        assertThat(balanceAfter).isEqualTo(Money.of(15000));
+        assertThat(account.getBalance()).isEqualTo(Money.of(15000));
+        verify(accountRepository).credit(1L, amount.toLong());
+        verify(accountRepository, never()).save(any(Account.class));
+    }
+
+    @Test
+    @DisplayName("입금 처리 성공 - 스트라이프 계좌는 스트라이프 한 행에만 입금")
+    void creditBalance_Striped() {
+        // Given
+        Money amount = Money.of(5000);
+        Account account = Account.builder()
+                .id(1L)
+                .member(createTestMember())
+                .balance(Money.of(10000))
+                .balanceStripeCount(4)
+                .build();
+
+        when(accountRepository.findByIdAndDeletedFalseWithSharedLock(1L)).thenReturn(Optional.of(account));
+        when(accountBalanceStripeRepository.credit(eq(1L), intThat(i -> i >= 0 && i < 4), eq(amount.toLong()))).thenReturn(1);
+
+        // When
+        Money balanceAfter = accountService.creditBalance(account, amount);
+
+        // Then - 계좌 행 S 락 → 스트라이프 순서, 다른 스트라이프는 잠그지 않고 읽지도 않음
+        assertThat(balanceAfter).isEqualTo(Money.of(15000));
+        assertThat(account.getBalance()).isEqualTo(Money.of(15000));
+        var inOrder = inOrder(accountRepository, accountBalanceStripeRepository);
+        inOrder.verify(accountRepository).findByIdAndDeletedFalseWithSharedLock(1L);
+        inOrder.verify(accountBalanceStripeRepository).credit(eq(1L), anyInt(), eq(amount.toLong()));
+        verify(accountRepository, never()).credit(anyLong(), anyLong());
+        verify(accountRepository, never()).findBalanceById(anyLong());
+    }
+
+    @Test
+    @DisplayName("출금 처리 성공 - 스트라이프 잔액을 통합한 뒤 차감")
+    void debitBalance_ConsolidatesStripes() {
+        // Given
+        Money amount = Money.of(12000);
+        Account account = Account.builder()
+                .id(1L)
+                .member(createTestMember())
+                .balance(Money.of(10000))
+                .balanceStripeCount(2)
                 .build();
+        List<AccountBalanceStripe> stripes = List.of(
+                AccountBalanceStripe.builder().accountId(1L).stripeIndex(0).balance(Money.of(3000)).build(),
+                AccountBalanceStripe.builder().accountId(1L).stripeIndex(1).balance(Money.of(2000)).build());
+
+        when(accountRepository.findByIdAndDeletedFalseWithLock(1L)).thenReturn(Optional.of(account));
+        when(accountBalanceStripeRepository.findAllByAccountIdWithLock(1L)).thenReturn(stripes);
+        when(accountRepository.debitIfSufficient(1L, amount.toLong())).thenReturn(1);
+        when(accountRepository.findBalanceById(1L)).thenReturn(Money.of(15000), Money.of(3000));
+
+        // When
+        Money balanceAfter = accountService.debitBalance(account, amount);
+
+        // Then - 계좌 행 → 스트라이프 순서로 잠금
+        assertThat(balanceAfter).isEqualTo(Money.of(3000));
+        var inOrder = inOrder(accountRepository, accountBalanceStripeRepository);
+        inOrder.verify(accountRepository).findByIdAndDeletedFalseWithLock(1L);
+        inOrder.verify(accountBalanceStripeRepository).findAllByAccountIdWithLock(1L);
+        inOrder.verify(accountRepository).credit(1L, 5000L);
+        inOrder.verify(accountBalanceStripeRepository).resetBalances(1L);
+        inOrder.verify(accountRepository).debitIfSufficient(1L, amount.toLong());
+    }
+
+    @Test
+    @DisplayName("이체 잔액 반영 - 출금 계좌 id가 더 크면 입금 UPDATE를 먼저 실행")
+    void applyBalanceChanges_UpdatesInAccountIdOrder() {
+        // Given
+        Money amount = Money.of(3000);
+        Account fromAccount = Account.builder().id(5L).member(createTestMember()).balance(Money.of(10000)).build();
+        Account toAccount = Account.builder().id(2L).member(createTestMember()).balance(Money.ZERO).build();
+
+        when(accountRepository.credit(2L, amount.toLong())).thenReturn(1);
+        when(accountRepository.debitIfSufficient(5L, amount.toLong())).thenReturn(1);
+
+        // When
+        accountService.applyBalanceChanges(fromAccount, amount, Map.of(toAccount, amount));
+
+        // Then
+        var inOrder = inOrder(accountRepository);
+        inOrder.verify(accountRepository).credit(2L, amount.toLong());
+        inOrder.verify(accountRepository).debitIfSufficient(5L, amount.toLong());
+    }
+
+    @Test
+    @DisplayName("이체 잔액 반영 - 스트라이프 계좌 id가 더 작으면 그 행의 S 락부터 잡고 스트라이프는 마지막에 입금")
+    void applyBalanceChanges_StripedToAccountWithLowerId_LocksRowsFirst() {
+        // Given - 머니박스 id < 주계좌 id (다른 노드가 할당한 id 구간)
+        Money amount = Money.of(3000);
+        Account mainAccount = Account.builder().id(5L).member(createTestMember()).balance(Money.of(10000)).build();
+        Account moneyBox = Account.builder().id(2L).member(createTestMember()).balance(Money.ZERO)
+                .balanceStripeCount(4).build();
+
+        when(accountRepository.findByIdAndDeletedFalseWithSharedLock(2L)).thenReturn(Optional.of(moneyBox));
+        when(accountRepository.debitIfSufficient(5L, amount.toLong())).thenReturn(1);
+        when(accountBalanceStripeRepository.credit(eq(2L), anyInt(), eq(amount.toLong()))).thenReturn(1);
 
-        when(accountRepository.save(account)).thenReturn(account);
+        // When
+        accountService.applyBalanceChanges(mainAccount, amount, Map.of(moneyBox, amount));
+
+        // Then - 계좌 행(id 오름차순, S → X) → 스트라이프
+        var inOrder = inOrder(accountRepository, accountBalanceStripeRepository);
+        inOrder.verify(accountRepository).findByIdAndDeletedFalseWithSharedLock(2L);
+        inOrder.verify(accountRepository).debitIfSufficient(5L, amount.toLong());
+        inOrder.verify(accountBalanceStripeRepository).credit(eq(2L), anyInt(), eq(amount.toLong()));
+    }
+
+    @Test
+    @DisplayName("이체 잔액 반영 - 스트라이프 계좌에서 출금하면 계좌 행을 모두 잡은 뒤 스트라이프를 통합")
+    void applyBalanceChanges_StripedFromAccount_ConsolidatesAfterRowLocks() {
+        // Given
+        Money amount = Money.of(3000);
+        Account moneyBox = Account.builder().id(2L).member(createTestMember()).balance(Money.of(10000))
+                .balanceStripeCount(2).build();
+        Account mainAccount = Account.builder().id(5L).member(createTestMember()).balance(Money.ZERO).build();
+
+        when(accountRepository.findByIdAndDeletedFalseWithLock(2L)).thenReturn(Optional.of(moneyBox));
+        when(accountRepository.credit(5L, amount.toLong())).thenReturn(1);
+        when(accountBalanceStripeRepository.findAllByAccountIdWithLock(2L)).thenReturn(List.of());
+        when(accountRepository.debitIfSufficient(2L, amount.toLong())).thenReturn(1);
+
+        // When
+        accountService.applyBalanceChanges(moneyBox, amount, Map.of(mainAccount, amount));
+
+        // Then
+        var inOrder = inOrder(accountRepository, accountBalanceStripeRepository);
+        inOrder.verify(accountRepository).findByIdAndDeletedFalseWithLock(2L);
+        inOrder.verify(accountRepository).credit(5L, amount.toLong());
+        inOrder.verify(accountBalanceStripeRepository).findAllByAccountIdWithLock(2L);
+        inOrder.verify(accountRepository).debitIfSufficient(2L, amount.toLong());
+    }
+
+    @Test
+    @DisplayName("스트라이프 잔액 조회 - 스트라이프 계좌만 합계를 조회")
+    void loadStripedBalance() {
+        // Given
+        Account plain = Account.builder().id(1L).balance(Money.of(10000)).build();
+        Account striped = Account.builder().id(2L).balance(Money.of(10000)).balanceStripeCount(4).build();
+        when(accountBalanceStripeRepository.sumBalanceByAccountId(2L)).thenReturn(5000L);
 
         // When
-        accountService.creditBalance(account, amount);
+        accountService.loadStripedBalance(plain);
+        accountService.loadStripedBalance(striped);
 
         // Then
-        assertThat(account.getBalance()).isEqualTo(new BigDecimal("15000"));
-        verify(accountRepository).save(account);
+        assertThat(plain.getBalance()).isEqualTo(Money.of(10000));
+        assertThat(striped.getBalance()).isEqualTo(Money.of(15000));
+        verify(accountBalanceStripeRepository, never()).sumBalanceByAccountId(1L);
     }
 
     @Test
@@ -438,7 +727,7 @@ class AccountServiceImplTest {
                 .name("주거래하나 통장")
                 .bankName("하나은행")
                 .password("encoded_password")
-                .balance(new BigDecimal("70000000"))
+                .balance(Money.of(70000000))
                 .accountType(AccountType.MAIN)
                 .deleted(false)
                 .build();
@@ -459,7 +748,7 @@ class AccountServiceImplTest {
                 .name("하나머니박스")
                 .bankName("하나은행")
                 .password("encoded_password")
-                .balance(BigDecimal.ZERO)
+                .balance(Money.ZERO)
                 .accountType(AccountType.MONEY_BOX)
                 .boxName(boxName)
                 .deleted(false)
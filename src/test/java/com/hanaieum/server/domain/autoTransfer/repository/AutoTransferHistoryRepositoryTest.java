@@ -1,5 +1,6 @@
 package com.hanaieum.server.domain.autoTransfer.repository;
 
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.entity.Account;
 import com.hanaieum.server.domain.account.entity.AccountType;
 import com.hanaieum.server.domain.account.repository.AccountRepository;
@@ -9,13 +10,14 @@ import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferStatus;
 import com.hanaieum.server.domain.member.entity.Gender;
 import com.hanaieum.server.domain.member.entity.Member;
 import com.hanaieum.server.domain.member.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -41,6 +43,9 @@ class AutoTransferHistoryRepositoryTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     @DisplayName("재시도 대상 실패한 이체 조회 - 특정 재시도 횟수")
     void findFailedTransfersForRetry() {
@@ -141,8 +146,8 @@ class AutoTransferHistoryRepositoryTest {
     }
 
     @Test
-    @DisplayName("특정 스케줄의 오늘 실행 이력 존재 여부 확인")
-    void findTodayExecution() {
+    @DisplayName("JOIN FETCH를 통한 연관 엔티티 즉시 로딩 검증")
+    void findFailedTransfersForRetry_JoinFetch() {
         // Given
         Member member = createAndSaveMember();
         Account fromAccount = createAndSaveAccount(member, "12345678901234", AccountType.MAIN);
@@ -153,100 +158,130 @@ class AutoTransferHistoryRepositoryTest {
         LocalDateTime startOfDay = today.withHour(0).withMinute(0).withSecond(0).withNano(0);
         LocalDateTime endOfDay = startOfDay.plusDays(1);
         
-        // 오늘 실행된 이력 생성
-        AutoTransferHistory todayHistory = createAndSaveHistory(
-            schedule, fromAccount, toAccount, today, AutoTransferStatus.SUCCESS, 0
-        );
+        createAndSaveHistory(schedule, fromAccount, toAccount, today, AutoTransferStatus.FAILED, 0);
 
         // When
-        Optional<AutoTransferHistory> result = autoTransferHistoryRepository
-                .findTodayExecution(schedule, startOfDay, endOfDay);
+        List<AutoTransferHistory> result = autoTransferHistoryRepository
+                .findFailedTransfersForRetry(startOfDay, endOfDay, 0);
 
         // Then
-        assertThat(result).isPresent();
-        assertThat(result.get().getId()).isEqualTo(todayHistory.getId());
+        assertThat(result).hasSize(1);
+        AutoTransferHistory history = result.get(0);
+        
+        // JOIN FETCH로 로딩된 연관 엔티티에 접근 가능해야 함 (LazyInitializationException 발생하지 않음)
+        assertThat(history.getFromAccount().getId()).isEqualTo(fromAccount.getId());
+        assertThat(history.getToAccount().getId()).isEqualTo(toAccount.getId());
     }
 
     @Test
-    @DisplayName("다른 스케줄의 실행 이력은 조회되지 않음")
-    void findTodayExecution_DifferentSchedule() {
+    @DisplayName("선점 - 같은 스케줄/실행일 이력은 한 행만 저장 가능 (다른 실행일은 가능)")
+    void claim_UniquePerScheduleAndExecutionDate() {
         // Given
         Member member = createAndSaveMember();
         Account fromAccount = createAndSaveAccount(member, "12345678901234", AccountType.MAIN);
         Account toAccount = createAndSaveAccount(member, "98765432109", AccountType.MONEY_BOX);
-        AutoTransferSchedule schedule1 = createAndSaveSchedule(fromAccount, toAccount);
-        AutoTransferSchedule schedule2 = createAndSaveSchedule(fromAccount, toAccount);
-        
-        LocalDateTime today = LocalDateTime.now();
-        LocalDateTime startOfDay = today.withHour(0).withMinute(0).withSecond(0).withNano(0);
-        LocalDateTime endOfDay = startOfDay.plusDays(1);
-        
-        // schedule2에 대한 실행 이력 (schedule1과 다름)
-        createAndSaveHistory(
-            schedule2, fromAccount, toAccount, today, AutoTransferStatus.SUCCESS, 0
-        );
+        AutoTransferSchedule schedule = createAndSaveSchedule(fromAccount, toAccount);
+        LocalDate executionDate = LocalDate.of(2024, 3, 15);
 
-        // When
-        Optional<AutoTransferHistory> result = autoTransferHistoryRepository
-                .findTodayExecution(schedule1, startOfDay, endOfDay);
+        autoTransferHistoryRepository.saveAndFlush(createPendingHistory(schedule, executionDate,
+                executionDate.atTime(9, 0)));
+        autoTransferHistoryRepository.saveAndFlush(createPendingHistory(schedule, executionDate.minusDays(1),
+                executionDate.minusDays(1).atTime(9, 0)));
 
-        // Then
-        assertThat(result).isEmpty();
+        // When & Then
+        assertThatThrownBy(() -> autoTransferHistoryRepository.saveAndFlush(createPendingHistory(schedule,
+                executionDate, executionDate.atTime(9, 1))))
+                .isInstanceOf(DataIntegrityViolationException.class);
     }
 
     @Test
-    @DisplayName("어제 실행된 이력은 오늘 실행 이력으로 조회되지 않음")
-    void findTodayExecution_Yesterday() {
+    @DisplayName("선점 결과 기록 - PENDING일 때만 한 번 갱신")
+    void completeClaim_OnlyWhilePending() {
         // Given
         Member member = createAndSaveMember();
         Account fromAccount = createAndSaveAccount(member, "12345678901234", AccountType.MAIN);
         Account toAccount = createAndSaveAccount(member, "98765432109", AccountType.MONEY_BOX);
         AutoTransferSchedule schedule = createAndSaveSchedule(fromAccount, toAccount);
-        
-        LocalDateTime today = LocalDateTime.now();
-        LocalDateTime yesterday = today.minusDays(1);
-        LocalDateTime startOfDay = today.withHour(0).withMinute(0).withSecond(0).withNano(0);
-        LocalDateTime endOfDay = startOfDay.plusDays(1);
-        
-        // 어제 실행된 이력
-        createAndSaveHistory(
-            schedule, fromAccount, toAccount, yesterday, AutoTransferStatus.SUCCESS, 0
-        );
+        LocalDate executionDate = LocalDate.of(2024, 3, 15);
+        AutoTransferHistory pending = autoTransferHistoryRepository.saveAndFlush(
+                createPendingHistory(schedule, executionDate, executionDate.atTime(9, 0)));
 
         // When
-        Optional<AutoTransferHistory> result = autoTransferHistoryRepository
-                .findTodayExecution(schedule, startOfDay, endOfDay);
+        int first = autoTransferHistoryRepository.completeClaim(pending.getId(), AutoTransferStatus.SUCCESS, null);
+        int second = autoTransferHistoryRepository.completeClaim(pending.getId(), AutoTransferStatus.FAILED, "늦은 기록");
+        entityManager.clear();
 
         // Then
-        assertThat(result).isEmpty();
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        AutoTransferHistory reloaded = autoTransferHistoryRepository.findById(pending.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(AutoTransferStatus.SUCCESS);
+        assertThat(reloaded.getFailureReason()).isNull();
     }
 
     @Test
-    @DisplayName("JOIN FETCH를 통한 연관 엔티티 즉시 로딩 검증")
-    void findFailedTransfersForRetry_JoinFetch() {
+    @DisplayName("재시도 선점 - FAILED/RETRY이고 재시도 횟수가 같을 때만 한 번 PENDING으로 전환 (재시도 횟수 +1)")
+    void claimRetry_OnlyOnce() {
         // Given
         Member member = createAndSaveMember();
         Account fromAccount = createAndSaveAccount(member, "12345678901234", AccountType.MAIN);
         Account toAccount = createAndSaveAccount(member, "98765432109", AccountType.MONEY_BOX);
         AutoTransferSchedule schedule = createAndSaveSchedule(fromAccount, toAccount);
-        
-        LocalDateTime today = LocalDateTime.now();
-        LocalDateTime startOfDay = today.withHour(0).withMinute(0).withSecond(0).withNano(0);
-        LocalDateTime endOfDay = startOfDay.plusDays(1);
-        
-        createAndSaveHistory(schedule, fromAccount, toAccount, today, AutoTransferStatus.FAILED, 0);
+        AutoTransferHistory failed = createAndSaveHistory(schedule, fromAccount, toAccount,
+                LocalDateTime.of(2024, 3, 15, 9, 0), AutoTransferStatus.FAILED, 0);
+        LocalDateTime claimedAt = LocalDateTime.of(2024, 3, 15, 12, 0);
 
         // When
-        List<AutoTransferHistory> result = autoTransferHistoryRepository
-                .findFailedTransfersForRetry(startOfDay, endOfDay, 0);
+        int staleCount = autoTransferHistoryRepository.claimRetry(failed.getId(), 1, claimedAt);
+        int first = autoTransferHistoryRepository.claimRetry(failed.getId(), 0, claimedAt);
+        int second = autoTransferHistoryRepository.claimRetry(failed.getId(), 0, claimedAt);
+        entityManager.clear();
 
         // Then
-        assertThat(result).hasSize(1);
-        AutoTransferHistory history = result.get(0);
-        
-        // JOIN FETCH로 로딩된 연관 엔티티에 접근 가능해야 함 (LazyInitializationException 발생하지 않음)
-        assertThat(history.getFromAccount().getId()).isEqualTo(fromAccount.getId());
-        assertThat(history.getToAccount().getId()).isEqualTo(toAccount.getId());
+        assertThat(staleCount).isZero();
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        AutoTransferHistory reloaded = autoTransferHistoryRepository.findById(failed.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(AutoTransferStatus.PENDING);
+        assertThat(reloaded.getRetryCount()).isEqualTo(1);
+        assertThat(reloaded.getUpdatedAt()).isEqualTo(claimedAt);
+    }
+
+    @Test
+    @DisplayName("멈춘 선점 만료 - 선점 시각이 오래된 PENDING만 FAILED로 전환되어 다음 회차 재시도 대상이 됨")
+    void expireStalePending() {
+        // Given
+        Member member = createAndSaveMember();
+        Account fromAccount = createAndSaveAccount(member, "12345678901234", AccountType.MAIN);
+        Account toAccount1 = createAndSaveAccount(member, "98765432109", AccountType.MONEY_BOX);
+        Account toAccount2 = createAndSaveAccount(member, "98765432110", AccountType.MONEY_BOX);
+        AutoTransferSchedule staleSchedule = createAndSaveSchedule(fromAccount, toAccount1);
+        AutoTransferSchedule runningSchedule = createAndSaveSchedule(fromAccount, toAccount2);
+        LocalDate executionDate = LocalDate.of(2024, 3, 15);
+        LocalDateTime now = LocalDateTime.now();
+        // 1차 재시도를 선점한 채 멈춘 이력 (선점 시각 20분 전)
+        AutoTransferHistory stale = createAndSaveHistory(staleSchedule, fromAccount, toAccount1,
+                executionDate.atTime(9, 0), AutoTransferStatus.FAILED, 0);
+        autoTransferHistoryRepository.claimRetry(stale.getId(), 0, now.minusMinutes(20));
+        // 방금 정규 실행을 선점한 이력
+        AutoTransferHistory running = autoTransferHistoryRepository.saveAndFlush(
+                createPendingHistory(runningSchedule, executionDate, executionDate.atTime(9, 30)));
+
+        // When
+        int expired = autoTransferHistoryRepository.expireStalePending(now.minusMinutes(10), "실행 중단 (선점 만료)");
+        entityManager.clear();
+
+        // Then
+        assertThat(expired).isEqualTo(1);
+        assertThat(autoTransferHistoryRepository.findById(stale.getId()).orElseThrow().getStatus())
+                .isEqualTo(AutoTransferStatus.FAILED);
+        assertThat(autoTransferHistoryRepository.findById(running.getId()).orElseThrow().getStatus())
+                .isEqualTo(AutoTransferStatus.PENDING);
+        // 재시도 횟수는 선점 때 이미 +1 → 같은 회차가 아니라 다음 회차(retryCount = 1) 대상
+        assertThat(autoTransferHistoryRepository.findFailedTransfersForRetry(
+                executionDate.atStartOfDay(), executionDate.plusDays(1).atStartOfDay(), 1))
+                .extracting(AutoTransferHistory::getId)
+                .containsExactly(stale.getId());
     }
 
     private Member createAndSaveMember() {
@@ -267,7 +302,7 @@ class AutoTransferHistoryRepositoryTest {
                 .number(accountNumber)
                 .name("테스트계좌")
                 .bankName("하나은행")
-                .balance(BigDecimal.valueOf(1000000))
+                .balance(Money.of(1000000))
                 .accountType(accountType)
                 .password("1234")
                 .deleted(false)
@@ -279,7 +314,7 @@ class AutoTransferHistoryRepositoryTest {
         AutoTransferSchedule schedule = AutoTransferSchedule.builder()
                 .fromAccount(fromAccount)
                 .toAccount(toAccount)
-                .amount(BigDecimal.valueOf(100000))
+                .amount(Money.of(100000))
                 .transferDay(15)
                 .validFrom(LocalDate.now())
                 .validTo(null)
@@ -296,7 +331,7 @@ class AutoTransferHistoryRepositoryTest {
                 .schedule(schedule)
                 .fromAccount(fromAccount)
                 .toAccount(toAccount)
-                .amount(BigDecimal.valueOf(100000))
+                .amount(Money.of(100000))
                 .executedAt(executedAt)
                 .status(status)
                 .failureReason(status == AutoTransferStatus.SUCCESS ? null : "테스트 실패 사유")
@@ -304,4 +339,18 @@ class AutoTransferHistoryRepositoryTest {
                 .build();
         return autoTransferHistoryRepository.save(history);
     }
-}
\ No newline at end of file
+
+    private AutoTransferHistory createPendingHistory(AutoTransferSchedule schedule, LocalDate executionDate,
+                                                     LocalDateTime executedAt) {
+        return AutoTransferHistory.builder()
+                .schedule(schedule)
+                .fromAccount(schedule.getFromAccount())
+                .toAccount(schedule.getToAccount())
+                .amount(schedule.getAmount())
+                .executionDate(executionDate)
+                .executedAt(executedAt)
+                .status(AutoTransferStatus.PENDING)
+                .retryCount(0)
+                .build();
+    }
+}
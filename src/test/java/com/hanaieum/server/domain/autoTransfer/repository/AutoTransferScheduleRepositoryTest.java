@@ -1,20 +1,27 @@
 package com.hanaieum.server.domain.autoTransfer.repository;
 
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.entity.Account;
 import com.hanaieum.server.domain.account.entity.AccountType;
 import com.hanaieum.server.domain.account.repository.AccountRepository;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferHistory;
 import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferSchedule;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferStatus;
 import com.hanaieum.server.domain.member.entity.Gender;
 import com.hanaieum.server.domain.member.entity.Member;
 import com.hanaieum.server.domain.member.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,12 +36,18 @@ class AutoTransferScheduleRepositoryTest {
     @Autowired
     private AutoTransferScheduleRepository autoTransferScheduleRepository;
 
+    @Autowired
+    private AutoTransferHistoryRepository autoTransferHistoryRepository;
+
     @Autowired
     private AccountRepository accountRepository;
 
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     @DisplayName("특정 날짜에 유효한 활성 스케줄 조회")
     void findActiveSchedule() {
@@ -191,8 +204,8 @@ class AutoTransferScheduleRepositoryTest {
     }
 
     @Test
-    @DisplayName("특정 이체일에 실행될 자동이체 스케줄 조회")
-    void findSchedulesForExecution() {
+    @DisplayName("정규 실행 대상 조회 - 다른 이체일의 스케줄은 제외")
+    void findDueSchedulesWithAccounts_DifferentTransferDay() {
         // Given
         Member member = createAndSaveMember();
         Account fromAccount = createAndSaveAccount(member, "12345678901234", AccountType.MAIN);
@@ -201,12 +214,12 @@ class AutoTransferScheduleRepositoryTest {
         LocalDate targetDate = LocalDate.of(2024, 3, 15);
         LocalDate validFrom = LocalDate.of(2024, 3, 1);
         
-        // 15일 이체 스케줄 생성
+        // 10일 이체 스케줄 생성 (15일과 다름)
         AutoTransferSchedule schedule = AutoTransferSchedule.builder()
                 .fromAccount(fromAccount)
                 .toAccount(toAccount)
-                .amount(BigDecimal.valueOf(100000))
-                .transferDay(15)
+                .amount(Money.of(100000))
+                .transferDay(10)
                 .validFrom(validFrom)
                 .validTo(null)
                 .active(true)
@@ -215,45 +228,104 @@ class AutoTransferScheduleRepositoryTest {
         autoTransferScheduleRepository.save(schedule);
 
         // When
-        List<AutoTransferSchedule> result = autoTransferScheduleRepository
-                .findSchedulesForExecution(targetDate, 15);
+        List<AutoTransferSchedule> result = autoTransferScheduleRepository.findDueSchedulesWithAccounts(
+                targetDate, 15, 1, 0, 0L, PageRequest.of(0, 10));
 
         // Then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getId()).isEqualTo(schedule.getId());
-        assertThat(result.get(0).getTransferDay()).isEqualTo(15);
+        assertThat(result).isEmpty();
     }
 
     @Test
-    @DisplayName("다른 이체일의 스케줄은 실행 대상에서 제외")
-    void findSchedulesForExecution_DifferentTransferDay() {
+    @DisplayName("정규 실행 대상 조회 - 그날 이력(선점)이 있는 스케줄은 결과와 무관하게 제외하고 계좌/소유 회원을 함께 로딩")
+    void findDueSchedulesWithAccounts() {
         // Given
         Member member = createAndSaveMember();
         Account fromAccount = createAndSaveAccount(member, "12345678901234", AccountType.MAIN);
-        Account toAccount = createAndSaveAccount(member, "98765432109", AccountType.MONEY_BOX);
-        
+        Account toAccount1 = createAndSaveAccount(member, "98765432109", AccountType.MONEY_BOX);
+        Account toAccount2 = createAndSaveAccount(member, "98765432110", AccountType.MONEY_BOX);
+        Account toAccount3 = createAndSaveAccount(member, "98765432111", AccountType.MONEY_BOX);
+
         LocalDate targetDate = LocalDate.of(2024, 3, 15);
         LocalDate validFrom = LocalDate.of(2024, 3, 1);
-        
-        // 10일 이체 스케줄 생성 (15일과 다름)
-        AutoTransferSchedule schedule = AutoTransferSchedule.builder()
-                .fromAccount(fromAccount)
-                .toAccount(toAccount)
-                .amount(BigDecimal.valueOf(100000))
-                .transferDay(10)
-                .validFrom(validFrom)
-                .validTo(null)
-                .active(true)
-                .deleted(false)
-                .build();
-        autoTransferScheduleRepository.save(schedule);
+        AutoTransferSchedule succeeded = createAndSaveSchedule(fromAccount, toAccount1, validFrom, null, true, false);
+        AutoTransferSchedule failed = createAndSaveSchedule(fromAccount, toAccount2, validFrom, null, true, false);
+        AutoTransferSchedule succeededYesterday = createAndSaveSchedule(fromAccount, toAccount3, validFrom, null, true, false);
+        AutoTransferSchedule notExecuted = createAndSaveSchedule(fromAccount, toAccount1, validFrom, null, true, false);
+
+        saveHistory(succeeded, targetDate.atTime(9, 0), AutoTransferStatus.SUCCESS);
+        saveHistory(failed, targetDate.atTime(9, 0), AutoTransferStatus.FAILED);
+        saveHistory(succeededYesterday, targetDate.minusDays(1).atTime(9, 0), AutoTransferStatus.SUCCESS);
+        entityManager.flush();
+        entityManager.clear();
 
         // When
-        List<AutoTransferSchedule> result = autoTransferScheduleRepository
-                .findSchedulesForExecution(targetDate, 15);
+        List<AutoTransferSchedule> result = autoTransferScheduleRepository.findDueSchedulesWithAccounts(
+                targetDate, 15, 1, 0, 0L, PageRequest.of(0, 10));
+
+        // Then (그날 실패한 스케줄은 재시도 잡이 같은 이력 행으로 처리)
+        assertThat(result).extracting(AutoTransferSchedule::getId)
+                .containsExactly(succeededYesterday.getId(), notExecuted.getId());
+        assertThat(result).allSatisfy(schedule -> {
+            assertThat(Hibernate.isInitialized(schedule.getFromAccount())).isTrue();
+            assertThat(Hibernate.isInitialized(schedule.getFromAccount().getMember())).isTrue();
+            assertThat(Hibernate.isInitialized(schedule.getToAccount())).isTrue();
+            assertThat(Hibernate.isInitialized(schedule.getToAccount().getMember())).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("정규 실행 대상 조회 - 마지막으로 읽은 id 다음부터 chunk 크기만큼 id 순으로 조회")
+    void findDueSchedulesWithAccounts_Keyset() {
+        // Given
+        Member member = createAndSaveMember();
+        Account fromAccount = createAndSaveAccount(member, "12345678901234", AccountType.MAIN);
+        LocalDate targetDate = LocalDate.of(2024, 3, 15);
+        LocalDate validFrom = LocalDate.of(2024, 3, 1);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Account toAccount = createAndSaveAccount(member, "9876543210" + i, AccountType.MONEY_BOX);
+            ids.add(createAndSaveSchedule(fromAccount, toAccount, validFrom, null, true, false).getId());
+        }
+
+        // When
+        List<AutoTransferSchedule> first = autoTransferScheduleRepository.findDueSchedulesWithAccounts(
+                targetDate, 15, 1, 0, 0L, PageRequest.of(0, 2));
+        List<AutoTransferSchedule> second = autoTransferScheduleRepository.findDueSchedulesWithAccounts(
+                targetDate, 15, 1, 0, first.get(1).getId(), PageRequest.of(0, 2));
+        List<AutoTransferSchedule> last = autoTransferScheduleRepository.findDueSchedulesWithAccounts(
+                targetDate, 15, 1, 0, second.get(1).getId(), PageRequest.of(0, 2));
 
         // Then
-        assertThat(result).isEmpty();
+        assertThat(first).extracting(AutoTransferSchedule::getId).containsExactly(ids.get(0), ids.get(1));
+        assertThat(second).extracting(AutoTransferSchedule::getId).containsExactly(ids.get(2), ids.get(3));
+        assertThat(last).extracting(AutoTransferSchedule::getId).containsExactly(ids.get(4));
+    }
+
+    @Test
+    @DisplayName("정규 실행 대상 조회 - 출금 계좌 ID % 파티션 수가 파티션 번호와 같은 스케줄만 조회")
+    void findDueSchedulesWithAccounts_Partition() {
+        // Given
+        Member member = createAndSaveMember();
+        Account fromAccount1 = createAndSaveAccount(member, "12345678901234", AccountType.MAIN);
+        Account fromAccount2 = createAndSaveAccount(member, "12345678901235", AccountType.MAIN);
+        Account toAccount = createAndSaveAccount(member, "98765432109", AccountType.MONEY_BOX);
+        LocalDate targetDate = LocalDate.of(2024, 3, 15);
+        LocalDate validFrom = LocalDate.of(2024, 3, 1);
+        AutoTransferSchedule schedule1 = createAndSaveSchedule(fromAccount1, toAccount, validFrom, null, true, false);
+        AutoTransferSchedule schedule2 = createAndSaveSchedule(fromAccount2, toAccount, validFrom, null, true, false);
+        int partitionNo1 = (int) (fromAccount1.getId() % 2);
+        int partitionNo2 = (int) (fromAccount2.getId() % 2);
+
+        // When
+        List<AutoTransferSchedule> partition1 = autoTransferScheduleRepository.findDueSchedulesWithAccounts(
+                targetDate, 15, 2, partitionNo1, 0L, PageRequest.of(0, 10));
+        List<AutoTransferSchedule> partition2 = autoTransferScheduleRepository.findDueSchedulesWithAccounts(
+                targetDate, 15, 2, partitionNo2, 0L, PageRequest.of(0, 10));
+
+        // Then (연속 ID인 두 출금 계좌는 서로 다른 파티션)
+        assertThat(partitionNo1).isNotEqualTo(partitionNo2);
+        assertThat(partition1).extracting(AutoTransferSchedule::getId).containsExactly(schedule1.getId());
+        assertThat(partition2).extracting(AutoTransferSchedule::getId).containsExactly(schedule2.getId());
     }
 
     private Member createAndSaveMember() {
@@ -274,7 +346,7 @@ class AutoTransferScheduleRepositoryTest {
                 .number(accountNumber)
                 .name("테스트계좌")
                 .bankName("하나은행")
-                .balance(BigDecimal.valueOf(1000000))
+                .balance(Money.of(1000000))
                 .accountType(accountType)
                 .password("1234")
                 .deleted(false)
@@ -288,7 +360,7 @@ class AutoTransferScheduleRepositoryTest {
         AutoTransferSchedule schedule = AutoTransferSchedule.builder()
                 .fromAccount(fromAccount)
                 .toAccount(toAccount)
-                .amount(BigDecimal.valueOf(100000))
+                .amount(Money.of(100000))
                 .transferDay(15)
                 .validFrom(validFrom)
                 .validTo(validTo)
@@ -297,4 +369,17 @@ class AutoTransferScheduleRepositoryTest {
                 .build();
         return autoTransferScheduleRepository.save(schedule);
     }
-}
\ No newline at end of file
+
+    private void saveHistory(AutoTransferSchedule schedule, LocalDateTime executedAt, AutoTransferStatus status) {
+        autoTransferHistoryRepository.save(AutoTransferHistory.builder()
+                .schedule(schedule)
+                .fromAccount(schedule.getFromAccount())
+                .toAccount(schedule.getToAccount())
+                .amount(schedule.getAmount())
+                .executionDate(executedAt.toLocalDate())
+                .executedAt(executedAt)
+                .status(status)
+                .retryCount(0)
+                .build());
+    }
+}
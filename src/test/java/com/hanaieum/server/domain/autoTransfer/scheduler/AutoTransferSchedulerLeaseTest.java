@@ -0,0 +1,177 @@
+package com.hanaieum.server.domain.autoTransfer.scheduler;
+
+import com.hanaieum.server.HanaIeumServerApplication;
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountType;
+import com.hanaieum.server.domain.account.repository.AccountRepository;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferStatus;
+import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferHistoryRepository;
+import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferScheduleRepository;
+import com.hanaieum.server.domain.member.entity.Member;
+import com.hanaieum.server.domain.member.repository.MemberRepository;
+import com.hanaieum.server.domain.schedulerLease.entity.SchedulerLease;
+import com.hanaieum.server.domain.schedulerLease.repository.SchedulerLeaseRepository;
+import com.hanaieum.server.domain.schedulerLease.service.SchedulerLeaseService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.hanaieum.server.common.TestFixtures.account;
+import static com.hanaieum.server.common.TestFixtures.dueSchedule;
+import static com.hanaieum.server.common.TestFixtures.member;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 H2 DB를 쓰는 애플리케이션 컨텍스트 2개(노드 A/B)를 띄우고 자동이체 cron 메서드를 동시에 호출
+ * - 잡마다 리스를 한 노드만 가져가 (펜싱 토큰 1) 정확히 한 번 실행되는지 확인
+ * - 정규 실행은 두 노드가 파티션을 나눠 처리해도 스케줄마다 한 번만 실행되는지 확인
+ */
+@DisplayName("자동이체 스케줄러 리스 - 2개 노드")
+class AutoTransferSchedulerLeaseTest {
+
+    private static final String DB_URL =
+            "jdbc:h2:mem:schedulerleasedb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL;LOCK_TIMEOUT=10000";
+    private static final Money INITIAL_BALANCE = Money.of(1000000);
+    private static final Money AMOUNT = Money.of(10000);
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    @DisplayName("두 노드가 동시에 9시/12시/15시 잡을 실행해도 잡마다 한 노드만 실행하고, 늦게 깨어난 노드도 다시 실행하지 않음")
+    void eachJobRunsExactlyOnce() throws Exception {
+        // Given
+        Account mainAccount = seedDueSchedule();
+
+        // When (동시 발화)
+        runOnBothNodes(AutoTransferScheduler::executeAt9AM);
+        runOnBothNodes(AutoTransferScheduler::retryAt12PM);
+        runOnBothNodes(AutoTransferScheduler::retryAt3PM);
+        // 시계가 늦은 노드의 cron이 한참 뒤에 발화 (최소 보유 시간 안)
+        nodeB.getBean(AutoTransferScheduler.class).executeAt9AM();
+
+        // Then
+        SchedulerLeaseRepository leaseRepository = nodeA.getBean(SchedulerLeaseRepository.class);
+        for (String leaseName : List.of(AutoTransferScheduler.LEASE_9AM, AutoTransferScheduler.LEASE_12PM,
+                AutoTransferScheduler.LEASE_3PM)) {
+            SchedulerLease lease = leaseRepository.findById(leaseName).orElseThrow();
+            assertThat(lease.getFencingToken()).as(leaseName).isEqualTo(1L);
+            assertThat(lease.getOwner()).as(leaseName).isIn("node-a", "node-b");
+        }
+
+        AutoTransferHistoryRepository historyRepository = nodeA.getBean(AutoTransferHistoryRepository.class);
+        assertThat(historyRepository.findAll())
+                .hasSize(1)
+                .allMatch(history -> history.getStatus() == AutoTransferStatus.SUCCESS);
+        Account reloaded = nodeA.getBean(AccountRepository.class).findById(mainAccount.getId()).orElseThrow();
+        assertThat(reloaded.getBalance()).isEqualTo(INITIAL_BALANCE.minus(AMOUNT));
+    }
+
+    @Test
+    @DisplayName("만료 후 다른 노드가 가져가면 이전 보유자의 연장/해제는 토큰 불일치로 무시되고 보유 상태도 잃음")
+    void staleHolderCannotRenewOrRelease() {
+        // Given
+        SchedulerLeaseService leaseServiceA = nodeA.getBean(SchedulerLeaseService.class);
+        SchedulerLeaseService leaseServiceB = nodeB.getBean(SchedulerLeaseService.class);
+        SchedulerLeaseService.Lease leaseA = leaseServiceA.tryAcquire("fencing-test").orElseThrow();
+        assertThat(leaseServiceB.tryAcquire("fencing-test")).isEmpty();
+
+        // A가 멈춘 사이 리스 만료
+        nodeA.getBean(SchedulerLeaseRepository.class).updateLockedUntil("fencing-test", leaseA.owner(),
+                leaseA.fencingToken(), LocalDateTime.now().minusSeconds(1));
+
+        // When
+        SchedulerLeaseService.Lease leaseB = leaseServiceB.tryAcquire("fencing-test").orElseThrow();
+        boolean renewedByA = leaseServiceA.renew(leaseA);
+        leaseServiceA.release(leaseA);
+
+        // Then
+        assertThat(leaseB.fencingToken()).isEqualTo(leaseA.fencingToken() + 1);
+        assertThat(renewedByA).isFalse();
+        // 연장에 실패한 A의 잡은 다음 처리 단위 전에 중단
+        assertThat(leaseServiceA.isHeld(leaseA)).isFalse();
+        assertThat(leaseServiceB.isHeld(leaseB)).isTrue();
+        // B의 리스는 그대로 유효 → A도 다시 가져갈 수 없음
+        assertThat(leaseServiceA.tryAcquire("fencing-test")).isEmpty();
+        assertThat(leaseServiceB.renew(leaseB)).isTrue();
+    }
+
+    private static ConfigurableApplicationContext startNode(String owner) {
+        return new SpringApplicationBuilder(HanaIeumServerApplication.class)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=" + DB_URL,
+                        // 두 번째 노드가 스키마를 지우고 다시 만들지 않도록
+                        "spring.jpa.hibernate.ddl-auto=update",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "server.port=0",
+                        "scheduler.lease.owner=" + owner,
+                        // 파티션을 못 가져간 노드가 다른 노드의 완료를 기다리는 간격
+                        "auto-transfer.partition-poll-millis=100",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "logging.level.org.springframework.security=WARN")
+                .run();
+    }
+
+    private void runOnBothNodes(SchedulerCall call) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<?> onA = executor.submit(() -> {
+                start.await();
+                call.invoke(nodeA.getBean(AutoTransferScheduler.class));
+                return null;
+            });
+            Future<?> onB = executor.submit(() -> {
+                start.await();
+                call.invoke(nodeB.getBean(AutoTransferScheduler.class));
+                return null;
+            });
+            start.countDown();
+            onA.get();
+            onB.get();
+        }
+    }
+
+    private Account seedDueSchedule() {
+        LocalDate today = LocalDate.now();
+        Member member = nodeA.getBean(MemberRepository.class).save(member("01097000000", "리스"));
+        AccountRepository accountRepository = nodeA.getBean(AccountRepository.class);
+        Account mainAccount = accountRepository.save(account(member, "97000000000001", AccountType.MAIN,
+                INITIAL_BALANCE));
+        Account moneyBoxAccount = accountRepository.save(account(member, "97000000000002",
+                AccountType.MONEY_BOX, Money.ZERO));
+        nodeA.getBean(AutoTransferScheduleRepository.class)
+                .save(dueSchedule(mainAccount, moneyBoxAccount, AMOUNT, today));
+        return mainAccount;
+    }
+
+    @FunctionalInterface
+    private interface SchedulerCall {
+        void invoke(AutoTransferScheduler scheduler);
+    }
+}
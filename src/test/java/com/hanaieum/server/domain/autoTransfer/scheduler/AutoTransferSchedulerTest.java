@@ -0,0 +1,65 @@
+package com.hanaieum.server.domain.autoTransfer.scheduler;
+
+import com.hanaieum.server.domain.autoTransfer.service.AutoTransferRunService;
+import com.hanaieum.server.domain.autoTransfer.service.AutoTransferService;
+import com.hanaieum.server.domain.schedulerLease.service.SchedulerLeaseService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AutoTransferScheduler 단위 테스트")
+class AutoTransferSchedulerTest {
+
+    @Mock
+    private AutoTransferService autoTransferService;
+
+    @Mock
+    private AutoTransferRunService autoTransferRunService;
+
+    @Mock
+    private SchedulerLeaseService schedulerLeaseService;
+
+    @InjectMocks
+    private AutoTransferScheduler autoTransferScheduler;
+
+    @Test
+    @DisplayName("기동 시 자정을 넘겨 RUNNING으로 남은 어제 실행도 오래된 순으로 이어서 실행")
+    void resumeInterruptedRun_ResumesYesterday() {
+        // Given
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
+        when(autoTransferRunService.findInterruptedRunDates(today)).thenReturn(List.of(yesterday, today));
+
+        // When
+        autoTransferScheduler.resumeInterruptedRun();
+
+        // Then - 별도 스레드에서 실행
+        InOrder inOrder = inOrder(autoTransferService);
+        inOrder.verify(autoTransferService, timeout(1000)).executeScheduledTransfers(yesterday);
+        inOrder.verify(autoTransferService, timeout(1000)).executeScheduledTransfers(today);
+    }
+
+    @Test
+    @DisplayName("기동 시 중단된 실행이 없으면 아무것도 실행하지 않음")
+    void resumeInterruptedRun_NothingInterrupted() {
+        // Given
+        when(autoTransferRunService.findInterruptedRunDates(any())).thenReturn(List.of());
+
+        // When
+        autoTransferScheduler.resumeInterruptedRun();
+
+        // Then
+        verify(autoTransferService, after(100).never()).executeScheduledTransfers(any());
+    }
+}
@@ -0,0 +1,172 @@
+package com.hanaieum.server.domain.autoTransfer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountType;
+import com.hanaieum.server.domain.account.repository.AccountRepository;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferStatus;
+import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferHistoryRepository;
+import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferPartitionRepository;
+import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferRunRepository;
+import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferScheduleRepository;
+import com.hanaieum.server.domain.member.entity.Member;
+import com.hanaieum.server.domain.member.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.hanaieum.server.common.TestFixtures.account;
+import static com.hanaieum.server.common.TestFixtures.dueSchedule;
+import static com.hanaieum.server.common.TestFixtures.member;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정규 자동이체 실행 시간 vs 동시 실행 수 (./gradlew loadTest 로 실행)
+ * - 회원마다 주계좌 1개에서 머니박스 2개로 가는 스케줄 2건 (같은 출금 계좌 레인 안에서는 순차 실행)
+ * - 동시 실행 수를 바꿔가며 같은 날짜를 다시 실행 (매 실행 전 이력/실행 장부/파티션 삭제)
+ * - 결과는 build/reports/load/auto-transfer-concurrency.json
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:autotransferloaddb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL;LOCK_TIMEOUT=10000",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.com.hanaieum.server=WARN",
+        "logging.level.org.springframework.security=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ActiveProfiles("test")
+@DisplayName("자동이체 동시 실행 수 부하 테스트")
+class AutoTransferConcurrencyLoadTest {
+
+    private static final int MEMBER_COUNT = 100;
+    private static final int SCHEDULES_PER_MEMBER = 2;
+    private static final int[] CONCURRENCY_LEVELS = {1, 2, 4, 8};
+    private static final Money AMOUNT = Money.of(10000);
+    private static final Path SUMMARY_PATH = Path.of("build", "reports", "load", "auto-transfer-concurrency.json");
+
+    @Autowired
+    private AutoTransferService autoTransferService;
+
+    @Autowired
+    private AutoTransferParallelExecutor parallelExecutor;
+
+    @Autowired
+    private AutoTransferScheduleRepository scheduleRepository;
+
+    @Autowired
+    private AutoTransferHistoryRepository historyRepository;
+
+    @Autowired
+    private AutoTransferPartitionRepository partitionRepository;
+
+    @Autowired
+    private AutoTransferRunRepository runRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("동시 실행 수별 정규 자동이체 소요시간 기록")
+    void reportDurationByConcurrency() throws Exception {
+        // Given
+        LocalDate targetDate = LocalDate.now();
+        List<Long> accountIds = seedSchedules(targetDate);
+        int scheduleCount = MEMBER_COUNT * SCHEDULES_PER_MEMBER;
+        Money totalBefore = totalBalance(accountIds);
+
+        // 워밍업 1회
+        runOnce(targetDate, 4);
+
+        // When
+        List<Map<String, Object>> runs = new ArrayList<>();
+        for (int concurrency : CONCURRENCY_LEVELS) {
+            long elapsedMillis = runOnce(targetDate, concurrency);
+
+            // Then (모든 스케줄이 한 번씩 성공)
+            long succeeded = historyRepository.findAll().stream()
+                    .filter(history -> history.getStatus() == AutoTransferStatus.SUCCESS)
+                    .count();
+            assertThat(succeeded).isEqualTo(scheduleCount);
+
+            Map<String, Object> run = new LinkedHashMap<>();
+            run.put("concurrency", concurrency);
+            run.put("elapsedMs", elapsedMillis);
+            run.put("transfersPerSecond", Math.round(scheduleCount * 1000.0 / Math.max(elapsedMillis, 1)));
+            runs.add(run);
+        }
+
+        // 이체는 계좌 간 이동이므로 전체 잔액은 그대로
+        assertThat(totalBalance(accountIds)).isEqualTo(totalBefore);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("members", MEMBER_COUNT);
+        summary.put("sourceAccounts", MEMBER_COUNT);
+        summary.put("schedules", scheduleCount);
+        summary.put("runs", runs);
+        String json = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsString(summary);
+        Files.createDirectories(SUMMARY_PATH.getParent());
+        Files.writeString(SUMMARY_PATH, json);
+        log.warn("자동이체 동시 실행 수 부하 테스트 결과 ({}):\n{}", SUMMARY_PATH.toAbsolutePath(), json);
+    }
+
+    private long runOnce(LocalDate targetDate, int concurrency) {
+        ReflectionTestUtils.setField(parallelExecutor, "concurrency", concurrency);
+        historyRepository.deleteAllInBatch();
+        partitionRepository.deleteAllInBatch();
+        runRepository.deleteAllInBatch();
+
+        long startedAt = System.nanoTime();
+        autoTransferService.executeScheduledTransfers(targetDate);
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+
+    private Money totalBalance(List<Long> accountIds) {
+        return accountRepository.findAllById(accountIds).stream()
+                .map(Account::getBalance)
+                .reduce(Money.ZERO, Money::plus);
+    }
+
+    // Helper methods
+    private List<Long> seedSchedules(LocalDate targetDate) {
+        List<Long> accountIds = new ArrayList<>();
+        int accountSeq = 0;
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            Member member = memberRepository.save(member(String.format("0109500%04d", i), "자동" + i));
+            Account mainAccount = accountRepository.save(account(member,
+                    String.format("950000%08d", accountSeq++), AccountType.MAIN, Money.of(100000000)));
+            accountIds.add(mainAccount.getId());
+
+            for (int j = 0; j < SCHEDULES_PER_MEMBER; j++) {
+                Account moneyBoxAccount = accountRepository.save(account(member,
+                        String.format("950000%08d", accountSeq++), AccountType.MONEY_BOX, Money.ZERO));
+                accountIds.add(moneyBoxAccount.getId());
+                scheduleRepository.save(dueSchedule(mainAccount, moneyBoxAccount, AMOUNT, targetDate));
+            }
+        }
+        return accountIds;
+    }
+}
@@ -0,0 +1,150 @@
+package com.hanaieum.server.domain.autoTransfer.service;
+
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountType;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferSchedule;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AutoTransferParallelExecutor 단위 테스트")
+class AutoTransferParallelExecutorTest {
+
+    private AutoTransferParallelExecutor parallelExecutor;
+
+    @BeforeEach
+    void setUp() {
+        parallelExecutor = new AutoTransferParallelExecutor();
+        ReflectionTestUtils.setField(parallelExecutor, "concurrency", 2);
+    }
+
+    @Test
+    @DisplayName("출금 계좌가 같은 스케줄은 겹치지 않고, 전체 동시 실행 수는 concurrency 이하")
+    void execute_SerializesSameSourceAccount() {
+        // Given (출금 계좌 4개 x 스케줄 5개)
+        List<AutoTransferSchedule> schedules = new ArrayList<>();
+        long scheduleId = 1;
+        for (int round = 0; round < 5; round++) {
+            for (long accountId = 1; accountId <= 4; accountId++) {
+                schedules.add(createSchedule(scheduleId++, accountId));
+            }
+        }
+        Map<Long, AtomicInteger> runningByAccount = new ConcurrentHashMap<>();
+        AtomicInteger maxRunningByAccount = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // When
+        AutoTransferParallelExecutor.Result result = parallelExecutor.execute(schedules, schedule -> {
+            AtomicInteger accountRunning = runningByAccount.computeIfAbsent(
+                    schedule.getFromAccount().getId(), key -> new AtomicInteger());
+            maxRunningByAccount.accumulateAndGet(accountRunning.incrementAndGet(), Math::max);
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            accountRunning.decrementAndGet();
+            return AutoTransferStatus.SUCCESS;
+        });
+
+        // Then
+        assertThat(result.successCount()).isEqualTo(20);
+        assertThat(result.laneCount()).isEqualTo(4);
+        assertThat(result.concurrency()).isEqualTo(2);
+        assertThat(maxRunningByAccount.get()).isEqualTo(1);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 출금 계좌의 스케줄은 등록 순서대로 실행")
+    void execute_KeepsOrderWithinLane() {
+        // Given
+        List<AutoTransferSchedule> schedules = List.of(
+                createSchedule(1L, 1L), createSchedule(2L, 2L), createSchedule(3L, 1L), createSchedule(4L, 1L));
+        List<Long> executedOnAccount1 = new ArrayList<>();
+
+        // When
+        parallelExecutor.execute(schedules, schedule -> {
+            if (schedule.getFromAccount().getId() == 1L) {
+                executedOnAccount1.add(schedule.getId());
+            }
+            return AutoTransferStatus.SUCCESS;
+        });
+
+        // Then
+        assertThat(executedOnAccount1).containsExactly(1L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("성공/실패/건너뜀 집계 - 예외가 나도 같은 레인의 다음 스케줄은 실행")
+    void execute_CountsOutcomes() {
+        // Given (모두 같은 출금 계좌)
+        List<AutoTransferSchedule> schedules = List.of(
+                createSchedule(1L, 1L), createSchedule(2L, 1L), createSchedule(3L, 1L), createSchedule(4L, 1L));
+
+        // When
+        AutoTransferParallelExecutor.Result result = parallelExecutor.execute(schedules, schedule -> switch (schedule.getId().intValue()) {
+            case 1 -> throw new IllegalStateException("예상치 못한 오류");
+            case 2 -> AutoTransferStatus.FAILED;
+            case 3 -> null;
+            default -> AutoTransferStatus.SUCCESS;
+        });
+
+        // Then
+        assertThat(result.successCount()).isEqualTo(1);
+        assertThat(result.failureCount()).isEqualTo(2);
+        assertThat(result.skippedCount()).isEqualTo(1);
+        assertThat(result.laneCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실행 대상이 없으면 아무것도 하지 않음")
+    void execute_NoSchedules() {
+        // When
+        AutoTransferParallelExecutor.Result result = parallelExecutor.execute(List.of(), schedule -> AutoTransferStatus.SUCCESS);
+
+        // Then
+        assertThat(result.successCount()).isZero();
+        assertThat(result.failureCount()).isZero();
+        assertThat(result.laneCount()).isZero();
+    }
+
+    // Helper methods
+    private AutoTransferSchedule createSchedule(Long id, Long fromAccountId) {
+        return AutoTransferSchedule.builder()
+                .id(id)
+                .fromAccount(Account.builder()
+                        .id(fromAccountId)
+                        .accountType(AccountType.MAIN)
+                        .balance(Money.of(1000000))
+                        .deleted(false)
+                        .build())
+                .toAccount(Account.builder()
+                        .id(100L + id)
+                        .accountType(AccountType.MONEY_BOX)
+                        .balance(Money.of(0))
+                        .deleted(false)
+                        .build())
+                .amount(Money.of(10000))
+                .transferDay(15)
+                .validFrom(LocalDate.of(2024, 3, 1))
+                .active(true)
+                .deleted(false)
+                .build();
+    }
+}
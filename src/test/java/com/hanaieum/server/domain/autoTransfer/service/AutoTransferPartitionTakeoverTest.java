@@ -0,0 +1,207 @@
+package com.hanaieum.server.domain.autoTransfer.service;
+
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountType;
+import com.hanaieum.server.domain.account.repository.AccountRepository;
+import com.hanaieum.server.domain.autoTransfer.dto.AutoTransferRunResponse;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferPartition;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferPartitionStatus;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferRunStatus;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferSchedule;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferStatus;
+import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferHistoryRepository;
+import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferPartitionRepository;
+import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferScheduleRepository;
+import com.hanaieum.server.domain.member.entity.Member;
+import com.hanaieum.server.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hanaieum.server.common.TestFixtures.account;
+import static com.hanaieum.server.common.TestFixtures.dueSchedule;
+import static com.hanaieum.server.common.TestFixtures.member;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 파티션을 가져간 노드(node-a)가 chunk 하나를 끝내고 멈춘 상황에서 이 노드(node-b)가 체크포인트부터 이어받는지 확인
+ */
+@SpringBootTest(properties = {
+        // 다른 테스트가 남긴 오늘 실행 대상 스케줄/파티션이 섞이지 않도록 별도 DB 사용
+        "spring.datasource.url=jdbc:h2:mem:autotransferpartitiondb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL;LOCK_TIMEOUT=10000",
+        "scheduler.lease.owner=node-b",
+        "auto-transfer.partition-count=2",
+        "auto-transfer.partition-poll-millis=100"
+})
+@ActiveProfiles("test")
+@DisplayName("정규 자동이체 파티션 재처리")
+class AutoTransferPartitionTakeoverTest {
+
+    private static final int SCHEDULE_COUNT = 4;
+
+    @Autowired
+    private AutoTransferService autoTransferService;
+
+    @Autowired
+    private AutoTransferRunService autoTransferRunService;
+
+    @Autowired
+    private AutoTransferPartitionManager partitionManager;
+
+    @Autowired
+    private AutoTransferPartitionRepository partitionRepository;
+
+    @Autowired
+    private AutoTransferScheduleRepository scheduleRepository;
+
+    @Autowired
+    private AutoTransferHistoryRepository historyRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("연장이 끊긴 파티션은 다른 노드가 체크포인트부터 이어서 처리하고, 멈췄던 노드의 연장/완료 처리는 무시")
+    void stalledPartitionIsResumedFromCheckpoint() {
+        // Given
+        LocalDate targetDate = LocalDate.now();
+        // 출금 계좌를 연속 ID로 만들어 두 파티션에 나눠 담김
+        List<Account> mainAccounts = new ArrayList<>();
+        for (int i = 0; i < SCHEDULE_COUNT; i++) {
+            mainAccounts.add(createAndSaveMainAccount(i));
+        }
+        List<AutoTransferSchedule> schedules = new ArrayList<>();
+        for (int i = 0; i < SCHEDULE_COUNT; i++) {
+            schedules.add(createAndSaveSchedule(i, mainAccounts.get(i), targetDate));
+        }
+        partitionManager.prepare(targetDate);
+        AutoTransferPartition stalled = partitionRepository.findByExecutionDateOrderByPartitionNoAsc(targetDate).get(0);
+        AutoTransferSchedule checkpointed = schedules.stream()
+                .filter(schedule -> schedule.getFromAccount().getId() % 2 == 0)
+                .findFirst()
+                .orElseThrow();
+
+        // node-a가 파티션 0을 가져가 첫 스케줄까지 체크포인트를 남기고 멈춰 보유 시간이 지남
+        LocalDateTime now = LocalDateTime.now();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                partitionRepository.claim(stalled.getId(), "node-a", now, now.plusSeconds(60)));
+        partitionRepository.checkpoint(stalled.getId(), "node-a", 1L, checkpointed.getId(), now.minusSeconds(1));
+        AutoTransferPartitionManager.Claim staleClaim = new AutoTransferPartitionManager.Claim(stalled.getId(),
+                targetDate, stalled.getPartitionNo(), stalled.getPartitionCount(), "node-a", 1L, 0L);
+
+        // When
+        autoTransferService.executeScheduledTransfers(targetDate);
+
+        // Then
+        List<AutoTransferPartition> partitions = partitionRepository.findByExecutionDateOrderByPartitionNoAsc(targetDate);
+        assertThat(partitions).hasSize(2)
+                .allMatch(partition -> partition.getStatus() == AutoTransferPartitionStatus.COMPLETED)
+                .allMatch(partition -> "node-b".equals(partition.getOwner()));
+        assertThat(partitions.get(0).getClaimToken()).isEqualTo(2L);
+        assertThat(partitions.get(1).getClaimToken()).isEqualTo(1L);
+
+        assertThat(partitions.get(0).getLastScheduleId()).isGreaterThan(checkpointed.getId());
+
+        // 체크포인트까지의 스케줄은 다시 실행하지 않음
+        assertThat(historyRepository.findAll())
+                .filteredOn(history -> targetDate.equals(history.getExecutionDate()))
+                .hasSize(SCHEDULE_COUNT - 1)
+                .allMatch(history -> history.getStatus() == AutoTransferStatus.SUCCESS)
+                .noneMatch(history -> history.getSchedule().getId().equals(checkpointed.getId()));
+
+        // 실행 장부 - node-b가 처리한 chunk 건수만 누적, 모든 파티션 완료로 COMPLETED
+        AutoTransferRunResponse run = autoTransferRunService.getRun(targetDate).orElseThrow();
+        assertThat(run.getStatus()).isEqualTo(AutoTransferRunStatus.COMPLETED);
+        assertThat(run.getFinishedAt()).isNotNull();
+        assertThat(run.getProcessedCount()).isEqualTo(SCHEDULE_COUNT - 1);
+        assertThat(run.getSuccessCount()).isEqualTo(SCHEDULE_COUNT - 1);
+        assertThat(run.getCompletedPartitions()).isEqualTo(2);
+        assertThat(autoTransferRunService.findInterruptedRunDates(targetDate)).doesNotContain(targetDate);
+
+        // 뒤늦게 깨어난 node-a
+        assertThat(partitionManager.heartbeat(staleClaim)).isFalse();
+        assertThat(partitionManager.complete(staleClaim)).isFalse();
+    }
+
+    @Test
+    @DisplayName("어제 RUNNING으로 남은 실행은 다음날 기동 시 중단된 실행으로 잡혀 이력 없는 스케줄까지 이어서 완료")
+    void yesterdayRunningRunIsResumed() {
+        // Given - 어제 정규 실행이 파티션만 만들고 클러스터 전체가 내려감 (스케줄에 이력 없음)
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
+        for (int i = 0; i < SCHEDULE_COUNT; i++) {
+            int index = SCHEDULE_COUNT + i;
+            createAndSaveSchedule(index, createAndSaveMainAccount(index), yesterday);
+        }
+        partitionManager.prepare(yesterday);
+        List<LocalDate> interruptedDates = autoTransferRunService.findInterruptedRunDates(today);
+        assertThat(interruptedDates).contains(yesterday);
+
+        // When - 기동 시 재개와 같은 순서로 실행
+        interruptedDates.forEach(autoTransferService::executeScheduledTransfers);
+
+        // Then
+        AutoTransferRunResponse run = autoTransferRunService.getRun(yesterday).orElseThrow();
+        assertThat(run.getStatus()).isEqualTo(AutoTransferRunStatus.COMPLETED);
+        assertThat(run.getSuccessCount()).isEqualTo(SCHEDULE_COUNT);
+        assertThat(historyRepository.findAll())
+                .filteredOn(history -> yesterday.equals(history.getExecutionDate()))
+                .hasSize(SCHEDULE_COUNT)
+                .allMatch(history -> history.getStatus() == AutoTransferStatus.SUCCESS);
+        assertThat(autoTransferRunService.findInterruptedRunDates(today)).doesNotContain(yesterday);
+    }
+
+    @Test
+    @DisplayName("파티션 행이 일부만 만들어진 실행일은 다시 준비할 때 빠진 파티션을 채우고, 그전까지는 완료로 보지 않음")
+    void partiallyPreparedPartitionsAreFilled() {
+        // Given - 노드가 파티션 0만 만들고 종료
+        LocalDate targetDate = LocalDate.now().minusYears(1);
+        partitionRepository.saveAndFlush(AutoTransferPartition.builder()
+                .executionDate(targetDate)
+                .partitionNo(0)
+                .partitionCount(2)
+                .status(AutoTransferPartitionStatus.COMPLETED)
+                .build());
+        assertThat(partitionManager.isFinished(targetDate)).isFalse();
+
+        // When
+        partitionManager.prepare(targetDate);
+        partitionManager.prepare(targetDate); // 다시 실행해도 중복 행 없음
+
+        // Then
+        List<AutoTransferPartition> partitions = partitionRepository.findByExecutionDateOrderByPartitionNoAsc(targetDate);
+        assertThat(partitions).extracting(AutoTransferPartition::getPartitionNo).containsExactly(0, 1);
+        assertThat(partitions.get(1).getStatus()).isEqualTo(AutoTransferPartitionStatus.PENDING);
+        assertThat(partitions.get(1).getPartitionCount()).isEqualTo(2);
+        assertThat(partitionManager.isFinished(targetDate)).isFalse();
+    }
+
+    // Helper methods
+    private Account createAndSaveMainAccount(int index) {
+        Member member = memberRepository.save(member(String.format("0109400%04d", index), "파티션" + index));
+        return accountRepository.save(account(member,
+                String.format("940000%08d", index * 2), AccountType.MAIN, Money.of(1000000)));
+    }
+
+    private AutoTransferSchedule createAndSaveSchedule(int index, Account mainAccount, LocalDate targetDate) {
+        Account moneyBoxAccount = accountRepository.save(account(mainAccount.getMember(),
+                String.format("940000%08d", index * 2 + 1), AccountType.MONEY_BOX, Money.ZERO));
+        return scheduleRepository.save(dueSchedule(mainAccount, moneyBoxAccount, Money.of(10000), targetDate));
+    }
+}
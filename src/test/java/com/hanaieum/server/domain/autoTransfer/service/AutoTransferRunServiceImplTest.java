@@ -0,0 +1,118 @@
+package com.hanaieum.server.domain.autoTransfer.service;
+
+import com.hanaieum.server.domain.autoTransfer.dto.AutoTransferRunResponse;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferPartition;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferPartitionStatus;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferRun;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferRunStatus;
+import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferPartitionRepository;
+import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferRunRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AutoTransferRunService 단위 테스트")
+class AutoTransferRunServiceImplTest {
+
+    private static final LocalDate EXECUTION_DATE = LocalDate.of(2024, 3, 15);
+
+    @Mock
+    private AutoTransferRunRepository runRepository;
+
+    @Mock
+    private AutoTransferPartitionRepository partitionRepository;
+
+    @InjectMocks
+    private AutoTransferRunServiceImpl autoTransferRunService;
+
+    @Test
+    @DisplayName("실행 장부 조회 - 누적 건수와 파티션별 보유 노드/체크포인트")
+    void getRun() {
+        // Given
+        when(runRepository.findByExecutionDate(EXECUTION_DATE))
+                .thenReturn(Optional.of(createRun(AutoTransferRunStatus.RUNNING)));
+        when(partitionRepository.findByExecutionDateOrderByPartitionNoAsc(EXECUTION_DATE)).thenReturn(List.of(
+                createPartition(0, AutoTransferPartitionStatus.COMPLETED, "node-a", 1L, 120L),
+                createPartition(1, AutoTransferPartitionStatus.RUNNING, "node-b", 2L, 57L)));
+
+        // When
+        AutoTransferRunResponse result = autoTransferRunService.getRun(EXECUTION_DATE).orElseThrow();
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(AutoTransferRunStatus.RUNNING);
+        assertThat(result.getProcessedCount()).isEqualTo(30);
+        assertThat(result.getSuccessCount()).isEqualTo(28);
+        assertThat(result.getFailureCount()).isEqualTo(2);
+        assertThat(result.getCompletedPartitions()).isEqualTo(1);
+        assertThat(result.getPartitions())
+                .extracting(AutoTransferRunResponse.PartitionProgress::getOwner,
+                        AutoTransferRunResponse.PartitionProgress::getClaimToken,
+                        AutoTransferRunResponse.PartitionProgress::getLastScheduleId)
+                .containsExactly(tuple("node-a", 1L, 120L), tuple("node-b", 2L, 57L));
+    }
+
+    @Test
+    @DisplayName("실행 장부 조회 - 실행한 적 없는 날짜는 empty")
+    void getRun_NotStarted() {
+        // Given
+        when(runRepository.findByExecutionDate(EXECUTION_DATE)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThat(autoTransferRunService.getRun(EXECUTION_DATE)).isEmpty();
+        verify(partitionRepository, never()).findByExecutionDateOrderByPartitionNoAsc(any());
+    }
+
+    @Test
+    @DisplayName("중단된 실행일 - look-back 기간 안에 RUNNING으로 남은 실행일을 오래된 순으로 (어제 실행 포함)")
+    void findInterruptedRunDates() {
+        // Given - 오늘이 실행일 다음날 (실행 중 클러스터가 내려갔다가 자정 이후 기동)
+        ReflectionTestUtils.setField(autoTransferRunService, "resumeLookbackDays", 7);
+        LocalDate today = EXECUTION_DATE.plusDays(1);
+        when(runRepository.findByStatusAndExecutionDateGreaterThanEqualOrderByExecutionDateAsc(
+                AutoTransferRunStatus.RUNNING, today.minusDays(7)))
+                .thenReturn(List.of(createRun(AutoTransferRunStatus.RUNNING)));
+
+        // When & Then
+        assertThat(autoTransferRunService.findInterruptedRunDates(today)).containsExactly(EXECUTION_DATE);
+    }
+
+    private AutoTransferRun createRun(AutoTransferRunStatus status) {
+        return AutoTransferRun.builder()
+                .id(1L)
+                .executionDate(EXECUTION_DATE)
+                .status(status)
+                .startedAt(EXECUTION_DATE.atTime(9, 0))
+                .processedCount(30)
+                .successCount(28)
+                .failureCount(2)
+                .build();
+    }
+
+    private AutoTransferPartition createPartition(int partitionNo, AutoTransferPartitionStatus status, String owner,
+                                                  long claimToken, long lastScheduleId) {
+        return AutoTransferPartition.builder()
+                .id((long) partitionNo + 1)
+                .executionDate(EXECUTION_DATE)
+                .partitionNo(partitionNo)
+                .partitionCount(2)
+                .status(status)
+                .owner(owner)
+                .claimedUntil(LocalDateTime.of(2024, 3, 15, 9, 5))
+                .claimToken(claimToken)
+                .lastScheduleId(lastScheduleId)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.hanaieum.server.domain.autoTransfer.service;
 
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.entity.Account;
 import com.hanaieum.server.domain.account.entity.AccountType;
 import com.hanaieum.server.domain.autoTransfer.dto.TransferStatus;
@@ -39,7 +40,7 @@ class AutoTransferScheduleServiceImplTest {
         // Given
         Account fromAccount = createMainAccount();
         Account toAccount = createMoneyBoxAccount();
-        BigDecimal amount = BigDecimal.valueOf(100000);
+        Money amount = Money.of(100000);
         Integer transferDay = 15;
 
         AutoTransferSchedule savedSchedule = AutoTransferSchedule.builder()
@@ -79,7 +80,7 @@ class AutoTransferScheduleServiceImplTest {
         // Given
         Account fromAccount = createMainAccount();
         Account toAccount = createMoneyBoxAccount();
-        BigDecimal newAmount = BigDecimal.valueOf(200000);
+        Money newAmount = Money.of(200000);
         Integer newTransferDay = 20;
 
         // 현재 스케줄 (기존 설정과 다름)
@@ -87,7 +88,7 @@ class AutoTransferScheduleServiceImplTest {
                 .id(1L)
                 .fromAccount(fromAccount)
                 .toAccount(toAccount)
-                .amount(BigDecimal.valueOf(100000))
+                .amount(Money.of(100000))
                 .transferDay(15)
                 .validFrom(LocalDate.now().withDayOfMonth(1))
                 .validTo(null)
@@ -116,7 +117,7 @@ class AutoTransferScheduleServiceImplTest {
         // Given
         Account fromAccount = createMainAccount();
         Account toAccount = createMoneyBoxAccount();
-        BigDecimal amount = BigDecimal.valueOf(100000);
+        Money amount = Money.of(100000);
         Integer transferDay = 15;
 
         // 현재 스케줄 (기존 설정과 동일)
@@ -167,7 +168,7 @@ class AutoTransferScheduleServiceImplTest {
                 .id(1L)
                 .fromAccount(fromAccount)
                 .toAccount(toAccount)
-                .amount(BigDecimal.valueOf(100000))
+                .amount(Money.of(100000))
                 .transferDay(15)
                 .validFrom(LocalDate.now().withDayOfMonth(1))
                 .validTo(null)
@@ -179,7 +180,7 @@ class AutoTransferScheduleServiceImplTest {
                 .id(2L)
                 .fromAccount(fromAccount)
                 .toAccount(toAccount)
-                .amount(BigDecimal.valueOf(100000))
+                .amount(Money.of(100000))
                 .transferDay(15)
                 .validFrom(LocalDate.now().withDayOfMonth(1).plusMonths(1))
                 .validTo(null)
@@ -234,7 +235,7 @@ class AutoTransferScheduleServiceImplTest {
         AutoTransferSchedule schedule = AutoTransferSchedule.builder()
                 .fromAccount(fromAccount)
                 .toAccount(toAccount)
-                .amount(BigDecimal.valueOf(100000))
+                .amount(Money.of(100000))
                 .transferDay(15)
                 .validFrom(today.minusDays(10))
                 .validTo(null)
@@ -265,7 +266,7 @@ class AutoTransferScheduleServiceImplTest {
         AutoTransferSchedule schedule = AutoTransferSchedule.builder()
                 .fromAccount(fromAccount)
                 .toAccount(toAccount)
-                .amount(BigDecimal.valueOf(100000))
+                .amount(Money.of(100000))
                 .transferDay(15)
                 .validFrom(today.plusDays(10))
                 .validTo(null)
@@ -295,7 +296,7 @@ class AutoTransferScheduleServiceImplTest {
         AutoTransferSchedule currentSchedule = AutoTransferSchedule.builder()
                 .fromAccount(fromAccount)
                 .toAccount(toAccount)
-                .amount(BigDecimal.valueOf(100000))
+                .amount(Money.of(100000))
                 .transferDay(15)
                 .validFrom(LocalDate.now().withDayOfMonth(1))
                 .validTo(null) // validTo가 null이므로 다음달에도 계속 유효
@@ -333,7 +334,7 @@ class AutoTransferScheduleServiceImplTest {
         AutoTransferSchedule currentSchedule = AutoTransferSchedule.builder()
                 .fromAccount(fromAccount)
                 .toAccount(toAccount)
-                .amount(BigDecimal.valueOf(100000))
+                .amount(Money.of(100000))
                 .transferDay(15)
                 .validFrom(LocalDate.now().withDayOfMonth(1))
                 .validTo(endOfMonth) // 이번달 말까지만 유효
@@ -368,7 +369,7 @@ class AutoTransferScheduleServiceImplTest {
         AutoTransferSchedule currentSchedule = AutoTransferSchedule.builder()
                 .fromAccount(fromAccount)
                 .toAccount(toAccount)
-                .amount(BigDecimal.valueOf(100000))
+                .amount(Money.of(100000))
                 .transferDay(15)
                 .validFrom(LocalDate.now().withDayOfMonth(1))
                 .validTo(null)
@@ -379,7 +380,7 @@ class AutoTransferScheduleServiceImplTest {
         AutoTransferSchedule futureSchedule = AutoTransferSchedule.builder()
                 .fromAccount(fromAccount)
                 .toAccount(toAccount)
-                .amount(BigDecimal.valueOf(200000)) // 다른 금액
+                .amount(Money.of(200000)) // 다른 금액
                 .transferDay(20) // 다른 이체일
                 .validFrom(LocalDate.now().withDayOfMonth(1).plusMonths(1))
                 .validTo(null)
@@ -441,7 +442,7 @@ class AutoTransferScheduleServiceImplTest {
                 .id(1L)
                 .fromAccount(fromAccount)
                 .toAccount(moneyBoxAccount)
-                .amount(BigDecimal.valueOf(100000))
+                .amount(Money.of(100000))
                 .transferDay(15)
                 .active(true)
                 .deleted(false)
@@ -451,7 +452,7 @@ class AutoTransferScheduleServiceImplTest {
                 .id(2L)
                 .fromAccount(fromAccount)
                 .toAccount(moneyBoxAccount)
-                .amount(BigDecimal.valueOf(200000))
+                .amount(Money.of(200000))
                 .transferDay(20)
                 .active(true)
                 .deleted(false)
@@ -511,7 +512,7 @@ class AutoTransferScheduleServiceImplTest {
                 .number("12345678901234")
                 .name("주계좌")
                 .accountType(AccountType.MAIN)
-                .balance(BigDecimal.valueOf(1000000))
+                .balance(Money.of(1000000))
                 .deleted(false)
                 .build();
     }
@@ -523,7 +524,7 @@ class AutoTransferScheduleServiceImplTest {
                 .number("98765432109")
                 .name("머니박스")
                 .accountType(AccountType.MONEY_BOX)
-                .balance(BigDecimal.valueOf(100000))
+                .balance(Money.of(100000))
                 .deleted(false)
                 .build();
     }
@@ -1,5 +1,6 @@
 package com.hanaieum.server.domain.autoTransfer.service;
 
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.entity.Account;
 import com.hanaieum.server.domain.account.entity.AccountType;
 import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferHistory;
@@ -10,18 +11,26 @@ import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferScheduleRe
 import com.hanaieum.server.domain.member.entity.Gender;
 import com.hanaieum.server.domain.member.entity.Member;
 import com.hanaieum.server.domain.transfer.service.TransferService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,6 +40,10 @@ import static org.mockito.Mockito.*;
 @DisplayName("AutoTransferService 단위 테스트")
 class AutoTransferServiceImplTest {
 
+    // 파티션 1개 (출금 계좌 ID % 1 = 0)를 이 노드가 처음 가져간 상태 (체크포인트 없음)
+    private static final AutoTransferPartitionManager.Claim CLAIM =
+            new AutoTransferPartitionManager.Claim(1L, LocalDate.of(2024, 3, 15), 0, 1, "node-a", 1L, 0L);
+
     @Mock
     private AutoTransferScheduleRepository scheduleRepository;
 
@@ -40,9 +53,23 @@ class AutoTransferServiceImplTest {
     @Mock
     private TransferService transferService;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private AutoTransferParallelExecutor parallelExecutor = new AutoTransferParallelExecutor();
+
+    @Mock
+    private AutoTransferPartitionManager partitionManager;
+
     @InjectMocks
     private AutoTransferServiceImpl autoTransferService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(autoTransferService, "chunkSize", 500);
+    }
+
     @Test
     @DisplayName("예정된 자동이체 실행 성공")
     void executeScheduledTransfers_Success() {
@@ -53,103 +80,139 @@ class AutoTransferServiceImplTest {
         AutoTransferSchedule schedule2 = createSchedule(2L, 15);
         List<AutoTransferSchedule> schedules = List.of(schedule1, schedule2);
 
-        when(scheduleRepository.findSchedulesForExecution(targetDate, 15))
+        stubSinglePartition(targetDate);
+        when(partitionManager.heartbeat(CLAIM)).thenReturn(true);
+        when(partitionManager.checkpoint(eq(CLAIM), anyLong(), any())).thenReturn(true);
+        when(scheduleRepository.findDueSchedulesWithAccounts(eq(targetDate), eq(15),
+                eq(1), eq(0), eq(0L), any(Pageable.class)))
                 .thenReturn(schedules);
-        when(historyRepository.findTodayExecution(any(AutoTransferSchedule.class), any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(Optional.empty()); // 오늘 실행된 이력 없음
-        when(historyRepository.save(any(AutoTransferHistory.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        stubClaimSucceeds();
 
         // 이체 성공
-        doNothing().when(transferService).executeAutoTransfer(anyLong(), anyLong(), any(BigDecimal.class), anyLong());
+        doNothing().when(transferService).executeAutoTransfer(any(Account.class), any(Account.class), any(Money.class), anyLong());
 
         // When
         autoTransferService.executeScheduledTransfers(targetDate);
 
-        // Then
-        verify(transferService, times(2)).executeAutoTransfer(anyLong(), anyLong(), any(BigDecimal.class), anyLong());
-        verify(historyRepository, times(2)).save(any(AutoTransferHistory.class));
+        // Then (함께 조회한 계좌로 이체)
+        verify(transferService, times(2)).executeAutoTransfer(any(Account.class), any(Account.class), any(Money.class), anyLong());
+        verify(historyRepository, times(2)).saveAndFlush(any(AutoTransferHistory.class));
+        verify(historyRepository, times(2)).completeClaim(any(), eq(AutoTransferStatus.SUCCESS), isNull());
+        verify(partitionManager).checkpoint(eq(CLAIM), eq(2L), any());
+        verify(partitionManager).complete(CLAIM);
+        verify(partitionManager).finishRun(targetDate);
     }
 
     @Test
-    @DisplayName("이미 실행된 스케줄은 건너뛰기")
-    void executeScheduledTransfers_SkipAlreadyExecuted() {
+    @DisplayName("실행 대상은 id 키셋 chunk로 나눠 조회 - 마지막 chunk가 덜 차면 종료")
+    void executeScheduledTransfers_ReadsInChunks() {
         // Given
+        ReflectionTestUtils.setField(autoTransferService, "chunkSize", 2);
         LocalDate targetDate = LocalDate.of(2024, 3, 15);
-        
-        AutoTransferSchedule schedule = createSchedule(1L, 15);
-        List<AutoTransferSchedule> schedules = List.of(schedule);
+        Pageable chunk = PageRequest.of(0, 2);
+
+        stubSinglePartition(targetDate);
+        when(partitionManager.heartbeat(CLAIM)).thenReturn(true);
+        when(partitionManager.checkpoint(eq(CLAIM), anyLong(), any())).thenReturn(true);
+        when(scheduleRepository.findDueSchedulesWithAccounts(eq(targetDate), eq(15),
+                eq(1), eq(0), eq(0L), eq(chunk)))
+                .thenReturn(List.of(createSchedule(1L, 15), createSchedule(3L, 15)));
+        when(scheduleRepository.findDueSchedulesWithAccounts(eq(targetDate), eq(15),
+                eq(1), eq(0), eq(3L), eq(chunk)))
+                .thenReturn(List.of(createSchedule(7L, 15)));
+        stubClaimSucceeds();
 
-        AutoTransferHistory existingHistory = AutoTransferHistory.builder()
-                .schedule(schedule)
-                .status(AutoTransferStatus.SUCCESS)
-                .build();
+        // When
+        autoTransferService.executeScheduledTransfers(targetDate);
 
-        when(scheduleRepository.findSchedulesForExecution(targetDate, 15))
-                .thenReturn(schedules);
-        when(historyRepository.findTodayExecution(any(AutoTransferSchedule.class), any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(Optional.of(existingHistory)); // 이미 성공한 이력 존재
+        // Then (두 번째 chunk가 1건이라 더 조회하지 않음)
+        verify(scheduleRepository, times(2)).findDueSchedulesWithAccounts(
+                any(), any(), anyInt(), anyInt(), anyLong(), any(Pageable.class));
+        verify(transferService, times(3)).executeAutoTransfer(any(Account.class), any(Account.class), any(Money.class), anyLong());
+        verify(parallelExecutor, times(2)).execute(anyList(), any());
+        // chunk마다 마지막 스케줄 ID를 체크포인트로 기록
+        verify(partitionManager).checkpoint(eq(CLAIM), eq(3L), any());
+        verify(partitionManager).checkpoint(eq(CLAIM), eq(7L), any());
+    }
+
+    @Test
+    @DisplayName("이미 실행된 스케줄은 건너뛰기 - 그날 선점 이력이 있는 스케줄은 조회에서 제외")
+    void executeScheduledTransfers_SkipAlreadyExecuted() {
+        // Given
+        LocalDate targetDate = LocalDate.of(2024, 3, 15);
+
+        // 그날 이력(선점)이 있는 스케줄은 조회 결과에서 빠짐
+        stubSinglePartition(targetDate);
+        when(scheduleRepository.findDueSchedulesWithAccounts(targetDate, 15, 1, 0, 0L, PageRequest.of(0, 500)))
+                .thenReturn(List.of());
 
         // When
         autoTransferService.executeScheduledTransfers(targetDate);
 
         // Then
-        verify(transferService, never()).executeAutoTransfer(anyLong(), anyLong(), any(BigDecimal.class), anyLong());
+        verify(transferService, never()).executeAutoTransfer(any(Account.class), any(Account.class), any(Money.class), anyLong());
         verify(historyRepository, never()).save(any(AutoTransferHistory.class));
     }
 
     @Test
-    @DisplayName("단일 자동이체 실행 성공")
+    @DisplayName("단일 자동이체 실행 성공 - PENDING 이력으로 선점 후 이체와 같은 트랜잭션에서 SUCCESS로 갱신")
     void executeTransfer_Success() {
         // Given
         AutoTransferSchedule schedule = createSchedule(1L, 15);
+        LocalDate executionDate = LocalDate.of(2024, 3, 15);
         
-        when(historyRepository.save(any(AutoTransferHistory.class)))
+        when(historyRepository.saveAndFlush(any(AutoTransferHistory.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
+        when(historyRepository.completeClaim(any(), eq(AutoTransferStatus.SUCCESS), isNull())).thenReturn(1);
 
         // 이체 성공
         doNothing().when(transferService).executeAutoTransfer(
-                eq(schedule.getFromAccount().getId()),
-                eq(schedule.getToAccount().getId()),
+                eq(schedule.getFromAccount()),
+                eq(schedule.getToAccount()),
                 eq(schedule.getAmount()),
                 eq(schedule.getId())
         );
 
         // When
-        AutoTransferHistory result = autoTransferService.executeTransfer(schedule);
+        AutoTransferHistory result = autoTransferService.executeTransfer(schedule, executionDate);
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getSchedule()).isEqualTo(schedule);
+        assertThat(result.getExecutionDate()).isEqualTo(executionDate);
         assertThat(result.getStatus()).isEqualTo(AutoTransferStatus.SUCCESS);
         assertThat(result.getFailureReason()).isNull();
         assertThat(result.getRetryCount()).isEqualTo(0);
         
         verify(transferService).executeAutoTransfer(
-                eq(schedule.getFromAccount().getId()),
-                eq(schedule.getToAccount().getId()),
+                eq(schedule.getFromAccount()),
+                eq(schedule.getToAccount()),
                 eq(schedule.getAmount()),
                 eq(schedule.getId())
         );
-        verify(historyRepository).save(any(AutoTransferHistory.class));
+        // 선점 INSERT 후 결과는 UPDATE로만 기록 (선점 전 조회 없음)
+        verify(historyRepository).saveAndFlush(argThat(history ->
+                history.getStatus() == AutoTransferStatus.PENDING && executionDate.equals(history.getExecutionDate())));
+        verify(historyRepository, never()).save(any(AutoTransferHistory.class));
     }
 
     @Test
-    @DisplayName("단일 자동이체 실행 실패")
+    @DisplayName("단일 자동이체 실행 실패 - 이체는 롤백, 선점 이력은 FAILED로 갱신")
     void executeTransfer_Failure() {
         // Given
         AutoTransferSchedule schedule = createSchedule(1L, 15);
         String failureMessage = "잔액이 부족합니다";
         
-        when(historyRepository.save(any(AutoTransferHistory.class)))
+        when(historyRepository.saveAndFlush(any(AutoTransferHistory.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
+        when(historyRepository.completeClaim(any(), eq(AutoTransferStatus.FAILED), eq(failureMessage))).thenReturn(1);
 
         // 이체 실패
         doThrow(new RuntimeException(failureMessage))
-                .when(transferService).executeAutoTransfer(anyLong(), anyLong(), any(BigDecimal.class), anyLong());
+                .when(transferService).executeAutoTransfer(any(Account.class), any(Account.class), any(Money.class), anyLong());
 
         // When
-        AutoTransferHistory result = autoTransferService.executeTransfer(schedule);
+        AutoTransferHistory result = autoTransferService.executeTransfer(schedule, LocalDate.of(2024, 3, 15));
 
         // Then
         assertThat(result).isNotNull();
@@ -158,8 +221,50 @@ class AutoTransferServiceImplTest {
         assertThat(result.getFailureReason()).isEqualTo(failureMessage);
         assertThat(result.getRetryCount()).isEqualTo(0);
         
-        verify(transferService).executeAutoTransfer(anyLong(), anyLong(), any(BigDecimal.class), anyLong());
-        verify(historyRepository).save(any(AutoTransferHistory.class));
+        verify(transferService).executeAutoTransfer(any(Account.class), any(Account.class), any(Money.class), anyLong());
+        verify(historyRepository, never()).completeClaim(any(), eq(AutoTransferStatus.SUCCESS), any());
+        // 선점 트랜잭션 커밋, 이체 트랜잭션 롤백, 실패 기록 트랜잭션 커밋
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("단일 자동이체 실행 - (스케줄, 실행일) 유니크 위반이면 다른 실행이 선점한 것으로 보고 이체 없이 건너뜀")
+    void executeTransfer_AlreadyClaimed() {
+        // Given
+        AutoTransferSchedule schedule = createSchedule(1L, 15);
+
+        when(historyRepository.saveAndFlush(any(AutoTransferHistory.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_histories_schedule_execution_date"));
+
+        // When
+        AutoTransferHistory result = autoTransferService.executeTransfer(schedule, LocalDate.of(2024, 3, 15));
+
+        // Then
+        assertThat(result).isNull();
+        verify(transferService, never()).executeAutoTransfer(any(Account.class), any(Account.class), any(Money.class), anyLong());
+        verify(historyRepository, never()).completeClaim(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("단일 자동이체 실행 - 이체 중 선점이 중단 처리되었으면 이체까지 롤백하고 결과 기록 무시")
+    void executeTransfer_ClaimExpired() {
+        // Given
+        AutoTransferSchedule schedule = createSchedule(1L, 15);
+
+        when(historyRepository.saveAndFlush(any(AutoTransferHistory.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        // 이미 재시도 잡이 FAILED로 전환 → PENDING 조건 불일치
+        when(historyRepository.completeClaim(any(), any(), any())).thenReturn(0);
+
+        // When
+        AutoTransferHistory result = autoTransferService.executeTransfer(schedule, LocalDate.of(2024, 3, 15));
+
+        // Then (이체 트랜잭션 롤백)
+        assertThat(result.getStatus()).isEqualTo(AutoTransferStatus.FAILED);
+        verify(transferService).executeAutoTransfer(any(Account.class), any(Account.class), any(Money.class), anyLong());
+        verify(transactionManager).rollback(any());
     }
 
     @Test
@@ -174,7 +279,7 @@ class AutoTransferServiceImplTest {
                 .schedule(createSchedule(1L, 15))
                 .fromAccount(createMainAccount())
                 .toAccount(createMoneyBoxAccount())
-                .amount(BigDecimal.valueOf(100000))
+                .amount(Money.of(100000))
                 .status(AutoTransferStatus.FAILED)
                 .retryCount(retryCount)
                 .build();
@@ -186,18 +291,23 @@ class AutoTransferServiceImplTest {
 
         when(historyRepository.findFailedTransfersForRetry(startOfDay, endOfDay, retryCount))
                 .thenReturn(failedTransfers);
-        when(historyRepository.save(any(AutoTransferHistory.class)))
-                .thenReturn(failedHistory);
+        when(historyRepository.claimRetry(eq(1L), eq(retryCount), any(LocalDateTime.class))).thenReturn(1);
+        when(historyRepository.completeClaim(1L, AutoTransferStatus.SUCCESS, null)).thenReturn(1);
 
         // 재시도 성공
-        doNothing().when(transferService).executeAutoTransfer(anyLong(), anyLong(), any(BigDecimal.class), anyLong());
+        doNothing().when(transferService).executeAutoTransfer(anyLong(), anyLong(), any(Money.class), anyLong());
 
         // When
-        autoTransferService.retryFailedTransfers(targetDate, retryCount);
-
-        // Then
-        verify(transferService).executeAutoTransfer(anyLong(), anyLong(), any(BigDecimal.class), anyLong());
-        verify(historyRepository).save(failedHistory);
+        autoTransferService.retryFailedTransfers(targetDate, retryCount, () -> true);
+
+        // Then (선점 후 이체와 성공 기록을 한 트랜잭션으로 커밋)
+        InOrder inOrder = inOrder(historyRepository, transferService);
+        inOrder.verify(historyRepository).claimRetry(eq(1L), eq(retryCount), any(LocalDateTime.class));
+        inOrder.verify(transferService).executeAutoTransfer(anyLong(), anyLong(), any(Money.class), anyLong());
+        inOrder.verify(historyRepository).completeClaim(1L, AutoTransferStatus.SUCCESS, null);
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager).commit(any());
+        verify(historyRepository, never()).save(any(AutoTransferHistory.class));
         assertThat(failedHistory.getStatus()).isEqualTo(AutoTransferStatus.SUCCESS);
         assertThat(failedHistory.getFailureReason()).isNull();
     }
@@ -214,7 +324,7 @@ class AutoTransferServiceImplTest {
                 .schedule(createSchedule(1L, 15))
                 .fromAccount(createMainAccount())
                 .toAccount(createMoneyBoxAccount())
-                .amount(BigDecimal.valueOf(100000))
+                .amount(Money.of(100000))
                 .status(AutoTransferStatus.FAILED)
                 .retryCount(retryCount)
                 .build();
@@ -227,19 +337,22 @@ class AutoTransferServiceImplTest {
 
         when(historyRepository.findFailedTransfersForRetry(startOfDay, endOfDay, retryCount))
                 .thenReturn(failedTransfers);
-        when(historyRepository.save(any(AutoTransferHistory.class)))
-                .thenReturn(failedHistory);
+        when(historyRepository.claimRetry(eq(1L), eq(retryCount), any(LocalDateTime.class))).thenReturn(1);
+        when(historyRepository.completeClaim(1L, AutoTransferStatus.RETRY, failureMessage)).thenReturn(1);
 
         // 재시도 실패
         doThrow(new RuntimeException(failureMessage))
-                .when(transferService).executeAutoTransfer(anyLong(), anyLong(), any(BigDecimal.class), anyLong());
+                .when(transferService).executeAutoTransfer(anyLong(), anyLong(), any(Money.class), anyLong());
 
         // When
-        autoTransferService.retryFailedTransfers(targetDate, retryCount);
+        autoTransferService.retryFailedTransfers(targetDate, retryCount, () -> true);
 
-        // Then
-        verify(transferService).executeAutoTransfer(anyLong(), anyLong(), any(BigDecimal.class), anyLong());
-        verify(historyRepository).save(failedHistory);
+        // Then (이체 트랜잭션 롤백 후 선점 행만 RETRY로 기록)
+        verify(transferService).executeAutoTransfer(anyLong(), anyLong(), any(Money.class), anyLong());
+        verify(historyRepository).completeClaim(1L, AutoTransferStatus.RETRY, failureMessage);
+        verify(historyRepository, never()).completeClaim(any(), eq(AutoTransferStatus.SUCCESS), any());
+        verify(transactionManager).rollback(any());
+        verify(historyRepository, never()).save(any(AutoTransferHistory.class));
         assertThat(failedHistory.getRetryCount()).isEqualTo(retryCount + 1);
         assertThat(failedHistory.getStatus()).isEqualTo(AutoTransferStatus.RETRY);
         assertThat(failedHistory.getFailureReason()).isEqualTo(failureMessage);
@@ -257,7 +370,7 @@ class AutoTransferServiceImplTest {
                 .schedule(createSchedule(1L, 15))
                 .fromAccount(createMainAccount())
                 .toAccount(createMoneyBoxAccount())
-                .amount(BigDecimal.valueOf(100000))
+                .amount(Money.of(100000))
                 .status(AutoTransferStatus.RETRY)
                 .retryCount(retryCount)
                 .build();
@@ -270,46 +383,112 @@ class AutoTransferServiceImplTest {
 
         when(historyRepository.findFailedTransfersForRetry(startOfDay, endOfDay, retryCount))
                 .thenReturn(failedTransfers);
-        when(historyRepository.save(any(AutoTransferHistory.class)))
-                .thenReturn(failedHistory);
+        when(historyRepository.claimRetry(eq(1L), eq(retryCount), any(LocalDateTime.class))).thenReturn(1);
+        when(historyRepository.completeClaim(1L, AutoTransferStatus.FAILED, failureMessage)).thenReturn(1);
 
         // 최종 재시도 실패
         doThrow(new RuntimeException(failureMessage))
-                .when(transferService).executeAutoTransfer(anyLong(), anyLong(), any(BigDecimal.class), anyLong());
+                .when(transferService).executeAutoTransfer(anyLong(), anyLong(), any(Money.class), anyLong());
 
         // When
-        autoTransferService.retryFailedTransfers(targetDate, retryCount);
+        autoTransferService.retryFailedTransfers(targetDate, retryCount, () -> true);
 
         // Then
-        verify(transferService).executeAutoTransfer(anyLong(), anyLong(), any(BigDecimal.class), anyLong());
-        verify(historyRepository).save(failedHistory);
+        verify(transferService).executeAutoTransfer(anyLong(), anyLong(), any(Money.class), anyLong());
+        verify(historyRepository).completeClaim(1L, AutoTransferStatus.FAILED, failureMessage);
         assertThat(failedHistory.getRetryCount()).isEqualTo(3); // 최대 재시도 횟수
         assertThat(failedHistory.getStatus()).isEqualTo(AutoTransferStatus.FAILED); // 최종 실패
         assertThat(failedHistory.getFailureReason()).isEqualTo(failureMessage);
     }
 
     @Test
-    @DisplayName("실행 대상 스케줄 조회")
-    void getSchedulesToExecute() {
+    @DisplayName("재시도 - 다른 워커가 먼저 선점한 이력(조건부 UPDATE 0행)은 이체 없이 건너뜀")
+    void retryFailedTransfers_AlreadyClaimed() {
         // Given
         LocalDate targetDate = LocalDate.of(2024, 3, 15);
-        int targetDay = 15;
+        Integer retryCount = 0;
         
-        List<AutoTransferSchedule> schedules = List.of(
-                createSchedule(1L, 15),
-                createSchedule(2L, 15)
-        );
+        AutoTransferHistory failedHistory = AutoTransferHistory.builder()
+                .id(1L)
+                .schedule(createSchedule(1L, 15))
+                .fromAccount(createMainAccount())
+                .toAccount(createMoneyBoxAccount())
+                .amount(Money.of(100000))
+                .status(AutoTransferStatus.FAILED)
+                .retryCount(retryCount)
+                .build();
+        
+        LocalDateTime startOfDay = targetDate.atStartOfDay();
+        LocalDateTime endOfDay = targetDate.plusDays(1).atStartOfDay();
 
-        when(scheduleRepository.findSchedulesForExecution(targetDate, targetDay))
-                .thenReturn(schedules);
+        when(historyRepository.findFailedTransfersForRetry(startOfDay, endOfDay, retryCount))
+                .thenReturn(List.of(failedHistory));
+        when(historyRepository.claimRetry(eq(1L), eq(retryCount), any(LocalDateTime.class))).thenReturn(0);
 
         // When
-        List<AutoTransferSchedule> result = autoTransferService.getSchedulesToExecute(targetDate);
+        autoTransferService.retryFailedTransfers(targetDate, retryCount, () -> true);
 
         // Then
-        assertThat(result).hasSize(2);
-        assertThat(result).isEqualTo(schedules);
-        verify(scheduleRepository).findSchedulesForExecution(targetDate, targetDay);
+        verify(transferService, never()).executeAutoTransfer(anyLong(), anyLong(), any(Money.class), anyLong());
+        verify(historyRepository, never()).completeClaim(any(), any(), any());
+        assertThat(failedHistory.getStatus()).isEqualTo(AutoTransferStatus.FAILED);
+        assertThat(failedHistory.getRetryCount()).isEqualTo(retryCount);
+    }
+
+    @Test
+    @DisplayName("재시도 전 결과 기록 없이 멈춘 선점(PENDING) 이력을 실패로 전환해 재시도 대상에 포함")
+    void retryFailedTransfers_ExpiresStalePending() {
+        // Given
+        ReflectionTestUtils.setField(autoTransferService, "pendingTimeoutSeconds", 600L);
+        LocalDate targetDate = LocalDate.of(2024, 3, 15);
+        LocalDateTime startOfDay = targetDate.atStartOfDay();
+        LocalDateTime endOfDay = targetDate.plusDays(1).atStartOfDay();
+
+        when(historyRepository.expireStalePending(any(LocalDateTime.class), anyString())).thenReturn(1);
+        when(historyRepository.findFailedTransfersForRetry(startOfDay, endOfDay, 0)).thenReturn(List.of());
+
+        // When
+        LocalDateTime before = LocalDateTime.now();
+        autoTransferService.retryFailedTransfers(targetDate, 0, () -> true);
+
+        // Then (선점 후 pending-timeout이 지난 행만 전환)
+        verify(historyRepository).expireStalePending(
+                argThat(staleBefore -> !staleBefore.isAfter(LocalDateTime.now().minusSeconds(600))
+                        && !staleBefore.isBefore(before.minusSeconds(600))),
+                anyString());
+        // 전환 후 재시도 대상 조회
+        InOrder inOrder = inOrder(historyRepository);
+        inOrder.verify(historyRepository).expireStalePending(any(), any());
+        inOrder.verify(historyRepository).findFailedTransfersForRetry(startOfDay, endOfDay, 0);
+    }
+
+    @Test
+    @DisplayName("재시도 - 스케줄러 리스를 잃으면 남은 이력은 선점하지 않고 중단")
+    void retryFailedTransfers_StopsWhenLeaseLost() {
+        // Given
+        LocalDate targetDate = LocalDate.of(2024, 3, 15);
+        Integer retryCount = 0;
+        List<AutoTransferHistory> failedHistories = List.of(
+                AutoTransferHistory.builder().id(1L).schedule(createSchedule(1L, 15))
+                        .fromAccount(createMainAccount()).toAccount(createMoneyBoxAccount())
+                        .amount(Money.of(100000)).status(AutoTransferStatus.FAILED).retryCount(retryCount).build(),
+                AutoTransferHistory.builder().id(2L).schedule(createSchedule(2L, 15))
+                        .fromAccount(createMainAccount()).toAccount(createMoneyBoxAccount())
+                        .amount(Money.of(100000)).status(AutoTransferStatus.FAILED).retryCount(retryCount).build());
+
+        LocalDateTime startOfDay = targetDate.atStartOfDay();
+        LocalDateTime endOfDay = targetDate.plusDays(1).atStartOfDay();
+        when(historyRepository.findFailedTransfersForRetry(startOfDay, endOfDay, retryCount))
+                .thenReturn(failedHistories);
+        when(historyRepository.claimRetry(eq(1L), eq(retryCount), any(LocalDateTime.class))).thenReturn(0);
+
+        // When - 첫 이력 처리 후 리스 연장 실패
+        AtomicBoolean leaseHeld = new AtomicBoolean(true);
+        autoTransferService.retryFailedTransfers(targetDate, retryCount, () -> leaseHeld.getAndSet(false));
+
+        // Then
+        verify(historyRepository).claimRetry(eq(1L), eq(retryCount), any(LocalDateTime.class));
+        verify(historyRepository, never()).claimRetry(eq(2L), any(), any());
     }
 
     @Test
@@ -326,11 +505,11 @@ class AutoTransferServiceImplTest {
                 .thenReturn(List.of());
 
         // When
-        autoTransferService.retryFailedTransfers(targetDate, retryCount);
+        autoTransferService.retryFailedTransfers(targetDate, retryCount, () -> true);
 
         // Then
-        verify(transferService, never()).executeAutoTransfer(anyLong(), anyLong(), any(BigDecimal.class), anyLong());
-        verify(historyRepository, never()).save(any(AutoTransferHistory.class));
+        verify(transferService, never()).executeAutoTransfer(anyLong(), anyLong(), any(Money.class), anyLong());
+        verify(historyRepository, never()).claimRetry(any(), any(), any());
     }
 
     @Test
@@ -339,17 +518,131 @@ class AutoTransferServiceImplTest {
         // Given
         LocalDate targetDate = LocalDate.of(2024, 3, 15);
 
-        when(scheduleRepository.findSchedulesForExecution(targetDate, 15))
+        stubSinglePartition(targetDate);
+        when(scheduleRepository.findDueSchedulesWithAccounts(eq(targetDate), eq(15),
+                eq(1), eq(0), eq(0L), any(Pageable.class)))
                 .thenReturn(List.of());
 
         // When
         autoTransferService.executeScheduledTransfers(targetDate);
 
         // Then
-        verify(transferService, never()).executeAutoTransfer(anyLong(), anyLong(), any(BigDecimal.class), anyLong());
+        verify(transferService, never()).executeAutoTransfer(any(Account.class), any(Account.class), any(Money.class), anyLong());
         verify(historyRepository, never()).save(any(AutoTransferHistory.class));
     }
 
+    @Test
+    @DisplayName("chunk 실행 전 파티션 연장에 실패하면 (다른 노드가 가져감) 실행/완료 처리 없이 중단")
+    void executeScheduledTransfers_StopsWhenPartitionTakenOver() {
+        // Given
+        LocalDate targetDate = LocalDate.of(2024, 3, 15);
+
+        when(partitionManager.claimNext(targetDate)).thenReturn(Optional.of(CLAIM), Optional.empty());
+        when(partitionManager.isFinished(targetDate)).thenReturn(true);
+        when(scheduleRepository.findDueSchedulesWithAccounts(eq(targetDate), eq(15),
+                eq(1), eq(0), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(createSchedule(1L, 15)));
+        when(partitionManager.heartbeat(CLAIM)).thenReturn(false);
+
+        // When
+        autoTransferService.executeScheduledTransfers(targetDate);
+
+        // Then
+        verify(transferService, never()).executeAutoTransfer(any(Account.class), any(Account.class), any(Money.class), anyLong());
+        verify(partitionManager, never()).complete(any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 처리 중인 파티션만 남으면 대기 후 다시 확인 - 멈춘 파티션을 가져와 처리")
+    void executeScheduledTransfers_ReclaimsStalledPartition() {
+        // Given
+        LocalDate targetDate = LocalDate.of(2024, 3, 15);
+
+        // 처음에는 가져갈 파티션이 없고, 대기 후 연장이 끊긴 파티션을 가져감
+        when(partitionManager.claimNext(targetDate))
+                .thenReturn(Optional.empty(), Optional.of(CLAIM), Optional.empty());
+        when(partitionManager.isFinished(targetDate)).thenReturn(false, true);
+        when(partitionManager.awaitNextPoll()).thenReturn(true);
+        when(partitionManager.complete(CLAIM)).thenReturn(true);
+        when(scheduleRepository.findDueSchedulesWithAccounts(eq(targetDate), eq(15),
+                eq(1), eq(0), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // When
+        autoTransferService.executeScheduledTransfers(targetDate);
+
+        // Then
+        verify(partitionManager).prepare(targetDate);
+        verify(partitionManager, times(1)).awaitNextPoll();
+        verify(partitionManager, times(3)).claimNext(targetDate);
+        verify(partitionManager).complete(CLAIM);
+    }
+
+    @Test
+    @DisplayName("체크포인트가 있는 파티션을 가져오면 체크포인트 다음 스케줄부터 조회")
+    void executeScheduledTransfers_ResumesFromCheckpoint() {
+        // Given
+        LocalDate targetDate = LocalDate.of(2024, 3, 15);
+        AutoTransferPartitionManager.Claim resumed =
+                new AutoTransferPartitionManager.Claim(1L, targetDate, 0, 1, "node-b", 2L, 5L);
+
+        when(partitionManager.claimNext(targetDate)).thenReturn(Optional.of(resumed), Optional.empty());
+        when(partitionManager.isFinished(targetDate)).thenReturn(true);
+        when(partitionManager.heartbeat(resumed)).thenReturn(true);
+        when(partitionManager.checkpoint(eq(resumed), eq(8L), any())).thenReturn(true);
+        when(partitionManager.complete(resumed)).thenReturn(true);
+        when(scheduleRepository.findDueSchedulesWithAccounts(eq(targetDate), eq(15),
+                eq(1), eq(0), eq(5L), any(Pageable.class)))
+                .thenReturn(List.of(createSchedule(8L, 15)));
+        stubClaimSucceeds();
+
+        // When
+        autoTransferService.executeScheduledTransfers(targetDate);
+
+        // Then (체크포인트 이전 스케줄은 다시 읽지 않음)
+        verify(scheduleRepository, never()).findDueSchedulesWithAccounts(
+                any(), any(), anyInt(), anyInt(), eq(0L), any(Pageable.class));
+        verify(transferService, times(1)).executeAutoTransfer(any(Account.class), any(Account.class), any(Money.class), anyLong());
+        verify(partitionManager).finishRun(targetDate);
+    }
+
+    @Test
+    @DisplayName("chunk 실행 후 체크포인트 기록에 실패하면 (다른 노드가 가져감) 다음 chunk/완료 처리 없이 중단")
+    void executeScheduledTransfers_StopsWhenCheckpointRejected() {
+        // Given
+        ReflectionTestUtils.setField(autoTransferService, "chunkSize", 1);
+        LocalDate targetDate = LocalDate.of(2024, 3, 15);
+
+        when(partitionManager.claimNext(targetDate)).thenReturn(Optional.of(CLAIM), Optional.empty());
+        when(partitionManager.isFinished(targetDate)).thenReturn(true);
+        when(partitionManager.heartbeat(CLAIM)).thenReturn(true);
+        when(partitionManager.checkpoint(eq(CLAIM), eq(1L), any())).thenReturn(false);
+        when(scheduleRepository.findDueSchedulesWithAccounts(eq(targetDate), eq(15),
+                eq(1), eq(0), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(createSchedule(1L, 15)));
+        stubClaimSucceeds();
+
+        // When
+        autoTransferService.executeScheduledTransfers(targetDate);
+
+        // Then
+        verify(scheduleRepository, times(1)).findDueSchedulesWithAccounts(
+                any(), any(), anyInt(), anyInt(), anyLong(), any(Pageable.class));
+        verify(partitionManager, never()).complete(any());
+    }
+
+    private void stubClaimSucceeds() {
+        when(historyRepository.saveAndFlush(any(AutoTransferHistory.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(historyRepository.completeClaim(any(), eq(AutoTransferStatus.SUCCESS), isNull())).thenReturn(1);
+    }
+
+    private void stubSinglePartition(LocalDate targetDate) {
+        when(partitionManager.claimNext(targetDate)).thenReturn(Optional.of(CLAIM), Optional.empty());
+        when(partitionManager.isFinished(targetDate)).thenReturn(true);
+        when(partitionManager.complete(CLAIM)).thenReturn(true);
+    }
+
     private Member createMember() {
         return Member.builder()
                 .id(1L)
@@ -367,7 +660,7 @@ class AutoTransferServiceImplTest {
                 .number("12345678901234")
                 .name("주계좌")
                 .accountType(AccountType.MAIN)
-                .balance(BigDecimal.valueOf(1000000))
+                .balance(Money.of(1000000))
                 .deleted(false)
                 .build();
     }
@@ -379,7 +672,7 @@ class AutoTransferServiceImplTest {
                 .number("98765432109")
                 .name("머니박스")
                 .accountType(AccountType.MONEY_BOX)
-                .balance(BigDecimal.valueOf(100000))
+                .balance(Money.of(100000))
                 .deleted(false)
                 .build();
     }
@@ -389,7 +682,7 @@ class AutoTransferServiceImplTest {
                 .id(id)
                 .fromAccount(createMainAccount())
                 .toAccount(createMoneyBoxAccount())
-                .amount(BigDecimal.valueOf(100000))
+                .amount(Money.of(100000))
                 .transferDay(transferDay)
                 .validFrom(LocalDate.of(2024, 3, 1))
                 .validTo(null)
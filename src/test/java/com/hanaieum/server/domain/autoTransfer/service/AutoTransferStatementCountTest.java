@@ -0,0 +1,106 @@
+package com.hanaieum.server.domain.autoTransfer.service;
+
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountType;
+import com.hanaieum.server.domain.account.repository.AccountRepository;
+import com.hanaieum.server.domain.autoTransfer.entity.AutoTransferStatus;
+import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferHistoryRepository;
+import com.hanaieum.server.domain.autoTransfer.repository.AutoTransferScheduleRepository;
+import com.hanaieum.server.domain.member.entity.Member;
+import com.hanaieum.server.domain.member.repository.MemberRepository;
+import com.hanaieum.server.domain.transfer.service.SqlStatementCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static com.hanaieum.server.common.TestFixtures.account;
+import static com.hanaieum.server.common.TestFixtures.dueSchedule;
+import static com.hanaieum.server.common.TestFixtures.member;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest(properties = {
+        // 다른 테스트가 남긴 오늘 실행 대상 스케줄이 섞이지 않도록 별도 DB 사용
+        "spring.datasource.url=jdbc:h2:mem:autotransferstatementdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+        // 대상 조회 횟수는 파티션 수만큼 늘어나므로 파티션 1개로 측정
+        "auto-transfer.partition-count=1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.hanaieum.server.domain.transfer.service.SqlStatementCounter"
+})
+@ActiveProfiles("test")
+@DisplayName("정규 자동이체 SQL 문장 수 측정")
+class AutoTransferStatementCountTest {
+
+    private static final int SCHEDULE_COUNT = 10;
+    // 선점 이력 INSERT, 출금 UPDATE + 잔액 SELECT, 입금 UPDATE + 잔액 SELECT, 이자 누적 UPDATE, 거래내역 INSERT,
+    // 이력 결과 UPDATE
+    private static final int STATEMENTS_PER_SCHEDULE = 8;
+    // TABLE 전략 ID 블록 할당 (테이블별 조회 + 갱신)
+    private static final int ID_ALLOCATION_ALLOWANCE = 6;
+
+    @Autowired
+    private AutoTransferService autoTransferService;
+
+    @Autowired
+    private AutoTransferScheduleRepository scheduleRepository;
+
+    @Autowired
+    private AutoTransferHistoryRepository historyRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("스케줄 수와 무관하게 대상 조회는 1번, 스케줄당 문장 수는 상한 이하")
+    void executeScheduledTransfers_NoPerScheduleLookups() {
+        // Given
+        LocalDate targetDate = LocalDate.now();
+        for (int i = 0; i < SCHEDULE_COUNT; i++) {
+            createAndSaveSchedule(i, targetDate);
+        }
+        SqlStatementCounter.reset();
+
+        // When
+        autoTransferService.executeScheduledTransfers(targetDate);
+
+        // Then
+        long total = SqlStatementCounter.total();
+        long idAllocations = SqlStatementCounter.count("id_sequences");
+        // 실행 장부/파티션 생성, 가져오기, 연장, 체크포인트, 완료는 스케줄 수가 아니라 chunk 수에 비례
+        long partitionStatements = SqlStatementCounter.count("auto_transfer_partitions")
+                + SqlStatementCounter.count("auto_transfer_runs");
+        log.info("정규 자동이체 {}건 - 전체 SQL: {}건 (스케줄당 {}), ID 테이블 접근: {}건, 실행 장부/파티션 관리: {}건",
+                SCHEDULE_COUNT, total, (double) (total - idAllocations - partitionStatements) / SCHEDULE_COUNT,
+                idAllocations, partitionStatements);
+
+        // 이력 확인은 대상 조회의 NOT EXISTS 한 번뿐 (중복 실행은 선점 INSERT의 유니크 키로 차단), 회원은 대상 조회에서 함께 로딩
+        assertThat(SqlStatementCounter.count("from auto_transfer_histories")).isEqualTo(1);
+        assertThat(SqlStatementCounter.count("from members")).isZero();
+        // 계좌는 UPDATE 직후 잔액 재조회(출금/입금 각 1번)만
+        assertThat(SqlStatementCounter.count("from accounts")).isEqualTo(2L * SCHEDULE_COUNT);
+        assertThat(total - partitionStatements).isLessThanOrEqualTo(
+                1 + (long) STATEMENTS_PER_SCHEDULE * SCHEDULE_COUNT + ID_ALLOCATION_ALLOWANCE);
+        assertThat(historyRepository.findAll())
+                .hasSize(SCHEDULE_COUNT)
+                .allMatch(history -> history.getStatus() == AutoTransferStatus.SUCCESS);
+    }
+
+    // Helper methods
+    private void createAndSaveSchedule(int index, LocalDate targetDate) {
+        Member member = memberRepository.save(member(String.format("0109600%04d", index), "문장" + index));
+        Account mainAccount = accountRepository.save(account(member,
+                String.format("960000%08d", index * 2), AccountType.MAIN, Money.of(1000000)));
+        Account moneyBoxAccount = accountRepository.save(account(member,
+                String.format("960000%08d", index * 2 + 1), AccountType.MONEY_BOX, Money.ZERO));
+        scheduleRepository.save(dueSchedule(mainAccount, moneyBoxAccount, Money.of(10000), targetDate));
+    }
+}
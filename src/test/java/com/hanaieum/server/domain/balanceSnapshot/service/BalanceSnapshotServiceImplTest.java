@@ -0,0 +1,193 @@
+package com.hanaieum.server.domain.balanceSnapshot.service;
+
+import com.hanaieum.server.common.exception.CustomException;
+import com.hanaieum.server.common.exception.ErrorCode;
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.service.AccountService;
+import com.hanaieum.server.domain.balanceSnapshot.dto.BalanceHistoryResponse;
+import com.hanaieum.server.domain.balanceSnapshot.entity.DailyBalanceSnapshot;
+import com.hanaieum.server.domain.balanceSnapshot.repository.DailyBalanceSnapshotRepository;
+import com.hanaieum.server.domain.transaction.dto.TransactionDailyRow;
+import com.hanaieum.server.domain.transaction.entity.TransactionType;
+import com.hanaieum.server.domain.transaction.repository.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BalanceSnapshotService 단위 테스트")
+class BalanceSnapshotServiceImplTest {
+
+    @Mock
+    private DailyBalanceSnapshotRepository dailyBalanceSnapshotRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private AccountService accountService;
+
+    @InjectMocks
+    private BalanceSnapshotServiceImpl balanceSnapshotService;
+
+    @Test
+    @DisplayName("스냅샷 생성 - 계좌별 입출금 합계/건수와 마지막 거래 후 잔액을 한 번의 스트림으로 계산")
+    @SuppressWarnings("unchecked")
+    void createSnapshots_AggregatesPerAccount() {
+        // Given
+        LocalDate date = LocalDate.of(2025, 3, 10);
+        when(transactionRepository.streamDailyRows(date.atStartOfDay(), date.plusDays(1).atStartOfDay()))
+                .thenReturn(Stream.of(
+                        row(1L, TransactionType.DEPOSIT, "10000", "110000"),
+                        row(1L, TransactionType.WITHDRAW, "3000", "107000"),
+                        row(1L, TransactionType.DEPOSIT, "500", "107500"),
+                        row(2L, TransactionType.WITHDRAW, "20000", "80000")
+                ));
+
+        // When
+        int created = balanceSnapshotService.createSnapshots(date);
+
+        // Then
+        verify(dailyBalanceSnapshotRepository).deleteBySnapshotDate(date);
+        ArgumentCaptor<List<DailyBalanceSnapshot>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dailyBalanceSnapshotRepository).saveAll(captor.capture());
+
+        assertThat(created).isEqualTo(2);
+        List<DailyBalanceSnapshot> snapshots = captor.getValue();
+        DailyBalanceSnapshot first = snapshots.get(0);
+        assertThat(first.getAccountId()).isEqualTo(1L);
+        assertThat(first.getSnapshotDate()).isEqualTo(date);
+        assertThat(first.getClosingBalance()).isEqualTo(Money.of(107500));
+        assertThat(first.getTotalDeposit()).isEqualTo(Money.of(10500));
+        assertThat(first.getTotalWithdraw()).isEqualTo(Money.of(3000));
+        assertThat(first.getTransactionCount()).isEqualTo(3);
+
+        DailyBalanceSnapshot second = snapshots.get(1);
+        assertThat(second.getAccountId()).isEqualTo(2L);
+        assertThat(second.getClosingBalance()).isEqualTo(Money.of(80000));
+        assertThat(second.getTotalDeposit()).isEqualTo(Money.ZERO);
+        assertThat(second.getTransactionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스냅샷 생성 - 거래 후 잔액이 없는 스트라이프 입금은 직전 마감 잔액에 입출금을 이어 계산")
+    @SuppressWarnings("unchecked")
+    void createSnapshots_StripedDepositsWithoutBalanceAfter() {
+        // Given
+        LocalDate date = LocalDate.of(2025, 3, 10);
+        when(transactionRepository.streamDailyRows(date.atStartOfDay(), date.plusDays(1).atStartOfDay()))
+                .thenReturn(Stream.of(
+                        row(1L, TransactionType.DEPOSIT, "1000", null),
+                        row(1L, TransactionType.DEPOSIT, "2000", null),
+                        row(1L, TransactionType.WITHDRAW, "500", "52500"),
+                        row(1L, TransactionType.DEPOSIT, "300", null)
+                ));
+        when(dailyBalanceSnapshotRepository.findFirstByAccountIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(1L, date))
+                .thenReturn(Optional.of(snapshot(1L, date.minusDays(3), "50000", "0", "0", 0)));
+
+        // When
+        balanceSnapshotService.createSnapshots(date);
+
+        // Then
+        ArgumentCaptor<List<DailyBalanceSnapshot>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dailyBalanceSnapshotRepository).saveAll(captor.capture());
+        DailyBalanceSnapshot snapshot = captor.getValue().get(0);
+        assertThat(snapshot.getClosingBalance()).isEqualTo(Money.of(52800));
+        assertThat(snapshot.getTotalDeposit()).isEqualTo(Money.of(3300));
+        assertThat(snapshot.getTotalWithdraw()).isEqualTo(Money.of(500));
+    }
+
+    @Test
+    @DisplayName("다음 스냅샷 날짜 - 스냅샷이 없으면 가장 오래된 거래일부터")
+    void findNextSnapshotDate() {
+        // Given
+        when(dailyBalanceSnapshotRepository.findLatestSnapshotDate()).thenReturn(Optional.empty());
+        when(transactionRepository.findEarliestCreatedAt())
+                .thenReturn(Optional.of(LocalDateTime.of(2025, 1, 5, 13, 0)));
+
+        // When & Then
+        assertThat(balanceSnapshotService.findNextSnapshotDate()).contains(LocalDate.of(2025, 1, 5));
+
+        when(dailyBalanceSnapshotRepository.findLatestSnapshotDate()).thenReturn(Optional.of(LocalDate.of(2025, 3, 9)));
+        assertThat(balanceSnapshotService.findNextSnapshotDate()).contains(LocalDate.of(2025, 3, 10));
+    }
+
+    @Test
+    @DisplayName("잔액 추이 조회 - 스냅샷만 읽고 거래 없는 날은 직전 마감 잔액으로 채움")
+    void getBalanceHistory_FillsGapsFromSnapshots() {
+        // Given
+        Long memberId = 1L;
+        Long accountId = 10L;
+        LocalDate from = LocalDate.of(2025, 3, 1);
+        LocalDate to = LocalDate.of(2025, 3, 4);
+
+        when(dailyBalanceSnapshotRepository.findFirstByAccountIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(
+                accountId, from)).thenReturn(Optional.of(snapshot(accountId, LocalDate.of(2025, 2, 27),
+                "100000", "0", "0", 1)));
+        when(dailyBalanceSnapshotRepository.findByAccountIdAndSnapshotDateBetweenOrderBySnapshotDateAsc(
+                accountId, from, to)).thenReturn(List.of(
+                snapshot(accountId, LocalDate.of(2025, 3, 2), "120000", "30000", "10000", 3),
+                snapshot(accountId, LocalDate.of(2025, 3, 4), "115000", "0", "5000", 1)));
+
+        // When
+        BalanceHistoryResponse result = balanceSnapshotService.getBalanceHistory(memberId, accountId, from, to);
+
+        // Then
+        verify(accountService).validateAccountOwnership(accountId, memberId);
+        verifyNoInteractions(transactionRepository);
+
+        assertThat(result.getOpeningBalance()).isEqualByComparingTo("100000");
+        assertThat(result.getClosingBalance()).isEqualByComparingTo("115000");
+        assertThat(result.getTotalDeposit()).isEqualByComparingTo("30000");
+        assertThat(result.getTotalWithdraw()).isEqualByComparingTo("15000");
+        assertThat(result.getTransactionCount()).isEqualTo(4);
+        assertThat(result.getDays()).extracting(BalanceHistoryResponse.DailyBalance::getClosingBalance)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("100000"), new BigDecimal("120000"),
+                        new BigDecimal("120000"), new BigDecimal("115000"));
+    }
+
+    @Test
+    @DisplayName("잔액 추이 조회 실패 - 1년 초과 기간")
+    void getBalanceHistory_Fail_PeriodTooLong() {
+        // When & Then
+        assertThatThrownBy(() -> balanceSnapshotService.getBalanceHistory(1L, 10L,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1)))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_BALANCE_HISTORY_PERIOD);
+        verifyNoInteractions(dailyBalanceSnapshotRepository);
+    }
+
+    // Helper methods
+    private TransactionDailyRow row(Long accountId, TransactionType type, String amount, String balanceAfter) {
+        return new TransactionDailyRow(accountId, type,
+                Money.of(Long.parseLong(amount)), balanceAfter == null ? null : Money.of(Long.parseLong(balanceAfter)));
+    }
+
+    private DailyBalanceSnapshot snapshot(Long accountId, LocalDate date, String closingBalance, String deposit,
+                                          String withdraw, int count) {
+        return DailyBalanceSnapshot.builder()
+                .accountId(accountId)
+                .snapshotDate(date)
+                .closingBalance(Money.of(Long.parseLong(closingBalance)))
+                .totalDeposit(Money.of(Long.parseLong(deposit)))
+                .totalWithdraw(Money.of(Long.parseLong(withdraw)))
+                .transactionCount(count)
+                .build();
+    }
+}
@@ -236,6 +236,32 @@ class BucketListControllerTest {
                 .andExpect(jsonPath("$.data[1].title").value("공통 테스트 버킷리스트"));
     }
 
+    @Test
+    @DisplayName("사용자가 원 단위 미만의 목표 금액으로 버킷리스트를 생성하면 400을 반환하고 저장하지 않는다.")
+    void testBucketListCreation_FractionalTargetAmount_BadRequest() throws Exception {
+        // given
+        BucketListRequest request = BucketListRequest.builder()
+                .type(TRIP)
+                .title("소수 목표 금액")
+                .targetAmount(new BigDecimal("1000000.50"))
+                .targetMonths("6")
+                .publicFlag(true)
+                .togetherFlag(false)
+                .createMoneyBox(true)
+                .build();
+
+        // when
+        mockMvc.perform(post("/api/bucket-lists")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        // then
+        assertThat(bucketListRepository.findByMemberAndStatusAndDeletedOrderByCreatedAtDesc(
+                testMember, IN_PROGRESS, false)).isEmpty();
+    }
+
     @Test
     @DisplayName("사용자가 생성한 버킷리스트의 상세 정보를 조회할 때 머니박스 정보와 함께 반환된다.")
     void testBucketListCreationAndDetailView() throws Exception {
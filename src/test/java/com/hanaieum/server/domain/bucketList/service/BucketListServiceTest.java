@@ -2,7 +2,6 @@ package com.hanaieum.server.domain.bucketList.service;
 
 import com.hanaieum.server.domain.account.service.AccountService;
 import com.hanaieum.server.domain.autoTransfer.service.AutoTransferScheduleService;
-import com.hanaieum.server.domain.bucketList.calculator.InterestCalculator;
 import com.hanaieum.server.domain.bucketList.dto.BucketListRequest;
 import com.hanaieum.server.domain.bucketList.dto.BucketListResponse;
 import com.hanaieum.server.domain.bucketList.dto.BucketListUpdateRequest;
@@ -15,7 +14,7 @@ import com.hanaieum.server.domain.coupon.service.CouponService;
 import com.hanaieum.server.domain.group.entity.Group;
 import com.hanaieum.server.domain.member.entity.Member;
 import com.hanaieum.server.domain.member.repository.MemberRepository;
-import com.hanaieum.server.domain.transaction.service.TransactionService;
+import com.hanaieum.server.domain.moneyBox.service.MoneyBoxInterestService;
 import com.hanaieum.server.domain.transfer.service.TransferService;
 import com.hanaieum.server.security.CustomUserDetails;
 import org.junit.jupiter.api.DynamicTest;
@@ -59,14 +58,11 @@ class BucketListServiceTest {
     @Mock
     private TransferService transferService;
     @Mock
-    private TransactionService transactionService;
-    @Mock
     private AutoTransferScheduleService autoTransferScheduleService;
     @Mock
     private CouponService couponService;
-
     @Mock
-    private InterestCalculator interestCalculator;
+    private MoneyBoxInterestService moneyBoxInterestService;
 
     /**
      * 시나리오 1: 그룹원의 완료된 버킷리스트 접근 권한 테스트
@@ -377,10 +373,9 @@ class BucketListServiceTest {
                 memberRepository,
                 accountService,
                 transferService,
-                transactionService,
                 autoTransferScheduleService,
                 couponService,
-                interestCalculator
+                moneyBoxInterestService
         );
     }
 
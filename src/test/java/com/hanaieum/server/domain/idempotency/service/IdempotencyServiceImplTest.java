@@ -0,0 +1,407 @@
+package com.hanaieum.server.domain.idempotency.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanaieum.server.common.dto.ApiResponse;
+import com.hanaieum.server.common.exception.CustomException;
+import com.hanaieum.server.common.exception.ErrorCode;
+import com.hanaieum.server.domain.idempotency.entity.IdempotencyRecord;
+import com.hanaieum.server.domain.idempotency.entity.IdempotencyStatus;
+import com.hanaieum.server.domain.idempotency.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyService 단위 테스트")
+class IdempotencyServiceImplTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final String KEY = "9f1c2d3e-fill-retry";
+    private static final String PATH = "/api/money-box/fill";
+    private static final Map<String, Object> BODY = Map.of("moneyBoxAccountId", 10L, "amount", 5000,
+            "accountPassword", "1234");
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IdempotencyServiceImpl idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = newService();
+    }
+
+    private IdempotencyServiceImpl newService() {
+        IdempotencyServiceImpl service = new IdempotencyServiceImpl(idempotencyRecordRepository, new ObjectMapper(),
+                transactionManager);
+        ReflectionTestUtils.setField(service, "ttlHours", 24L);
+        ReflectionTestUtils.setField(service, "leaseSeconds", 60);
+        service.init();
+        return service;
+    }
+
+    private void givenCompleteSucceeds() {
+        when(idempotencyRecordRepository.complete(any(), anyString(), anyInt(), any(), any(),
+                eq(IdempotencyStatus.COMPLETED))).thenReturn(1);
+    }
+
+    @Test
+    @DisplayName("키 없이 요청하면 매번 실행")
+    void execute_WithoutKey() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        idempotencyService.execute(MEMBER_ID, null, PATH, BODY, String.class, () -> ApiResponse.ok("ok" + calls.incrementAndGet()));
+        idempotencyService.execute(MEMBER_ID, null, PATH, BODY, String.class, () -> ApiResponse.ok("ok" + calls.incrementAndGet()));
+
+        // Then
+        assertThat(calls.get()).isEqualTo(2);
+        verifyNoInteractions(idempotencyRecordRepository);
+    }
+
+    @Test
+    @DisplayName("같은 키로 재요청하면 캐시된 응답 반환 - action 재실행 없음")
+    void execute_ReplayFromCache() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        when(idempotencyRecordRepository.findByMemberIdAndIdempotencyKey(MEMBER_ID, KEY)).thenReturn(Optional.empty());
+        when(idempotencyRecordRepository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(inv -> inv.getArgument(0));
+        givenCompleteSucceeds();
+
+        // When
+        ApiResponse<String> first = idempotencyService.execute(MEMBER_ID, KEY, PATH, BODY, String.class,
+                () -> ApiResponse.ok("머니박스 채우기가 완료되었습니다." + calls.incrementAndGet()));
+        ApiResponse<String> second = idempotencyService.execute(MEMBER_ID, KEY, PATH, BODY, String.class,
+                () -> ApiResponse.ok("머니박스 채우기가 완료되었습니다." + calls.incrementAndGet()));
+
+        // Then
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(second.getData()).isEqualTo(first.getData());
+        verify(idempotencyRecordRepository, times(1)).findByMemberIdAndIdempotencyKey(MEMBER_ID, KEY);
+        verify(idempotencyRecordRepository).complete(any(), anyString(), eq(200), any(), any(),
+                eq(IdempotencyStatus.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("DB에 완료된 키가 있으면 저장된 응답 반환")
+    void execute_ReplayFromDatabase() {
+        // Given
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .memberId(MEMBER_ID)
+                .idempotencyKey(KEY)
+                .requestPath(PATH)
+                .status(IdempotencyStatus.COMPLETED)
+                .responseStatus(200)
+                .responseMessage("OK")
+                .responseData("\"머니박스 채우기가 완료되었습니다.\"")
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build();
+        when(idempotencyRecordRepository.findByMemberIdAndIdempotencyKey(MEMBER_ID, KEY)).thenReturn(Optional.of(record));
+
+        // When
+        ApiResponse<String> response = idempotencyService.execute(MEMBER_ID, KEY, PATH, BODY, String.class,
+                () -> { throw new AssertionError("재요청에서 이체가 다시 실행됨"); });
+
+        // Then
+        assertThat(response.getCode()).isEqualTo(200);
+        assertThat(response.getData()).isEqualTo("머니박스 채우기가 완료되었습니다.");
+        verify(idempotencyRecordRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("만료 직전에 DB에서 재생한 응답은 DB 행 만료 후 캐시에서 반환하지 않고 새 요청으로 처리")
+    void execute_ReplayNearExpiry_CacheExpiresWithRecord() throws InterruptedException {
+        // Given - 만료 직전의 완료 행, 만료 후에는 purgeExpired로 삭제됨
+        AtomicInteger calls = new AtomicInteger();
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .memberId(MEMBER_ID)
+                .idempotencyKey(KEY)
+                .requestPath(PATH)
+                .status(IdempotencyStatus.COMPLETED)
+                .responseStatus(200)
+                .responseMessage("OK")
+                .responseData("\"이전 응답\"")
+                .expiresAt(LocalDateTime.now().plusNanos(500_000_000))
+                .build();
+        when(idempotencyRecordRepository.findByMemberIdAndIdempotencyKey(MEMBER_ID, KEY))
+                .thenReturn(Optional.of(record), Optional.empty());
+        when(idempotencyRecordRepository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(inv -> inv.getArgument(0));
+        givenCompleteSucceeds();
+
+        // When
+        ApiResponse<String> replayed = idempotencyService.execute(MEMBER_ID, KEY, PATH, BODY, String.class,
+                () -> ApiResponse.ok("새 응답" + calls.incrementAndGet()));
+        Thread.sleep(600);
+        ApiResponse<String> afterExpiry = idempotencyService.execute(MEMBER_ID, KEY, PATH, BODY, String.class,
+                () -> ApiResponse.ok("새 응답" + calls.incrementAndGet()));
+
+        // Then - 다른 노드와 같게 만료된 키는 새 요청
+        assertThat(replayed.getData()).isEqualTo("이전 응답");
+        assertThat(afterExpiry.getData()).isEqualTo("새 응답1");
+        assertThat(calls.get()).isEqualTo(1);
+        verify(idempotencyRecordRepository, times(2)).findByMemberIdAndIdempotencyKey(MEMBER_ID, KEY);
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 동시에 요청하면 409")
+    void execute_ConcurrentClaim() {
+        // Given
+        when(idempotencyRecordRepository.findByMemberIdAndIdempotencyKey(MEMBER_ID, KEY)).thenReturn(Optional.empty());
+        when(idempotencyRecordRepository.saveAndFlush(any(IdempotencyRecord.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_idempotency_member_key"));
+
+        // When & Then
+        assertThatThrownBy(() -> idempotencyService.execute(MEMBER_ID, KEY, PATH, BODY, String.class, () -> ApiResponse.ok("ok")))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS.getMessage());
+    }
+
+    @Test
+    @DisplayName("선점이 아직 유효한 처리 중 키로 재요청하면 409")
+    void execute_InProgressWithinLease() {
+        // Given
+        when(idempotencyRecordRepository.findByMemberIdAndIdempotencyKey(MEMBER_ID, KEY))
+                .thenReturn(Optional.of(inProgressRecord(LocalDateTime.now().plusSeconds(30))));
+
+        // When & Then
+        assertThatThrownBy(() -> idempotencyService.execute(MEMBER_ID, KEY, PATH, BODY, String.class,
+                () -> { throw new AssertionError("처리 중인 요청이 다시 실행됨"); }))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS.getMessage());
+        verify(idempotencyRecordRepository, never()).takeOverExpiredLease(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("선점이 만료된 처리 중 키로 재요청하면 선점을 가져와 다시 실행하고 응답 저장")
+    void execute_InProgressLeaseExpired_TakesOver() {
+        // Given - 응답이 저장되지 않았으므로 이전 요청의 이체도 롤백된 상태
+        AtomicInteger calls = new AtomicInteger();
+        when(idempotencyRecordRepository.findByMemberIdAndIdempotencyKey(MEMBER_ID, KEY))
+                .thenReturn(Optional.of(inProgressRecord(LocalDateTime.now().minusSeconds(1))));
+        when(idempotencyRecordRepository.takeOverExpiredLease(eq(100L), anyString(), any(), any(),
+                eq(IdempotencyStatus.IN_PROGRESS))).thenReturn(1);
+        givenCompleteSucceeds();
+
+        // When
+        ApiResponse<String> response = idempotencyService.execute(MEMBER_ID, KEY, PATH, BODY, String.class,
+                () -> ApiResponse.ok("ok" + calls.incrementAndGet()));
+
+        // Then
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(response.getData()).isEqualTo("ok1");
+        verify(idempotencyRecordRepository).complete(eq(100L), anyString(), eq(200), any(), any(),
+                eq(IdempotencyStatus.COMPLETED));
+        verify(idempotencyRecordRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("선점 만료 키를 다른 재요청이 먼저 가져가면 409")
+    void execute_InProgressLeaseExpired_LostRace() {
+        // Given
+        when(idempotencyRecordRepository.findByMemberIdAndIdempotencyKey(MEMBER_ID, KEY))
+                .thenReturn(Optional.of(inProgressRecord(LocalDateTime.now().minusSeconds(1))));
+        when(idempotencyRecordRepository.takeOverExpiredLease(eq(100L), anyString(), any(), any(),
+                eq(IdempotencyStatus.IN_PROGRESS))).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> idempotencyService.execute(MEMBER_ID, KEY, PATH, BODY, String.class,
+                () -> { throw new AssertionError("선점 없이 이체가 실행됨"); }))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS.getMessage());
+    }
+
+    @Test
+    @DisplayName("응답 저장 시점에 선점을 뺏겼으면 예외로 이체 트랜잭션을 롤백하고 캐시하지 않음")
+    void execute_LeaseLostBeforeComplete_RollsBack() {
+        // Given
+        when(idempotencyRecordRepository.findByMemberIdAndIdempotencyKey(MEMBER_ID, KEY)).thenReturn(Optional.empty());
+        when(idempotencyRecordRepository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(idempotencyRecordRepository.complete(any(), anyString(), anyInt(), any(), any(),
+                eq(IdempotencyStatus.COMPLETED))).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> idempotencyService.execute(MEMBER_ID, KEY, PATH, BODY, String.class,
+                () -> ApiResponse.ok("ok")))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS.getMessage());
+        verify(transactionManager).rollback(any());
+        verify(idempotencyRecordRepository).release(any(), anyString(), eq(IdempotencyStatus.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("응답을 직렬화할 수 없으면 예외로 이체 트랜잭션을 롤백하고 키 선점 해제")
+    void execute_UnserializableResponse_RollsBack() {
+        // Given - 필드 없는 객체는 Jackson이 직렬화하지 못함
+        when(idempotencyRecordRepository.findByMemberIdAndIdempotencyKey(MEMBER_ID, KEY)).thenReturn(Optional.empty());
+        when(idempotencyRecordRepository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // When & Then
+        assertThatThrownBy(() -> idempotencyService.execute(MEMBER_ID, KEY, PATH, BODY, Object.class,
+                () -> ApiResponse.ok(new Object())))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.IDEMPOTENCY_RESPONSE_UNREADABLE.getMessage());
+        verify(idempotencyRecordRepository, never()).complete(any(), any(), anyInt(), any(), any(), any());
+        verify(transactionManager).rollback(any());
+        verify(idempotencyRecordRepository).release(any(), anyString(), eq(IdempotencyStatus.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("DB에 저장된 응답을 역직렬화할 수 없으면 빈 성공 대신 500 - 이체 재실행 없음")
+    void execute_UnreadableReplay_ServerError() {
+        // Given
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .memberId(MEMBER_ID)
+                .idempotencyKey(KEY)
+                .requestPath(PATH)
+                .status(IdempotencyStatus.COMPLETED)
+                .responseStatus(200)
+                .responseMessage("OK")
+                .responseData("{not-json")
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build();
+        when(idempotencyRecordRepository.findByMemberIdAndIdempotencyKey(MEMBER_ID, KEY)).thenReturn(Optional.of(record));
+
+        // When & Then
+        assertThatThrownBy(() -> idempotencyService.execute(MEMBER_ID, KEY, PATH, BODY, String.class,
+                () -> { throw new AssertionError("재요청에서 이체가 다시 실행됨"); }))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.IDEMPOTENCY_RESPONSE_UNREADABLE.getMessage());
+        verify(idempotencyRecordRepository, never()).saveAndFlush(any());
+        verify(idempotencyRecordRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("action 실패 시 선점한 키를 삭제해 재시도 허용")
+    void execute_ReleasesKeyOnFailure() {
+        // Given
+        when(idempotencyRecordRepository.findByMemberIdAndIdempotencyKey(MEMBER_ID, KEY)).thenReturn(Optional.empty());
+        when(idempotencyRecordRepository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // When & Then
+        assertThatThrownBy(() -> idempotencyService.execute(MEMBER_ID, KEY, PATH, BODY, String.class,
+                () -> { throw new CustomException(ErrorCode.INSUFFICIENT_BALANCE); }))
+                .isInstanceOf(CustomException.class);
+        verify(idempotencyRecordRepository).release(any(), anyString(), eq(IdempotencyStatus.COMPLETED));
+        verify(idempotencyRecordRepository, never()).complete(any(), any(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 API에 사용된 키로 요청하면 거부")
+    void execute_KeyReusedOnOtherPath() {
+        // Given
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .memberId(MEMBER_ID)
+                .idempotencyKey(KEY)
+                .requestPath("/api/support/10")
+                .status(IdempotencyStatus.COMPLETED)
+                .responseStatus(200)
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build();
+        when(idempotencyRecordRepository.findByMemberIdAndIdempotencyKey(MEMBER_ID, KEY)).thenReturn(Optional.of(record));
+
+        // When & Then
+        assertThatThrownBy(() -> idempotencyService.execute(MEMBER_ID, KEY, PATH, BODY, String.class, () -> ApiResponse.ok("ok")))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.IDEMPOTENCY_KEY_REUSED.getMessage());
+    }
+
+    @Test
+    @DisplayName("같은 키로 금액이 다른 요청을 보내면 캐시에 응답이 있어도 422")
+    void execute_BodyMismatchOnCacheHit() {
+        // Given
+        when(idempotencyRecordRepository.findByMemberIdAndIdempotencyKey(MEMBER_ID, KEY)).thenReturn(Optional.empty());
+        when(idempotencyRecordRepository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(inv -> inv.getArgument(0));
+        givenCompleteSucceeds();
+        idempotencyService.execute(MEMBER_ID, KEY, PATH, BODY, String.class, () -> ApiResponse.ok("ok"));
+
+        Map<String, Object> otherBody = Map.of("moneyBoxAccountId", 10L, "amount", 9000, "accountPassword", "1234");
+
+        // When & Then
+        assertThatThrownBy(() -> idempotencyService.execute(MEMBER_ID, KEY, PATH, otherBody, String.class,
+                () -> { throw new AssertionError("다른 요청으로 이체가 실행됨"); }))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.IDEMPOTENCY_REQUEST_MISMATCH.getMessage());
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 머니박스에 요청하면 DB에 저장된 해시와 달라 422")
+    void execute_BodyMismatchOnDatabaseHit() {
+        // Given - 첫 요청의 해시를 저장된 기록으로 옮김
+        when(idempotencyRecordRepository.findByMemberIdAndIdempotencyKey(MEMBER_ID, KEY)).thenReturn(Optional.empty());
+        when(idempotencyRecordRepository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(inv -> inv.getArgument(0));
+        givenCompleteSucceeds();
+        idempotencyService.execute(MEMBER_ID, KEY, PATH, BODY, String.class, () -> ApiResponse.ok("ok"));
+        ArgumentCaptor<IdempotencyRecord> captor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyRecordRepository).saveAndFlush(captor.capture());
+        assertThat(captor.getValue().getRequestHash()).hasSize(64);
+
+        // 캐시가 비워진 다른 인스턴스에서 재요청
+        IdempotencyServiceImpl otherInstance = newService();
+        when(idempotencyRecordRepository.findByMemberIdAndIdempotencyKey(MEMBER_ID, KEY))
+                .thenReturn(Optional.of(captor.getValue()));
+        Map<String, Object> otherBody = Map.of("moneyBoxAccountId", 11L, "amount", 5000, "accountPassword", "1234");
+
+        // When & Then
+        assertThatThrownBy(() -> otherInstance.execute(MEMBER_ID, KEY, PATH, otherBody, String.class,
+                () -> { throw new AssertionError("다른 요청으로 이체가 실행됨"); }))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.IDEMPOTENCY_REQUEST_MISMATCH.getMessage());
+    }
+
+    @Test
+    @DisplayName("비밀번호/PIN 인증 토큰만 다른 재요청은 같은 요청으로 보고 저장된 응답 반환")
+    void execute_CredentialsIgnoredInHash() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        when(idempotencyRecordRepository.findByMemberIdAndIdempotencyKey(MEMBER_ID, KEY)).thenReturn(Optional.empty());
+        when(idempotencyRecordRepository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(inv -> inv.getArgument(0));
+        givenCompleteSucceeds();
+        idempotencyService.execute(MEMBER_ID, KEY, PATH, BODY, String.class,
+                () -> ApiResponse.ok("ok" + calls.incrementAndGet()));
+
+        Map<String, Object> retryBody = Map.of("moneyBoxAccountId", 10L, "amount", 5000,
+                "pinGrantToken", "pin-grant-token");
+
+        // When
+        ApiResponse<String> replayed = idempotencyService.execute(MEMBER_ID, KEY, PATH, retryBody, String.class,
+                () -> ApiResponse.ok("ok" + calls.incrementAndGet()));
+
+        // Then
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(replayed.getData()).isEqualTo("ok1");
+    }
+
+    // Helper methods
+    private IdempotencyRecord inProgressRecord(LocalDateTime leaseExpiresAt) {
+        return IdempotencyRecord.builder()
+                .id(100L)
+                .memberId(MEMBER_ID)
+                .idempotencyKey(KEY)
+                .requestPath(PATH)
+                .status(IdempotencyStatus.IN_PROGRESS)
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .leaseToken("previous-lease")
+                .leaseExpiresAt(leaseExpiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.hanaieum.server.domain.moneyBox.repository;
+
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.bucketList.calculator.InterestCalculator;
+import com.hanaieum.server.domain.moneyBox.entity.MoneyBoxInterestAccumulator;
+import com.hanaieum.server.domain.transaction.dto.TransactionResponse;
+import com.hanaieum.server.domain.transaction.entity.TransactionType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = NONE)
+@DisplayName("MoneyBoxInterestAccumulatorRepository 테스트")
+class MoneyBoxInterestAccumulatorRepositoryTest {
+
+    private static final Long MONEY_BOX_ACCOUNT_ID = 500L;
+    private static final BigDecimal TARGET_AMOUNT = new BigDecimal("100000");
+    private static final LocalDate TARGET_DATE = LocalDate.of(2025, 12, 31);
+    private static final BigDecimal INTEREST_RATE = new BigDecimal("0.035");
+
+    @Autowired
+    private MoneyBoxInterestAccumulatorRepository moneyBoxInterestAccumulatorRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final InterestCalculator interestCalculator = new InterestCalculator();
+
+    @Test
+    @DisplayName("누적값 이자 = 입금 내역 전체 계산 이자 (목표금액 초과분/만기일 이후 입금 제외)")
+    void accumulate_MatchesFullScan() {
+        // Given
+        moneyBoxInterestAccumulatorRepository.save(MoneyBoxInterestAccumulator.builder()
+                .moneyBoxAccountId(MONEY_BOX_ACCOUNT_ID)
+                .targetAmount(Money.of(TARGET_AMOUNT))
+                .targetDate(TARGET_DATE)
+                .depositSum(Money.ZERO)
+                .dayWeightedSum(0L)
+                .build());
+
+        List<TransactionResponse> deposits = new ArrayList<>();
+        int[] updated = {
+                deposit(deposits, LocalDate.of(2025, 1, 10), "30000"),
+                deposit(deposits, LocalDate.of(2025, 3, 5), "50000"),
+                deposit(deposits, LocalDate.of(2025, 6, 1), "40000"), // 20000만 반영 (목표금액 도달)
+                deposit(deposits, LocalDate.of(2025, 7, 1), "10000"), // 목표금액 도달 이후
+                deposit(deposits, TARGET_DATE, "10000") // 만기일 당일 (전체 계산 조회 대상 아님)
+        };
+        deposits.remove(deposits.size() - 1);
+        entityManager.clear();
+
+        // When
+        MoneyBoxInterestAccumulator accumulator =
+                moneyBoxInterestAccumulatorRepository.findById(MONEY_BOX_ACCOUNT_ID).orElseThrow();
+        Money accumulated = interestCalculator.calculateInterest(accumulator.getWeightedSum(), INTEREST_RATE);
+        Money scanned = interestCalculator.calculateInterest(deposits, TARGET_DATE, TARGET_AMOUNT, INTEREST_RATE);
+
+        // Then
+        assertThat(updated).containsExactly(1, 1, 1, 0, 0);
+        assertThat(accumulator.getDepositSum()).isEqualTo(Money.of(TARGET_AMOUNT));
+        // 30000 × 355일 + 50000 × 301일 + 20000 × 213일
+        assertThat(accumulator.getWeightedSum()).isEqualTo(29_960_000L);
+        assertThat(accumulated).isEqualTo(scanned);
+        assertThat(accumulated.isPositive()).isTrue();
+    }
+
+    // Helper methods
+    private int deposit(List<TransactionResponse> deposits, LocalDate date, String amount) {
+        deposits.add(TransactionResponse.builder()
+                .date(date.atTime(12, 0))
+                .transactionType(TransactionType.DEPOSIT)
+                .amount(new BigDecimal(amount))
+                .build());
+        return moneyBoxInterestAccumulatorRepository.accumulate(
+                MONEY_BOX_ACCOUNT_ID, Long.parseLong(amount), date, date.toEpochDay());
+    }
+}
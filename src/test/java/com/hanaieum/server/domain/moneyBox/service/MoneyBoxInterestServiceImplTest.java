@@ -0,0 +1,264 @@
+package com.hanaieum.server.domain.moneyBox.service;
+
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountType;
+import com.hanaieum.server.domain.bucketList.calculator.InterestCalculator;
+import com.hanaieum.server.domain.bucketList.entity.BucketList;
+import com.hanaieum.server.domain.moneyBox.entity.MoneyBoxInterestAccumulator;
+import com.hanaieum.server.domain.moneyBox.entity.MoneyBoxInterestStripe;
+import com.hanaieum.server.domain.moneyBox.repository.MoneyBoxInterestAccumulatorRepository;
+import com.hanaieum.server.domain.moneyBox.repository.MoneyBoxInterestStripeRepository;
+import com.hanaieum.server.domain.transaction.dto.TransactionResponse;
+import com.hanaieum.server.domain.transaction.entity.TransactionType;
+import com.hanaieum.server.domain.transaction.service.TransactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MoneyBoxInterestServiceImpl 테스트")
+class MoneyBoxInterestServiceImplTest {
+
+    private static final BigDecimal TARGET_AMOUNT = new BigDecimal("100000");
+    private static final LocalDate TARGET_DATE = LocalDate.of(2025, 12, 31);
+    private static final BigDecimal INTEREST_RATE = new BigDecimal("0.035");
+
+    @Mock
+    private MoneyBoxInterestAccumulatorRepository moneyBoxInterestAccumulatorRepository;
+
+    @Mock
+    private MoneyBoxInterestStripeRepository moneyBoxInterestStripeRepository;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Spy
+    private InterestCalculator interestCalculator = new InterestCalculator();
+
+    @InjectMocks
+    private MoneyBoxInterestServiceImpl moneyBoxInterestService;
+
+    private Account moneyBoxAccount;
+    private BucketList bucketList;
+
+    @BeforeEach
+    void setUp() {
+        moneyBoxAccount = Account.builder()
+                .id(10L)
+                .accountType(AccountType.MONEY_BOX)
+                .balance(Money.of(TARGET_AMOUNT))
+                .build();
+        bucketList = BucketList.builder()
+                .id(1L)
+                .targetAmount(TARGET_AMOUNT)
+                .targetDate(TARGET_DATE)
+                .moneyBoxAccount(moneyBoxAccount)
+                .build();
+    }
+
+    @Test
+    @DisplayName("누적값이 있으면 입금 내역을 조회하지 않고 계산")
+    void calculateInterest_UsesAccumulator() {
+        // Given
+        given(moneyBoxInterestAccumulatorRepository.findById(10L))
+                .willReturn(Optional.of(accumulator(36_500_000L)));
+
+        // When
+        Money interest = moneyBoxInterestService.calculateInterest(bucketList, INTEREST_RATE);
+
+        // Then
+        assertThat(interest).isEqualTo(Money.of(3500));
+        verify(transactionService, never()).getTransactionsByTransactionType(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("누적값이 없으면 입금 내역 전체로 계산")
+    void calculateInterest_FallsBackToScan() {
+        // Given
+        given(moneyBoxInterestAccumulatorRepository.findById(10L)).willReturn(Optional.empty());
+        given(transactionService.getTransactionsByTransactionType(moneyBoxAccount, TransactionType.DEPOSIT, TARGET_DATE))
+                .willReturn(List.of(deposit(TARGET_DATE.minusDays(365), "100000")));
+
+        // When
+        Money interest = moneyBoxInterestService.calculateInterest(bucketList, INTEREST_RATE);
+
+        // Then
+        assertThat(interest).isEqualTo(Money.of(3500));
+    }
+
+    @Test
+    @DisplayName("대조 결과가 다르면 전체 계산 결과로 지급")
+    void calculateInterest_ReconcileMismatch_ReturnsScanned() {
+        // Given
+        ReflectionTestUtils.setField(moneyBoxInterestService, "reconcileRate", 1.0);
+        given(moneyBoxInterestAccumulatorRepository.findById(10L))
+                .willReturn(Optional.of(accumulator(18_250_000L)));
+        given(transactionService.getTransactionsByTransactionType(moneyBoxAccount, TransactionType.DEPOSIT, TARGET_DATE))
+                .willReturn(List.of(deposit(TARGET_DATE.minusDays(365), "100000")));
+
+        // When
+        Money interest = moneyBoxInterestService.calculateInterest(bucketList, INTEREST_RATE);
+
+        // Then
+        assertThat(interest).isEqualTo(Money.of(3500));
+    }
+
+    @Test
+    @DisplayName("머니박스가 아닌 계좌 입금은 누적하지 않음")
+    void accumulateDeposit_IgnoresNonMoneyBox() {
+        // Given
+        Account mainAccount = Account.builder().id(20L).accountType(AccountType.MAIN).build();
+
+        // When
+        moneyBoxInterestService.accumulateDeposit(mainAccount, Money.of(1000));
+        moneyBoxInterestService.accumulateDeposit(moneyBoxAccount, Money.of(1000));
+
+        // Then
+        verify(moneyBoxInterestAccumulatorRepository, never()).accumulate(eq(20L), anyLong(), any(), anyLong());
+        verify(moneyBoxInterestAccumulatorRepository).accumulate(eq(10L), eq(1000L), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("스트라이프 누적값 - 합계가 목표금액을 넘으면 최근 입금부터 초과분을 제외해 전체 계산과 같은 이자")
+    void calculateInterest_Striped_ExcludesLatestExcess() {
+        // Given - 30000(365일 전) + 50000(200일 전) + 40000(100일 전) = 120000, 목표 100000 → 최근 입금 20000 초과
+        List<TransactionResponse> deposits = List.of(
+                deposit(TARGET_DATE.minusDays(365), "30000"),
+                deposit(TARGET_DATE.minusDays(200), "50000"),
+                deposit(TARGET_DATE.minusDays(100), "40000"));
+        given(moneyBoxInterestAccumulatorRepository.findById(10L))
+                .willReturn(Optional.of(stripedAccumulator()));
+        given(moneyBoxInterestStripeRepository.findAllByMoneyBoxAccountId(10L))
+                .willReturn(List.of(stripe(0, deposits.get(0), deposits.get(2)), stripe(1, deposits.get(1))));
+        given(transactionService.getLatestTransactionsByTransactionType(moneyBoxAccount, TransactionType.DEPOSIT,
+                TARGET_DATE, PageRequest.of(0, 20)))
+                .willReturn(List.of(deposits.get(2), deposits.get(1), deposits.get(0)));
+
+        // When
+        Money interest = moneyBoxInterestService.calculateInterest(bucketList, INTEREST_RATE);
+
+        // Then
+        Money scanned = interestCalculator.calculateInterest(deposits, TARGET_DATE, TARGET_AMOUNT, INTEREST_RATE);
+        assertThat(interest).isEqualTo(scanned);
+        verify(transactionService, never()).getTransactionsByTransactionType(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("스트라이프 누적값 - 최근 거래로 초과분을 다 제외하지 못하면 입금 내역 전체로 계산")
+    void calculateInterest_Striped_FallsBackToScanWhenExcessNotCovered() {
+        // Given - 스트라이프 합계 120000, 최근 거래 테이블에는 입금 1건(10000)만 남음 (나머지는 아카이브)
+        List<TransactionResponse> deposits = List.of(
+                deposit(TARGET_DATE.minusDays(365), "110000"),
+                deposit(TARGET_DATE.minusDays(100), "10000"));
+        given(moneyBoxInterestAccumulatorRepository.findById(10L))
+                .willReturn(Optional.of(stripedAccumulator()));
+        given(moneyBoxInterestStripeRepository.findAllByMoneyBoxAccountId(10L))
+                .willReturn(List.of(stripe(0, deposits.toArray(TransactionResponse[]::new))));
+        given(transactionService.getLatestTransactionsByTransactionType(moneyBoxAccount, TransactionType.DEPOSIT,
+                TARGET_DATE, PageRequest.of(0, 20)))
+                .willReturn(List.of(deposits.get(1)));
+        given(transactionService.getLatestTransactionsByTransactionType(moneyBoxAccount, TransactionType.DEPOSIT,
+                TARGET_DATE, PageRequest.of(1, 20)))
+                .willReturn(List.of());
+        given(transactionService.getTransactionsByTransactionType(moneyBoxAccount, TransactionType.DEPOSIT, TARGET_DATE))
+                .willReturn(deposits);
+
+        // When
+        Money interest = moneyBoxInterestService.calculateInterest(bucketList, INTEREST_RATE);
+
+        // Then
+        assertThat(interest).isEqualTo(
+                interestCalculator.calculateInterest(deposits, TARGET_DATE, TARGET_AMOUNT, INTEREST_RATE));
+    }
+
+    @Test
+    @DisplayName("스트라이프 계좌 입금은 누적값 스트라이프 한 행에만 누적 (단일 누적값 행은 갱신하지 않음)")
+    void accumulateDeposit_Striped_UpdatesOneStripe() {
+        // Given
+        Account stripedMoneyBox = Account.builder()
+                .id(10L)
+                .accountType(AccountType.MONEY_BOX)
+                .balanceStripeCount(4)
+                .build();
+        given(moneyBoxInterestStripeRepository.accumulate(eq(10L), anyInt(), eq(1000L), any(), anyLong()))
+                .willReturn(1);
+
+        // When
+        moneyBoxInterestService.accumulateDeposit(stripedMoneyBox, Money.of(1000));
+
+        // Then
+        verify(moneyBoxInterestStripeRepository).accumulate(eq(10L), anyInt(), eq(1000L), any(), anyLong());
+        verify(moneyBoxInterestAccumulatorRepository, never()).accumulate(any(), anyLong(), any(), anyLong());
+    }
+
+    // Helper methods
+    private MoneyBoxInterestAccumulator stripedAccumulator() {
+        return MoneyBoxInterestAccumulator.builder()
+                .moneyBoxAccountId(10L)
+                .targetAmount(Money.of(TARGET_AMOUNT))
+                .targetDate(TARGET_DATE)
+                .depositSum(Money.ZERO)
+                .dayWeightedSum(0L)
+                .stripeCount(2)
+                .build();
+    }
+
+    private MoneyBoxInterestStripe stripe(int stripeIndex, TransactionResponse... deposits) {
+        Money depositSum = Money.ZERO;
+        long dayWeightedSum = 0L;
+        for (TransactionResponse deposit : deposits) {
+            Money amount = Money.of(deposit.getAmount());
+            depositSum = depositSum.plus(amount);
+            dayWeightedSum += amount.times(deposit.getDate().toLocalDate().toEpochDay()).toLong();
+        }
+        return MoneyBoxInterestStripe.builder()
+                .moneyBoxAccountId(10L)
+                .stripeIndex(stripeIndex)
+                .targetDate(TARGET_DATE)
+                .depositSum(depositSum)
+                .dayWeightedSum(dayWeightedSum)
+                .build();
+    }
+
+    private MoneyBoxInterestAccumulator accumulator(long weightedSum) {
+        // depositSum × 목표일 epochDay - dayWeightedSum = weightedSum
+        Money depositSum = Money.of(TARGET_AMOUNT);
+        return MoneyBoxInterestAccumulator.builder()
+                .moneyBoxAccountId(10L)
+                .targetAmount(depositSum)
+                .targetDate(TARGET_DATE)
+                .depositSum(depositSum)
+                .dayWeightedSum(depositSum.times(TARGET_DATE.toEpochDay()).toLong() - weightedSum)
+                .build();
+    }
+
+    private TransactionResponse deposit(LocalDate date, String amount) {
+        return TransactionResponse.builder()
+                .date(date.atTime(12, 0))
+                .transactionType(TransactionType.DEPOSIT)
+                .amount(new BigDecimal(amount))
+                .build();
+    }
+}
@@ -0,0 +1,160 @@
+package com.hanaieum.server.domain.transaction.repository;
+
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountType;
+import com.hanaieum.server.domain.account.repository.AccountRepository;
+import com.hanaieum.server.domain.member.entity.Gender;
+import com.hanaieum.server.domain.member.entity.Member;
+import com.hanaieum.server.domain.member.repository.MemberRepository;
+import com.hanaieum.server.domain.transaction.dto.TransactionResponse;
+import com.hanaieum.server.domain.transaction.entity.ArchivedTransaction;
+import com.hanaieum.server.domain.transaction.entity.ReferenceType;
+import com.hanaieum.server.domain.transaction.entity.Transaction;
+import com.hanaieum.server.domain.transaction.entity.TransactionType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = NONE)
+@DisplayName("ArchivedTransactionRepository 테스트")
+class ArchivedTransactionRepositoryTest {
+
+    @Autowired
+    private ArchivedTransactionRepository archivedTransactionRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("아카이브 chunk - 오래된 순으로 복사 후 삭제, ID/거래일시 유지")
+    void copyAndDelete_OldestFirst() {
+        // Given
+        Account account = createAndSaveAccount("88000000000001");
+        Transaction first = createAndSaveTransaction(account, TransactionType.DEPOSIT, "입금 1");
+        Transaction second = createAndSaveTransaction(account, TransactionType.WITHDRAW, "출금 1");
+        Transaction third = createAndSaveTransaction(account, TransactionType.DEPOSIT, "입금 2");
+        entityManager.flush();
+        LocalDateTime before = LocalDateTime.now().plusDays(1);
+
+        // When
+        List<Long> candidates = transactionRepository.findIdsCreatedBefore(before, PageRequest.of(0, 1000));
+        List<Long> ids = List.of(first.getId(), second.getId());
+        int copied = archivedTransactionRepository.copyFromTransactions(ids, LocalDateTime.now());
+        int deleted = transactionRepository.deleteAllByIdIn(ids);
+        entityManager.clear();
+
+        // Then
+        assertThat(candidates).containsSubsequence(first.getId(), second.getId(), third.getId());
+        assertThat(copied).isEqualTo(2);
+        assertThat(deleted).isEqualTo(2);
+        assertThat(transactionRepository.findAllById(List.of(first.getId(), second.getId(), third.getId())))
+                .extracting(Transaction::getId).containsExactly(third.getId());
+
+        ArchivedTransaction archived = archivedTransactionRepository.findById(first.getId()).orElseThrow();
+        assertThat(archived.getAccountId()).isEqualTo(account.getId());
+        assertThat(archived.getDescription()).isEqualTo("입금 1");
+        assertThat(archived.getReferenceType()).isEqualTo(ReferenceType.MANUAL);
+        assertThat(archived.getCreatedAt()).isEqualToIgnoringNanos(first.getCreatedAt());
+        assertThat(archived.getArchiveMonth())
+                .isEqualTo(first.getCreatedAt().getYear() * 100 + first.getCreatedAt().getMonthValue());
+    }
+
+    @Test
+    @DisplayName("아카이브 조회 - 커서/내역서/거래타입 조회가 원본과 같은 정렬")
+    void reads_UseSameOrderingAsTransactions() {
+        // Given
+        Account account = createAndSaveAccount("88000000000002");
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            ids.add(createAndSaveTransaction(account,
+                    i % 2 == 0 ? TransactionType.WITHDRAW : TransactionType.DEPOSIT, "거래 " + i).getId());
+        }
+        LocalDateTime before = LocalDateTime.now().plusDays(1);
+        archivedTransactionRepository.copyFromTransactions(ids, LocalDateTime.now());
+        transactionRepository.deleteAllByIdIn(ids);
+        entityManager.clear();
+
+        // When
+        List<TransactionResponse> firstPage = archivedTransactionRepository.findFirstPageByAccountId(
+                account.getId(), PageRequest.of(0, 2));
+        TransactionResponse last = firstPage.get(firstPage.size() - 1);
+        List<TransactionResponse> nextPage = archivedTransactionRepository.findPageByAccountIdBefore(
+                account.getId(), last.getDate(), last.getTransactionId(), PageRequest.of(0, 2));
+        List<String> statement;
+        try (Stream<TransactionResponse> stream = archivedTransactionRepository.streamStatement(
+                account.getId(), LocalDate.now().atStartOfDay(), before)) {
+            statement = stream.map(TransactionResponse::getDescription).toList();
+        }
+        List<TransactionResponse> deposits = archivedTransactionRepository.findResponsesByAccountIdAndTypeBefore(
+                account.getId(), TransactionType.DEPOSIT, before);
+
+        // Then
+        assertThat(archivedTransactionRepository.countByAccountId(account.getId())).isEqualTo(4);
+        assertThat(firstPage).extracting(TransactionResponse::getDescription).containsExactly("거래 4", "거래 3");
+        assertThat(nextPage).extracting(TransactionResponse::getDescription).containsExactly("거래 2", "거래 1");
+        assertThat(statement).containsExactly("거래 1", "거래 2", "거래 3", "거래 4");
+        assertThat(deposits).extracting(TransactionResponse::getDescription).containsExactly("거래 1", "거래 3");
+    }
+
+    // Helper methods
+    private Account createAndSaveAccount(String accountNumber) {
+        Member member = memberRepository.save(Member.builder()
+                .phoneNumber("010" + accountNumber.substring(6))
+                .password("encryptedPassword")
+                .name("보관")
+                .gender(Gender.M)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .monthlyLivingCost(2000000)
+                .mainAccountLinked(true)
+                .hideGroupPrompt(false)
+                .build());
+        return accountRepository.save(Account.builder()
+                .member(member)
+                .number(accountNumber)
+                .accountType(AccountType.MAIN)
+                .name("테스트 계좌")
+                .bankName("하나은행")
+                .balance(Money.of(1000000))
+                .password("encryptedPassword")
+                .deleted(false)
+                .build());
+    }
+
+    private Transaction createAndSaveTransaction(Account account, TransactionType transactionType,
+                                                 String description) {
+        return transactionRepository.save(Transaction.builder()
+                .account(account)
+                .transactionType(transactionType)
+                .amount(Money.of(1000))
+                .balanceAfter(Money.of(1000000))
+                .counterpartyAccountId(999L)
+                .counterpartyName("상대방")
+                .description(description)
+                .referenceType(ReferenceType.MANUAL)
+                .build());
+    }
+}
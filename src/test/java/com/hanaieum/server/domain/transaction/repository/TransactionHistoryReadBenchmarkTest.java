@@ -0,0 +1,162 @@
+package com.hanaieum.server.domain.transaction.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountType;
+import com.hanaieum.server.domain.account.repository.AccountRepository;
+import com.hanaieum.server.domain.member.entity.Member;
+import com.hanaieum.server.domain.member.repository.MemberRepository;
+import com.hanaieum.server.domain.transaction.dto.TransactionResponse;
+import com.hanaieum.server.domain.transaction.entity.ReferenceType;
+import com.hanaieum.server.domain.transaction.entity.Transaction;
+import com.hanaieum.server.domain.transaction.entity.TransactionType;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static com.hanaieum.server.common.TestFixtures.account;
+import static com.hanaieum.server.common.TestFixtures.member;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래내역 100건 페이지 조회: 엔티티 조회 + TransactionResponse::of 변환 vs 생성자 프로젝션 비교
+ * - 조회 1회당 현재 스레드 힙 할당량(byte)과 지연시간(p50/p99) 측정
+ * - 서비스와 같은 readOnly 트랜잭션에서 실행 (./gradlew loadTest 로 실행)
+ * - 결과는 build/reports/load/transaction-history-read.json
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:historydb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.com.hanaieum.server=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ActiveProfiles("test")
+@DisplayName("거래내역 조회 프로젝션 벤치마크")
+class TransactionHistoryReadBenchmarkTest {
+
+    private static final int ROW_COUNT = 2_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 1_000;
+    private static final Path SUMMARY_PATH = Path.of("build", "reports", "load", "transaction-history-read.json");
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("100건 페이지 - 프로젝션이 엔티티 조회보다 할당량이 적다")
+    void projectionAllocatesLessThanEntityHydration() throws Exception {
+        // Given
+        Long accountId = seedTransactions();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        int pages = ROW_COUNT / PAGE_SIZE;
+
+        IntFunction<Page<TransactionResponse>> entityRead = page -> readOnly.execute(status ->
+                transactionRepository.findByAccountIdOrderByCreatedAtDesc(accountId, PageRequest.of(page % pages, PAGE_SIZE))
+                        .map(TransactionResponse::of));
+        IntFunction<Page<TransactionResponse>> projectionRead = page -> readOnly.execute(status ->
+                transactionRepository.findResponsesByAccountId(accountId, PageRequest.of(page % pages, PAGE_SIZE)));
+
+        // When (번갈아 워밍업 후 각각 측정)
+        run(entityRead, WARMUP_ITERATIONS);
+        run(projectionRead, WARMUP_ITERATIONS);
+        Map<String, Object> entity = run(entityRead, MEASURED_ITERATIONS);
+        Map<String, Object> projection = run(projectionRead, MEASURED_ITERATIONS);
+
+        // Then
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("rows", ROW_COUNT);
+        summary.put("pageSize", PAGE_SIZE);
+        summary.put("iterations", MEASURED_ITERATIONS);
+        summary.put("entity", entity);
+        summary.put("projection", projection);
+        String json = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsString(summary);
+        Files.createDirectories(SUMMARY_PATH.getParent());
+        Files.writeString(SUMMARY_PATH, json);
+        log.warn("거래내역 조회 벤치마크 결과 ({}):\n{}", SUMMARY_PATH.toAbsolutePath(), json);
+
+        assertThat((long) projection.get("allocatedBytesPerCall"))
+                .isLessThan((long) entity.get("allocatedBytesPerCall"));
+    }
+
+    private Map<String, Object> run(IntFunction<Page<TransactionResponse>> read, int iterations) {
+        long[] latencies = new long[iterations];
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            long startedAt = System.nanoTime();
+            Page<TransactionResponse> page = read.apply(i);
+            latencies[i] = System.nanoTime() - startedAt;
+            assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        }
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        Arrays.sort(latencies);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("allocatedBytesPerCall", allocated / iterations);
+        result.put("p50Ms", latencies[(int) Math.ceil(iterations * 0.50) - 1] / 1_000_000.0);
+        result.put("p99Ms", latencies[(int) Math.ceil(iterations * 0.99) - 1] / 1_000_000.0);
+        return result;
+    }
+
+    // Helper methods
+    private Long seedTransactions() {
+        Member member = memberRepository.save(member("01094000000", "벤치"));
+        Account account = accountRepository.save(account(member, "94000000000001", AccountType.MAIN,
+                Money.of(1000000)));
+
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            transactions.add(Transaction.builder()
+                    .account(account)
+                    .transactionType(i % 2 == 0 ? TransactionType.DEPOSIT : TransactionType.WITHDRAW)
+                    .amount(Money.of(1000))
+                    .balanceAfter(Money.of(1000000))
+                    .counterpartyAccountId(999L)
+                    .counterpartyName("상대방")
+                    .description("벤치마크 거래 " + i)
+                    .referenceType(ReferenceType.AUTO_TRANSFER)
+                    .build());
+        }
+        transactionRepository.saveAll(transactions);
+        return account.getId();
+    }
+}
@@ -1,14 +1,19 @@
 package com.hanaieum.server.domain.transaction.repository;
 
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.entity.Account;
 import com.hanaieum.server.domain.account.entity.AccountType;
 import com.hanaieum.server.domain.account.repository.AccountRepository;
 import com.hanaieum.server.domain.member.entity.Gender;
 import com.hanaieum.server.domain.member.entity.Member;
 import com.hanaieum.server.domain.member.repository.MemberRepository;
+import com.hanaieum.server.domain.transaction.dto.TransactionCategoryRow;
+import com.hanaieum.server.domain.transaction.dto.TransactionResponse;
 import com.hanaieum.server.domain.transaction.entity.ReferenceType;
 import com.hanaieum.server.domain.transaction.entity.Transaction;
 import com.hanaieum.server.domain.transaction.entity.TransactionType;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,10 +23,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
@@ -40,6 +47,9 @@ class TransactionRepositoryTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     @DisplayName("계좌별 거래내역 페이징 조회 - 생성일시 내림차순")
     void findByAccountIdOrderByCreatedAtDesc() {
@@ -49,13 +59,13 @@ class TransactionRepositoryTest {
         
         // 여러 거래 생성 (시간차를 두어 순서 확인)
         Transaction tx1 = createAndSaveTransaction(account, TransactionType.DEPOSIT, 
-                new BigDecimal("10000"), "첫 번째 입금");
+                Money.of(10000), "첫 번째 입금");
         
         Transaction tx2 = createAndSaveTransaction(account, TransactionType.WITHDRAW, 
-                new BigDecimal("5000"), "첫 번째 출금");
+                Money.of(5000), "첫 번째 출금");
         
         Transaction tx3 = createAndSaveTransaction(account, TransactionType.DEPOSIT, 
-                new BigDecimal("20000"), "두 번째 입금");
+                Money.of(20000), "두 번째 입금");
 
         Pageable pageable = PageRequest.of(0, 10);
 
@@ -85,7 +95,7 @@ class TransactionRepositoryTest {
         // 5개 거래 생성
         for (int i = 1; i <= 5; i++) {
             createAndSaveTransaction(account, TransactionType.DEPOSIT, 
-                    new BigDecimal("10000"), "거래 " + i);
+                    Money.of(10000), "거래 " + i);
         }
 
         Pageable pageable = PageRequest.of(0, 3); // 페이지 크기 3
@@ -113,9 +123,9 @@ class TransactionRepositoryTest {
         
         // 각 계좌에 거래 생성
         createAndSaveTransaction(account1, TransactionType.DEPOSIT, 
-                new BigDecimal("10000"), "계좌1 거래");
+                Money.of(10000), "계좌1 거래");
         createAndSaveTransaction(account2, TransactionType.DEPOSIT, 
-                new BigDecimal("20000"), "계좌2 거래");
+                Money.of(20000), "계좌2 거래");
 
         Pageable pageable = PageRequest.of(0, 10);
 
@@ -133,9 +143,126 @@ class TransactionRepositoryTest {
         assertThat(result2.getContent().get(0).getDescription()).isEqualTo("계좌2 거래");
     }
 
+    @Test
+    @DisplayName("커서 조회 - (생성일시, ID) 기준으로 이어서 조회하면 중복/누락 없이 전체를 내림차순으로 순회")
+    void findPageByAccountIdBefore_SeeksWithoutGapsOrDuplicates() {
+        // Given
+        Member member = createAndSaveMember("010-5555-5555", "정하나");
+        Account account = createAndSaveAccount(member, "55555555555555", AccountType.MAIN);
+        for (int i = 1; i <= 7; i++) {
+            createAndSaveTransaction(account, TransactionType.DEPOSIT, Money.of(1000), "거래 " + i);
+        }
+        Pageable limit = PageRequest.of(0, 3);
+
+        // When
+        List<TransactionResponse> visited = new ArrayList<>();
+        List<TransactionResponse> page = transactionRepository.findFirstPageByAccountId(account.getId(), limit);
+        while (!page.isEmpty()) {
+            visited.addAll(page);
+            TransactionResponse last = page.get(page.size() - 1);
+            page = transactionRepository.findPageByAccountIdBefore(
+                    account.getId(), last.getDate(), last.getTransactionId(), limit);
+        }
+
+        // Then
+        assertThat(visited).hasSize(7);
+        assertThat(visited).extracting(TransactionResponse::getTransactionId).doesNotHaveDuplicates();
+        assertThat(visited).isSortedAccordingTo(Comparator.comparing(TransactionResponse::getDate)
+                .thenComparing(TransactionResponse::getTransactionId).reversed());
+    }
+
+    @Test
+    @DisplayName("거래내역 프로젝션 페이지 조회 - 응답 컬럼만 조회하고 엔티티는 영속성 컨텍스트에 올라가지 않음")
+    void findResponsesByAccountId_ReturnsProjectionWithoutManagedEntities() {
+        // Given
+        Member member = createAndSaveMember("010-6666-6666", "한하나");
+        Account account = createAndSaveAccount(member, "66666666666666", AccountType.MAIN);
+        for (int i = 1; i <= 5; i++) {
+            createAndSaveTransaction(account, TransactionType.DEPOSIT, Money.of(1000), "프로젝션 입금 " + i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        Page<TransactionResponse> result = transactionRepository.findResponsesByAccountId(
+                account.getId(), PageRequest.of(0, 3));
+
+        // Then
+        assertThat(result.getContent()).hasSize(3);
+        assertThat(result.getTotalElements()).isEqualTo(5);
+        assertThat(result.getContent().get(0).getDescription()).isEqualTo("프로젝션 입금 5");
+        // 프로젝션 조회는 Transaction/Account 엔티티를 영속성 컨텍스트에 올리지 않음
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("거래내역서 스트림 조회 - 기간 내 거래만 오래된 순으로")
+    void streamStatement_ReturnsPeriodInAscendingOrder() {
+        // Given
+        Member member = createAndSaveMember("010-7777-7777", "윤하나");
+        Account account = createAndSaveAccount(member, "77777777777777", AccountType.MAIN);
+        Account otherAccount = createAndSaveAccount(member, "77777777777778", AccountType.MONEY_BOX);
+        for (int i = 1; i <= 3; i++) {
+            createAndSaveTransaction(account, TransactionType.DEPOSIT, Money.of(1000), "내역서 " + i);
+        }
+        createAndSaveTransaction(otherAccount, TransactionType.DEPOSIT, Money.of(1000), "다른 계좌");
+        LocalDateTime from = LocalDate.now().atStartOfDay();
+        LocalDateTime to = from.plusDays(1);
+
+        // When
+        List<String> descriptions;
+        try (Stream<TransactionResponse> stream = transactionRepository.streamStatement(account.getId(), from, to)) {
+            descriptions = stream.map(TransactionResponse::getDescription).toList();
+        }
+        List<TransactionResponse> beforePeriod;
+        try (Stream<TransactionResponse> stream = transactionRepository.streamStatement(
+                account.getId(), from.minusDays(7), from)) {
+            beforePeriod = stream.toList();
+        }
+
+        // Then
+        assertThat(descriptions).containsExactly("내역서 1", "내역서 2", "내역서 3");
+        assertThat(beforePeriod).isEmpty();
+    }
+
+    @Test
+    @DisplayName("거래 요약 집계 - 기간 내 거래타입 + 참조타입별 합계와 건수")
+    void summarizeByCategory() {
+        // Given
+        Member member = createAndSaveMember("010-8888-8888", "한하나");
+        Account account = createAndSaveAccount(member, "88888888888888", AccountType.MAIN);
+        Account otherAccount = createAndSaveAccount(member, "88888888888889", AccountType.MONEY_BOX);
+        createAndSaveTransaction(account, TransactionType.DEPOSIT, Money.of(10000), "입금1");
+        createAndSaveTransaction(account, TransactionType.DEPOSIT, Money.of(5000), "입금2");
+        createAndSaveTransaction(account, TransactionType.WITHDRAW, Money.of(3000), "출금");
+        transactionRepository.save(Transaction.builder()
+                .account(account)
+                .transactionType(TransactionType.WITHDRAW)
+                .amount(Money.of(20000))
+                .balanceAfter(account.getBalance())
+                .description("머니박스 충전")
+                .referenceType(ReferenceType.MONEY_BOX_DEPOSIT)
+                .build());
+        createAndSaveTransaction(otherAccount, TransactionType.DEPOSIT, Money.of(99000), "다른 계좌");
+        LocalDateTime from = LocalDate.now().atStartOfDay();
+        LocalDateTime to = from.plusDays(1);
+
+        // When
+        List<TransactionCategoryRow> rows = transactionRepository.summarizeByCategory(account.getId(), from, to);
+        List<TransactionCategoryRow> beforePeriod =
+                transactionRepository.summarizeByCategory(account.getId(), from.minusDays(7), from);
+
+        // Then
+        assertThat(rows).containsExactlyInAnyOrder(
+                new TransactionCategoryRow(TransactionType.DEPOSIT, ReferenceType.MANUAL, 15000L, 2L),
+                new TransactionCategoryRow(TransactionType.WITHDRAW, ReferenceType.MANUAL, 3000L, 1L),
+                new TransactionCategoryRow(TransactionType.WITHDRAW, ReferenceType.MONEY_BOX_DEPOSIT, 20000L, 1L));
+        assertThat(beforePeriod).isEmpty();
+    }
+
     @Test
     @DisplayName("계좌와 거래타입별 조회 - 기준일시 이전, 생성일시 오름차순")
-    void findAllByAccountAndTransactionTypeAndCreatedAtBeforeOrderByCreatedAtAsc() {
+    void findResponsesByAccountIdAndTypeBefore() {
         // Given
         Member member = createAndSaveMember("010-3333-3333", "박하나");
         Account account = createAndSaveAccount(member, "33333333333333", AccountType.MAIN);
@@ -145,16 +272,15 @@ class TransactionRepositoryTest {
         
         // 거래들 생성 (모두 현재 시간으로 생성됨)
         createAndSaveTransaction(account, TransactionType.DEPOSIT, 
-                new BigDecimal("10000"), "입금1");
+                Money.of(10000), "입금1");
         createAndSaveTransaction(account, TransactionType.WITHDRAW, 
-                new BigDecimal("5000"), "출금1");
+                Money.of(5000), "출금1");
         createAndSaveTransaction(account, TransactionType.DEPOSIT, 
-                new BigDecimal("15000"), "입금2");
+                Money.of(15000), "입금2");
 
         // When - DEPOSIT 타입만 조회 (현재 시간 < targetDate 이므로 모든 DEPOSIT 조회됨)
-        List<Transaction> deposits = transactionRepository
-                .findAllByAccountAndTransactionTypeAndCreatedAtBeforeOrderByCreatedAtAsc(
-                        account, TransactionType.DEPOSIT, targetDate);
+        List<TransactionResponse> deposits = transactionRepository
+                .findResponsesByAccountIdAndTypeBefore(account.getId(), TransactionType.DEPOSIT, targetDate);
 
         // Then
         assertThat(deposits).hasSize(2); // DEPOSIT 2건만 조회
@@ -168,7 +294,7 @@ class TransactionRepositoryTest {
 
     @Test
     @DisplayName("계좌와 거래타입별 조회 - WITHDRAW만 조회")
-    void findAllByAccountAndTransactionTypeAndCreatedAtBeforeOrderByCreatedAtAsc_WithdrawOnly() {
+    void findResponsesByAccountIdAndTypeBefore_WithdrawOnly() {
         // Given
         Member member = createAndSaveMember("010-4444-4444", "최하나");
         Account account = createAndSaveAccount(member, "44444444444444", AccountType.MAIN);
@@ -177,16 +303,15 @@ class TransactionRepositoryTest {
         LocalDateTime targetDate = LocalDateTime.now().plusDays(1);
         
         createAndSaveTransaction(account, TransactionType.DEPOSIT, 
-                new BigDecimal("100000"), "입금");
+                Money.of(100000), "입금");
         createAndSaveTransaction(account, TransactionType.WITHDRAW, 
-                new BigDecimal("30000"), "출금1");
+                Money.of(30000), "출금1");
         createAndSaveTransaction(account, TransactionType.WITHDRAW, 
-                new BigDecimal("20000"), "출금2");
+                Money.of(20000), "출금2");
 
         // When - WITHDRAW 타입만 조회
-        List<Transaction> withdrawals = transactionRepository
-                .findAllByAccountAndTransactionTypeAndCreatedAtBeforeOrderByCreatedAtAsc(
-                        account, TransactionType.WITHDRAW, targetDate);
+        List<TransactionResponse> withdrawals = transactionRepository
+                .findResponsesByAccountIdAndTypeBefore(account.getId(), TransactionType.WITHDRAW, targetDate);
 
         // Then
         assertThat(withdrawals).hasSize(2); // WITHDRAW 2건만 조회
@@ -221,7 +346,7 @@ class TransactionRepositoryTest {
                 .accountType(accountType)
                 .name("테스트 계좌")
                 .bankName("하나은행")
-                .balance(new BigDecimal("1000000"))
+                .balance(Money.of(1000000))
                 .password("encryptedPassword")
                 .deleted(false)
                 .build();
@@ -230,13 +355,13 @@ class TransactionRepositoryTest {
     }
 
     private Transaction createAndSaveTransaction(Account account, TransactionType transactionType, 
-                                               BigDecimal amount, String description) {
+                                               Money amount, String description) {
         Transaction transaction = Transaction.builder()
                 .account(account)
                 .transactionType(transactionType)
                 .amount(amount)
-                .balanceAfter(account.getBalance().add(
-                        transactionType == TransactionType.DEPOSIT ? amount : amount.negate()))
+                .balanceAfter(transactionType == TransactionType.DEPOSIT
+                        ? account.getBalance().plus(amount) : account.getBalance().minus(amount))
                 .counterpartyAccountId(999L)
                 .counterpartyName("상대방")
                 .description(description)
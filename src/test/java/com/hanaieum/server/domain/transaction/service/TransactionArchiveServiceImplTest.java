@@ -0,0 +1,80 @@
+package com.hanaieum.server.domain.transaction.service;
+
+import com.hanaieum.server.domain.transaction.repository.ArchivedTransactionRepository;
+import com.hanaieum.server.domain.transaction.repository.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionArchiveService 단위 테스트")
+class TransactionArchiveServiceImplTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 10, 1, 0, 0);
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private ArchivedTransactionRepository archivedTransactionRepository;
+
+    @InjectMocks
+    private TransactionArchiveServiceImpl transactionArchiveService;
+
+    @Test
+    @DisplayName("chunk 이동 - 같은 ID 목록을 복사 후 삭제")
+    void archiveChunk_CopiesThenDeletes() {
+        // Given
+        List<Long> ids = List.of(1L, 2L, 3L);
+        when(transactionRepository.findIdsCreatedBefore(CUTOFF, PageRequest.of(0, 3))).thenReturn(ids);
+        when(archivedTransactionRepository.copyFromTransactions(eq(ids), any())).thenReturn(3);
+        when(transactionRepository.deleteAllByIdIn(ids)).thenReturn(3);
+
+        // When
+        int moved = transactionArchiveService.archiveChunk(CUTOFF, 3);
+
+        // Then
+        assertThat(moved).isEqualTo(3);
+        var inOrder = inOrder(archivedTransactionRepository, transactionRepository);
+        inOrder.verify(archivedTransactionRepository).copyFromTransactions(eq(ids), any());
+        inOrder.verify(transactionRepository).deleteAllByIdIn(ids);
+    }
+
+    @Test
+    @DisplayName("대상이 없으면 아무것도 하지 않음")
+    void archiveChunk_Empty() {
+        // Given
+        when(transactionRepository.findIdsCreatedBefore(CUTOFF, PageRequest.of(0, 100))).thenReturn(List.of());
+
+        // When & Then
+        assertThat(transactionArchiveService.archiveChunk(CUTOFF, 100)).isZero();
+        verifyNoInteractions(archivedTransactionRepository);
+        verify(transactionRepository, never()).deleteAllByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("복사/삭제 건수가 다르면 예외로 chunk 전체 롤백")
+    void archiveChunk_CountMismatch() {
+        // Given
+        List<Long> ids = List.of(1L, 2L);
+        when(transactionRepository.findIdsCreatedBefore(CUTOFF, PageRequest.of(0, 2))).thenReturn(ids);
+        when(archivedTransactionRepository.copyFromTransactions(eq(ids), any())).thenReturn(2);
+        when(transactionRepository.deleteAllByIdIn(ids)).thenReturn(1);
+
+        // When & Then
+        assertThatThrownBy(() -> transactionArchiveService.archiveChunk(CUTOFF, 2))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
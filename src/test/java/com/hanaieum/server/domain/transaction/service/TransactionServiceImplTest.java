@@ -1,18 +1,28 @@
 package com.hanaieum.server.domain.transaction.service;
 
+import com.hanaieum.server.common.exception.CustomException;
+import com.hanaieum.server.common.exception.ErrorCode;
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.entity.Account;
 import com.hanaieum.server.domain.account.entity.AccountType;
 import com.hanaieum.server.domain.account.service.AccountService;
 import com.hanaieum.server.domain.member.entity.Gender;
 import com.hanaieum.server.domain.member.entity.Member;
+import com.hanaieum.server.domain.transaction.dto.StatementFormat;
+import com.hanaieum.server.domain.transaction.dto.TransactionCategoryRow;
+import com.hanaieum.server.domain.transaction.dto.TransactionCursor;
+import com.hanaieum.server.domain.transaction.dto.TransactionCursorResponse;
 import com.hanaieum.server.domain.transaction.dto.TransactionResponse;
+import com.hanaieum.server.domain.transaction.dto.TransactionSummaryResponse;
 import com.hanaieum.server.domain.transaction.entity.ReferenceType;
 import com.hanaieum.server.domain.transaction.entity.Transaction;
 import com.hanaieum.server.domain.transaction.entity.TransactionType;
+import com.hanaieum.server.domain.transaction.repository.ArchivedTransactionRepository;
 import com.hanaieum.server.domain.transaction.repository.TransactionRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -20,14 +30,22 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
@@ -41,6 +59,15 @@ class TransactionServiceImplTest {
     
     @Mock
     private AccountService accountService;
+
+    @Mock
+    private TransactionStatementWriter transactionStatementWriter;
+
+    @Mock
+    private ArchivedTransactionRepository archivedTransactionRepository;
+
+    @Mock
+    private TransactionArchivePolicy transactionArchivePolicy;
     
     @InjectMocks
     private TransactionServiceImpl transactionService;
@@ -52,20 +79,20 @@ class TransactionServiceImplTest {
         Member fromMember = createMember(1L, "010-1111-1111", "김하나");
         Member toMember = createMember(2L, "010-2222-2222", "이하나");
         
-        Account fromAccount = createMainAccount(1L, fromMember, new BigDecimal("100000"));
-        Account toAccount = createMoneyBoxAccount(2L, toMember, new BigDecimal("50000"));
+        Account fromAccount = createMainAccount(1L, fromMember, Money.of(100000));
+        Account toAccount = createMoneyBoxAccount(2L, toMember, Money.of(50000));
         
-        BigDecimal amount = new BigDecimal("10000");
+        Money amount = Money.of(10000);
         ReferenceType referenceType = ReferenceType.MONEY_BOX_DEPOSIT;
         String description = "머니박스 충전";
         Long referenceId = 1L;
 
         Transaction withdrawTx = createTransaction(1L, fromAccount, TransactionType.WITHDRAW, 
-                amount, new BigDecimal("90000"), toAccount.getId(), toMember.getName(), 
+                amount, Money.of(90000), toAccount.getId(), toMember.getName(), 
                 description, referenceType, referenceId);
         
         Transaction depositTx = createTransaction(2L, toAccount, TransactionType.DEPOSIT, 
-                amount, new BigDecimal("60000"), fromAccount.getId(), fromMember.getName(), 
+                amount, Money.of(60000), fromAccount.getId(), fromMember.getName(), 
                 description, referenceType, referenceId);
 
         when(transactionRepository.save(any(Transaction.class)))
@@ -106,14 +133,47 @@ class TransactionServiceImplTest {
         ));
     }
 
+    @Test
+    @DisplayName("일괄 이체 거래 기록 - 출금 후 잔액은 건별로 누적 차감, 한 번에 저장")
+    @SuppressWarnings("unchecked")
+    void recordTransfers_Success() {
+        // Given - 주계좌 100,000 → 30,000 / 20,000 일괄 이체 후 잔액 50,000
+        Member member = createMember(1L, "010-1111-1111", "김하나");
+        Account mainAccount = createMainAccount(1L, member, Money.of(50000));
+        Account travelBox = createMoneyBoxAccount(2L, member, Money.of(30000));
+        Account carBox = createMoneyBoxAccount(3L, member, Money.of(20000));
+
+        Map<Account, Money> amountsByToAccount = new LinkedHashMap<>();
+        amountsByToAccount.put(travelBox, Money.of(30000));
+        amountsByToAccount.put(carBox, Money.of(20000));
+
+        // When
+        transactionService.recordTransfers(mainAccount, amountsByToAccount,
+                ReferenceType.MONEY_BOX_DEPOSIT, "머니박스 충전");
+
+        // Then
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository).saveAll(captor.capture());
+        verify(transactionRepository, never()).save(any(Transaction.class));
+
+        List<Transaction> txs = captor.getValue();
+        assertThat(txs).hasSize(4);
+        assertThat(txs.get(0).getTransactionType()).isEqualTo(TransactionType.WITHDRAW);
+        assertThat(txs.get(0).getBalanceAfter()).isEqualTo(Money.of(70000));
+        assertThat(txs.get(1).getTransactionType()).isEqualTo(TransactionType.DEPOSIT);
+        assertThat(txs.get(1).getAccount()).isSameAs(travelBox);
+        assertThat(txs.get(2).getBalanceAfter()).isEqualTo(Money.of(50000));
+        assertThat(txs.get(3).getAccount()).isSameAs(carBox);
+    }
+
     @Test
     @DisplayName("입금 거래 기록 생성 성공")
     void recordDeposit_Success() {
         // Given
         Member member = createMember(1L, "010-1111-1111", "김하나");
-        Account account = createMainAccount(1L, member, new BigDecimal("100000"));
+        Account account = createMainAccount(1L, member, Money.of(100000));
         
-        BigDecimal amount = new BigDecimal("5000");
+        Money amount = Money.of(5000);
         Long counterpartyAccountId = null;
         String counterpartyName = "하나이음";
         ReferenceType referenceType = ReferenceType.MONEY_BOX_INTEREST;
@@ -121,7 +181,7 @@ class TransactionServiceImplTest {
         Long referenceId = 1L;
 
         Transaction depositTx = createTransaction(1L, account, TransactionType.DEPOSIT, 
-                amount, new BigDecimal("105000"), counterpartyAccountId, counterpartyName, 
+                amount, Money.of(105000), counterpartyAccountId, counterpartyName, 
                 description, referenceType, referenceId);
 
         when(transactionRepository.save(any(Transaction.class))).thenReturn(depositTx);
@@ -153,29 +213,33 @@ class TransactionServiceImplTest {
         Pageable pageable = PageRequest.of(0, 10);
         
         Member member = createMember(memberId, "010-1111-1111", "김하나");
-        Account account = createMainAccount(accountId, member, new BigDecimal("100000"));
+        Account account = createMainAccount(accountId, member, Money.of(100000));
         
         List<Transaction> transactions = Arrays.asList(
                 createTransaction(1L, account, TransactionType.DEPOSIT, 
-                        new BigDecimal("50000"), new BigDecimal("150000"), 
+                        Money.of(50000), Money.of(150000), 
                         2L, "이하나", "머니박스 후원", ReferenceType.BUCKET_FUNDING, 1L),
                 createTransaction(2L, account, TransactionType.WITHDRAW, 
-                        new BigDecimal("20000"), new BigDecimal("80000"), 
+                        Money.of(20000), Money.of(80000), 
                         3L, "박하나", "머니박스 충전", ReferenceType.MONEY_BOX_DEPOSIT, 2L)
         );
         
-        Page<Transaction> transactionPage = new PageImpl<>(transactions, pageable, transactions.size());
+        Page<TransactionResponse> transactionPage = new PageImpl<>(
+                transactions.stream().map(TransactionResponse::of).toList(), pageable, transactions.size());
         
-        when(transactionRepository.findByAccountIdOrderByCreatedAtDesc(accountId, pageable))
+        when(accountService.findOwnedAccount(accountId, memberId)).thenReturn(account);
+        when(transactionRepository.findResponsesByAccountId(accountId, pageable))
                 .thenReturn(transactionPage);
 
         // When
         Page<TransactionResponse> result = transactionService.getTransactionsByAccountId(
                 memberId, accountId, pageable);
 
-        // Then
-        verify(accountService).validateAccountOwnership(accountId, memberId);
-        verify(transactionRepository).findByAccountIdOrderByCreatedAtDesc(accountId, pageable);
+        // Then (소유권 검증에서 조회한 계좌로 아카이브 포함 여부 판단 - 계좌를 다시 조회하지 않음)
+        verify(accountService).findOwnedAccount(accountId, memberId);
+        verify(transactionArchivePolicy).reaches(account, null);
+        verify(accountService, never()).findById(any());
+        verify(transactionRepository).findResponsesByAccountId(accountId, pageable);
         
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(2);
@@ -190,39 +254,273 @@ class TransactionServiceImplTest {
     }
 
     @Test
-    @DisplayName("거래 타입별 조회 성공")
+    @DisplayName("거래 내역 커서 조회 - 첫 페이지, 한 건 더 조회해 nextCursor 생성")
+    void getTransactionsByAccountIdAndCursor_FirstPage() {
+        // Given
+        Long memberId = 1L;
+        Long accountId = 1L;
+        Member member = createMember(memberId, "010-1111-1111", "김하나");
+        Account account = createMainAccount(accountId, member, Money.of(100000));
+        LocalDateTime now = LocalDateTime.of(2025, 9, 1, 12, 0, 0);
+
+        TransactionResponse tx3 = createTransactionAt(3L, account, now);
+        TransactionResponse tx2 = createTransactionAt(2L, account, now);
+        TransactionResponse tx1 = createTransactionAt(1L, account, now.minusMinutes(1));
+        when(transactionRepository.findFirstPageByAccountId(accountId, PageRequest.of(0, 3)))
+                .thenReturn(List.of(tx3, tx2, tx1));
+
+        // When
+        TransactionCursorResponse result = transactionService.getTransactionsByAccountIdAndCursor(
+                memberId, accountId, "", 2);
+
+        // Then
+        verify(accountService).findOwnedAccount(accountId, memberId);
+        verify(transactionRepository, never()).count();
+        assertThat(result.getTransactions()).extracting(TransactionResponse::getTransactionId)
+                .containsExactly(3L, 2L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(TransactionCursor.decode(result.getNextCursor())).isEqualTo(new TransactionCursor(now, 2L));
+    }
+
+    @Test
+    @DisplayName("거래 내역 커서 조회 - 커서 이후 마지막 페이지")
+    void getTransactionsByAccountIdAndCursor_LastPage() {
+        // Given
+        Long memberId = 1L;
+        Long accountId = 1L;
+        Member member = createMember(memberId, "010-1111-1111", "김하나");
+        Account account = createMainAccount(accountId, member, Money.of(100000));
+        LocalDateTime now = LocalDateTime.of(2025, 9, 1, 12, 0, 0);
+        String cursor = new TransactionCursor(now, 2L).encode();
+
+        TransactionResponse tx1 = createTransactionAt(1L, account, now.minusMinutes(1));
+        when(transactionRepository.findPageByAccountIdBefore(accountId, now, 2L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(tx1));
+
+        // When
+        TransactionCursorResponse result = transactionService.getTransactionsByAccountIdAndCursor(
+                memberId, accountId, cursor, 2);
+
+        // Then
+        verify(transactionRepository, never()).findFirstPageByAccountId(any(), any());
+        assertThat(result.getTransactions()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("거래 내역 커서 조회 실패 - 잘못된 커서")
+    void getTransactionsByAccountIdAndCursor_InvalidCursor() {
+        // When & Then
+        assertThatThrownBy(() -> transactionService.getTransactionsByAccountIdAndCursor(1L, 1L, "not-a-cursor", 20))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TRANSACTION_CURSOR);
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    @DisplayName("거래내역서 다운로드 - 검증은 즉시, 조회/출력은 응답 스트림에 쓸 때 종료일 다음날 0시 전까지")
+    void exportStatement_Success() throws Exception {
+        // Given
+        Long memberId = 1L;
+        Long accountId = 1L;
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 31);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        StreamingResponseBody body = transactionService.exportStatement(memberId, accountId, from, to,
+                StatementFormat.CSV);
+
+        // Then
+        verify(accountService).findOwnedAccount(accountId, memberId);
+        verifyNoInteractions(transactionStatementWriter);
+
+        body.writeTo(outputStream);
+        verify(transactionStatementWriter).write(accountId, from.atStartOfDay(),
+                LocalDate.of(2025, 2, 1).atStartOfDay(), StatementFormat.CSV, false, outputStream);
+    }
+
+    @Test
+    @DisplayName("거래내역서 다운로드 실패 - 시작일이 종료일보다 늦음")
+    void exportStatement_Fail_InvalidPeriod() {
+        // When & Then
+        assertThatThrownBy(() -> transactionService.exportStatement(1L, 1L,
+                LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1), StatementFormat.JSON))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_STATEMENT_PERIOD);
+        verifyNoInteractions(transactionStatementWriter);
+    }
+
+    @Test
+    @DisplayName("거래 요약 조회 - 최근 거래와 아카이브 집계를 분류별로 합산하고 입출금 합계 계산")
+    void getTransactionSummary_MergesArchive() {
+        // Given
+        Long memberId = 1L;
+        Long accountId = 1L;
+        Account account = createMainAccount(accountId, createMember(memberId, "010-1111-1111", "김하나"),
+                Money.of(100000));
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 31);
+        LocalDateTime fromDateTime = from.atStartOfDay();
+        LocalDateTime toDateTime = LocalDate.of(2024, 2, 1).atStartOfDay();
+
+        when(transactionRepository.summarizeByCategory(accountId, fromDateTime, toDateTime)).thenReturn(List.of(
+                new TransactionCategoryRow(TransactionType.WITHDRAW, ReferenceType.MONEY_BOX_DEPOSIT, 20000L, 2L),
+                new TransactionCategoryRow(TransactionType.DEPOSIT, ReferenceType.MANUAL, 5000L, 1L)));
+        when(accountService.findOwnedAccount(accountId, memberId)).thenReturn(account);
+        when(transactionArchivePolicy.reaches(account, fromDateTime)).thenReturn(true);
+        when(archivedTransactionRepository.summarizeByCategory(accountId, fromDateTime, toDateTime)).thenReturn(List.of(
+                new TransactionCategoryRow(TransactionType.DEPOSIT, ReferenceType.MANUAL, 10000L, 3L),
+                new TransactionCategoryRow(TransactionType.DEPOSIT, ReferenceType.MONEY_BOX_INTEREST, 700L, 1L)));
+
+        // When
+        TransactionSummaryResponse result = transactionService.getTransactionSummary(memberId, accountId, from, to);
+
+        // Then
+        verify(accountService).findOwnedAccount(accountId, memberId);
+        assertThat(result.getTotalDeposit()).isEqualByComparingTo("15700");
+        assertThat(result.getDepositCount()).isEqualTo(5);
+        assertThat(result.getTotalWithdraw()).isEqualByComparingTo("20000");
+        assertThat(result.getWithdrawCount()).isEqualTo(2);
+        assertThat(result.getCategories())
+                .extracting(TransactionSummaryResponse.CategorySummary::getTransactionType,
+                        TransactionSummaryResponse.CategorySummary::getReferenceType,
+                        TransactionSummaryResponse.CategorySummary::getTransactionCount)
+                .containsExactly(
+                        tuple(TransactionType.DEPOSIT, ReferenceType.MANUAL, 4L),
+                        tuple(TransactionType.DEPOSIT, ReferenceType.MONEY_BOX_INTEREST, 1L),
+                        tuple(TransactionType.WITHDRAW, ReferenceType.MONEY_BOX_DEPOSIT, 2L));
+        assertThat(result.getCategories().get(0).getTotalAmount()).isEqualByComparingTo("15000");
+        assertThat(result.getCategories().get(2).getDescription()).isEqualTo("머니박스 충전");
+    }
+
+    @Test
+    @DisplayName("거래 요약 조회 실패 - 1년 초과 기간")
+    void getTransactionSummary_Fail_PeriodTooLong() {
+        // When & Then
+        assertThatThrownBy(() -> transactionService.getTransactionSummary(1L, 1L,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1)))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TRANSACTION_SUMMARY_PERIOD);
+        verifyNoInteractions(transactionRepository, archivedTransactionRepository);
+    }
+
+    @Test
+    @DisplayName("거래 타입별 조회 성공 - 아카이브에 닿지 않으면 최근 거래만 조회")
     void getTransactionsByTransactionType_Success() {
         // Given
         Member member = createMember(1L, "010-1111-1111", "김하나");
-        Account account = createMainAccount(1L, member, new BigDecimal("100000"));
+        Account account = createMainAccount(1L, member, Money.of(100000));
         TransactionType transactionType = TransactionType.DEPOSIT;
         LocalDate targetDate = LocalDate.now();
-        
-        List<Transaction> transactions = Arrays.asList(
-                createTransaction(1L, account, TransactionType.DEPOSIT, 
-                        new BigDecimal("30000"), new BigDecimal("130000"), 
-                        2L, "이하나", "입금", ReferenceType.MANUAL, null),
-                createTransaction(2L, account, TransactionType.DEPOSIT, 
-                        new BigDecimal("20000"), new BigDecimal("150000"), 
-                        3L, "박하나", "입금", ReferenceType.AUTO_TRANSFER, 1L)
-        );
-        
-        when(transactionRepository.findAllByAccountAndTransactionTypeAndCreatedAtBeforeOrderByCreatedAtAsc(
-                account, transactionType, targetDate.atStartOfDay()))
+        LocalDateTime createdAt = LocalDateTime.of(2025, 9, 1, 12, 0, 0);
+
+        List<TransactionResponse> transactions = List.of(
+                createTransactionAt(1L, account, createdAt),
+                createTransactionAt(2L, account, createdAt.plusDays(1)));
+        when(transactionRepository.findResponsesByAccountIdAndTypeBefore(
+                account.getId(), transactionType, targetDate.atStartOfDay()))
                 .thenReturn(transactions);
 
         // When
-        List<Transaction> result = transactionService.getTransactionsByTransactionType(
+        List<TransactionResponse> result = transactionService.getTransactionsByTransactionType(
                 account, transactionType, targetDate);
 
         // Then
-        verify(transactionRepository).findAllByAccountAndTransactionTypeAndCreatedAtBeforeOrderByCreatedAtAsc(
-                account, transactionType, targetDate.atStartOfDay());
-        
-        assertThat(result).isNotNull();
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).getTransactionType()).isEqualTo(TransactionType.DEPOSIT);
-        assertThat(result.get(1).getTransactionType()).isEqualTo(TransactionType.DEPOSIT);
+        verify(transactionRepository).findResponsesByAccountIdAndTypeBefore(
+                account.getId(), transactionType, targetDate.atStartOfDay());
+        verifyNoInteractions(archivedTransactionRepository);
+        assertThat(result).extracting(TransactionResponse::getTransactionId).containsExactly(1L, 2L);
+        assertThat(result).allMatch(tx -> tx.getTransactionType() == TransactionType.DEPOSIT);
+    }
+
+    @Test
+    @DisplayName("거래 타입별 조회 - 아카이브에 닿으면 아카이브 → 최근 거래 순으로 합침")
+    void getTransactionsByTransactionType_IncludesArchive() {
+        // Given
+        Member member = createMember(1L, "010-1111-1111", "김하나");
+        Account account = createMoneyBoxAccount(1L, member, Money.of(100000));
+        LocalDate targetDate = LocalDate.now();
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0, 0);
+
+        when(transactionArchivePolicy.reaches(account, null)).thenReturn(true);
+        when(archivedTransactionRepository.findResponsesByAccountIdAndTypeBefore(
+                account.getId(), TransactionType.DEPOSIT, targetDate.atStartOfDay()))
+                .thenReturn(List.of(createTransactionAt(1L, account, createdAt),
+                        createTransactionAt(2L, account, createdAt.plusMonths(1))));
+        when(transactionRepository.findResponsesByAccountIdAndTypeBefore(
+                account.getId(), TransactionType.DEPOSIT, targetDate.atStartOfDay()))
+                .thenReturn(List.of(createTransactionAt(3L, account, createdAt.plusYears(1))));
+
+        // When
+        List<TransactionResponse> result = transactionService.getTransactionsByTransactionType(
+                account, TransactionType.DEPOSIT, targetDate);
+
+        // Then
+        assertThat(result).extracting(TransactionResponse::getTransactionId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("거래 내역 커서 조회 - 최근 거래가 부족하면 마지막 행 이후를 아카이브에서 이어서 조회")
+    void getTransactionsByAccountIdAndCursor_ContinuesIntoArchive() {
+        // Given
+        Long memberId = 1L;
+        Long accountId = 1L;
+        Member member = createMember(memberId, "010-1111-1111", "김하나");
+        Account account = createMainAccount(accountId, member, Money.of(100000));
+        LocalDateTime now = LocalDateTime.of(2025, 9, 1, 12, 0, 0);
+
+        TransactionResponse recent = createTransactionAt(10L, account, now);
+        when(transactionRepository.findFirstPageByAccountId(accountId, PageRequest.of(0, 3)))
+                .thenReturn(List.of(recent));
+        when(accountService.findOwnedAccount(accountId, memberId)).thenReturn(account);
+        when(transactionArchivePolicy.reaches(account, null)).thenReturn(true);
+        when(archivedTransactionRepository.findPageByAccountIdBefore(accountId, now, 10L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(createTransactionAt(5L, account, now.minusYears(2)),
+                        createTransactionAt(4L, account, now.minusYears(2).minusDays(1))));
+
+        // When
+        TransactionCursorResponse result = transactionService.getTransactionsByAccountIdAndCursor(
+                memberId, accountId, null, 2);
+
+        // Then
+        assertThat(result.getTransactions()).extracting(TransactionResponse::getTransactionId)
+                .containsExactly(10L, 5L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(TransactionCursor.decode(result.getNextCursor()))
+                .isEqualTo(new TransactionCursor(now.minusYears(2), 5L));
+    }
+
+    @Test
+    @DisplayName("거래 내역 페이지 조회 - 최근 거래 끝을 넘는 페이지는 아카이브로 채우고 전체 개수에 포함")
+    void getTransactionsByAccountId_SpansIntoArchive() {
+        // Given
+        Long memberId = 1L;
+        Long accountId = 1L;
+        Member member = createMember(memberId, "010-1111-1111", "김하나");
+        Account account = createMainAccount(accountId, member, Money.of(100000));
+        LocalDateTime now = LocalDateTime.of(2025, 9, 1, 12, 0, 0);
+        Pageable pageable = PageRequest.of(1, 3); // offset 3, 최근 거래 4건 → 1건 + 아카이브 2건
+
+        when(transactionRepository.findResponsesByAccountId(accountId, pageable))
+                .thenReturn(new PageImpl<>(List.of(createTransactionAt(7L, account, now)), pageable, 4));
+        when(accountService.findOwnedAccount(accountId, memberId)).thenReturn(account);
+        when(transactionArchivePolicy.reaches(account, null)).thenReturn(true);
+        when(archivedTransactionRepository.countByAccountId(accountId)).thenReturn(5L);
+        when(archivedTransactionRepository.findFirstPageByAccountId(accountId, PageRequest.of(0, 3)))
+                .thenReturn(List.of(createTransactionAt(5L, account, now.minusYears(2)),
+                        createTransactionAt(4L, account, now.minusYears(2)),
+                        createTransactionAt(3L, account, now.minusYears(2))));
+
+        // When
+        Page<TransactionResponse> result = transactionService.getTransactionsByAccountId(memberId, accountId, pageable);
+
+        // Then
+        assertThat(result.getContent()).extracting(TransactionResponse::getTransactionId)
+                .containsExactly(7L, 5L, 4L);
+        assertThat(result.getTotalElements()).isEqualTo(9);
+        assertThat(result.getTotalPages()).isEqualTo(3);
     }
 
     // Helper methods
@@ -238,7 +536,7 @@ class TransactionServiceImplTest {
                 .build();
     }
 
-    private Account createMainAccount(Long id, Member member, BigDecimal balance) {
+    private Account createMainAccount(Long id, Member member, Money balance) {
         return Account.builder()
                 .id(id)
                 .member(member)
@@ -252,7 +550,7 @@ class TransactionServiceImplTest {
                 .build();
     }
 
-    private Account createMoneyBoxAccount(Long id, Member member, BigDecimal balance) {
+    private Account createMoneyBoxAccount(Long id, Member member, Money balance) {
         return Account.builder()
                 .id(id)
                 .member(member)
@@ -267,8 +565,16 @@ class TransactionServiceImplTest {
                 .build();
     }
 
+    private TransactionResponse createTransactionAt(Long id, Account account, LocalDateTime createdAt) {
+        Transaction transaction = createTransaction(id, account, TransactionType.DEPOSIT,
+                Money.of(1000), Money.of(101000), null, "하나이음", "입금",
+                ReferenceType.MANUAL, null);
+        ReflectionTestUtils.setField(transaction, "createdAt", createdAt);
+        return TransactionResponse.of(transaction);
+    }
+
     private Transaction createTransaction(Long id, Account account, TransactionType transactionType,
-                                       BigDecimal amount, BigDecimal balanceAfter, Long counterpartyAccountId,
+                                       Money amount, Money balanceAfter, Long counterpartyAccountId,
                                        String counterpartyName, String description, ReferenceType referenceType,
                                        Long referenceId) {
         return Transaction.builder()
@@ -0,0 +1,162 @@
+package com.hanaieum.server.domain.transaction.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hanaieum.server.domain.transaction.dto.StatementFormat;
+import com.hanaieum.server.domain.transaction.dto.TransactionResponse;
+import com.hanaieum.server.domain.transaction.entity.TransactionType;
+import com.hanaieum.server.domain.transaction.repository.ArchivedTransactionRepository;
+import com.hanaieum.server.domain.transaction.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionStatementWriter 단위 테스트")
+class TransactionStatementWriterTest {
+
+    private static final Long ACCOUNT_ID = 1L;
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private ArchivedTransactionRepository archivedTransactionRepository;
+
+    private TransactionStatementWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        writer = new TransactionStatementWriter(transactionRepository, archivedTransactionRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("CSV - BOM, 헤더, 쉼표/따옴표가 들어간 값 이스케이프, 스트림 종료")
+    void write_Csv() throws Exception {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean(false);
+        when(transactionRepository.streamStatement(ACCOUNT_ID, FROM, TO)).thenReturn(Stream.of(
+                response(1L, TransactionType.DEPOSIT, "김하나", "용돈, \"1월\"", "50000", "150000"),
+                response(2L, TransactionType.WITHDRAW, null, "머니박스 충전", "20000", "130000")
+        ).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        writer.write(ACCOUNT_ID, FROM, TO, StatementFormat.CSV, false, outputStream);
+
+        // Then
+        String csv = outputStream.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("\uFEFF거래일시,구분,상대방,적요,금액,거래후잔액\r\n");
+        assertThat(csv).contains("2025-01-10 09:30:00,DEPOSIT,김하나,\"용돈, \"\"1월\"\"\",50000,150000\r\n");
+        assertThat(csv).endsWith("2025-01-10 09:30:00,WITHDRAW,,머니박스 충전,20000,130000\r\n");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("CSV - 수식으로 시작하는 상대방 이름/적요는 앞에 ' 를 붙여 수식 실행 방지")
+    void write_Csv_NeutralizesFormulas() throws Exception {
+        // Given
+        when(transactionRepository.streamStatement(ACCOUNT_ID, FROM, TO)).thenReturn(Stream.of(
+                response(1L, TransactionType.DEPOSIT, "=HYPERLINK(\"http://evil\")", "+1", "50000", "150000"),
+                response(2L, TransactionType.DEPOSIT, "@SUM(A1)", "-2", "1000", "151000"),
+                response(3L, TransactionType.DEPOSIT, "\t김하나", "\r용돈", "1000", "152000")
+        ));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        writer.write(ACCOUNT_ID, FROM, TO, StatementFormat.CSV, false, outputStream);
+
+        // Then
+        String csv = outputStream.toString(StandardCharsets.UTF_8);
+        assertThat(csv).contains(",DEPOSIT,\"'=HYPERLINK(\"\"http://evil\"\")\",'+1,50000,150000\r\n");
+        assertThat(csv).contains(",DEPOSIT,'@SUM(A1),'-2,1000,151000\r\n");
+        assertThat(csv).contains(",DEPOSIT,'\t김하나,\"'\r용돈\",1000,152000\r\n");
+    }
+
+    @Test
+    @DisplayName("JSON - 행 단위로 배열에 기록")
+    void write_Json() throws Exception {
+        // Given
+        when(transactionRepository.streamStatement(ACCOUNT_ID, FROM, TO)).thenReturn(Stream.of(
+                response(1L, TransactionType.DEPOSIT, "김하나", "용돈", "50000", "150000"),
+                response(2L, TransactionType.WITHDRAW, "하나이음", "머니박스 충전", "20000", "130000")
+        ));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        writer.write(ACCOUNT_ID, FROM, TO, StatementFormat.JSON, false, outputStream);
+
+        // Then
+        JsonNode json = new ObjectMapper().readTree(outputStream.toByteArray());
+        assertThat(json.isArray()).isTrue();
+        assertThat(json).hasSize(2);
+        assertThat(json.get(0).get("transactionId").asLong()).isEqualTo(1L);
+        assertThat(json.get(1).get("description").asText()).isEqualTo("머니박스 충전");
+    }
+
+    @Test
+    @DisplayName("거래가 없으면 헤더만 기록")
+    void write_Empty() throws Exception {
+        // Given
+        when(transactionRepository.streamStatement(ACCOUNT_ID, FROM, TO)).thenReturn(Stream.empty());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        writer.write(ACCOUNT_ID, FROM, TO, StatementFormat.CSV, false, outputStream);
+
+        // Then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo("\uFEFF거래일시,구분,상대방,적요,금액,거래후잔액\r\n");
+    }
+
+    @Test
+    @DisplayName("아카이브 포함 - 아카이브를 다 읽고 닫은 뒤 최근 거래 조회")
+    void write_WithArchive() throws Exception {
+        // Given
+        AtomicBoolean archiveClosed = new AtomicBoolean(false);
+        AtomicBoolean archiveClosedBeforeRecent = new AtomicBoolean(false);
+        when(archivedTransactionRepository.streamStatement(ACCOUNT_ID, FROM, TO)).thenReturn(Stream.of(
+                response(1L, TransactionType.DEPOSIT, "김하나", "보관된 입금", "50000", "150000")
+        ).onClose(() -> archiveClosed.set(true)));
+        when(transactionRepository.streamStatement(ACCOUNT_ID, FROM, TO)).thenAnswer(invocation -> {
+            archiveClosedBeforeRecent.set(archiveClosed.get());
+            return Stream.of(response(2L, TransactionType.WITHDRAW, null, "최근 출금", "20000", "130000"));
+        });
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        writer.write(ACCOUNT_ID, FROM, TO, StatementFormat.JSON, true, outputStream);
+
+        // Then
+        JsonNode json = new ObjectMapper().readTree(outputStream.toByteArray());
+        assertThat(json).hasSize(2);
+        assertThat(json.get(0).get("description").asText()).isEqualTo("보관된 입금");
+        assertThat(json.get(1).get("description").asText()).isEqualTo("최근 출금");
+        assertThat(archiveClosedBeforeRecent).isTrue();
+    }
+
+    private TransactionResponse response(Long id, TransactionType type, String counterpartyName, String description,
+                                         String amount, String balanceAfter) {
+        return new TransactionResponse(id, LocalDateTime.of(2025, 1, 10, 9, 30), type, counterpartyName,
+                description, new BigDecimal(amount), new BigDecimal(balanceAfter));
+    }
+}
@@ -0,0 +1,82 @@
+package com.hanaieum.server.domain.transfer.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트용 작업별 지연시간/결과 기록기
+ * - 성공한 호출의 지연시간(ns)을 작업 이름별로 모아 p50/p99를 계산
+ * - 실패는 분류(비즈니스 오류, 락 타임아웃, 기타)별로 건수만 집계
+ */
+public class LoadLatencyRecorder {
+
+    private final Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    public void recordSuccess(String operation, long elapsedNanos) {
+        latencies.computeIfAbsent(operation, key -> new ConcurrentLinkedQueue<>()).add(elapsedNanos);
+    }
+
+    public void recordFailure(String category) {
+        failures.computeIfAbsent(category, key -> new LongAdder()).increment();
+    }
+
+    public long successCount() {
+        return latencies.values().stream().mapToLong(ConcurrentLinkedQueue::size).sum();
+    }
+
+    public long failureCount(String category) {
+        LongAdder adder = failures.get(category);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public Map<String, Long> failures() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        failures.forEach((category, adder) -> result.put(category, adder.sum()));
+        return result;
+    }
+
+    /**
+     * 작업별 요약 + 전체("all") 요약 (단위: ms)
+     */
+    public Map<String, Map<String, Object>> summarize() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        List<Long> all = new ArrayList<>();
+        latencies.keySet().stream().sorted().forEach(operation -> {
+            List<Long> samples = new ArrayList<>(latencies.get(operation));
+            all.addAll(samples);
+            result.put(operation, summarize(samples));
+        });
+        result.put("all", summarize(all));
+        return result;
+    }
+
+    private Map<String, Object> summarize(List<Long> samples) {
+        Collections.sort(samples);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", samples.size());
+        summary.put("p50Ms", percentileMillis(samples, 0.50));
+        summary.put("p99Ms", percentileMillis(samples, 0.99));
+        summary.put("maxMs", samples.isEmpty() ? 0.0 : toMillis(samples.get(samples.size() - 1)));
+        return summary;
+    }
+
+    private double percentileMillis(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0.0;
+        }
+        // nearest-rank
+        int rank = (int) Math.ceil(percentile * sorted.size());
+        return toMillis(sorted.get(Math.max(rank - 1, 0)));
+    }
+
+    private double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
@@ -0,0 +1,162 @@
+package com.hanaieum.server.domain.transfer.service;
+
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountType;
+import com.hanaieum.server.domain.account.repository.AccountRepository;
+import com.hanaieum.server.domain.account.service.AccountService;
+import com.hanaieum.server.domain.bucketList.calculator.InterestCalculator;
+import com.hanaieum.server.domain.bucketList.entity.BucketList;
+import com.hanaieum.server.domain.bucketList.repository.BucketListRepository;
+import com.hanaieum.server.domain.member.entity.Member;
+import com.hanaieum.server.domain.member.repository.MemberRepository;
+import com.hanaieum.server.domain.moneyBox.entity.MoneyBoxInterestStripe;
+import com.hanaieum.server.domain.moneyBox.repository.MoneyBoxInterestStripeRepository;
+import com.hanaieum.server.domain.moneyBox.service.MoneyBoxInterestService;
+import com.hanaieum.server.domain.transaction.entity.TransactionType;
+import com.hanaieum.server.domain.transaction.service.TransactionService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hanaieum.server.common.TestFixtures.account;
+import static com.hanaieum.server.common.TestFixtures.bucketList;
+import static com.hanaieum.server.common.TestFixtures.member;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sponsorconcurrencydb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL;LOCK_TIMEOUT=10000",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ActiveProfiles("test")
+@DisplayName("스트라이프 머니박스 동시 후원 테스트")
+class MoneyBoxSponsorConcurrencyTest {
+
+    private static final String RAW_PASSWORD = "1234";
+    private static final int SPONSOR_COUNT = 8;
+    private static final int SPONSORS_PER_THREAD = 10;
+    private static final int STRIPE_COUNT = 4;
+    private static final Money INITIAL_BALANCE = Money.of(10000000);
+    private static final Money SPONSOR_AMOUNT = Money.of(1000);
+    // 후원 합계(80000)보다 작게 두어 목표금액 초과분 제외까지 확인
+    private static final BigDecimal TARGET_AMOUNT = new BigDecimal("50000");
+    private static final BigDecimal INTEREST_RATE = new BigDecimal("0.035");
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private MoneyBoxInterestService moneyBoxInterestService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private InterestCalculator interestCalculator;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private BucketListRepository bucketListRepository;
+
+    @Autowired
+    private MoneyBoxInterestStripeRepository moneyBoxInterestStripeRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    @DisplayName("여러 후원자가 동시에 후원해도 잔액/이자 누적값 모두 유실 없이 반영되고 이자는 전체 계산과 같다")
+    void concurrentSponsors_NoLostUpdates() throws Exception {
+        // Given
+        String encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+        Member owner = memberRepository.save(member("01094000000", "버킷주인"));
+        Account moneyBox = accountRepository.save(account(owner, "94000000000000", AccountType.MONEY_BOX,
+                Money.ZERO, encodedPassword));
+        accountService.enableBalanceStripes(moneyBox, STRIPE_COUNT);
+        BucketList bucketList = bucketListRepository.save(bucketList(owner, moneyBox, "동시 후원 버킷", TARGET_AMOUNT));
+        moneyBoxInterestService.openAccumulator(moneyBox, bucketList);
+
+        List<Long> sponsorIds = new ArrayList<>();
+        List<String> pinGrantTokens = new ArrayList<>();
+        for (int i = 0; i < SPONSOR_COUNT; i++) {
+            Member sponsor = memberRepository.save(member(String.format("0109400%04d", i + 1), "후원자" + i));
+            accountRepository.save(account(sponsor, String.format("940000%08d", i + 1), AccountType.MAIN,
+                    INITIAL_BALANCE, encodedPassword));
+            sponsorIds.add(sponsor.getId());
+            pinGrantTokens.add(accountService.issuePinGrant(sponsor.getId(), RAW_PASSWORD).getPinGrantToken());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(SPONSOR_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger failureCount = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < SPONSOR_COUNT; i++) {
+            Long sponsorId = sponsorIds.get(i);
+            String pinGrantToken = pinGrantTokens.get(i);
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                for (int j = 0; j < SPONSORS_PER_THREAD; j++) {
+                    try {
+                        transferService.sponsorBucket(sponsorId, bucketList.getId(), SPONSOR_AMOUNT, null,
+                                pinGrantToken);
+                    } catch (Exception e) {
+                        log.error("동시 후원 실패: {}", e.getMessage(), e);
+                        failureCount.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // When
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        Money total = SPONSOR_AMOUNT.times((long) SPONSOR_COUNT * SPONSORS_PER_THREAD);
+        assertThat(failureCount).hasValue(0);
+        Account sponsoredBox = accountService.loadStripedBalance(accountRepository.findById(moneyBox.getId()).orElseThrow());
+        assertThat(sponsoredBox.getBalance()).isEqualTo(total);
+
+        // 이자 누적값은 스트라이프에 나눠 누적되었고 합계는 후원 합계와 같음 (유실 없음)
+        List<MoneyBoxInterestStripe> stripes = moneyBoxInterestStripeRepository.findAllByMoneyBoxAccountId(moneyBox.getId());
+        assertThat(stripes).hasSize(STRIPE_COUNT);
+        assertThat(stripes.stream().map(MoneyBoxInterestStripe::getDepositSum).reduce(Money.ZERO, Money::plus))
+                .isEqualTo(total);
+
+        Money scanned = interestCalculator.calculateInterest(
+                transactionService.getTransactionsByTransactionType(moneyBox, TransactionType.DEPOSIT,
+                        bucketList.getTargetDate()),
+                bucketList.getTargetDate(), TARGET_AMOUNT, INTEREST_RATE);
+        assertThat(moneyBoxInterestService.calculateInterest(bucketList, INTEREST_RATE)).isEqualTo(scanned);
+        assertThat(scanned.isPositive()).isTrue();
+    }
+}
@@ -0,0 +1,34 @@
+package com.hanaieum.server.domain.transfer.service;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 준비(prepare)된 SQL 문을 기록하는 테스트용 StatementInspector
+ * JDBC 배치는 문장을 한 번만 준비하므로 배치로 묶인 INSERT는 1건으로 집계됨
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql.toLowerCase(Locale.ROOT));
+        return sql;
+    }
+
+    public static void reset() {
+        statements.clear();
+    }
+
+    public static long total() {
+        return statements.size();
+    }
+
+    public static long count(String fragment) {
+        return statements.stream().filter(sql -> sql.contains(fragment)).count();
+    }
+}
@@ -0,0 +1,184 @@
+package com.hanaieum.server.domain.transfer.service;
+
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountType;
+import com.hanaieum.server.domain.account.repository.AccountRepository;
+import com.hanaieum.server.domain.account.service.AccountService;
+import com.hanaieum.server.domain.bucketList.entity.BucketList;
+import com.hanaieum.server.domain.bucketList.repository.BucketListRepository;
+import com.hanaieum.server.domain.member.entity.Member;
+import com.hanaieum.server.domain.member.repository.MemberRepository;
+import com.hanaieum.server.domain.moneyBox.service.MoneyBoxInterestService;
+import com.hanaieum.server.domain.transaction.entity.Transaction;
+import com.hanaieum.server.domain.transaction.entity.TransactionType;
+import com.hanaieum.server.domain.transaction.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hanaieum.server.common.TestFixtures.account;
+import static com.hanaieum.server.common.TestFixtures.bucketList;
+import static com.hanaieum.server.common.TestFixtures.member;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stripelockorderdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL;LOCK_TIMEOUT=10000",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ActiveProfiles("test")
+@DisplayName("스트라이프 머니박스 잠금 순서 테스트")
+class StripedMoneyBoxLockOrderTest {
+
+    private static final String RAW_PASSWORD = "1234";
+    private static final int SPONSOR_COUNT = 4;
+    private static final int ROUNDS = 10;
+    private static final int STRIPE_COUNT = 4;
+    private static final Money INITIAL_BALANCE = Money.of(10000000);
+    private static final Money AMOUNT = Money.of(1000);
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private MoneyBoxInterestService moneyBoxInterestService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private BucketListRepository bucketListRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    @DisplayName("후원/채우기/전액 인출이 동시에 일어나도 교착 없이 끝나고 금액이 보존되며 스트라이프 입금은 거래 후 잔액을 기록하지 않는다")
+    void concurrentSponsorFillWithdraw_NoDeadlock() throws Exception {
+        // Given - 머니박스를 먼저 만들어 후원자 주계좌 id가 더 크게 (입금이 출금보다 먼저 실행되던 순서)
+        String encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+        Member owner = memberRepository.save(member("01095000000", "버킷주인"));
+        Account moneyBox = accountRepository.save(account(owner, "95000000000000", AccountType.MONEY_BOX,
+                Money.ZERO, encodedPassword));
+        accountService.enableBalanceStripes(moneyBox, STRIPE_COUNT);
+        Account ownerMain = accountRepository.save(account(owner, "95000000000001", AccountType.MAIN,
+                INITIAL_BALANCE, encodedPassword));
+        BucketList bucketList = bucketListRepository.save(bucketList(owner, moneyBox, "잠금 순서 버킷",
+                new BigDecimal("100000000")));
+        moneyBoxInterestService.openAccumulator(moneyBox, bucketList);
+        assertThat(moneyBox.getId()).isLessThan(ownerMain.getId());
+        String ownerPinGrant = accountService.issuePinGrant(owner.getId(), RAW_PASSWORD).getPinGrantToken();
+
+        List<Long> sponsorIds = new ArrayList<>();
+        List<String> pinGrantTokens = new ArrayList<>();
+        for (int i = 0; i < SPONSOR_COUNT; i++) {
+            Member sponsor = memberRepository.save(member(String.format("0109500%04d", i + 1), "후원자" + i));
+            accountRepository.save(account(sponsor, String.format("950000%08d", i + 2), AccountType.MAIN,
+                    INITIAL_BALANCE, encodedPassword));
+            sponsorIds.add(sponsor.getId());
+            pinGrantTokens.add(accountService.issuePinGrant(sponsor.getId(), RAW_PASSWORD).getPinGrantToken());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(SPONSOR_COUNT + 2);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger failureCount = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < SPONSOR_COUNT; i++) {
+            Long sponsorId = sponsorIds.get(i);
+            String pinGrantToken = pinGrantTokens.get(i);
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                for (int round = 0; round < ROUNDS; round++) {
+                    run(failureCount, () -> transferService.sponsorBucket(sponsorId, bucketList.getId(), AMOUNT,
+                            null, pinGrantToken));
+                }
+                return null;
+            }));
+        }
+        futures.add(executor.submit(() -> {
+            startLatch.await();
+            for (int round = 0; round < ROUNDS; round++) {
+                run(failureCount, () -> transferService.fillMoneyBoxes(owner.getId(),
+                        Map.of(moneyBox.getId(), AMOUNT), null, ownerPinGrant));
+            }
+            return null;
+        }));
+        futures.add(executor.submit(() -> {
+            startLatch.await();
+            for (int round = 0; round < ROUNDS; round++) {
+                run(failureCount, () -> transferService.withdrawAllFromMoneyBox(owner.getId(), moneyBox.getId(),
+                        bucketList.getId()));
+            }
+            return null;
+        }));
+
+        // When
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(120, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then - 교착/락 타임아웃 없이 모두 성공
+        assertThat(failureCount).hasValue(0);
+
+        // 금액 보존: 후원자 출금 합계 = 주인 주계좌 + 머니박스 증가분
+        Money sponsored = AMOUNT.times((long) SPONSOR_COUNT * ROUNDS);
+        Money ownerMainBalance = accountRepository.findById(ownerMain.getId()).orElseThrow().getBalance();
+        Money moneyBoxBalance = accountService.loadStripedBalance(accountRepository.findById(moneyBox.getId()).orElseThrow()).getBalance();
+        assertThat(ownerMainBalance.plus(moneyBoxBalance)).isEqualTo(INITIAL_BALANCE.plus(sponsored));
+        for (Long sponsorId : sponsorIds) {
+            Long mainAccountId = accountService.getMainAccountIdByMemberId(sponsorId);
+            assertThat(accountRepository.findById(mainAccountId).orElseThrow().getBalance())
+                    .isEqualTo(INITIAL_BALANCE.minus(AMOUNT.times(ROUNDS)));
+        }
+
+        // 스트라이프 머니박스 입금은 거래 후 잔액 없이, 출금(통합 후)은 거래 후 잔액과 함께 기록
+        List<Transaction> moneyBoxTransactions = transactionRepository.findAll().stream()
+                .filter(transaction -> transaction.getAccount().getId().equals(moneyBox.getId()))
+                .toList();
+        assertThat(moneyBoxTransactions)
+                .filteredOn(transaction -> transaction.getTransactionType() == TransactionType.DEPOSIT)
+                .hasSize(SPONSOR_COUNT * ROUNDS + ROUNDS)
+                .allMatch(transaction -> transaction.getBalanceAfter() == null);
+        assertThat(moneyBoxTransactions)
+                .filteredOn(transaction -> transaction.getTransactionType() == TransactionType.WITHDRAW)
+                .allMatch(transaction -> transaction.getBalanceAfter() != null);
+    }
+
+    private void run(AtomicInteger failureCount, Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.error("동시 실행 실패: {}", e.getMessage(), e);
+            failureCount.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.hanaieum.server.domain.transfer.service;
+
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountType;
+import com.hanaieum.server.domain.account.repository.AccountRepository;
+import com.hanaieum.server.domain.account.service.AccountService;
+import com.hanaieum.server.domain.bucketList.entity.BucketList;
+import com.hanaieum.server.domain.bucketList.repository.BucketListRepository;
+import com.hanaieum.server.domain.member.entity.Member;
+import com.hanaieum.server.domain.member.repository.MemberRepository;
+import com.hanaieum.server.domain.moneyBox.service.MoneyBoxInterestService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hanaieum.server.common.TestFixtures.account;
+import static com.hanaieum.server.common.TestFixtures.bucketList;
+import static com.hanaieum.server.common.TestFixtures.member;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 스트라이프 머니박스 잠금 순서 테스트 (MySQL/InnoDB)
+ * - H2는 거래내역 INSERT의 FK 검사에서 부모 행 락을 잡지 않으므로 MySQL에서만 교착을 재현할 수 있음
+ * - ./gradlew loadTest -Pload.mysql.url=jdbc:mysql://localhost:3306/hana_ieum_load -Pload.mysql.username=... -Pload.mysql.password=...
+ * - 스키마를 create-drop 하므로 비워도 되는 전용 DB를 지정 (load.mysql.url이 없으면 건너뜀)
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ActiveProfiles("test")
+@DisplayName("스트라이프 머니박스 잠금 순서 테스트 (MySQL)")
+class StripedMoneyBoxMySqlLockOrderTest {
+
+    private static final String MYSQL_URL = System.getProperty("load.mysql.url");
+    private static final String RAW_PASSWORD = "1234";
+    private static final int SPONSOR_COUNT = 8;
+    private static final int ROUNDS = Integer.getInteger("load.operations", 50);
+    private static final int STRIPE_COUNT = 4;
+    private static final Money INITIAL_BALANCE = Money.of(100000000);
+    private static final Money AMOUNT = Money.of(1000);
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private MoneyBoxInterestService moneyBoxInterestService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private BucketListRepository bucketListRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeAll
+    static void requireMySql() {
+        assumeTrue(MYSQL_URL != null && !MYSQL_URL.isBlank(), "load.mysql.url 미지정 - MySQL 잠금 순서 테스트 생략");
+    }
+
+    @DynamicPropertySource
+    static void mySqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> MYSQL_URL);
+        registry.add("spring.datasource.username", () -> System.getProperty("load.mysql.username", "root"));
+        registry.add("spring.datasource.password", () -> System.getProperty("load.mysql.password", ""));
+    }
+
+    @Test
+    @DisplayName("스트라이프 후원/주인 채우기/전액 인출이 동시에 일어나도 InnoDB 교착 없이 끝나고 금액이 보존된다")
+    void concurrentSponsorFillAndWithdrawAll_NoDeadlock() throws Exception {
+        // Given - 머니박스를 먼저 만들어 머니박스 id < 주계좌 id (채우기가 S(머니박스)를 X(주계좌)보다 먼저 잡아야 하는 순서)
+        String encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+        String suffix = String.format("%06d", System.currentTimeMillis() % 1000000);
+        Member owner = memberRepository.save(member("0109" + suffix + "0", "버킷주인"));
+        Account moneyBox = accountRepository.save(account(owner, "96" + suffix + "000000", AccountType.MONEY_BOX,
+                Money.ZERO, encodedPassword));
+        accountService.enableBalanceStripes(moneyBox, STRIPE_COUNT);
+        Account ownerMain = accountRepository.save(account(owner, "96" + suffix + "000001", AccountType.MAIN,
+                INITIAL_BALANCE, encodedPassword));
+        BucketList bucketList = bucketListRepository.save(bucketList(owner, moneyBox, "MySQL 잠금 순서 버킷",
+                new BigDecimal("1000000000")));
+        moneyBoxInterestService.openAccumulator(moneyBox, bucketList);
+        assertThat(moneyBox.getId()).isLessThan(ownerMain.getId());
+        String ownerPinGrant = accountService.issuePinGrant(owner.getId(), RAW_PASSWORD).getPinGrantToken();
+
+        List<Long> sponsorIds = new ArrayList<>();
+        List<String> pinGrantTokens = new ArrayList<>();
+        for (int i = 0; i < SPONSOR_COUNT; i++) {
+            Member sponsor = memberRepository.save(member("0108" + suffix + i, "후원자" + i));
+            accountRepository.save(account(sponsor, "96" + suffix + String.format("%06d", i + 2),
+                    AccountType.MAIN, INITIAL_BALANCE, encodedPassword));
+            sponsorIds.add(sponsor.getId());
+            pinGrantTokens.add(accountService.issuePinGrant(sponsor.getId(), RAW_PASSWORD).getPinGrantToken());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(SPONSOR_COUNT + 2);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger deadlockCount = new AtomicInteger();
+        AtomicInteger failureCount = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < SPONSOR_COUNT; i++) {
+            Long sponsorId = sponsorIds.get(i);
+            String pinGrantToken = pinGrantTokens.get(i);
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                for (int round = 0; round < ROUNDS; round++) {
+                    run(deadlockCount, failureCount, () -> transferService.sponsorBucket(sponsorId,
+                            bucketList.getId(), AMOUNT, null, pinGrantToken));
+                }
+                return null;
+            }));
+        }
+        futures.add(executor.submit(() -> {
+            startLatch.await();
+            for (int round = 0; round < ROUNDS; round++) {
+                run(deadlockCount, failureCount, () -> transferService.fillMoneyBox(owner.getId(),
+                        moneyBox.getId(), AMOUNT, null, ownerPinGrant));
+            }
+            return null;
+        }));
+        futures.add(executor.submit(() -> {
+            startLatch.await();
+            for (int round = 0; round < ROUNDS; round++) {
+                run(deadlockCount, failureCount, () -> transferService.withdrawAllFromMoneyBox(owner.getId(),
+                        moneyBox.getId(), bucketList.getId()));
+            }
+            return null;
+        }));
+
+        // When
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(300, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(deadlockCount).hasValue(0);
+        assertThat(failureCount).hasValue(0);
+
+        Money sponsored = AMOUNT.times((long) SPONSOR_COUNT * ROUNDS);
+        Money ownerMainBalance = accountRepository.findById(ownerMain.getId()).orElseThrow().getBalance();
+        Money moneyBoxBalance = accountService.loadStripedBalance(accountRepository.findById(moneyBox.getId()).orElseThrow()).getBalance();
+        assertThat(ownerMainBalance.plus(moneyBoxBalance)).isEqualTo(INITIAL_BALANCE.plus(sponsored));
+    }
+
+    private void run(AtomicInteger deadlockCount, AtomicInteger failureCount, Runnable action) {
+        try {
+            action.run();
+        } catch (PessimisticLockingFailureException e) {
+            log.error("교착/락 대기 실패: {}", e.getMessage());
+            deadlockCount.incrementAndGet();
+        } catch (Exception e) {
+            log.error("동시 실행 실패: {}", e.getMessage(), e);
+            failureCount.incrementAndGet();
+        }
+    }
+}
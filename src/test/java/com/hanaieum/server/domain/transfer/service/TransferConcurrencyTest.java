@@ -0,0 +1,106 @@
+package com.hanaieum.server.domain.transfer.service;
+
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountType;
+import com.hanaieum.server.domain.account.repository.AccountRepository;
+import com.hanaieum.server.domain.member.entity.Member;
+import com.hanaieum.server.domain.member.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hanaieum.server.common.TestFixtures.account;
+import static com.hanaieum.server.common.TestFixtures.member;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("이체 동시성 테스트")
+class TransferConcurrencyTest {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int TRANSFERS_PER_THREAD = 20;
+    private static final Money INITIAL_BALANCE = Money.of(10000000);
+    private static final Money TRANSFER_AMOUNT = Money.of(1000);
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("서로 반대 방향의 동시 이체도 데드락 없이 모두 성공하고 잔액 합계가 보존된다")
+    void crossTransfers_NoDeadlock() throws Exception {
+        // Given - A → B, B → A 이체가 동시에 몰리는 상황
+        Member memberA = memberRepository.save(member("01091000001", "동시성A"));
+        Member memberB = memberRepository.save(member("01091000002", "동시성B"));
+        Account accountA = accountRepository.save(account(memberA, "91000000000001", AccountType.MAIN, INITIAL_BALANCE));
+        Account accountB = accountRepository.save(account(memberB, "91000000000002", AccountType.MAIN, INITIAL_BALANCE));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger failureCount = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            boolean forward = i % 2 == 0;
+            Long fromId = forward ? accountA.getId() : accountB.getId();
+            Long toId = forward ? accountB.getId() : accountA.getId();
+
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                for (int j = 0; j < TRANSFERS_PER_THREAD; j++) {
+                    try {
+                        transferService.executeAutoTransfer(fromId, toId, TRANSFER_AMOUNT, null);
+                    } catch (Exception e) {
+                        log.error("동시 이체 실패: {}", e.getMessage(), e);
+                        failureCount.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // When
+        long startedAt = System.nanoTime();
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executor.shutdown();
+
+        int totalTransfers = THREAD_COUNT * TRANSFERS_PER_THREAD;
+        log.info("교차 이체 {}건 처리: {}ms, {} transfers/sec",
+                totalTransfers, elapsedMillis, totalTransfers * 1000L / Math.max(elapsedMillis, 1));
+
+        // Then
+        assertThat(failureCount).hasValue(0);
+
+        Money balanceA = accountRepository.findById(accountA.getId()).orElseThrow().getBalance();
+        Money balanceB = accountRepository.findById(accountB.getId()).orElseThrow().getBalance();
+
+        // 양방향 이체 건수가 같으므로 잔액은 원래대로, 합계는 항상 보존
+        assertThat(balanceA.plus(balanceB)).isEqualTo(INITIAL_BALANCE.times(2));
+        assertThat(balanceA).isEqualTo(INITIAL_BALANCE);
+        assertThat(balanceB).isEqualTo(INITIAL_BALANCE);
+    }
+}
@@ -0,0 +1,388 @@
+package com.hanaieum.server.domain.transfer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hanaieum.server.common.exception.CustomException;
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountType;
+import com.hanaieum.server.domain.account.repository.AccountRepository;
+import com.hanaieum.server.domain.account.service.AccountService;
+import com.hanaieum.server.domain.bucketList.entity.BucketList;
+import com.hanaieum.server.domain.bucketList.repository.BucketListRepository;
+import com.hanaieum.server.domain.member.entity.Member;
+import com.hanaieum.server.domain.member.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.hanaieum.server.common.TestFixtures.account;
+import static com.hanaieum.server.common.TestFixtures.bucketList;
+import static com.hanaieum.server.common.TestFixtures.member;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이체 부하 테스트 (기본 test 태스크에서는 제외, ./gradlew loadTest 로 실행)
+ * - H2(MySQL 모드) 위에서 가상 스레드 클라이언트들이 공유 계좌에 머니박스 채우기/버킷 후원/전액 인출을 섞어 호출
+ * - 처리량, 작업별 p50/p99, 락 대기, 잔액 불변식을 build/reports/load/transfer-load.json 으로 남김
+ * - 규모는 -Pload.clients=64 처럼 조절 (load.* 시스템 프로퍼티)
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:loaddb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL;LOCK_TIMEOUT=10000",
+        "spring.datasource.hikari.maximum-pool-size=${load.pool-size:20}",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.com.hanaieum.server=WARN",
+        "logging.level.org.springframework.security=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ActiveProfiles("test")
+@DisplayName("이체 동시성 부하 테스트")
+class TransferLoadTest {
+
+    private static final String RAW_PASSWORD = "1234";
+    private static final Money INITIAL_MAIN_BALANCE = Money.of(100000000);
+    private static final Path SUMMARY_PATH = Path.of("build", "reports", "load", "transfer-load.json");
+
+    private static final String FILL = "fillMoneyBox";
+    private static final String SPONSOR = "sponsorBucket";
+    private static final String WITHDRAW_ALL = "withdrawAllFromMoneyBox";
+
+    private static final String BUSINESS_ERROR = "businessError";
+    private static final String LOCK_TIMEOUT = "lockTimeout";
+    private static final String UNEXPECTED_ERROR = "unexpectedError";
+
+    private final int clients = Integer.getInteger("load.clients", 32);
+    private final int operationsPerClient = Integer.getInteger("load.operations", 50);
+    private final int memberCount = Integer.getInteger("load.members", 8);
+    private final boolean usePinGrant = Boolean.parseBoolean(System.getProperty("load.pin-grant", "true"));
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private BucketListRepository bucketListRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("공유 계좌 동시 이체 - 처리량/지연/락 대기 측정 및 잔액 불변식 검증")
+    void concurrentTransfers() throws Exception {
+        // Given
+        List<LoadMember> members = createMembers();
+        List<Long> accountIds = members.stream()
+                .flatMap(member -> List.of(member.mainAccountId(), member.moneyBoxAccountId()).stream())
+                .toList();
+        Money initialTotal = totalBalance(accountIds);
+
+        LoadLatencyRecorder recorder = new LoadLatencyRecorder();
+        LockWaitSampler lockWaitSampler = new LockWaitSampler();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        long elapsedNanos;
+        lockWaitSampler.start();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                executor.submit(() -> runClient(members, recorder, start));
+            }
+            long startedAt = System.nanoTime();
+            start.countDown();
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.MINUTES);
+            elapsedNanos = System.nanoTime() - startedAt;
+        } finally {
+            lockWaitSampler.stop();
+        }
+
+        // Then
+        Map<String, Object> invariants = checkInvariants(members, accountIds, initialTotal);
+        Map<String, Object> summary = buildSummary(recorder, lockWaitSampler, invariants, elapsedNanos);
+        writeSummary(summary);
+
+        assertThat(recorder.failureCount(UNEXPECTED_ERROR)).isZero();
+        assertThat(invariants.get("totalBalanceConserved")).isEqualTo(true);
+        assertThat(invariants.get("negativeBalanceAccounts")).isEqualTo(0);
+        assertThat(invariants.get("ledgerMismatchAccounts")).isEqualTo(0);
+        assertThat(invariants.get("depositWithdrawCountMatched")).isEqualTo(true);
+    }
+
+    private void runClient(List<LoadMember> members, LoadLatencyRecorder recorder, CountDownLatch start) {
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < operationsPerClient; i++) {
+            LoadMember member = members.get(random.nextInt(members.size()));
+            Money amount = Money.of(1000L * random.nextInt(1, 11));
+            int dice = random.nextInt(100);
+
+            String operation;
+            Runnable call;
+            if (dice < 50) {
+                // 본인 머니박스 채우기
+                operation = FILL;
+                call = () -> transferService.fillMoneyBox(member.memberId(), member.moneyBoxAccountId(), amount,
+                        passwordOf(member), member.pinGrantToken());
+            } else if (dice < 90) {
+                // 다른 회원 버킷 후원 (인기 버킷 하나에 몰리도록 절반은 첫 번째 회원의 버킷)
+                LoadMember target = random.nextBoolean() ? members.get(0) : members.get(random.nextInt(members.size()));
+                operation = SPONSOR;
+                call = () -> transferService.sponsorBucket(member.memberId(), target.bucketListId(), amount,
+                        passwordOf(member), member.pinGrantToken());
+            } else {
+                operation = WITHDRAW_ALL;
+                call = () -> transferService.withdrawAllFromMoneyBox(member.memberId(), member.moneyBoxAccountId(), null);
+            }
+
+            long startedAt = System.nanoTime();
+            try {
+                call.run();
+                recorder.recordSuccess(operation, System.nanoTime() - startedAt);
+            } catch (CustomException e) {
+                recorder.recordFailure(BUSINESS_ERROR);
+            } catch (PessimisticLockingFailureException e) {
+                recorder.recordFailure(LOCK_TIMEOUT);
+            } catch (RuntimeException e) {
+                log.error("부하 테스트 중 예상치 못한 오류 - 작업: {}", operation, e);
+                recorder.recordFailure(UNEXPECTED_ERROR);
+            }
+        }
+    }
+
+    private String passwordOf(LoadMember member) {
+        return member.pinGrantToken() == null ? RAW_PASSWORD : null;
+    }
+
+    private Map<String, Object> checkInvariants(List<LoadMember> members, List<Long> accountIds,
+                                                Money initialTotal) {
+        List<Account> accounts = accountRepository.findAllById(accountIds);
+        Money finalTotal = accounts.stream().map(Account::getBalance).reduce(Money.ZERO, Money::plus);
+
+        long negativeBalanceAccounts = accounts.stream()
+                .filter(account -> account.getBalance().isLessThan(Money.ZERO))
+                .count();
+
+        // 계좌별 (초기 잔액 + 입금 합계 - 출금 합계) == 현재 잔액
+        Map<Long, Long> ledgerDelta = new LinkedHashMap<>();
+        jdbcTemplate.query("""
+                SELECT account_id,
+                       SUM(CASE WHEN transaction_type = 'DEPOSIT' THEN amount ELSE -amount END) AS delta
+                FROM transactions
+                GROUP BY account_id
+                """, rs -> {
+            ledgerDelta.put(rs.getLong("account_id"), rs.getLong("delta"));
+        });
+        long ledgerMismatchAccounts = accounts.stream()
+                .filter(account -> {
+                    Money initial = account.getAccountType() == AccountType.MAIN
+                            ? INITIAL_MAIN_BALANCE : Money.ZERO;
+                    Money expected = initial.plus(Money.of(ledgerDelta.getOrDefault(account.getId(), 0L)));
+                    return !expected.equals(account.getBalance());
+                })
+                .count();
+
+        Integer deposits = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transactions WHERE transaction_type = 'DEPOSIT'", Integer.class);
+        Integer withdraws = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transactions WHERE transaction_type = 'WITHDRAW'", Integer.class);
+
+        Map<String, Object> invariants = new LinkedHashMap<>();
+        invariants.put("members", members.size());
+        invariants.put("initialTotalBalance", initialTotal.toLong());
+        invariants.put("finalTotalBalance", finalTotal.toLong());
+        invariants.put("totalBalanceConserved", initialTotal.equals(finalTotal));
+        invariants.put("negativeBalanceAccounts", (int) negativeBalanceAccounts);
+        invariants.put("ledgerMismatchAccounts", (int) ledgerMismatchAccounts);
+        invariants.put("depositWithdrawCountMatched", deposits != null && deposits.equals(withdraws));
+        return invariants;
+    }
+
+    private Map<String, Object> buildSummary(LoadLatencyRecorder recorder, LockWaitSampler lockWaitSampler,
+                                             Map<String, Object> invariants, long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        long transfers = recorder.successCount();
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("clients", clients);
+        config.put("operationsPerClient", operationsPerClient);
+        config.put("members", memberCount);
+        config.put("pinGrant", usePinGrant);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("commit", currentCommit());
+        summary.put("finishedAt", LocalDateTime.now().toString());
+        summary.put("config", config);
+        summary.put("elapsedSeconds", Math.round(elapsedSeconds * 1000) / 1000.0);
+        summary.put("transfers", transfers);
+        summary.put("transfersPerSecond", Math.round(transfers / elapsedSeconds * 10) / 10.0);
+        summary.put("latency", recorder.summarize());
+        summary.put("failures", recorder.failures());
+        summary.put("lockWaits", lockWaitSampler.summarize());
+        summary.put("invariants", invariants);
+        return summary;
+    }
+
+    private void writeSummary(Map<String, Object> summary) throws IOException {
+        String json = objectMapper.copy()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValueAsString(summary);
+        Files.createDirectories(SUMMARY_PATH.getParent());
+        Files.writeString(SUMMARY_PATH, json, StandardCharsets.UTF_8);
+        log.warn("이체 부하 테스트 결과 ({}):\n{}", SUMMARY_PATH.toAbsolutePath(), json);
+    }
+
+    private String currentCommit() {
+        String commit = System.getProperty("load.commit");
+        if (commit != null && !commit.isBlank()) {
+            return commit;
+        }
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").start();
+            try (InputStream output = process.getInputStream()) {
+                String result = new String(output.readAllBytes(), StandardCharsets.UTF_8).trim();
+                return process.waitFor() == 0 && !result.isEmpty() ? result : "unknown";
+            }
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+
+    private Money totalBalance(List<Long> accountIds) {
+        return accountRepository.findAllById(accountIds).stream()
+                .map(Account::getBalance)
+                .reduce(Money.ZERO, Money::plus);
+    }
+
+    // Helper methods
+    private List<LoadMember> createMembers() {
+        String encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+        List<LoadMember> members = new ArrayList<>();
+        for (int i = 0; i < memberCount; i++) {
+            Member member = memberRepository.save(member(String.format("0109300%04d", i), "부하" + i));
+            Account mainAccount = accountRepository.save(account(member, String.format("930000%08d", i * 2),
+                    AccountType.MAIN, INITIAL_MAIN_BALANCE, encodedPassword));
+            Account moneyBoxAccount = accountRepository.save(account(member,
+                    String.format("930000%08d", i * 2 + 1), AccountType.MONEY_BOX, Money.ZERO, encodedPassword));
+            BucketList bucketList = bucketListRepository.save(bucketList(member, moneyBoxAccount, "부하 테스트 버킷 " + i,
+                    new BigDecimal("10000000")));
+
+            String pinGrantToken = usePinGrant
+                    ? accountService.issuePinGrant(member.getId(), RAW_PASSWORD).getPinGrantToken()
+                    : null;
+            members.add(new LoadMember(member.getId(), mainAccount.getId(), moneyBoxAccount.getId(),
+                    bucketList.getId(), pinGrantToken));
+        }
+        return members;
+    }
+
+    private record LoadMember(Long memberId, Long mainAccountId, Long moneyBoxAccountId, Long bucketListId,
+                              String pinGrantToken) {
+    }
+
+    /**
+     * H2 세션 목록에서 다른 세션에 막혀 있는(BLOCKER_ID가 있는) 세션 수를 주기적으로 샘플링
+     */
+    private class LockWaitSampler {
+
+        private static final long SAMPLE_INTERVAL_MILLIS = 5;
+
+        private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        private final AtomicInteger maxWaiting = new AtomicInteger();
+        private final LongAdder samples = new LongAdder();
+        private final LongAdder samplesWithWaiters = new LongAdder();
+        private final LongAdder waitingSessionSamples = new LongAdder();
+
+        void start() {
+            scheduler.scheduleAtFixedRate(this::sample, 0, SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+
+        void stop() throws InterruptedException {
+            scheduler.shutdown();
+            scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        }
+
+        private void sample() {
+            try {
+                Integer waiting = jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM INFORMATION_SCHEMA.SESSIONS WHERE BLOCKER_ID IS NOT NULL",
+                        Integer.class);
+                int count = waiting == null ? 0 : waiting;
+                samples.increment();
+                if (count > 0) {
+                    samplesWithWaiters.increment();
+                    waitingSessionSamples.add(count);
+                }
+                maxWaiting.accumulateAndGet(count, Math::max);
+            } catch (RuntimeException e) {
+                // 커넥션 풀이 가득 찬 순간 등은 샘플에서 제외
+            }
+        }
+
+        Map<String, Object> summarize() {
+            long total = samples.sum();
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("samples", total);
+            summary.put("sampleIntervalMs", SAMPLE_INTERVAL_MILLIS);
+            summary.put("samplesWithWaiters", samplesWithWaiters.sum());
+            summary.put("waitingRatio", total == 0 ? 0.0
+                    : Math.round(samplesWithWaiters.sum() * 1000.0 / total) / 1000.0);
+            summary.put("avgWaitingSessions", total == 0 ? 0.0
+                    : Math.round(waitingSessionSamples.sum() * 100.0 / total) / 100.0);
+            summary.put("maxWaitingSessions", maxWaiting.get());
+            return summary;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.hanaieum.server.domain.transfer.service;
 
 import com.hanaieum.server.common.exception.CustomException;
 import com.hanaieum.server.common.exception.ErrorCode;
+import com.hanaieum.server.common.money.Money;
 import com.hanaieum.server.domain.account.entity.Account;
 import com.hanaieum.server.domain.account.entity.AccountType;
 import com.hanaieum.server.domain.account.service.AccountService;
@@ -10,6 +11,7 @@ import com.hanaieum.server.domain.bucketList.entity.BucketListType;
 import com.hanaieum.server.domain.bucketList.repository.BucketListRepository;
 import com.hanaieum.server.domain.member.entity.Gender;
 import com.hanaieum.server.domain.member.entity.Member;
+import com.hanaieum.server.domain.moneyBox.service.MoneyBoxInterestService;
 import com.hanaieum.server.domain.transaction.entity.ReferenceType;
 import com.hanaieum.server.domain.transaction.service.TransactionService;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +23,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -39,37 +44,43 @@ class TransferServiceImplTest {
     
     @Mock
     private BucketListRepository bucketListRepository;
+
+    @Mock
+    private MoneyBoxInterestService moneyBoxInterestService;
     
     @InjectMocks
     private TransferServiceImpl transferService;
 
     @Test
-    @DisplayName("머니박스 채우기 성공")
+    @DisplayName("머니박스 채우기 성공 - 두 계좌를 한 번에 조회하고 검증은 메모리에서 처리")
     void fillMoneyBox_Success() {
         // Given
         Long memberId = 1L;
         Long moneyBoxAccountId = 2L;
         Long mainAccountId = 1L;
-        BigDecimal amount = new BigDecimal("50000");
+        Money amount = Money.of(50000);
         String password = "1234";
 
         Member member = createMember(memberId, "010-1111-1111", "김하나");
-        Account mainAccount = createMainAccount(mainAccountId, member, new BigDecimal("100000"));
-        Account moneyBoxAccount = createMoneyBoxAccount(moneyBoxAccountId, member, new BigDecimal("30000"));
+        Account mainAccount = createMainAccount(mainAccountId, member, Money.of(100000));
+        Account moneyBoxAccount = createMoneyBoxAccount(moneyBoxAccountId, member, Money.of(30000));
 
-        when(accountService.getMainAccountIdByMemberId(memberId)).thenReturn(mainAccountId);
-        when(accountService.findByIdWithLock(mainAccountId)).thenReturn(mainAccount);
-        when(accountService.findByIdWithLock(moneyBoxAccountId)).thenReturn(moneyBoxAccount);
+        when(accountService.findMainAccountAndAccountWithMember(memberId, moneyBoxAccountId))
+                .thenReturn(List.of(mainAccount, moneyBoxAccount));
 
         // When
-        transferService.fillMoneyBox(memberId, moneyBoxAccountId, amount, password);
+        transferService.fillMoneyBox(memberId, moneyBoxAccountId, amount, password, null);
 
         // Then
-        verify(accountService).getMainAccountIdByMemberId(memberId);
-        verify(accountService).validateAccountOwnership(moneyBoxAccountId, memberId);
-        verify(accountService).validateAccountPassword(mainAccountId, password);
-        verify(accountService).debitBalance(mainAccount, amount);
-        verify(accountService).creditBalance(moneyBoxAccount, amount);
+        verify(accountService).findMainAccountAndAccountWithMember(memberId, moneyBoxAccountId);
+        verify(accountService).verifyAccountPassword(mainAccount, password, null);
+        // id 기반 재조회 없음
+        verify(accountService, never()).getMainAccountIdByMemberId(any());
+        verify(accountService, never()).findById(any());
+        verify(accountService, never()).validateAccountOwnership(any(), any());
+        verify(accountService, never()).validateAccountPassword(any(), any());
+        verify(accountService).applyBalanceChanges(mainAccount, amount, Map.of(moneyBoxAccount, amount));
+        verify(moneyBoxInterestService).accumulateDeposit(moneyBoxAccount, amount);
         verify(transactionService).recordTransfer(
                 eq(mainAccount), eq(moneyBoxAccount), eq(amount),
                 eq(ReferenceType.MONEY_BOX_DEPOSIT), eq("머니박스 충전"), isNull()
@@ -82,19 +93,123 @@ class TransferServiceImplTest {
         // Given
         Long memberId = 1L;
         Long accountId = 1L;
-        BigDecimal amount = new BigDecimal("50000");
+        Money amount = Money.of(50000);
         String password = "1234";
 
-        when(accountService.getMainAccountIdByMemberId(memberId)).thenReturn(accountId);
+        Member member = createMember(memberId, "010-1111-1111", "김하나");
+        Account mainAccount = createMainAccount(accountId, member, Money.of(100000));
+
+        when(accountService.findMainAccountAndAccountWithMember(memberId, accountId)).thenReturn(List.of(mainAccount));
 
         // When & Then
-        assertThatThrownBy(() -> transferService.fillMoneyBox(memberId, accountId, amount, password))
+        assertThatThrownBy(() -> transferService.fillMoneyBox(memberId, accountId, amount, password, null))
                 .isInstanceOf(CustomException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TRANSFER_SAME_ACCOUNT);
 
-        verify(accountService).getMainAccountIdByMemberId(memberId);
-        verify(accountService, never()).validateAccountOwnership(any(), any());
-        verify(accountService, never()).validateAccountPassword(any(), any());
+        verify(accountService, never()).verifyAccountPassword(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("머니박스 채우기 실패 - 다른 회원의 머니박스")
+    void fillMoneyBox_Fail_NotOwner() {
+        // Given
+        Long memberId = 1L;
+        Long moneyBoxAccountId = 2L;
+        Money amount = Money.of(50000);
+
+        Member member = createMember(memberId, "010-1111-1111", "김하나");
+        Member other = createMember(2L, "010-2222-2222", "이하나");
+        Account mainAccount = createMainAccount(1L, member, Money.of(100000));
+        Account othersMoneyBox = createMoneyBoxAccount(moneyBoxAccountId, other, Money.ZERO);
+
+        when(accountService.findMainAccountAndAccountWithMember(memberId, moneyBoxAccountId))
+                .thenReturn(List.of(mainAccount, othersMoneyBox));
+
+        // When & Then
+        assertThatThrownBy(() -> transferService.fillMoneyBox(memberId, moneyBoxAccountId, amount, "1234", null))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCOUNT_ACCESS_DENIED);
+
+        verify(accountService, never()).verifyAccountPassword(any(), any(), any());
+        verify(accountService, never()).applyBalanceChanges(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("머니박스 채우기 실패 - 잔액 부족은 UPDATE 전에 메모리에서 거름")
+    void fillMoneyBox_Fail_InsufficientBalance() {
+        // Given
+        Long memberId = 1L;
+        Long moneyBoxAccountId = 2L;
+        Money amount = Money.of(500000);
+
+        Member member = createMember(memberId, "010-1111-1111", "김하나");
+        Account mainAccount = createMainAccount(1L, member, Money.of(100000));
+        Account moneyBoxAccount = createMoneyBoxAccount(moneyBoxAccountId, member, Money.ZERO);
+
+        when(accountService.findMainAccountAndAccountWithMember(memberId, moneyBoxAccountId))
+                .thenReturn(List.of(mainAccount, moneyBoxAccount));
+
+        // When & Then
+        assertThatThrownBy(() -> transferService.fillMoneyBox(memberId, moneyBoxAccountId, amount, "1234", null))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INSUFFICIENT_BALANCE);
+
+        verify(accountService, never()).applyBalanceChanges(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("머니박스 일괄 채우기 성공 - 비밀번호 1회, 주계좌 출금 1회로 잔액 반영")
+    void fillMoneyBoxes_Success() {
+        // Given
+        Long memberId = 1L;
+        Member member = createMember(memberId, "010-1111-1111", "김하나");
+        Account travelBox = createMoneyBoxAccount(2L, member, Money.ZERO);
+        Account mainAccount = createMainAccount(5L, member, Money.of(100000));
+        Account carBox = createMoneyBoxAccount(7L, member, Money.ZERO);
+
+        Map<Long, Money> amountsByMoneyBox = new LinkedHashMap<>();
+        amountsByMoneyBox.put(7L, Money.of(20000));
+        amountsByMoneyBox.put(2L, Money.of(30000));
+
+        when(accountService.findMainAccountAndAccountsWithMember(memberId, amountsByMoneyBox.keySet()))
+                .thenReturn(List.of(travelBox, mainAccount, carBox));
+
+        // When
+        transferService.fillMoneyBoxes(memberId, amountsByMoneyBox, "1234", null);
+
+        // Then
+        verify(accountService, times(1)).verifyAccountPassword(mainAccount, "1234", null);
+        verify(accountService, times(1)).applyBalanceChanges(eq(mainAccount), eq(Money.of(50000)),
+                eq(Map.of(travelBox, Money.of(30000), carBox, Money.of(20000))));
+        verify(transactionService).recordTransfers(eq(mainAccount), argThat(map -> map.size() == 2),
+                eq(ReferenceType.MONEY_BOX_DEPOSIT), eq("머니박스 충전"));
+    }
+
+    @Test
+    @DisplayName("머니박스 일괄 채우기 실패 - 다른 회원의 머니박스가 섞여 있으면 아무것도 이체하지 않음")
+    void fillMoneyBoxes_Fail_NotOwner() {
+        // Given
+        Long memberId = 1L;
+        Member member = createMember(memberId, "010-1111-1111", "김하나");
+        Member other = createMember(2L, "010-2222-2222", "이하나");
+        Account mainAccount = createMainAccount(1L, member, Money.of(100000));
+        Account myBox = createMoneyBoxAccount(2L, member, Money.ZERO);
+        Account othersBox = createMoneyBoxAccount(3L, other, Money.ZERO);
+
+        Map<Long, Money> amountsByMoneyBox = new LinkedHashMap<>();
+        amountsByMoneyBox.put(2L, Money.of(10000));
+        amountsByMoneyBox.put(3L, Money.of(10000));
+
+        when(accountService.findMainAccountAndAccountsWithMember(memberId, amountsByMoneyBox.keySet()))
+                .thenReturn(List.of(mainAccount, myBox, othersBox));
+
+        // When & Then
+        assertThatThrownBy(() -> transferService.fillMoneyBoxes(memberId, amountsByMoneyBox, "1234", null))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCOUNT_ACCESS_DENIED);
+
+        verify(accountService, never()).verifyAccountPassword(any(), any(), any());
+        verify(accountService, never()).applyBalanceChanges(any(), any(), any());
     }
 
     @Test
@@ -105,31 +220,29 @@ class TransferServiceImplTest {
         Long bucketId = 1L;
         Long sponsorMainAccountId = 1L;
         Long moneyBoxAccountId = 2L;
-        BigDecimal amount = new BigDecimal("30000");
+        Money amount = Money.of(30000);
         String password = "1234";
 
         Member sponsor = createMember(sponsorMemberId, "010-1111-1111", "후원자");
         Member bucketOwner = createMember(2L, "010-2222-2222", "버킷소유자");
 
-        Account sponsorMainAccount = createMainAccount(sponsorMainAccountId, sponsor, new BigDecimal("200000"));
-        Account moneyBoxAccount = createMoneyBoxAccount(moneyBoxAccountId, bucketOwner, new BigDecimal("50000"));
+        Account sponsorMainAccount = createMainAccount(sponsorMainAccountId, sponsor, Money.of(200000));
+        Account moneyBoxAccount = createMoneyBoxAccount(moneyBoxAccountId, bucketOwner, Money.of(50000));
 
         BucketList bucketList = createBucketList(bucketId, bucketOwner, moneyBoxAccount);
 
-        when(accountService.getMainAccountIdByMemberId(sponsorMemberId)).thenReturn(sponsorMainAccountId);
         when(bucketListRepository.findByIdAndDeletedFalse(bucketId)).thenReturn(Optional.of(bucketList));
-        when(accountService.findByIdWithLock(sponsorMainAccountId)).thenReturn(sponsorMainAccount);
-        when(accountService.findByIdWithLock(moneyBoxAccountId)).thenReturn(moneyBoxAccount);
+        when(accountService.findMainAccountAndAccountWithMember(sponsorMemberId, moneyBoxAccountId))
+                .thenReturn(List.of(sponsorMainAccount, moneyBoxAccount));
 
         // When
-        transferService.sponsorBucket(sponsorMemberId, bucketId, amount, password);
+        transferService.sponsorBucket(sponsorMemberId, bucketId, amount, password, null);
 
         // Then
-        verify(accountService).getMainAccountIdByMemberId(sponsorMemberId);
         verify(bucketListRepository).findByIdAndDeletedFalse(bucketId);
-        verify(accountService).validateAccountPassword(sponsorMainAccountId, password);
-        verify(accountService).debitBalance(sponsorMainAccount, amount);
-        verify(accountService).creditBalance(moneyBoxAccount, amount);
+        verify(accountService).findMainAccountAndAccountWithMember(sponsorMemberId, moneyBoxAccountId);
+        verify(accountService).verifyAccountPassword(sponsorMainAccount, password, null);
+        verify(accountService).applyBalanceChanges(sponsorMainAccount, amount, Map.of(moneyBoxAccount, amount));
         verify(transactionService).recordTransfer(
                 eq(sponsorMainAccount), eq(moneyBoxAccount), eq(amount),
                 eq(ReferenceType.BUCKET_FUNDING), eq("후원"), eq(bucketId)
@@ -142,21 +255,19 @@ class TransferServiceImplTest {
         // Given
         Long sponsorMemberId = 1L;
         Long bucketId = 999L;
-        Long sponsorMainAccountId = 1L;
-        BigDecimal amount = new BigDecimal("30000");
+        Money amount = Money.of(30000);
         String password = "1234";
 
-        when(accountService.getMainAccountIdByMemberId(sponsorMemberId)).thenReturn(sponsorMainAccountId);
         when(bucketListRepository.findByIdAndDeletedFalse(bucketId)).thenReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> transferService.sponsorBucket(sponsorMemberId, bucketId, amount, password))
+        assertThatThrownBy(() -> transferService.sponsorBucket(sponsorMemberId, bucketId, amount, password, null))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("버킷리스트를 찾을 수 없습니다");
 
-        verify(accountService).getMainAccountIdByMemberId(sponsorMemberId);
         verify(bucketListRepository).findByIdAndDeletedFalse(bucketId);
-        verify(accountService, never()).validateAccountPassword(any(), any());
+        verify(accountService, never()).findMainAccountAndAccountWithMember(any(), any());
+        verify(accountService, never()).verifyAccountPassword(any(), any(), any());
         verify(transactionService, never()).recordTransfer(any(), any(), any(), any(), any(), any());
     }
 
@@ -166,26 +277,26 @@ class TransferServiceImplTest {
         // Given
         Long fromAccountId = 1L;
         Long toAccountId = 2L;
-        BigDecimal amount = new BigDecimal("100000");
+        Money amount = Money.of(100000);
         Long scheduleId = 10L;
 
         Member fromMember = createMember(1L, "010-1111-1111", "출금자");
         Member toMember = createMember(2L, "010-2222-2222", "입금자");
         
-        Account fromAccount = createMainAccount(fromAccountId, fromMember, new BigDecimal("500000"));
-        Account toAccount = createMoneyBoxAccount(toAccountId, toMember, new BigDecimal("100000"));
+        Account fromAccount = createMainAccount(fromAccountId, fromMember, Money.of(500000));
+        Account toAccount = createMoneyBoxAccount(toAccountId, toMember, Money.of(100000));
 
-        when(accountService.findByIdWithLock(fromAccountId)).thenReturn(fromAccount);
-        when(accountService.findByIdWithLock(toAccountId)).thenReturn(toAccount);
+        when(accountService.findAllByIdWithMember(List.of(fromAccountId, toAccountId)))
+                .thenReturn(Map.of(fromAccountId, fromAccount, toAccountId, toAccount));
 
         // When
         transferService.executeAutoTransfer(fromAccountId, toAccountId, amount, scheduleId);
 
         // Then
-        verify(accountService).findByIdWithLock(fromAccountId);
-        verify(accountService).findByIdWithLock(toAccountId);
-        verify(accountService).debitBalance(fromAccount, amount);
-        verify(accountService).creditBalance(toAccount, amount);
+        // 조건부 UPDATE로 처리하므로 SELECT ... FOR UPDATE 선점 없음
+        verify(accountService, never()).findAllByIdWithLock(any());
+        verify(accountService, never()).findByIdWithLock(any());
+        verify(accountService).applyBalanceChanges(fromAccount, amount, Map.of(toAccount, amount));
         verify(transactionService).recordTransfer(
                 eq(fromAccount), eq(toAccount), eq(amount),
                 eq(ReferenceType.AUTO_TRANSFER), eq("자동이체"), eq(scheduleId)
@@ -195,6 +306,44 @@ class TransferServiceImplTest {
         verify(accountService, never()).validateAccountPassword(any(), any());
     }
 
+    @Test
+    @DisplayName("자동이체 실행 - 이미 조회한 계좌로 실행하면 계좌를 다시 조회하지 않음")
+    void executeAutoTransfer_WithLoadedAccounts() {
+        // Given
+        Money amount = Money.of(100000);
+        Member fromMember = createMember(1L, "010-1111-1111", "출금자");
+        Member toMember = createMember(2L, "010-2222-2222", "입금자");
+        Account fromAccount = createMainAccount(1L, fromMember, Money.of(500000));
+        Account toAccount = createMoneyBoxAccount(2L, toMember, Money.of(100000));
+
+        // When
+        transferService.executeAutoTransfer(fromAccount, toAccount, amount, 10L);
+
+        // Then
+        verify(accountService, never()).findAllByIdWithMember(any());
+        verify(accountService).applyBalanceChanges(fromAccount, amount, Map.of(toAccount, amount));
+        verify(transactionService).recordTransfer(
+                eq(fromAccount), eq(toAccount), eq(amount),
+                eq(ReferenceType.AUTO_TRANSFER), eq("자동이체"), eq(10L)
+        );
+    }
+
+    @Test
+    @DisplayName("자동이체 실행 - 이미 조회한 계좌가 삭제된 계좌면 실패")
+    void executeAutoTransfer_WithLoadedAccounts_Deleted() {
+        // Given
+        Member member = createMember(1L, "010-1111-1111", "김하나");
+        Account fromAccount = createMainAccount(1L, member, Money.of(500000));
+        Account toAccount = createMoneyBoxAccount(2L, member, Money.of(100000));
+        toAccount.setDeleted(true);
+
+        // When & Then
+        assertThatThrownBy(() -> transferService.executeAutoTransfer(fromAccount, toAccount, Money.of(100000), 10L))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCOUNT_NOT_FOUND);
+        verify(accountService, never()).applyBalanceChanges(any(), any(), any());
+    }
+
     @Test
     @DisplayName("머니박스 전액 인출 성공 - 잔액 있음")
     void withdrawAllFromMoneyBox_Success_WithBalance() {
@@ -203,27 +352,27 @@ class TransferServiceImplTest {
         Long moneyBoxAccountId = 2L;
         Long mainAccountId = 1L;
         Long referenceId = 1L;
-        BigDecimal moneyBoxBalance = new BigDecimal("150000");
+        Money moneyBoxBalance = Money.of(150000);
 
         Member member = createMember(memberId, "010-1111-1111", "김하나");
-        Account mainAccount = createMainAccount(mainAccountId, member, new BigDecimal("100000"));
+        Account mainAccount = createMainAccount(mainAccountId, member, Money.of(100000));
         Account moneyBoxAccount = createMoneyBoxAccount(moneyBoxAccountId, member, moneyBoxBalance);
 
         when(accountService.getMainAccountIdByMemberId(memberId)).thenReturn(mainAccountId);
-        when(accountService.findByIdWithLock(moneyBoxAccountId)).thenReturn(moneyBoxAccount);
-        when(accountService.findByIdWithLock(mainAccountId)).thenReturn(mainAccount);
+        when(accountService.findAllByIdWithLock(List.of(moneyBoxAccountId, mainAccountId)))
+                .thenReturn(Map.of(moneyBoxAccountId, moneyBoxAccount, mainAccountId, mainAccount));
 
         // When
-        BigDecimal withdrawnAmount = transferService.withdrawAllFromMoneyBox(memberId, moneyBoxAccountId, referenceId);
+        Money withdrawnAmount = transferService.withdrawAllFromMoneyBox(memberId, moneyBoxAccountId, referenceId);
 
         // Then
-        assertThat(withdrawnAmount).isEqualByComparingTo(moneyBoxBalance);
+        assertThat(withdrawnAmount).isEqualTo(moneyBoxBalance);
         
         verify(accountService).getMainAccountIdByMemberId(memberId);
-        verify(accountService, times(2)).findByIdWithLock(moneyBoxAccountId);
-        verify(accountService).findByIdWithLock(mainAccountId);
-        verify(accountService).debitBalance(moneyBoxAccount, moneyBoxBalance);
-        verify(accountService).creditBalance(mainAccount, moneyBoxBalance);
+        // 머니박스와 주계좌를 한 번에 정해진 순서로 잠금 (중복 잠금 없음)
+        verify(accountService).findAllByIdWithLock(List.of(moneyBoxAccountId, mainAccountId));
+        verify(accountService, never()).findByIdWithLock(any());
+        verify(accountService).applyBalanceChanges(moneyBoxAccount, moneyBoxBalance, Map.of(mainAccount, moneyBoxBalance));
         verify(transactionService).recordTransfer(
                 eq(moneyBoxAccount), eq(mainAccount), eq(moneyBoxBalance),
                 eq(ReferenceType.MONEY_BOX_WITHDRAW), eq("머니박스 원금 인출"), eq(referenceId)
@@ -240,22 +389,23 @@ class TransferServiceImplTest {
         Long referenceId = 1L;
 
         Member member = createMember(memberId, "010-1111-1111", "김하나");
-        Account moneyBoxAccount = createMoneyBoxAccount(moneyBoxAccountId, member, BigDecimal.ZERO);
+        Account mainAccount = createMainAccount(mainAccountId, member, Money.of(100000));
+        Account moneyBoxAccount = createMoneyBoxAccount(moneyBoxAccountId, member, Money.ZERO);
 
         when(accountService.getMainAccountIdByMemberId(memberId)).thenReturn(mainAccountId);
-        when(accountService.findByIdWithLock(moneyBoxAccountId)).thenReturn(moneyBoxAccount);
+        when(accountService.findAllByIdWithLock(List.of(moneyBoxAccountId, mainAccountId)))
+                .thenReturn(Map.of(moneyBoxAccountId, moneyBoxAccount, mainAccountId, mainAccount));
 
         // When
-        BigDecimal withdrawnAmount = transferService.withdrawAllFromMoneyBox(memberId, moneyBoxAccountId, referenceId);
+        Money withdrawnAmount = transferService.withdrawAllFromMoneyBox(memberId, moneyBoxAccountId, referenceId);
 
         // Then
-        assertThat(withdrawnAmount).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(withdrawnAmount).isEqualTo(Money.ZERO);
         
         verify(accountService).getMainAccountIdByMemberId(memberId);
-        verify(accountService).findByIdWithLock(moneyBoxAccountId);
+        verify(accountService).findAllByIdWithLock(List.of(moneyBoxAccountId, mainAccountId));
         // 잔액이 0이므로 이체 실행되지 않음
-        verify(accountService, never()).debitBalance(any(), any());
-        verify(accountService, never()).creditBalance(any(), any());
+        verify(accountService, never()).applyBalanceChanges(any(), any(), any());
         verify(transactionService, never()).recordTransfer(any(), any(), any(), any(), any(), any());
     }
 
@@ -264,22 +414,22 @@ class TransferServiceImplTest {
     void payInterest_Success() {
         // Given
         Long memberId = 1L;
-        BigDecimal interestAmount = new BigDecimal("5000");
+        Money interestAmount = Money.of(5000);
         Long bucketListId = 1L;
         Long mainAccountId = 1L;
 
         Member member = createMember(memberId, "010-1111-1111", "김하나");
-        Account mainAccount = createMainAccount(mainAccountId, member, new BigDecimal("100000"));
+        Account mainAccount = createMainAccount(mainAccountId, member, Money.of(100000));
 
         when(accountService.getMainAccountIdByMemberId(memberId)).thenReturn(mainAccountId);
-        when(accountService.findByIdWithLock(mainAccountId)).thenReturn(mainAccount);
+        when(accountService.findById(mainAccountId)).thenReturn(mainAccount);
 
         // When
         transferService.payInterest(memberId, interestAmount, bucketListId);
 
         // Then
         verify(accountService).getMainAccountIdByMemberId(memberId);
-        verify(accountService).findByIdWithLock(mainAccountId);
+        verify(accountService).findById(mainAccountId);
         verify(accountService).creditBalance(mainAccount, interestAmount);
         verify(transactionService).recordDeposit(
                 eq(mainAccount), eq(interestAmount), isNull(), eq("하나이음"),
@@ -302,7 +452,7 @@ class TransferServiceImplTest {
                 .build();
     }
 
-    private Account createMainAccount(Long id, Member member, BigDecimal balance) {
+    private Account createMainAccount(Long id, Member member, Money balance) {
         return Account.builder()
                 .id(id)
                 .member(member)
@@ -316,7 +466,7 @@ class TransferServiceImplTest {
                 .build();
     }
 
-    private Account createMoneyBoxAccount(Long id, Member member, BigDecimal balance) {
+    private Account createMoneyBoxAccount(Long id, Member member, Money balance) {
         return Account.builder()
                 .id(id)
                 .member(member)
@@ -0,0 +1,66 @@
+package com.hanaieum.server.domain.transfer.service;
+
+import com.hanaieum.server.common.money.Money;
+import com.hanaieum.server.domain.account.entity.Account;
+import com.hanaieum.server.domain.account.entity.AccountType;
+import com.hanaieum.server.domain.account.repository.AccountRepository;
+import com.hanaieum.server.domain.member.entity.Member;
+import com.hanaieum.server.domain.member.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.hanaieum.server.common.TestFixtures.account;
+import static com.hanaieum.server.common.TestFixtures.member;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.hanaieum.server.domain.transfer.service.SqlStatementCounter")
+@ActiveProfiles("test")
+@DisplayName("이체 SQL 문장 수 측정")
+class TransferStatementCountTest {
+
+    private static final int TRANSFER_COUNT = 20;
+    private static final Money INITIAL_BALANCE = Money.of(1000000);
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("이체 1건의 거래내역 2건은 한 번의 배치 INSERT로 기록되고 ID 할당은 풀 단위로 묶인다")
+    void transfer_BatchesTransactionInserts() {
+        // Given
+        Member memberA = memberRepository.save(member("01092000001", "배치A"));
+        Member memberB = memberRepository.save(member("01092000002", "배치B"));
+        Account accountA = accountRepository.save(account(memberA, "92000000000001", AccountType.MAIN, INITIAL_BALANCE));
+        Account accountB = accountRepository.save(account(memberB, "92000000000002", AccountType.MAIN, INITIAL_BALANCE));
+        SqlStatementCounter.reset();
+
+        // When
+        for (int i = 0; i < TRANSFER_COUNT; i++) {
+            transferService.executeAutoTransfer(accountA.getId(), accountB.getId(), Money.of(1000), null);
+        }
+
+        // Then
+        long transactionInserts = SqlStatementCounter.count("insert into transactions");
+        long idAllocations = SqlStatementCounter.count("id_sequences");
+        log.info("이체 {}건 - 전체 SQL: {}건 (이체당 {}), 거래내역 INSERT: {}건, ID 테이블 접근: {}건",
+                TRANSFER_COUNT, SqlStatementCounter.total(),
+                (double) SqlStatementCounter.total() / TRANSFER_COUNT, transactionInserts, idAllocations);
+
+        // IDENTITY였다면 이체당 INSERT 2건 → 배치로 1건
+        assertThat(transactionInserts).isEqualTo(TRANSFER_COUNT);
+        // 거래내역 ID 40개가 allocationSize(50) 한 구간 안에서 할당됨 (조회 + 갱신)
+        assertThat(idAllocations).isLessThanOrEqualTo(4);
+    }
+}
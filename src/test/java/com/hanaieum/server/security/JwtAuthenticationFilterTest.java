@@ -0,0 +1,168 @@
+package com.hanaieum.server.security;
+
+import com.hanaieum.server.common.exception.CustomException;
+import com.hanaieum.server.common.exception.ErrorCode;
+import com.hanaieum.server.domain.member.entity.Member;
+import com.hanaieum.server.domain.member.repository.MemberRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JWT 인증 필터 테스트")
+class JwtAuthenticationFilterTest {
+
+    private static final String JWT_SECRET = "test-secret-key-for-jwt-token-generation-and-validation";
+    private static final String PIN_GRANT_SECRET = "test-pin-grant-secret-key-for-account-password-verification";
+    private static final long ACCESS_VALIDITY = 3600000L;
+    private static final long REFRESH_VALIDITY = 604800000L;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(JWT_SECRET, ACCESS_VALIDITY, REFRESH_VALIDITY);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, memberRepository);
+        ReflectionTestUtils.setField(filter, "adminMemberIds", Set.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Access Token이면 인증 정보를 설정한다")
+    void doFilter_AccessToken_Authenticated() throws Exception {
+        // Given
+        Member member = Member.builder().id(1L).name("홍길동").phoneNumber("01012345678").build();
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        String token = jwtTokenProvider.generateAccessToken(1L, "홍길동", "01012345678");
+
+        // When
+        filter.doFilter(requestWithToken(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        assertThat(((CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getId())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("PIN 인증 토큰은 Access Token으로 받아들이지 않는다")
+    void doFilter_PinGrantToken_Rejected() {
+        // Given
+        String token = new PinGrantTokenProvider(PIN_GRANT_SECRET, 300000L).generateToken(1L, 10L);
+
+        // When & Then
+        assertThrows(CustomException.class, () ->
+                filter.doFilter(requestWithToken(token), new MockHttpServletResponse(), new MockFilterChain()));
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(memberRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("PIN 인증 토큰이 같은 키로 서명되어 있어도 토큰 종류가 달라 거부한다")
+    void doFilter_PinGrantTokenWithSameKey_Rejected() {
+        // Given
+        String token = new PinGrantTokenProvider(JWT_SECRET, 300000L).generateToken(1L, 10L);
+
+        // When
+        CustomException exception = assertThrows(CustomException.class, () ->
+                filter.doFilter(requestWithToken(token), new MockHttpServletResponse(), new MockFilterChain()));
+
+        // Then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.JWT_UNSUPPORTED);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(memberRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Refresh Token은 Access Token으로 받아들이지 않는다")
+    void doFilter_RefreshToken_Rejected() {
+        // Given
+        String token = jwtTokenProvider.generateRefreshToken(1L);
+
+        // When
+        CustomException exception = assertThrows(CustomException.class, () ->
+                filter.doFilter(requestWithToken(token), new MockHttpServletResponse(), new MockFilterChain()));
+
+        // Then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.JWT_UNSUPPORTED);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("type 클레임 도입 전에 발급된 Access Token은 배포 후에도 인증한다")
+    void doFilter_LegacyAccessTokenWithoutType_Authenticated() throws Exception {
+        // Given
+        Member member = Member.builder().id(1L).name("홍길동").phoneNumber("01012345678").build();
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        String token = legacyToken(1L, ACCESS_VALIDITY);
+
+        // When
+        filter.doFilter(requestWithToken(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("type 클레임 도입 전에 발급된 Refresh Token은 유효기간이 길어 Access Token으로 받아들이지 않는다")
+    void doFilter_LegacyRefreshTokenWithoutType_Rejected() {
+        // Given
+        String token = legacyToken(1L, REFRESH_VALIDITY);
+
+        // When
+        CustomException exception = assertThrows(CustomException.class, () ->
+                filter.doFilter(requestWithToken(token), new MockHttpServletResponse(), new MockFilterChain()));
+
+        // Then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.JWT_UNSUPPORTED);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(memberRepository, never()).findById(any());
+    }
+
+    // type 클레임 없이 이전 방식으로 발급한 토큰
+    private String legacyToken(Long memberId, long validity) {
+        Date now = new Date();
+        return Jwts.builder()
+                .subject(memberId.toString())
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + validity))
+                .signWith(Keys.hmacShaKeyFor(JWT_SECRET.getBytes()))
+                .compact();
+    }
+
+    private MockHttpServletRequest requestWithToken(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/accounts");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}